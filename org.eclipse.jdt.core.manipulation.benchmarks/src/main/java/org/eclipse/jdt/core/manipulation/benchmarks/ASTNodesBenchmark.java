@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.Statement;
+
+import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+
+/**
+ * Benchmarks the AST utilities that most clean ups and quick assists call for every node.
+ */
+public class ASTNodesBenchmark extends FixtureBenchmark {
+
+	@Benchmark
+	public void localVariableIdentifiers(Blackhole blackhole) {
+		for (MethodDeclaration method : fixture.getMethods()) {
+			Block body= method.getBody();
+			if (body != null)
+				blackhole.consume(ASTNodes.getLocalVariableIdentifiers(body, true));
+		}
+	}
+
+	@Benchmark
+	public void isPassive(Blackhole blackhole) {
+		for (ASTNode node : fixture.getNodes()) {
+			if (node instanceof Expression)
+				blackhole.consume(ASTNodes.isPassive(node));
+		}
+	}
+
+	@Benchmark
+	public void targetType(Blackhole blackhole) {
+		for (ASTNode node : fixture.getNodes()) {
+			if (node instanceof Expression)
+				blackhole.consume(ASTNodes.getTargetType((Expression) node));
+		}
+	}
+
+	@Benchmark
+	public void enclosingType(Blackhole blackhole) {
+		for (ASTNode node : fixture.getNames())
+			blackhole.consume(ASTNodes.getEnclosingType(node));
+	}
+
+	@Benchmark
+	public void matchStatements(Blackhole blackhole) {
+		for (ASTNode node : fixture.getNodes()) {
+			if (node instanceof Block) {
+				List<Statement> statements= ((Block) node).statements();
+				for (int i= 1; i < statements.size(); i++)
+					blackhole.consume(ASTNodes.match(statements.get(i - 1), statements.get(i)));
+			}
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+import org.eclipse.jdt.internal.corext.dom.Bindings;
+
+/**
+ * Benchmarks the type hierarchy queries on bindings.
+ */
+public class BindingsBenchmark extends FixtureBenchmark {
+
+	@Benchmark
+	public void findOverriddenMethod(Blackhole blackhole) {
+		for (MethodDeclaration method : fixture.getMethods()) {
+			IMethodBinding binding= method.resolveBinding();
+			if (binding != null)
+				blackhole.consume(Bindings.findOverriddenMethod(binding, true));
+		}
+	}
+
+	@Benchmark
+	public void allSuperTypes(Blackhole blackhole) {
+		for (TypeDeclaration type : fixture.getTypes()) {
+			ITypeBinding binding= type.resolveBinding();
+			if (binding != null)
+				blackhole.consume(Bindings.getAllSuperTypes(binding));
+		}
+	}
+
+	@Benchmark
+	public void findMethodInHierarchy(Blackhole blackhole) {
+		for (TypeDeclaration type : fixture.getTypes()) {
+			ITypeBinding binding= type.resolveBinding();
+			if (binding != null) {
+				blackhole.consume(Bindings.findMethodInHierarchy(binding, "toString", new ITypeBinding[0])); //$NON-NLS-1$
+				blackhole.consume(Bindings.findMethodInHierarchy(binding, "equals", new String[] { "java.lang.Object" })); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	@Benchmark
+	public void isSuperType(Blackhole blackhole) {
+		for (TypeDeclaration first : fixture.getTypes()) {
+			ITypeBinding firstBinding= first.resolveBinding();
+			for (TypeDeclaration second : fixture.getTypes()) {
+				ITypeBinding secondBinding= second.resolveBinding();
+				if (firstBinding != null && secondBinding != null)
+					blackhole.consume(Bindings.isSuperType(firstBinding, secondBinding));
+			}
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
+
+import org.eclipse.jdt.internal.corext.fix.CodeStyleFixCore;
+import org.eclipse.jdt.internal.corext.fix.UnusedCodeFixCore;
+import org.eclipse.jdt.internal.corext.fix.VariableDeclarationFixCore;
+
+/**
+ * Benchmarks the analysis phase of clean ups, which finds the rewrite operations of a
+ * compilation unit. Creating the change needs a Java model and is not measured.
+ * <p>
+ * The fixtures are not backed by a Java element, so only clean ups that do not need an
+ * <code>ImportRewrite</code> during the analysis can be measured.
+ * </p>
+ */
+public class FixCoreBenchmark extends FixtureBenchmark {
+
+	@Override
+	protected void checkFixture() {
+		checkFix("variableDeclarations", variableDeclarations()); //$NON-NLS-1$
+		checkFix("codeStyle", codeStyle()); //$NON-NLS-1$
+		checkFix("unusedCode", unusedCode()); //$NON-NLS-1$
+	}
+
+	private void checkFix(String benchmark, ICleanUpFixCore fix) {
+		if (fix == null)
+			throw new IllegalStateException(benchmark + " finds nothing to fix in " + fixtureName); //$NON-NLS-1$
+	}
+
+	@Benchmark
+	public ICleanUpFixCore variableDeclarations() {
+		return VariableDeclarationFixCore.createCleanUp(fixture.getRoot(), true, true, true);
+	}
+
+	@Benchmark
+	public ICleanUpFixCore codeStyle() {
+		// qualifying accesses needs an ImportRewrite, which cannot be created without a Java element
+		return CodeStyleFixCore.createCleanUp(fixture.getRoot(), false, true, false, true, false, false, true, true);
+	}
+
+	@Benchmark
+	public ICleanUpFixCore unusedCode() {
+		return UnusedCodeFixCore.createCleanUp(fixture.getRoot(), true, true, true, true, true, true, true, false);
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+/**
+ * A fixture source file, parsed with bindings and without a Java model.
+ * <p>
+ * The fixtures only reference types of the JDK, which the parser resolves from the running
+ * VM. The nodes that the benchmarks visit are collected once, so that a benchmark measures
+ * the code under test and not the traversal of the AST.
+ * </p>
+ */
+public final class Fixture {
+
+	/** The names of the fixtures, used as JMH parameter values */
+	public static final String INVENTORY= "Inventory"; //$NON-NLS-1$
+	public static final String EVENT_BUS= "EventBus"; //$NON-NLS-1$
+
+	private final String fSource;
+
+	private final CompilationUnit fRoot;
+
+	private final List<TypeDeclaration> fTypes= new ArrayList<>();
+
+	private final List<MethodDeclaration> fMethods= new ArrayList<>();
+
+	private final List<SimpleName> fNames= new ArrayList<>();
+
+	private final List<ASTNode> fNodes= new ArrayList<>();
+
+	private Fixture(String source, CompilationUnit root) {
+		fSource= source;
+		fRoot= root;
+		root.accept(new ASTVisitor() {
+			@Override
+			public void preVisit(ASTNode node) {
+				fNodes.add(node);
+			}
+
+			@Override
+			public boolean visit(TypeDeclaration node) {
+				fTypes.add(node);
+				return true;
+			}
+
+			@Override
+			public boolean visit(MethodDeclaration node) {
+				fMethods.add(node);
+				return true;
+			}
+
+			@Override
+			public boolean visit(SimpleName node) {
+				fNames.add(node);
+				return true;
+			}
+		});
+	}
+
+	/**
+	 * Loads and parses the fixture with the given name.
+	 *
+	 * @param name the name of the fixture
+	 * @return the parsed fixture
+	 * @throws IOException if the fixture cannot be read
+	 */
+	public static Fixture load(String name) throws IOException {
+		String source= read(name);
+		return new Fixture(source, parse(name, source));
+	}
+
+	/**
+	 * Parses the given source with bindings.
+	 *
+	 * @param name the name of the fixture
+	 * @param source the source
+	 * @return the compilation unit
+	 */
+	public static CompilationUnit parse(String name, String source) {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		Map<String, String> options= JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.VERSION_11, options);
+		parser.setCompilerOptions(options);
+		parser.setEnvironment(null, null, null, true);
+		parser.setUnitName("/benchmarks/" + name + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+		parser.setSource(source.toCharArray());
+		parser.setResolveBindings(true);
+		parser.setBindingsRecovery(true);
+		parser.setStatementsRecovery(IASTSharedValues.SHARED_AST_STATEMENT_RECOVERY);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	private static String read(String name) throws IOException {
+		try (InputStream in= Fixture.class.getResourceAsStream("fixtures/" + name + ".java")) { //$NON-NLS-1$ //$NON-NLS-2$
+			if (in == null)
+				throw new IOException("Unknown fixture: " + name); //$NON-NLS-1$
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	public String getSource() {
+		return fSource;
+	}
+
+	public CompilationUnit getRoot() {
+		return fRoot;
+	}
+
+	public List<TypeDeclaration> getTypes() {
+		return fTypes;
+	}
+
+	public List<MethodDeclaration> getMethods() {
+		return fMethods;
+	}
+
+	public List<SimpleName> getNames() {
+		return fNames;
+	}
+
+	public List<ASTNode> getNodes() {
+		return fNodes;
+	}
+}
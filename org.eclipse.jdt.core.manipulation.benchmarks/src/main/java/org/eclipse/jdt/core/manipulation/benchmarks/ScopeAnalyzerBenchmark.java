@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+
+import org.eclipse.jdt.internal.corext.dom.ScopeAnalyzer;
+
+/**
+ * Benchmarks the scope queries that content assist, quick fixes and refactorings issue to find
+ * the names visible at a position.
+ */
+public class ScopeAnalyzerBenchmark extends FixtureBenchmark {
+
+	private static final int ALL_DECLARATIONS= ScopeAnalyzer.METHODS | ScopeAnalyzer.VARIABLES | ScopeAnalyzer.TYPES | ScopeAnalyzer.CHECK_VISIBILITY;
+
+	@Benchmark
+	public void declarationsInScope(Blackhole blackhole) {
+		ScopeAnalyzer analyzer= new ScopeAnalyzer(fixture.getRoot());
+		for (MethodDeclaration method : fixture.getMethods()) {
+			Block body= method.getBody();
+			if (body != null)
+				blackhole.consume(analyzer.getDeclarationsInScope(body.getStartPosition() + body.getLength() - 1, ALL_DECLARATIONS));
+		}
+	}
+
+	@Benchmark
+	public void usedVariableNames(Blackhole blackhole) {
+		ScopeAnalyzer analyzer= new ScopeAnalyzer(fixture.getRoot());
+		for (MethodDeclaration method : fixture.getMethods()) {
+			Block body= method.getBody();
+			if (body != null)
+				blackhole.consume(analyzer.getUsedVariableNames(body.getStartPosition(), body.getLength()));
+		}
+	}
+}
@@ -0,0 +1,228 @@
+package org.example.events;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dispatches events to the subscribers of their type and its super types.
+ */
+public final class EventBus {
+
+	private static final Logger LOGGER= Logger.getLogger(EventBus.class.getName());
+
+	public static abstract class Event {
+		private final long timestamp= System.nanoTime();
+
+		public long getTimestamp() {
+			return timestamp;
+		}
+	}
+
+	public static class MessageEvent extends Event {
+		private final String message;
+
+		public MessageEvent(String message) {
+			this.message= message;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+	}
+
+	public static class ErrorEvent extends MessageEvent {
+		private final Throwable cause;
+
+		public ErrorEvent(String message, Throwable cause) {
+			super(message);
+			this.cause= cause;
+		}
+
+		public Throwable getCause() {
+			return cause;
+		}
+	}
+
+	public static final class DeadEvent extends Event {
+		private final Event event;
+
+		DeadEvent(Event event) {
+			this.event= event;
+		}
+
+		public Event getEvent() {
+			return event;
+		}
+	}
+
+	public interface Subscription extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	private static final class Subscriber<E extends Event> {
+		final Class<E> type;
+		final Consumer<? super E> consumer;
+		final int priority;
+
+		Subscriber(Class<E> type, Consumer<? super E> consumer, int priority) {
+			this.type= type;
+			this.consumer= consumer;
+			this.priority= priority;
+		}
+
+		void deliver(Event event) {
+			consumer.accept(type.cast(event));
+		}
+	}
+
+	private final Map<Class<?>, List<Subscriber<?>>> subscribers= new ConcurrentHashMap<>();
+	private final Map<Class<?>, List<Class<?>>> hierarchyCache= new ConcurrentHashMap<>();
+	private final ThreadLocal<Deque<Event>> queue= ThreadLocal.withInitial(ArrayDeque::new);
+	private final ThreadLocal<Boolean> dispatching= ThreadLocal.withInitial(() -> Boolean.FALSE);
+	private final Executor executor;
+	private final AtomicLong posted= new AtomicLong();
+	private final String name;
+	private volatile boolean closed;
+
+	public EventBus(String name, Executor executor) {
+		this.name= name;
+		this.executor= executor;
+	}
+
+	public EventBus(String name) {
+		this(name, Runnable::run);
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public <E extends Event> Subscription subscribe(Class<E> type, Consumer<? super E> consumer) {
+		return subscribe(type, consumer, 0);
+	}
+
+	public <E extends Event> Subscription subscribe(Class<E> type, Consumer<? super E> consumer, int priority) {
+		final Subscriber<E> subscriber= new Subscriber<>(type, consumer, priority);
+		List<Subscriber<?>> list= subscribers.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>());
+		int index= 0;
+		while (index < list.size() && list.get(index).priority >= priority)
+			index++;
+		list.add(index, subscriber);
+		return new Subscription() {
+			@Override
+			public void close() {
+				List<Subscriber<?>> current= subscribers.get(subscriber.type);
+				if (current != null)
+					current.remove(subscriber);
+			}
+		};
+	}
+
+	public void post(Event event) {
+		posted.incrementAndGet();
+		Deque<Event> events= queue.get();
+		events.addLast(event);
+		if (dispatching.get().booleanValue())
+			return;
+		dispatching.set(Boolean.TRUE);
+		try {
+			Event next;
+			while ((next= events.pollFirst()) != null) {
+				dispatch(next);
+			}
+		} finally {
+			dispatching.set(Boolean.FALSE);
+		}
+	}
+
+	public void postAll(Collection<? extends Event> events) {
+		for (Event event : events) {
+			post(event);
+		}
+	}
+
+	private void dispatch(final Event event) {
+		boolean delivered= false;
+		for (Class<?> type : flattenHierarchy(event.getClass())) {
+			List<Subscriber<?>> list= subscribers.get(type);
+			if (list == null)
+				continue;
+			for (final Subscriber<?> subscriber : list) {
+				delivered= true;
+				executor.execute(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							subscriber.deliver(event);
+						} catch (RuntimeException e) {
+							LOGGER.log(Level.WARNING, "Subscriber of " + name + " failed", e);
+						}
+					}
+				});
+			}
+		}
+		if (!delivered && !(event instanceof DeadEvent))
+			post(new DeadEvent(event));
+	}
+
+	private List<Class<?>> flattenHierarchy(Class<?> type) {
+		List<Class<?>> hierarchy= hierarchyCache.get(type);
+		if (hierarchy == null) {
+			hierarchy= new ArrayList<>();
+			Class<?> current= type;
+			while (current != null && current != Object.class) {
+				hierarchy.add(current);
+				for (Class<?> superInterface : current.getInterfaces()) {
+					if (!hierarchy.contains(superInterface))
+						hierarchy.add(superInterface);
+				}
+				current= current.getSuperclass();
+			}
+			hierarchyCache.put(type, hierarchy);
+		}
+		return hierarchy;
+	}
+
+	public Map<Class<?>, Integer> subscriberCounts() {
+		Map<Class<?>, Integer> counts= new HashMap<>();
+		int total= 0;
+		for (Map.Entry<Class<?>, List<Subscriber<?>>> entry : subscribers.entrySet()) {
+			counts.put(entry.getKey(), Integer.valueOf(entry.getValue().size()));
+		}
+		return counts;
+	}
+
+	public long getPostedCount() {
+		return this.posted.get();
+	}
+
+	private int countAll() {
+		int count= 0;
+		for (List<Subscriber<?>> list : subscribers.values()) {
+			count+= list.size();
+		}
+		return count;
+	}
+
+	@Override
+	public String toString() {
+		String unused= "EventBus";
+		return name + " [" + subscribers.size() + " types, " + posted.get() + " posted]";
+	}
+}
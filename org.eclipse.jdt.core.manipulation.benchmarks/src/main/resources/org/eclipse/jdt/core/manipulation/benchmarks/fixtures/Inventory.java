@@ -0,0 +1,332 @@
+package org.example.inventory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps track of the stock of a warehouse.
+ */
+public class Inventory implements Iterable<Inventory.Item> {
+
+	public static final int DEFAULT_CAPACITY= 128;
+
+	private static int instances;
+
+	public interface Listener {
+		void stockChanged(Item item, int oldQuantity, int newQuantity);
+	}
+
+	public static class Item implements Comparable<Item> {
+		private final String sku;
+		private final String name;
+		private BigDecimal price;
+		private int quantity;
+		private final Set<String> tags= new TreeSet<>();
+
+		public Item(String sku, String name, BigDecimal price, int quantity) {
+			this.sku= sku;
+			this.name= name;
+			this.price= price;
+			this.quantity= quantity;
+		}
+
+		public String getSku() {
+			return sku;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public BigDecimal getPrice() {
+			return price;
+		}
+
+		public void setPrice(BigDecimal price) {
+			this.price= price;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		void setQuantity(int quantity) {
+			this.quantity= quantity;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		public BigDecimal getValue() {
+			return price.multiply(BigDecimal.valueOf(quantity));
+		}
+
+		@Override
+		public int compareTo(Item other) {
+			return sku.compareTo(other.sku);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Item))
+				return false;
+			Item other= (Item) obj;
+			return sku.equals(other.sku);
+		}
+
+		@Override
+		public int hashCode() {
+			return sku.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return name + " (" + sku + ") x" + quantity;
+		}
+	}
+
+	private static class Reservation {
+		final Item item;
+		final int quantity;
+		final Instant expiry;
+
+		Reservation(Item item, int quantity, Instant expiry) {
+			this.item= item;
+			this.quantity= quantity;
+			this.expiry= expiry;
+		}
+
+		boolean isExpired(Instant now) {
+			return now.isAfter(expiry);
+		}
+	}
+
+	private final Map<String, Item> items= new LinkedHashMap<>(DEFAULT_CAPACITY);
+	private final List<Reservation> reservations= new ArrayList<>();
+	private final List<Listener> listeners= new ArrayList<>();
+	private final String location;
+	private int modifications;
+	private String unusedNote;
+
+	public Inventory(String location) {
+		this.location= location;
+		instances++;
+	}
+
+	public String getLocation() {
+		return location;
+	}
+
+	public void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+	}
+
+	public Item add(String sku, String name, BigDecimal price, int quantity) {
+		Item item= items.get(sku);
+		if (item == null) {
+			item= new Item(sku, name, price, 0);
+			items.put(sku, item);
+		}
+		changeQuantity(item, item.getQuantity() + quantity);
+		return item;
+	}
+
+	public boolean remove(String sku, int quantity) {
+		Item item= items.get(sku);
+		if (item == null || available(item) < quantity)
+			return false;
+		changeQuantity(item, item.getQuantity() - quantity);
+		return true;
+	}
+
+	private void changeQuantity(Item item, int quantity) {
+		int old= item.getQuantity();
+		item.setQuantity(quantity);
+		modifications++;
+		for (int i= 0; i < listeners.size(); i++) {
+			Listener listener= listeners.get(i);
+			listener.stockChanged(item, old, quantity);
+		}
+	}
+
+	public int available(Item item) {
+		int reserved= 0;
+		Instant now= Instant.now();
+		for (Iterator<Reservation> iterator= reservations.iterator(); iterator.hasNext();) {
+			Reservation reservation= iterator.next();
+			if (reservation.isExpired(now)) {
+				iterator.remove();
+			} else if (reservation.item.equals(item)) {
+				reserved+= reservation.quantity;
+			}
+		}
+		return item.getQuantity() - reserved;
+	}
+
+	public boolean reserve(String sku, int quantity, Duration duration) {
+		Item item= items.get(sku);
+		if (item == null)
+			return false;
+		if (available(item) < quantity)
+			return false;
+		reservations.add(new Reservation(item, quantity, Instant.now().plus(duration)));
+		return true;
+	}
+
+	public Optional<Item> find(String sku) {
+		return Optional.ofNullable(items.get(sku));
+	}
+
+	public List<Item> find(Predicate<Item> predicate) {
+		List<Item> result= new ArrayList<>();
+		for (Item item : items.values()) {
+			if (predicate.test(item))
+				result.add(item);
+		}
+		return result;
+	}
+
+	public List<Item> findByTag(final String tag) {
+		return find(new Predicate<Item>() {
+			@Override
+			public boolean test(Item item) {
+				return item.getTags().contains(tag);
+			}
+		});
+	}
+
+	public List<Item> lowStock(int threshold) {
+		return items.values().stream()
+				.filter(item -> item.getQuantity() < threshold)
+				.sorted(Comparator.comparingInt(Item::getQuantity).thenComparing(Item::getName))
+				.collect(Collectors.toList());
+	}
+
+	public BigDecimal totalValue() {
+		BigDecimal total= BigDecimal.ZERO;
+		for (Item item : items.values()) {
+			total= total.add(item.getValue());
+		}
+		return total.setScale(2, RoundingMode.HALF_EVEN);
+	}
+
+	public Map<String, BigDecimal> valueByTag() {
+		Map<String, BigDecimal> result= new HashMap<>();
+		for (Item item : items.values()) {
+			for (String tag : item.getTags()) {
+				BigDecimal value= result.get(tag);
+				if (value == null) {
+					value= BigDecimal.ZERO;
+				}
+				result.put(tag, value.add(item.getValue()));
+			}
+		}
+		return result;
+	}
+
+	public void applyDiscount(String tag, int percent) {
+		BigDecimal factor= BigDecimal.valueOf(100 - percent).divide(BigDecimal.valueOf(100));
+		List<Item> tagged= findByTag(tag);
+		for (int i= 0; i < tagged.size(); i++) {
+			Item item= tagged.get(i);
+			item.setPrice(item.getPrice().multiply(factor).setScale(2, RoundingMode.HALF_UP));
+		}
+	}
+
+	public List<String> report() {
+		List<String> lines= new ArrayList<>();
+		List<Item> sorted= new ArrayList<>(items.values());
+		Collections.sort(sorted);
+		int index= 0;
+		int width= 10;
+		for (Item item : sorted) {
+			String line= String.format("%3d %-10s %-30s %5d %10s", index, item.getSku(), item.getName(), item.getQuantity(), item.getPrice());
+			lines.add(line);
+			index++;
+		}
+		lines.add("Total: " + totalValue() + " in " + location + " after " + modifications + " modifications");
+		return lines;
+	}
+
+	public int merge(Inventory other) {
+		int merged= 0;
+		int skipped= 0;
+		if (other.items.size() > other.DEFAULT_CAPACITY)
+			merged= 0;
+		for (Item item : other) {
+			Item copy= add(item.getSku(), item.getName(), item.getPrice(), item.getQuantity());
+			copy.getTags().addAll(item.getTags());
+			merged++;
+		}
+		return merged;
+	}
+
+	private String describe(Item item) {
+		StringBuffer buffer= new StringBuffer();
+		buffer.append(item.getName());
+		if (item.getQuantity() == 0) {
+			buffer.append(" (sold out)");
+		} else if (item.getQuantity() < 10) {
+			buffer.append(" (low)");
+		}
+		return buffer.toString();
+	}
+
+	@Override
+	public Iterator<Item> iterator() {
+		return Collections.unmodifiableCollection(items.values()).iterator();
+	}
+
+	private static String normalize(String sku) {
+		return sku.trim().toUpperCase();
+	}
+
+	public int getModifications() {
+		return this.modifications;
+	}
+
+	public static int getInstances() {
+		return instances;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		Inventory other= (Inventory) obj;
+		return Objects.equals(location, other.location) && items.equals(other.items);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(location, items);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,12 +31,14 @@ import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.core.manipulation.SharedASTCache;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
 /**
  * The {@link CoreASTProvider} provides access to the {@link CompilationUnit AST root} used by
- * the current active Java editor.
+ * the current active Java editor. The ASTs created for other Java elements are shared
+ * through a bounded cache, see {@link SharedASTCache}.
  *
  * The {@link CoreASTProvider} contains all methods/functionality that are
  * not dependent on the UI, from org.eclipse.jdt.internal.ui.javaeditor.ASTProvider
@@ -196,7 +198,7 @@ public final class CoreASTProvider {
 
 		CompilationUnit ast= null;
 		try {
-			ast= createAST(input, progressMonitor);
+			ast= getSharedAST(input, progressMonitor);
 			if (progressMonitor != null && progressMonitor.isCanceled()) {
 				ast= null;
 				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
@@ -258,6 +260,28 @@ public final class CoreASTProvider {
 		cache(null, javaElement);
 	}
 
+	/**
+	 * Returns the AST of the given element from the {@link SharedASTCache}, or creates it and
+	 * adds it to the cache.
+	 *
+	 * @param input the Java element for which to create the AST
+	 * @param progressMonitor the progress monitor
+	 * @return AST
+	 */
+	private static CompilationUnit getSharedAST(final ITypeRoot input, final IProgressMonitor progressMonitor) {
+		SharedASTCache cache= SharedASTCache.getInstance();
+		CompilationUnit ast= cache.get(input);
+		if (ast != null)
+			return ast;
+
+		long stamp= SharedASTCache.getModificationStamp(input);
+		long start= System.nanoTime();
+		ast= createAST(input, progressMonitor);
+		if (ast != null && (progressMonitor == null || !progressMonitor.isCanceled()))
+			cache.put(input, stamp, ast, System.nanoTime() - start);
+		return ast;
+	}
+
 	/**
 	 * Creates a new compilation unit AST.
 	 *
@@ -0,0 +1,381 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * A bounded cache of the labels computed by {@link JavaElementLabelsCore#getElementLabel(IJavaElement, long)}
+ * and by the corresponding method of the UI, keyed by the handle of the element, the rendering
+ * flags and whether the label has been composed by the UI.
+ * <p>
+ * The label of an element only depends on the elements of its compilation unit or class file
+ * and on the package fragment roots, except for compressed package names, whose pattern is
+ * configured by the UI. The labels of a compilation unit or class file are removed when it
+ * changes, all labels are removed when a package fragment root or project changes otherwise
+ * than by its children. Labels of resolved elements and of elements in working copies that
+ * are not primary are not cached, since their handles do not identify them.
+ * </p>
+ * <p>
+ * Labels computed while the Java model changes are only added if no change has been
+ * reported in the meantime, see {@link #getStamp()}.
+ * </p>
+ */
+public final class JavaElementLabelCache {
+
+	private static final class Key {
+
+		final IJavaElement fElement;
+		final long fFlags;
+		final boolean fUI;
+
+		Key(IJavaElement element, long flags, boolean ui) {
+			fElement= element;
+			fFlags= flags;
+			fUI= ui;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fFlags == other.fFlags && fUI == other.fUI && fElement.equals(other.fElement);
+		}
+
+		@Override
+		public int hashCode() {
+			return (fElement.hashCode() * 31 + Long.hashCode(fFlags)) * 31 + Boolean.hashCode(fUI);
+		}
+	}
+
+	private final class InvalidationListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<IJavaElement> staleElements= new HashSet<>();
+			if (collectStale(event.getDelta(), staleElements))
+				removeAll();
+			else if (!staleElements.isEmpty())
+				removeAll(staleElements);
+		}
+	}
+
+	/**
+	 * Default maximal number of labels.
+	 */
+	private static final int DEFAULT_MAX_ENTRIES= 10000;
+
+	/**
+	 * System property to override {@link #DEFAULT_MAX_ENTRIES}.
+	 */
+	private static final String MAX_ENTRIES_PROPERTY= "org.eclipse.jdt.core.manipulation.labelCacheSize"; //$NON-NLS-1$
+
+	private static final long UNCACHEABLE_FLAGS= JavaElementLabelsCore.P_COMPRESSED;
+
+	private static final JavaElementLabelCache fgInstance= new JavaElementLabelCache();
+
+	/**
+	 * The labels in access order. Accessed only while holding the monitor of this cache.
+	 */
+	private final LinkedHashMap<Key, String> fLabels= new LinkedHashMap<>(256, 0.75f, true);
+
+	private int fMaxEntries= Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES).intValue();
+
+	/**
+	 * Incremented whenever labels are removed. Accessed only while holding the monitor of this
+	 * cache.
+	 */
+	private long fStamp;
+
+	private InvalidationListener fListener;
+
+	private final AtomicInteger fHits= new AtomicInteger();
+
+	private final AtomicInteger fMisses= new AtomicInteger();
+
+	/**
+	 * Returns the shared label cache.
+	 *
+	 * @return the shared label cache
+	 */
+	public static JavaElementLabelCache getInstance() {
+		return fgInstance;
+	}
+
+	private JavaElementLabelCache() {
+	}
+
+	/**
+	 * Returns whether the label of the given element with the given flags can be cached.
+	 *
+	 * @param element the Java element
+	 * @param flags the rendering flags
+	 * @return <code>true</code> if the label can be cached
+	 */
+	public static boolean isCacheable(IJavaElement element, long flags) {
+		if ((flags & UNCACHEABLE_FLAGS) != 0)
+			return false;
+		switch (element.getElementType()) {
+			case IJavaElement.TYPE:
+				if (((IType) element).isResolved())
+					return false;
+				break;
+			case IJavaElement.METHOD:
+				if (((IMethod) element).isResolved())
+					return false;
+				break;
+			case IJavaElement.FIELD:
+				if (((IField) element).isResolved())
+					return false;
+				break;
+			case IJavaElement.LOCAL_VARIABLE:
+			case IJavaElement.TYPE_PARAMETER:
+				return false;
+			default:
+				break;
+		}
+		ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		return cu == null || cu.getOwner() == null;
+	}
+
+	/**
+	 * Returns the cached label of the given element.
+	 *
+	 * @param element the Java element
+	 * @param flags the rendering flags
+	 * @return the label or <code>null</code> if none is cached
+	 */
+	public String get(IJavaElement element, long flags) {
+		return get(element, flags, false);
+	}
+
+	/**
+	 * Returns the cached label of the given element.
+	 *
+	 * @param element the Java element
+	 * @param flags the rendering flags
+	 * @param ui <code>true</code> for a label composed by the UI
+	 * @return the label or <code>null</code> if none is cached
+	 */
+	public String get(IJavaElement element, long flags, boolean ui) {
+		String label;
+		synchronized (this) {
+			label= fLabels.get(new Key(element, flags, ui));
+		}
+		if (label != null)
+			fHits.incrementAndGet();
+		else
+			fMisses.incrementAndGet();
+		return label;
+	}
+
+	/**
+	 * Returns the stamp to pass to {@link #put(IJavaElement, long, boolean, String, long)} for a
+	 * label that is about to be computed.
+	 *
+	 * @return the current stamp
+	 */
+	public synchronized long getStamp() {
+		return fStamp;
+	}
+
+	/**
+	 * Adds a label to the cache, unless labels have been removed since the given stamp.
+	 *
+	 * @param element the Java element, see {@link #isCacheable(IJavaElement, long)}
+	 * @param flags the rendering flags
+	 * @param label the label
+	 * @param stamp the stamp returned by {@link #getStamp()} before the label has been computed
+	 */
+	public void put(IJavaElement element, long flags, String label, long stamp) {
+		put(element, flags, false, label, stamp);
+	}
+
+	/**
+	 * Adds a label to the cache, unless labels have been removed since the given stamp.
+	 *
+	 * @param element the Java element, see {@link #isCacheable(IJavaElement, long)}
+	 * @param flags the rendering flags
+	 * @param ui <code>true</code> for a label composed by the UI
+	 * @param label the label
+	 * @param stamp the stamp returned by {@link #getStamp()} before the label has been computed
+	 */
+	public synchronized void put(IJavaElement element, long flags, boolean ui, String label, long stamp) {
+		if (stamp != fStamp)
+			return; // the Java model changed while the label was computed
+		if (fListener == null) {
+			fListener= new InvalidationListener();
+			JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		fLabels.put(new Key(element, flags, ui), label);
+		Iterator<Key> iter= fLabels.keySet().iterator();
+		while (fLabels.size() > fMaxEntries) {
+			iter.next();
+			iter.remove();
+		}
+	}
+
+	private synchronized void removeAll() {
+		fStamp++;
+		fLabels.clear();
+	}
+
+	private synchronized void removeAll(Set<IJavaElement> typeRoots) {
+		fStamp++;
+		for (Iterator<Key> iter= fLabels.keySet().iterator(); iter.hasNext();) {
+			IJavaElement element= iter.next().fElement;
+			IJavaElement typeRoot= element.getAncestor(IJavaElement.COMPILATION_UNIT);
+			if (typeRoot == null)
+				typeRoot= element.getAncestor(IJavaElement.CLASS_FILE);
+			if (typeRoot != null && typeRoots.contains(typeRoot))
+				iter.remove();
+		}
+	}
+
+	/**
+	 * Collects the compilation units and class files whose labels are made stale by the given
+	 * delta.
+	 *
+	 * @param delta the delta
+	 * @param staleElements the compilation units and class files whose labels are stale
+	 * @return <code>true</code> if all labels are stale
+	 */
+	private static boolean collectStale(IJavaElementDelta delta, Set<IJavaElement> staleElements) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				// the labels of roots depend on the classpath, the qualified labels on the roots
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0)
+					return true;
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				staleElements.add(element);
+				return false;
+			default:
+				return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (collectStale(child, staleElements))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Sets the maximal number of labels in the cache.
+	 *
+	 * @param maxEntries the maximal number of labels
+	 */
+	public synchronized void setCapacity(int maxEntries) {
+		fMaxEntries= Math.max(1, maxEntries);
+		Iterator<Key> iter= fLabels.keySet().iterator();
+		while (fLabels.size() > fMaxEntries) {
+			iter.next();
+			iter.remove();
+		}
+	}
+
+	/**
+	 * Restores the default capacity of the cache.
+	 */
+	public void setDefaultCapacity() {
+		setCapacity(Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES).intValue());
+	}
+
+	/**
+	 * Returns whether a label is cached for the given element and flags.
+	 *
+	 * @param element the Java element
+	 * @param flags the rendering flags
+	 * @return <code>true</code> if a label is cached
+	 */
+	public boolean contains(IJavaElement element, long flags) {
+		return contains(element, flags, false);
+	}
+
+	/**
+	 * Returns whether a label is cached for the given element and flags.
+	 *
+	 * @param element the Java element
+	 * @param flags the rendering flags
+	 * @param ui <code>true</code> for a label composed by the UI
+	 * @return <code>true</code> if a label is cached
+	 */
+	public synchronized boolean contains(IJavaElement element, long flags, boolean ui) {
+		return fLabels.containsKey(new Key(element, flags, ui));
+	}
+
+	/**
+	 * Removes all labels from the cache and resets the statistics.
+	 */
+	public void clear() {
+		removeAll();
+		fHits.set(0);
+		fMisses.set(0);
+	}
+
+	/**
+	 * Removes all labels from the cache and stops listening to Java element changes.
+	 */
+	public void dispose() {
+		IElementChangedListener listener;
+		synchronized (this) {
+			listener= fListener;
+			fListener= null;
+		}
+		if (listener != null)
+			JavaCore.removeElementChangedListener(listener);
+		clear();
+	}
+
+	/**
+	 * @return the number of times a label was found in the cache
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return the number of times no label was found in the cache
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "JavaElementLabelCache size: " + fLabels.size() + ", hits: " + getHits() + ", misses: " + getMisses(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.manipulation;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.Attributes.Name;
 
 import org.eclipse.osgi.util.NLS;
@@ -128,6 +129,12 @@ public class JavaElementLabelComposerCore {
 	protected static int fgPkgNameChars;
 	protected static int fgPkgNameLength= -1;
 
+	/*
+	 * Simple names of erased type signatures, the same signatures occur in the labels of most members
+	 */
+	private static final int MAX_SIMPLE_TYPE_NAMES= 2000;
+	private static final ConcurrentHashMap<String, String> fgSimpleTypeNames= new ConcurrentHashMap<>();
+
 	protected final FlexibleBufferCore fBuffer;
 
 	protected static final boolean getFlag(long flags, long flag) {
@@ -803,7 +810,14 @@ public class JavaElementLabelComposerCore {
 	 * @return the simple name of the given type signature
 	 */
 	protected String getSimpleTypeName(IJavaElement enclosingElement, String typeSig) {
-		return Signature.getSimpleName(Signature.toString(Signature.getTypeErasure(typeSig)));
+		String simpleName= fgSimpleTypeNames.get(typeSig);
+		if (simpleName == null) {
+			simpleName= Signature.getSimpleName(Signature.toString(Signature.getTypeErasure(typeSig)));
+			if (fgSimpleTypeNames.size() >= MAX_SIMPLE_TYPE_NAMES)
+				fgSimpleTypeNames.clear();
+			fgSimpleTypeNames.put(typeSig, simpleName);
+		}
+		return simpleName;
 	}
 
 	/**
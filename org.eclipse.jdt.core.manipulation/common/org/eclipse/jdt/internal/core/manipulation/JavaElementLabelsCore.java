@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -398,9 +398,21 @@ public final class JavaElementLabelsCore {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
+		JavaElementLabelCache cache= null;
+		long stamp= 0;
+		if (JavaElementLabelCache.isCacheable(element, flags)) {
+			cache= JavaElementLabelCache.getInstance();
+			String label= cache.get(element, flags);
+			if (label != null)
+				return label;
+			stamp= cache.getStamp();
+		}
 		StringBuffer result= new StringBuffer();
 		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		String label= org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		if (cache != null)
+			cache.put(element, flags, label, stamp);
+		return label;
 	}
 
 	/**
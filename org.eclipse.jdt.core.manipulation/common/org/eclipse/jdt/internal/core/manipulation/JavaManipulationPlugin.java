@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,8 @@ import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.ui.text.ChainTypeGraph;
+
 /**
  * The main plug-in class to be used in the workbench.
  */
@@ -62,6 +64,9 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		SharedASTCache.getInstance().dispose();
+		JavaElementLabelCache.getInstance().dispose();
+		ChainTypeGraph.dispose();
 		super.stop(context);
 		fgDefault= null;
 	}
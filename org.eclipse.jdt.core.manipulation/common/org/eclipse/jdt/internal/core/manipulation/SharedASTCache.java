@@ -0,0 +1,479 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.BufferChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IBufferChangedListener;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaModel;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+
+/**
+ * A bounded cache of shared ASTs for Java elements that are not the input of the active
+ * editor, so that split editors and background jobs do not parse the same compilation unit
+ * again and again.
+ * <p>
+ * Entries are keyed by the Java element and validated against its modification stamp. The
+ * stamp of a working copy with unsaved changes changes with every change of its buffer. An
+ * entry is removed when its element is reconciled or changed, and all entries of a project
+ * and of the projects requiring it are removed when the structure of one of its elements or
+ * its classpath changes, since their bindings may be stale.
+ * </p>
+ * <p>
+ * The capacity is measured in characters of source, which is proportional to the memory
+ * held by an AST with bindings, and in number of entries. When either is exceeded, the least
+ * recently used entries are evicted. The ASTs are only softly referenced, so that they are
+ * released under memory pressure.
+ * </p>
+ * <p>
+ * The cached ASTs are shared, clients must neither modify them nor access their nodes
+ * without synchronization, see {@link CoreASTProvider}.
+ * </p>
+ */
+public final class SharedASTCache {
+
+	private static final class Entry {
+
+		final ITypeRoot fElement;
+		final long fStamp;
+		final int fWeight;
+		final SoftReference<CompilationUnit> fAST;
+
+		Entry(ITypeRoot element, long stamp, int weight, CompilationUnit ast) {
+			fElement= element;
+			fStamp= stamp;
+			fWeight= weight;
+			fAST= new SoftReference<>(ast);
+		}
+	}
+
+	private final class InvalidationListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<IJavaProject> staleProjects= new HashSet<>();
+			Set<IJavaElement> staleElements= new HashSet<>();
+			collectStale(event.getDelta(), staleProjects, staleElements);
+			if (!staleProjects.isEmpty())
+				addRequiringProjects(event.getDelta().getElement().getJavaModel(), staleProjects);
+			if (!staleProjects.isEmpty() || !staleElements.isEmpty())
+				removeAll(staleProjects, staleElements);
+		}
+	}
+
+	/**
+	 * Tracks the changes of the buffer of a working copy. The stamp is taken from a global
+	 * sequence, so that it identifies the contents of the buffer among all buffers.
+	 */
+	private static final class BufferStamp implements IBufferChangedListener {
+
+		private volatile long fStamp= nextBufferStamp();
+
+		@Override
+		public void bufferChanged(BufferChangedEvent event) {
+			fStamp= nextBufferStamp();
+			IBuffer buffer= event.getBuffer();
+			if (buffer.isClosed()) {
+				buffer.removeBufferChangedListener(this);
+				synchronized (fgBufferStamps) {
+					fgBufferStamps.remove(buffer);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Default maximal number of entries.
+	 */
+	private static final int DEFAULT_MAX_ENTRIES= 8;
+
+	/**
+	 * System property to override {@link #DEFAULT_MAX_ENTRIES}.
+	 */
+	private static final String MAX_ENTRIES_PROPERTY= "org.eclipse.jdt.core.manipulation.sharedASTCacheSize"; //$NON-NLS-1$
+
+	/**
+	 * An AST with bindings takes roughly a kilobyte of heap per character of source, including
+	 * the binding environment. A tenth of the heap is given to the cache by default.
+	 */
+	private static final long DEFAULT_CAPACITY= Runtime.getRuntime().maxMemory() / 10 / 1024;
+
+	private static final SharedASTCache fgInstance= new SharedASTCache();
+
+	/**
+	 * The stamps of the buffers of working copies with unsaved changes.
+	 */
+	private static final Map<IBuffer, BufferStamp> fgBufferStamps= new WeakHashMap<>();
+
+	/**
+	 * The last buffer stamp. Buffer stamps are negative and below {@link IResource#NULL_STAMP},
+	 * so that they never collide with the modification stamp of a resource.
+	 */
+	private static final AtomicLong fgLastBufferStamp= new AtomicLong(IResource.NULL_STAMP);
+
+	/**
+	 * The entries in access order. Accessed only while holding the monitor of this cache.
+	 */
+	private final LinkedHashMap<ITypeRoot, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true);
+
+	private int fMaxEntries= Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES).intValue();
+
+	private long fCapacity= Math.max(1, DEFAULT_CAPACITY);
+
+	private long fWeight;
+
+	private InvalidationListener fListener;
+
+	private final AtomicInteger fHits= new AtomicInteger();
+
+	private final AtomicInteger fMisses= new AtomicInteger();
+
+	private final AtomicLong fParseTime= new AtomicLong();
+
+	/**
+	 * Returns the shared AST cache.
+	 *
+	 * @return the shared AST cache
+	 */
+	public static SharedASTCache getInstance() {
+		return fgInstance;
+	}
+
+	private SharedASTCache() {
+	}
+
+	/**
+	 * Returns the cached AST of the given element if it is still up to date.
+	 *
+	 * @param element the Java element
+	 * @return the AST or <code>null</code> if none is cached or the cached one is out of date
+	 */
+	public CompilationUnit get(ITypeRoot element) {
+		Entry entry;
+		synchronized (this) {
+			entry= fEntries.get(element);
+		}
+		CompilationUnit ast= entry != null ? entry.fAST.get() : null;
+		if (ast != null && entry.fStamp == getModificationStamp(element)) {
+			fHits.incrementAndGet();
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+				System.out.println(CoreASTProvider.getThreadName() + " - " + CoreASTProvider.DEBUG_PREFIX + "shared AST cache hit for: " + element.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
+			return ast;
+		}
+		if (entry != null)
+			remove(entry);
+		fMisses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Adds an AST to the cache.
+	 *
+	 * @param element the Java element the AST has been created for
+	 * @param stamp the modification stamp of the element before the AST has been created, see
+	 *            {@link #getModificationStamp(ITypeRoot)}
+	 * @param ast the AST
+	 * @param parseTime the time it took to create the AST, in nanoseconds
+	 */
+	public void put(ITypeRoot element, long stamp, CompilationUnit ast, long parseTime) {
+		fParseTime.addAndGet(parseTime);
+		if (stamp != getModificationStamp(element))
+			return; // changed while the AST was created
+
+		Entry entry= new Entry(element, stamp, Math.max(1, ast.getLength()), ast);
+		synchronized (this) {
+			if (fListener == null) {
+				fListener= new InvalidationListener();
+				JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+			Entry previous= fEntries.put(element, entry);
+			if (previous != null)
+				fWeight-= previous.fWeight;
+			fWeight+= entry.fWeight;
+			evict();
+		}
+	}
+
+	/**
+	 * Removes the least recently used entries until the cache fits its capacity. The most
+	 * recently used entry is always kept. Must be called while holding the monitor of this
+	 * cache.
+	 */
+	private void evict() {
+		Iterator<Entry> iter= fEntries.values().iterator();
+		while ((fWeight > fCapacity || fEntries.size() > fMaxEntries) && fEntries.size() > 1) {
+			Entry eldest= iter.next();
+			iter.remove();
+			fWeight-= eldest.fWeight;
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+				System.out.println(CoreASTProvider.getThreadName() + " - " + CoreASTProvider.DEBUG_PREFIX + "evicting shared AST of: " + eldest.fElement.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private synchronized void remove(Entry entry) {
+		if (fEntries.remove(entry.fElement, entry))
+			fWeight-= entry.fWeight;
+	}
+
+	private synchronized void removeAll(Set<IJavaProject> projects, Set<IJavaElement> elements) {
+		for (Iterator<Entry> iter= fEntries.values().iterator(); iter.hasNext();) {
+			Entry entry= iter.next();
+			if (elements.contains(entry.fElement) || projects.contains(entry.fElement.getJavaProject())) {
+				iter.remove();
+				fWeight-= entry.fWeight;
+			}
+		}
+	}
+
+	/**
+	 * Adds the projects that require one of the given stale projects, directly or through an
+	 * exported classpath entry, since the bindings of their ASTs may be stale as well.
+	 *
+	 * @param model the Java model
+	 * @param staleProjects the stale projects, to which the requiring projects are added
+	 */
+	private void addRequiringProjects(IJavaModel model, Set<IJavaProject> staleProjects) {
+		synchronized (this) {
+			if (fEntries.isEmpty())
+				return;
+		}
+		IJavaProject[] projects;
+		try {
+			projects= model.getJavaProjects();
+		} catch (JavaModelException e) {
+			return; // the model is closed, there are no projects left to invalidate
+		}
+		Set<String> staleNames= new HashSet<>();
+		for (IJavaProject project : staleProjects)
+			staleNames.add(project.getElementName());
+		boolean added;
+		do {
+			added= false;
+			for (IJavaProject project : projects) {
+				if (!staleNames.contains(project.getElementName()) && requiresAny(project, staleNames)) {
+					staleNames.add(project.getElementName());
+					staleProjects.add(project);
+					added= true;
+				}
+			}
+		} while (added);
+	}
+
+	private static boolean requiresAny(IJavaProject project, Set<String> projectNames) {
+		try {
+			for (IClasspathEntry entry : project.getResolvedClasspath(true)) {
+				if (entry.getEntryKind() == IClasspathEntry.CPE_PROJECT && projectNames.contains(entry.getPath().lastSegment()))
+					return true;
+			}
+			return false;
+		} catch (JavaModelException e) {
+			return project.exists(); // the classpath cannot be resolved, the bindings may be stale
+		}
+	}
+
+	/**
+	 * Collects the elements and projects whose ASTs are made stale by the given delta.
+	 *
+	 * @param delta the delta
+	 * @param staleProjects the projects whose ASTs are all stale
+	 * @param staleElements the elements whose ASTs are stale
+	 */
+	private static void collectStale(IJavaElementDelta delta, Set<IJavaProject> staleProjects, Set<IJavaElement> staleElements) {
+		IJavaElement element= delta.getElement();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					staleProjects.add((IJavaProject) element);
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0) {
+					staleProjects.add(element.getJavaProject());
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				staleElements.add(element);
+				// changes of the members or of other files affect the bindings of all ASTs
+				if (delta.getKind() != IJavaElementDelta.CHANGED || delta.getAffectedChildren().length > 0 || !isContentChangeOnly(flags))
+					staleProjects.add(element.getJavaProject());
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren())
+			collectStale(child, staleProjects, staleElements);
+	}
+
+	private static boolean isContentChangeOnly(int flags) {
+		return (flags & ~(IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_PRIMARY_WORKING_COPY
+				| IJavaElementDelta.F_PRIMARY_RESOURCE | IJavaElementDelta.F_AST_AFFECTED)) == 0
+				&& (flags & IJavaElementDelta.F_FINE_GRAINED) != 0;
+	}
+
+	/**
+	 * Returns the modification stamp of the given element. The stamp of a working copy with
+	 * unsaved changes is the stamp of its buffer, which changes with every change of the buffer.
+	 *
+	 * @param element the Java element
+	 * @return the modification stamp
+	 */
+	public static long getModificationStamp(ITypeRoot element) {
+		if (element instanceof ICompilationUnit && ((ICompilationUnit) element).isWorkingCopy()) {
+			try {
+				IBuffer buffer= element.getBuffer();
+				if (buffer != null && !buffer.isClosed() && buffer.hasUnsavedChanges())
+					return getBufferStamp(buffer);
+			} catch (JavaModelException e) {
+				// the element does not exist, the entry is removed by the invalidation listener
+			}
+		}
+		IResource resource= element.getResource();
+		return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+	}
+
+	private static long getBufferStamp(IBuffer buffer) {
+		BufferStamp stamp;
+		synchronized (fgBufferStamps) {
+			stamp= fgBufferStamps.get(buffer);
+			if (stamp == null) {
+				stamp= new BufferStamp();
+				fgBufferStamps.put(buffer, stamp);
+				buffer.addBufferChangedListener(stamp);
+			}
+		}
+		return stamp.fStamp;
+	}
+
+	private static long nextBufferStamp() {
+		return fgLastBufferStamp.decrementAndGet();
+	}
+
+	/**
+	 * Sets the capacity of the cache.
+	 *
+	 * @param maxEntries the maximal number of entries
+	 * @param capacity the capacity in characters of source
+	 */
+	public synchronized void setCapacity(int maxEntries, long capacity) {
+		fMaxEntries= Math.max(1, maxEntries);
+		fCapacity= Math.max(1, capacity);
+		evict();
+	}
+
+	/**
+	 * Restores the default capacity of the cache.
+	 */
+	public void setDefaultCapacity() {
+		setCapacity(Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES).intValue(), DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Returns whether an AST is cached for the given element, whether or not it is up to date.
+	 *
+	 * @param element the Java element
+	 * @return <code>true</code> if an AST is cached
+	 */
+	public synchronized boolean contains(ITypeRoot element) {
+		Entry entry= fEntries.get(element);
+		return entry != null && entry.fAST.get() != null;
+	}
+
+	/**
+	 * Removes all ASTs from the cache and resets the statistics.
+	 */
+	public void clear() {
+		synchronized (this) {
+			fEntries.clear();
+			fWeight= 0;
+		}
+		fHits.set(0);
+		fMisses.set(0);
+		fParseTime.set(0);
+	}
+
+	/**
+	 * Removes all ASTs from the cache and stops listening to Java element changes.
+	 */
+	public void dispose() {
+		IElementChangedListener listener;
+		synchronized (this) {
+			listener= fListener;
+			fListener= null;
+		}
+		if (listener != null)
+			JavaCore.removeElementChangedListener(listener);
+		clear();
+	}
+
+	/**
+	 * @return the number of times an up to date AST was found in the cache
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return the number of times no up to date AST was found in the cache
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * @return the total time spent creating the ASTs added to the cache, in nanoseconds
+	 */
+	public long getParseTime() {
+		return fParseTime.get();
+	}
+
+	@Override
+	public synchronized String toString() {
+		ArrayList<String> names= new ArrayList<>(fEntries.size());
+		for (Map.Entry<ITypeRoot, Entry> entry : fEntries.entrySet())
+			names.add(entry.getKey().getElementName());
+		return "SharedASTCache " + names + ", hits: " + getHits() + ", misses: " + getMisses() + ", parse time: " + getParseTime() / 1000000 + "ms"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	}
+}
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2011, 2019 Stefan Henss and others.
+ * Copyright (c) 2011, 2026 Stefan Henss and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,6 @@ package org.eclipse.jdt.internal.ui.text;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -30,12 +29,9 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 
 import org.eclipse.jdt.internal.corext.template.java.SignatureUtil;
-import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 public final class ChainElementAnalyzer {
 
-	private static final Map<String, IType> typeCache= new HashMap<>();
-
 	private static final Predicate<IField> NON_STATIC_FIELDS_ONLY_FILTER = t -> {
 		try {
 			return !Flags.isStatic(t.getFlags());
@@ -125,7 +121,14 @@ public final class ChainElementAnalyzer {
         return tmp.values();
     }
 
-    private static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
+    /**
+     * Returns the given type and its supertypes, whose members are the edges of the type in the
+     * {@link ChainTypeGraph}.
+     *
+     * @param type the type
+     * @return the type and its supertypes, or an empty list for a primitive type
+     */
+    static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
         if ((type.getPrimitiveType() != null)) {
             return Collections.emptyList();
         }
@@ -158,36 +161,48 @@ public final class ChainElementAnalyzer {
     public static boolean isAssignable(final ChainElement edge, final IType expectedType,
             final int expectedDimension) {
         if (expectedDimension <= edge.getReturnTypeDimension()) {
-            final IType base = edge.getReturnType().getType();
-            if (isAssignmentCompatible(base, expectedType)) {
+            return computeIsSubtype(edge.getReturnType().getType(), expectedType);
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the given type is a subtype of, or the same type as, the expected type. Use
+     * {@link ChainTypeGraph#isSubtype(IType, IType)} to share the result between searches.
+     *
+     * @param base the type
+     * @param expectedType the expected type
+     * @return <code>true</code> if <code>base</code> can be assigned to <code>expectedType</code>
+     */
+    static boolean computeIsSubtype(final IType base, final IType expectedType) {
+        if (isAssignmentCompatible(base, expectedType)) {
+            return true;
+        }
+        final LinkedList<IType> supertypes = new LinkedList<>();
+        supertypes.add(base);
+        String expectedSignature = expectedType.getFullyQualifiedName();
+
+        while (!supertypes.isEmpty()) {
+            final IType type = supertypes.poll();
+            String typeSignature = type.getFullyQualifiedName();
+
+            if (typeSignature.equals(expectedSignature)) {
                 return true;
             }
-            final LinkedList<IType> supertypes = new LinkedList<>();
-            supertypes.add(base);
-            String expectedSignature = expectedType.getFullyQualifiedName();
-
-            while (!supertypes.isEmpty()) {
-                final IType type = supertypes.poll();
-                String typeSignature = type.getFullyQualifiedName();
-
-                if (typeSignature.equals(expectedSignature)) {
-                    return true;
-                }
-				try {
-					if (type.getSuperclassTypeSignature() != null) {
-						IType superclass= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), type.getSuperclassTypeSignature(), type);
-						if (superclass != null) {
-							supertypes.add(superclass);
-						}
-						for (final String intf : type.getSuperInterfaceTypeSignatures()) {
-							IType intfType= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), intf, type);
-							supertypes.add(intfType);
-						}
+			try {
+				if (type.getSuperclassTypeSignature() != null) {
+					IType superclass= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), type.getSuperclassTypeSignature(), type);
+					if (superclass != null) {
+						supertypes.add(superclass);
+					}
+					for (final String intf : type.getSuperInterfaceTypeSignatures()) {
+						IType intfType= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), intf, type);
+						supertypes.add(intfType);
 					}
-				} catch (JavaModelException e) {
-					// ignore
 				}
-            }
+			} catch (JavaModelException e) {
+				// ignore
+			}
         }
         return false;
     }
@@ -268,40 +283,7 @@ public final class ChainElementAnalyzer {
 	}
 
 	public static IType getTypeFromSignature (IJavaProject proj, String typeSig, IType declType) {
-		IType cType= typeCache.get(typeSig);
-		if (cType != null) {
-			return cType;
-		}
-		// Unresolved types, same simple name, one is super-type of other
-		// Avoid caching unresolved types to prevent possible cycles
-		boolean isResolved= true;
-		String eType= Signature.getElementType(typeSig);
-		if (eType.charAt(0) == Signature.C_UNRESOLVED) {
-			isResolved= false;
-		}
-		String type= SignatureUtil.stripSignatureToFQN(typeSig);
-		IType res= null;
-		try {
-			res= proj.findType(type);
-			if (res != null) {
-				if (isResolved) {
-					typeCache.put(typeSig, res);
-				}
-				return res;
-			}
-			String[][] resType= declType.resolveType(type);
-			if (resType != null) {
-				String fqExpectedType= JavaModelUtil.concatenateName(resType[0][0], resType[0][1]);
-				res= proj.findType(fqExpectedType);
-				if (isResolved) {
-					typeCache.put(typeSig, res);
-				}
-				return res;
-			}
-		} catch (JavaModelException e) {
-			return null;
-		}
-		return null;
+		return ChainTypeGraph.getGraph(proj).resolveType(typeSig, declType);
 	}
 
 	private static boolean methodCanBeSeenBy(IMethod mb, IType invocationType) {
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2020 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,32 +11,61 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
+/**
+ * Searches the chains of fields and methods that lead from the entry points to the expected types.
+ * The search is breadth-first, so that shorter chains are found first. The chains of the same
+ * length are extended in parallel by the threads of a bounded executor, using the edges of the
+ * {@link ChainTypeGraph} of the project, which are kept across searches.
+ */
 public class ChainFinder {
 
-	private final List<ChainType> expectedTypes;
+	/**
+	 * Maximal number of incomplete chains to extend.
+	 */
+	private static final int MAX_INCOMPLETE_CHAINS= 50000;
 
-	private final List<String> excludedTypes;
+	/**
+	 * Number of threads extending the chains. The edges may have to be read from disk, so the
+	 * chains are not extended in the common pool.
+	 */
+	private static final int PARALLELISM= Math.max(2, Runtime.getRuntime().availableProcessors());
 
-	private final IType receiverType;
+	private static final ExecutorService EXECUTOR;
 
-	private final List<Chain> chains= new LinkedList<>();
+	static {
+		ThreadPoolExecutor executor= new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "Chain Completion"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		EXECUTOR= executor;
+	}
 
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
+	private final List<ChainType> expectedTypes;
 
-	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
+	private final List<String> excludedTypes;
+
+	private final IType receiverType;
 
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
+	/** The chains found so far, guarded by the list itself. */
+	private final List<Chain> chains= new ArrayList<>();
 
 	private volatile boolean isCanceled;
 
@@ -68,34 +97,76 @@ public class ChainFinder {
 
 	private void searchChainsForExpectedType(final ChainType expectedType, final int expectedDimensions,
 			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
+		List<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
 
+		// all chains of a length are checked in order before they are extended
 		while (!incompleteChains.isEmpty() && !isCanceled) {
-			final LinkedList<ChainElement> chain= incompleteChains.poll();
-			final ChainElement edge= chain.getLast();
-			if (isValidEndOfChain(edge, expectedType, expectedDimensions)) {
-				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
-						break;
+			final List<LinkedList<ChainElement>> chainsToExtend= new ArrayList<>();
+			for (final LinkedList<ChainElement> chain : incompleteChains) {
+				if (isCanceled) {
+					return;
+				}
+				final ChainElement edge= chain.getLast();
+				if (isValidEndOfChain(edge, expectedType, expectedDimensions)) {
+					if (chain.size() >= minDepth) {
+						synchronized (chains) {
+							chains.add(new Chain(chain, expectedDimensions));
+							if (chains.size() == maxChains) {
+								return;
+							}
+						}
 					}
+					continue;
+				}
+				if (chain.size() < maxDepth) {
+					chainsToExtend.add(chain);
 				}
-				continue;
 			}
-			if (chain.size() < maxDepth && incompleteChains.size() <= 50000) {
-				searchDeeper(chain, incompleteChains, edge.getReturnType());
+			incompleteChains= extendChains(chainsToExtend);
+		}
+	}
+
+	/**
+	 * Extends the given chains by one edge. The chains are split into slices that are extended in
+	 * parallel; the extended chains are returned in the order of the given chains. At most
+	 * {@link #MAX_INCOMPLETE_CHAINS} chains are returned.
+	 *
+	 * @param chainsToExtend the chains to extend
+	 * @return the extended chains
+	 */
+	private List<LinkedList<ChainElement>> extendChains(final List<LinkedList<ChainElement>> chainsToExtend) {
+		final AtomicInteger remaining= new AtomicInteger(MAX_INCOMPLETE_CHAINS);
+		final int sliceSize= (chainsToExtend.size() + PARALLELISM - 1) / PARALLELISM;
+		final List<Future<List<LinkedList<ChainElement>>>> slices= new ArrayList<>();
+		for (int start= 0; start < chainsToExtend.size(); start+= sliceSize) {
+			final List<LinkedList<ChainElement>> slice= chainsToExtend.subList(start, Math.min(start + sliceSize, chainsToExtend.size()));
+			slices.add(EXECUTOR.submit(() -> searchDeeper(slice, remaining)));
+		}
+		final List<LinkedList<ChainElement>> extendedChains= new ArrayList<>();
+		try {
+			for (final Future<List<LinkedList<ChainElement>>> slice : slices) {
+				extendedChains.addAll(slice.get());
 			}
+		} catch (InterruptedException e) {
+			cancel();
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			cancel();
+			throw new IllegalStateException(e.getCause());
 		}
+		return extendedChains;
 	}
 
 	/**
 	 * Returns the potentially incomplete list of call chains that could be found before a time out
-	 * happened. The contents of this list are mutable and may change as the search makes progress.
+	 * happened. The search may still add chains after this method has returned.
 	 *
-	 * @return The list of call chains
+	 * @return a copy of the list of call chains
 	 */
 	public List<Chain> getChains() {
-		return chains;
+		synchronized (chains) {
+			return new ArrayList<>(chains);
+		}
 	}
 
 	private static LinkedList<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
@@ -134,53 +205,46 @@ public class ChainFinder {
 		if (expectedType.getPrimitiveType() != null) {
 			return expectedType.getPrimitiveType().equals(edge.getReturnType().getPrimitiveType());
 		}
-		Boolean isAssignable= assignableCache.get(edge.toString() + expectedType.toString());
-		if (isAssignable == null) {
-			isAssignable= ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension);
-			assignableCache.put(edge.toString() + expectedType.toString(), isAssignable);
+		if (expectedDimension > edge.getReturnTypeDimension()) {
+			return false;
 		}
-		return isAssignable;
+		IType base= edge.getReturnType().getType();
+		return ChainTypeGraph.getGraph(base.getJavaProject()).isSubtype(base, expectedType.getType());
 	}
 
-	private void searchDeeper(final LinkedList<ChainElement> chain,
-			final List<LinkedList<ChainElement>> incompleteChains, final ChainType currentlyVisitedType) {
-		boolean staticOnly= false;
-		if (chain.getLast().getElementType() == ElementType.TYPE) {
-			staticOnly= true;
-		}
-
-		for (final IJavaElement element : findAllFieldsAndMethods(currentlyVisitedType, staticOnly)) {
-			final ChainElement newEdge= createEdge(element);
-			if (newEdge.getElementType() != null && !chain.contains(newEdge)) {
-				incompleteChains.add(cloneChainAndAppendEdge(chain, newEdge));
+	/**
+	 * Extends the given chains by one edge, as long as the search is not canceled and the shared
+	 * number of remaining chains is not exhausted.
+	 *
+	 * @param chains the chains to extend
+	 * @param remaining the number of chains that may still be added by all slices
+	 * @return the extended chains
+	 */
+	private List<LinkedList<ChainElement>> searchDeeper(final List<LinkedList<ChainElement>> chains, final AtomicInteger remaining) {
+		final List<LinkedList<ChainElement>> extendedChains= new ArrayList<>();
+		for (final LinkedList<ChainElement> chain : chains) {
+			if (isCanceled) {
+				break;
 			}
-		}
-	}
-
-	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
-		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
-		if (cached == null) {
-			cached= new LinkedList<>();
-			Collection<IJavaElement> candidates= staticOnly
-					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(chainElementType, new ChainType(receiverType))
-					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(chainElementType, new ChainType(receiverType));
-			for (final IJavaElement e : candidates) {
-				if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
-					cached.add(e);
+			boolean staticOnly= false;
+			if (chain.getLast().getElementType() == ElementType.TYPE) {
+				staticOnly= true;
+			}
+			ChainType currentlyVisitedType= chain.getLast().getReturnType();
+			if (currentlyVisitedType.getType() == null) {
+				continue;
+			}
+			ChainTypeGraph graph= ChainTypeGraph.getGraph(currentlyVisitedType.getType().getJavaProject());
+			for (final ChainElement newEdge : graph.getEdges(currentlyVisitedType, staticOnly, receiverType)) {
+				if (!ChainFinder.isFromExcludedType(excludedTypes, newEdge.getElement()) && !chain.contains(newEdge)) {
+					if (remaining.getAndDecrement() <= 0) {
+						return extendedChains;
+					}
+					extendedChains.add(cloneChainAndAppendEdge(chain, newEdge));
 				}
 			}
-			fieldsAndMethodsCache.put(chainElementType.toString() + Boolean.toString(staticOnly), cached);
-		}
-		return cached;
-	}
-
-	private ChainElement createEdge(final IJavaElement member) {
-		ChainElement cached= edgeCache.get(member);
-		if (cached == null) {
-			cached= new ChainElement(member, false);
-			edgeCache.put(member, cached);
 		}
-		return cached;
+		return extendedChains;
 	}
 
 	private static LinkedList<ChainElement> cloneChainAndAppendEdge(final LinkedList<ChainElement> chain,
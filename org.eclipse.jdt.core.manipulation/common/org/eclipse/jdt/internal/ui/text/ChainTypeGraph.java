@@ -0,0 +1,454 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaModel;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+
+import org.eclipse.jdt.internal.corext.template.java.SignatureUtil;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+/**
+ * The "returns-type" graph of a Java project searched by chain completion: the edges of a type
+ * are its fields and methods, with the types they return, see {@link ChainElement}.
+ * <p>
+ * The graph is built lazily while chains are searched and kept across invocations of chain
+ * completion. It is bounded by the number of types whose edges are kept. When the members of a
+ * type change, the edges that depend on the type are discarded from the graph of its project and
+ * from the graphs of the projects requiring it. The graphs of these projects are discarded when
+ * types are added or removed or when classpaths change. Edits inside of method bodies keep the
+ * graphs.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class ChainTypeGraph {
+
+	private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+		private static final long serialVersionUID= 1L;
+
+		private final int fMaxSize;
+
+		LruMap(int maxSize) {
+			super(64, 0.75f, true);
+			fMaxSize= maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > fMaxSize;
+		}
+	}
+
+	private static final class InvalidationListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<IJavaProject> staleProjects= new HashSet<>();
+			Set<IJavaProject> changedProjects= new HashSet<>();
+			Set<IPath> changedTypeRoots= new HashSet<>();
+			collectChanges(event.getDelta(), staleProjects, changedProjects, changedTypeRoots);
+			if (staleProjects.isEmpty() && changedProjects.isEmpty())
+				return;
+			IJavaModel model= event.getDelta().getElement().getJavaModel();
+			invalidate(getRequiringProjects(model, staleProjects), getRequiringProjects(model, changedProjects), changedTypeRoots);
+		}
+	}
+
+	/**
+	 * A value computed from the members of types, with the type roots of these types.
+	 *
+	 * @param <V> the type of the value
+	 */
+	private static final class Entry<V> {
+
+		final V fValue;
+
+		final Set<IPath> fTypeRoots;
+
+		Entry(V value, Collection<IType> types) {
+			fValue= value;
+			fTypeRoots= new HashSet<>();
+			for (IType type : types)
+				fTypeRoots.add(type.getPath());
+		}
+
+		boolean dependsOn(Set<IPath> typeRoots) {
+			for (IPath typeRoot : fTypeRoots) {
+				if (typeRoots.contains(typeRoot))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Maximal number of types whose edges are kept per project and invocation type.
+	 */
+	private static final int MAX_TYPES= 5000;
+
+	/**
+	 * Maximal number of resolved type signatures and assignability results kept per project.
+	 */
+	private static final int MAX_SIGNATURES= 20000;
+
+	private static final Map<IJavaProject, ChainTypeGraph> fgGraphs= new HashMap<>();
+
+	private static InvalidationListener fgListener;
+
+	private final IJavaProject fProject;
+
+	/**
+	 * The edges of the types, keyed by type, staticness and invocation type. They depend on the
+	 * type, its supertypes and the invocation type. Guarded by this graph.
+	 */
+	private final Map<String, Entry<List<ChainElement>>> fEdges= new LruMap<>(MAX_TYPES);
+
+	/** The resolved type signatures. Guarded by this graph. */
+	private final Map<String, IType> fTypes= new LruMap<>(MAX_SIGNATURES);
+
+	/**
+	 * Whether a type is a subtype of another. They depend on the type and its supertypes. Guarded
+	 * by this graph.
+	 */
+	private final Map<String, Entry<Boolean>> fSubtypes= new LruMap<>(MAX_SIGNATURES);
+
+	/**
+	 * The number of invalidations of this graph, values computed while the graph was invalidated
+	 * are not kept. Guarded by this graph.
+	 */
+	private int fInvalidations;
+
+	/**
+	 * Returns the graph of the given project.
+	 *
+	 * @param project the Java project
+	 * @return the graph of the project
+	 */
+	public static synchronized ChainTypeGraph getGraph(IJavaProject project) {
+		ChainTypeGraph graph= fgGraphs.get(project);
+		if (graph == null) {
+			if (fgListener == null) {
+				fgListener= new InvalidationListener();
+				JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+			graph= new ChainTypeGraph(project);
+			fgGraphs.put(project, graph);
+		}
+		return graph;
+	}
+
+	/**
+	 * Discards the graphs of all projects.
+	 */
+	public static synchronized void clear() {
+		fgGraphs.clear();
+	}
+
+	/**
+	 * Discards the graphs of the stale projects and the values of the changed projects that
+	 * depend on the changed type roots.
+	 *
+	 * @param staleProjects the names of the projects whose graphs are stale
+	 * @param changedProjects the names of the projects whose graphs depend on the changed types
+	 * @param changedTypeRoots the paths of the compilation units and class files whose members
+	 *            have changed
+	 */
+	private static void invalidate(Set<String> staleProjects, Set<String> changedProjects, Set<IPath> changedTypeRoots) {
+		List<ChainTypeGraph> changedGraphs= new ArrayList<>();
+		synchronized (ChainTypeGraph.class) {
+			for (Iterator<ChainTypeGraph> iter= fgGraphs.values().iterator(); iter.hasNext();) {
+				ChainTypeGraph graph= iter.next();
+				String name= graph.fProject.getElementName();
+				if (staleProjects.contains(name))
+					iter.remove();
+				else if (changedProjects.contains(name))
+					changedGraphs.add(graph);
+			}
+		}
+		for (ChainTypeGraph graph : changedGraphs)
+			graph.removeTypeRoots(changedTypeRoots);
+	}
+
+	/**
+	 * Returns the names of the given projects and of the projects that require them, directly or
+	 * indirectly.
+	 *
+	 * @param model the Java model
+	 * @param projects the projects
+	 * @return the names of the projects
+	 */
+	private static Set<String> getRequiringProjects(IJavaModel model, Set<IJavaProject> projects) {
+		Set<String> names= new HashSet<>();
+		for (IJavaProject project : projects)
+			names.add(project.getElementName());
+		synchronized (ChainTypeGraph.class) {
+			if (names.isEmpty() || fgGraphs.isEmpty())
+				return names;
+		}
+		IJavaProject[] javaProjects;
+		try {
+			javaProjects= model.getJavaProjects();
+		} catch (JavaModelException e) {
+			return names; // the model is closed, there are no other projects
+		}
+		boolean added;
+		do {
+			added= false;
+			for (IJavaProject project : javaProjects) {
+				if (!names.contains(project.getElementName()) && requiresAny(project, names)) {
+					names.add(project.getElementName());
+					added= true;
+				}
+			}
+		} while (added);
+		return names;
+	}
+
+	private static boolean requiresAny(IJavaProject project, Set<String> projectNames) {
+		try {
+			for (IClasspathEntry entry : project.getResolvedClasspath(true)) {
+				if (entry.getEntryKind() == IClasspathEntry.CPE_PROJECT && projectNames.contains(entry.getPath().lastSegment()))
+					return true;
+			}
+			return false;
+		} catch (JavaModelException e) {
+			return project.exists(); // the classpath cannot be resolved, the graph may be stale
+		}
+	}
+
+	/**
+	 * Discards the graphs of all projects and stops listening to Java element changes.
+	 */
+	public static void dispose() {
+		IElementChangedListener listener;
+		synchronized (ChainTypeGraph.class) {
+			listener= fgListener;
+			fgListener= null;
+			fgGraphs.clear();
+		}
+		if (listener != null)
+			JavaCore.removeElementChangedListener(listener);
+	}
+
+	private ChainTypeGraph(IJavaProject project) {
+		fProject= project;
+	}
+
+	/**
+	 * Returns the edges of the given type: its fields and methods and those of its supertypes that
+	 * can be seen from the invocation type, without void methods and constructors.
+	 *
+	 * @param type the type
+	 * @param staticOnly <code>true</code> for the static members, <code>false</code> for the
+	 *            instance members
+	 * @param invocationType the type in which the chain is completed
+	 * @return the edges, the list must not be modified
+	 */
+	public List<ChainElement> getEdges(ChainType type, boolean staticOnly, IType invocationType) {
+		if (type.getType() == null)
+			return Collections.emptyList();
+		String key= type.getType().getHandleIdentifier() + (staticOnly ? '+' : '-') + invocationType.getHandleIdentifier();
+		Entry<List<ChainElement>> entry;
+		int invalidations;
+		synchronized (this) {
+			entry= fEdges.get(key);
+			invalidations= fInvalidations;
+		}
+		if (entry == null) {
+			// computed outside of the lock, the members may have to be read from disk
+			ChainType receiverType= new ChainType(invocationType);
+			Collection<IJavaElement> members= staticOnly
+					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(type, receiverType)
+					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(type, receiverType);
+			List<ChainElement> computed= new ArrayList<>(members.size());
+			for (IJavaElement member : members) {
+				ChainElement edge= new ChainElement(member, false);
+				if (edge.getElementType() != null)
+					computed.add(edge);
+			}
+			List<IType> types= new ArrayList<>(ChainElementAnalyzer.findAllSupertypesIncludingArgument(type));
+			types.add(invocationType);
+			entry= new Entry<>(Collections.unmodifiableList(computed), types);
+			synchronized (this) {
+				if (invalidations == fInvalidations)
+					fEdges.put(key, entry);
+			}
+		}
+		return entry.fValue;
+	}
+
+	/**
+	 * Resolves a type signature in the context of the given type.
+	 *
+	 * @param typeSig the type signature
+	 * @param declType the type in which the signature is used
+	 * @return the type or <code>null</code> if it cannot be resolved
+	 */
+	public IType resolveType(String typeSig, IType declType) {
+		IType cType;
+		int invalidations;
+		synchronized (this) {
+			cType= fTypes.get(typeSig);
+			invalidations= fInvalidations;
+		}
+		if (cType != null) {
+			return cType;
+		}
+		// Unresolved types, same simple name, one is super-type of other
+		// Avoid caching unresolved types to prevent possible cycles
+		boolean isResolved= true;
+		String eType= Signature.getElementType(typeSig);
+		if (eType.charAt(0) == Signature.C_UNRESOLVED) {
+			isResolved= false;
+		}
+		String type= SignatureUtil.stripSignatureToFQN(typeSig);
+		IType res= null;
+		try {
+			res= fProject.findType(type);
+			if (res == null) {
+				String[][] resType= declType.resolveType(type);
+				if (resType == null)
+					return null;
+				String fqExpectedType= JavaModelUtil.concatenateName(resType[0][0], resType[0][1]);
+				res= fProject.findType(fqExpectedType);
+			}
+		} catch (JavaModelException e) {
+			return null;
+		}
+		if (isResolved && res != null) {
+			synchronized (this) {
+				if (invalidations == fInvalidations)
+					fTypes.put(typeSig, res);
+			}
+		}
+		return res;
+	}
+
+	/**
+	 * Returns whether the given type is a subtype of, or the same type as, the expected type.
+	 *
+	 * @param type the type
+	 * @param expectedType the expected type
+	 * @return <code>true</code> if <code>type</code> can be assigned to <code>expectedType</code>
+	 */
+	public boolean isSubtype(IType type, IType expectedType) {
+		String key= type.getHandleIdentifier() + ' ' + expectedType.getHandleIdentifier();
+		Entry<Boolean> entry;
+		int invalidations;
+		synchronized (this) {
+			entry= fSubtypes.get(key);
+			invalidations= fInvalidations;
+		}
+		if (entry == null) {
+			Boolean isSubtype= Boolean.valueOf(ChainElementAnalyzer.computeIsSubtype(type, expectedType));
+			entry= new Entry<>(isSubtype, ChainElementAnalyzer.findAllSupertypesIncludingArgument(new ChainType(type)));
+			synchronized (this) {
+				if (invalidations == fInvalidations)
+					fSubtypes.put(key, entry);
+			}
+		}
+		return entry.fValue.booleanValue();
+	}
+
+	/**
+	 * Discards the edges, resolved types and subtype results that depend on the given type roots.
+	 *
+	 * @param typeRoots the paths of the compilation units and class files whose members have
+	 *            changed
+	 */
+	private synchronized void removeTypeRoots(Set<IPath> typeRoots) {
+		fInvalidations++;
+		fEdges.values().removeIf(entry -> entry.dependsOn(typeRoots));
+		fTypes.values().removeIf(type -> typeRoots.contains(type.getPath()));
+		fSubtypes.values().removeIf(entry -> entry.dependsOn(typeRoots));
+	}
+
+	/**
+	 * Collects the changes of members, types and classpaths of the given delta. Changes of the
+	 * contents of compilation units that only affect method bodies are ignored.
+	 *
+	 * @param delta the delta
+	 * @param staleProjects the projects whose types or classpaths have changed
+	 * @param changedProjects the projects with compilation units or class files whose members have
+	 *            changed
+	 * @param changedTypeRoots the paths of these compilation units and class files
+	 */
+	private static void collectChanges(IJavaElementDelta delta, Set<IJavaProject> staleProjects, Set<IJavaProject> changedProjects, Set<IPath> changedTypeRoots) {
+		IJavaElement element= delta.getElement();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0) {
+					staleProjects.add(element.getJavaProject());
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					// signatures may resolve to other types
+					staleProjects.add(element.getJavaProject());
+				} else if (delta.getAffectedChildren().length > 0 || !isContentChangeOnly(flags)) {
+					changedProjects.add(element.getJavaProject());
+					changedTypeRoots.add(element.getPath());
+				}
+				return;
+			default:
+				staleProjects.add(element.getJavaProject());
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren())
+			collectChanges(child, staleProjects, changedProjects, changedTypeRoots);
+	}
+
+	private static boolean isContentChangeOnly(int flags) {
+		return (flags & ~(IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_PRIMARY_WORKING_COPY
+				| IJavaElementDelta.F_AST_AFFECTED)) == 0
+				&& (flags & IJavaElementDelta.F_FINE_GRAINED) != 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "ChainTypeGraph " + fProject.getElementName() + ", types: " + fEdges.size() + ", signatures: " + fTypes.size(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,9 @@ package org.eclipse.jdt.internal.corext.util;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -26,17 +29,27 @@ import org.eclipse.jdt.core.JavaModelException;
 
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * Every type contained in a cached hierarchy is indexed, so that lookups do not need to
+ * lock or scan the cache. The capacity is measured in the number of types held by the
+ * cached hierarchies. When it is exceeded, the least recently accessed hierarchies are
+ * evicted. A hierarchy is removed as soon as it reports a change.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private volatile ITypeHierarchy fTypeHierarchy;
+		private final IType fType;
+		private final IType[] fTypes;
+		private volatile long fLastAccess;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
+			fType= hierarchy.getType();
+			fTypes= hierarchy.getAllTypes();
 			fTypeHierarchy.addTypeHierarchyChangedListener(this);
 			markAsAccessed();
 		}
@@ -50,8 +63,15 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
+		/**
+		 * @return all types contained in the hierarchy
+		 */
+		public IType[] getTypes() {
+			return fTypes;
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fLastAccess= fgAccessCounter.incrementAndGet();
 		}
 
 		public long getLastAccess() {
@@ -67,19 +87,44 @@ public class SuperTypeHierarchyCache {
 
 		@Override
 		public String toString() {
-			return "Super hierarchy of: " + fTypeHierarchy.getType().getElementName(); //$NON-NLS-1$
+			return "Super hierarchy of: " + fType.getElementName(); //$NON-NLS-1$
 		}
 
 	}
 
 
-	private static final int CACHE_SIZE= 8;
+	/**
+	 * Default capacity, in number of types held by the cached hierarchies.
+	 */
+	private static final int DEFAULT_CACHE_CAPACITY= 2000;
+
+	/**
+	 * System property to override {@link #DEFAULT_CACHE_CAPACITY}.
+	 */
+	private static final String CACHE_CAPACITY_PROPERTY= "org.eclipse.jdt.ui.superTypeHierarchyCacheCapacity"; //$NON-NLS-1$
+
+	private static final int METHOD_OVERRIDE_TESTER_CACHE_SIZE= 32;
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	private static final Object fgLock= new Object();
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	/**
+	 * Maps every type contained in a cached hierarchy to the most recently added entry
+	 * containing it. Modified only while holding {@link #fgLock}.
+	 */
+	private static final Map<IType, HierarchyCacheEntry> fgTypeIndex= new ConcurrentHashMap<>();
+
+	/**
+	 * All cached entries. Accessed only while holding {@link #fgLock}.
+	 */
+	private static final ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>();
+	private static final Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(METHOD_OVERRIDE_TESTER_CACHE_SIZE);
+
+	private static final AtomicLong fgAccessCounter= new AtomicLong();
+	private static final AtomicInteger fgCacheHits= new AtomicInteger();
+	private static final AtomicInteger fgCacheMisses= new AtomicInteger();
+
+	private static int fgCacheCapacity= Integer.getInteger(CACHE_CAPACITY_PROPERTY, DEFAULT_CACHE_CAPACITY).intValue();
+	private static int fgCacheWeight= 0;
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -140,42 +185,52 @@ public class SuperTypeHierarchyCache {
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
 		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
 		if (hierarchy == null) {
-			fgCacheMisses++;
+			fgCacheMisses.incrementAndGet();
 			hierarchy= type.newSupertypeHierarchy(progressMonitor);
 			addTypeHierarchyToCache(hierarchy);
 		} else {
-			fgCacheHits++;
+			fgCacheHits.incrementAndGet();
 		}
 		return hierarchy;
 	}
 
 	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
-		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
-				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
-				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
-					}
-				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
+		synchronized (fgLock) {
+			// remove obsolete entries and entries covered by the new hierarchy
+			for (HierarchyCacheEntry entry : new ArrayList<>(fgHierarchyCache)) {
+				ITypeHierarchy curr= entry.getTypeHierarchy();
+				if (!curr.exists() || hierarchy.contains(curr.getType())) {
+					removeHierarchyEntryFromCache(entry);
 				}
 			}
+
 			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
 			fgHierarchyCache.add(newEntry);
+			fgCacheWeight+= newEntry.getTypes().length;
+			for (IType curr : newEntry.getTypes()) {
+				fgTypeIndex.put(curr, newEntry);
+			}
+
+			evict(fgCacheCapacity);
+		}
+	}
+
+	/**
+	 * Removes the least recently accessed entries until the cache weight fits the
+	 * given capacity. The most recently accessed entry is always kept. Must be called
+	 * while holding {@link #fgLock}.
+	 *
+	 * @param capacity the capacity, in number of types
+	 */
+	private static void evict(int capacity) {
+		while (fgCacheWeight > capacity && fgHierarchyCache.size() > 1) {
+			HierarchyCacheEntry oldest= null;
+			for (HierarchyCacheEntry entry : fgHierarchyCache) {
+				if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
+					oldest= entry;
+				}
+			}
+			removeHierarchyEntryFromCache(oldest);
 		}
 	}
 
@@ -191,38 +246,69 @@ public class SuperTypeHierarchyCache {
 
 
 	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
-			}
+		HierarchyCacheEntry entry= fgTypeIndex.get(type);
+		if (entry == null)
+			return null;
+
+		ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+		if (hierarchy == null) // removed concurrently
+			return null;
+
+		if (!hierarchy.exists()) {
+			removeHierarchyEntryFromCache(entry);
+			return null;
 		}
-		return null;
+		entry.markAsAccessed();
+		return hierarchy;
 	}
 
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
-		synchronized (fgHierarchyCache) {
+		synchronized (fgLock) {
+			if (!fgHierarchyCache.remove(entry))
+				return;
+
+			for (IType curr : entry.getTypes()) {
+				fgTypeIndex.remove(curr, entry);
+			}
+			fgCacheWeight-= entry.getTypes().length;
 			removeMethodOverrideTester(entry.getTypeHierarchy());
 			entry.dispose();
-			fgHierarchyCache.remove(entry);
 		}
 	}
 
+	/**
+	 * Sets the capacity of the cache, in number of types held by the cached hierarchies.
+	 * The default is 2000 and can be overridden by the system property
+	 * <code>org.eclipse.jdt.ui.superTypeHierarchyCacheCapacity</code>.
+	 *
+	 * @param capacity the new capacity
+	 */
+	public static void setCacheCapacity(int capacity) {
+		synchronized (fgLock) {
+			fgCacheCapacity= Math.max(1, capacity);
+			evict(fgCacheCapacity);
+		}
+	}
+
+	/**
+	 * Removes all hierarchies from the cache and resets the hit and miss counters.
+	 */
+	public static void clear() {
+		synchronized (fgLock) {
+			while (!fgHierarchyCache.isEmpty()) {
+				removeHierarchyEntryFromCache(fgHierarchyCache.get(0));
+			}
+			fgCacheHits.set(0);
+			fgCacheMisses.set(0);
+		}
+	}
 
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
 	 * @return Returns a int
 	 */
 	public static int getCacheHits() {
-		return fgCacheHits;
+		return fgCacheHits.get();
 	}
 
 	/**
@@ -230,7 +316,7 @@ public class SuperTypeHierarchyCache {
 	 * @return Returns a int
 	 */
 	public static int getCacheMisses() {
-		return fgCacheMisses;
+		return fgCacheMisses.get();
 	}
 
 	private SuperTypeHierarchyCache() {
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+
+/**
+ * Keeps the failure traces, expected and actual values of the test elements of a
+ * {@link TestRunSession} in a temporary file, so that they don't occupy the heap
+ * while the session is kept in the history.
+ * <p>
+ * A failure is referenced by the key returned from {@link #add(String, String, String)}
+ * and read back on demand. If the temporary file cannot be written, failures are kept
+ * in memory instead.
+ * </p>
+ * <p>
+ * The file is only kept open while failures are added, it is closed by {@link #close()}
+ * once the test run has ended and opened for each read afterwards. The records of
+ * {@link #remove(long) removed} failures are reclaimed by compacting the file, which
+ * keeps the keys of the other failures.
+ * </p>
+ */
+class FailureTraceStore {
+
+	/**
+	 * The key of no failure.
+	 */
+	static final long NONE= -1;
+
+	private static final int NULL_LENGTH= -1;
+
+	/**
+	 * The offset of a failure that is kept in memory.
+	 */
+	private static final long IN_MEMORY= -1;
+
+	/**
+	 * The offset of a removed failure.
+	 */
+	private static final long REMOVED= -2;
+
+	/**
+	 * The file is only compacted if the removed records take more than this number of bytes
+	 * and more than half of the file.
+	 */
+	private static final long MIN_COMPACTION_SIZE= 1 << 20;
+
+	private File fFile;
+
+	/**
+	 * The file while failures are added, or <code>null</code> if it is closed.
+	 */
+	private RandomAccessFile fAccess;
+
+	/**
+	 * The offsets of the failures in the file, indexed by their keys, or {@link #IN_MEMORY} or
+	 * {@link #REMOVED}.
+	 */
+	private long[] fOffsets= new long[16];
+
+	/**
+	 * The lengths of the records of the failures in the file, indexed by their keys.
+	 */
+	private int[] fLengths= new int[16];
+
+	private int fCount;
+
+	/**
+	 * The length of the file.
+	 */
+	private long fLength;
+
+	/**
+	 * The number of bytes in the file taken by removed records.
+	 */
+	private long fRemovedLength;
+
+	/**
+	 * The failures that could not be written to the file, or <code>null</code>.
+	 */
+	private Map<Long, String[]> fInMemory;
+
+	/**
+	 * The key of the last read failure.
+	 */
+	private long fCachedKey= NONE;
+
+	private String[] fCachedFailure;
+
+	private boolean fDisposed;
+
+	/**
+	 * Adds a failure to the store.
+	 *
+	 * @param trace the trace, can be <code>null</code>
+	 * @param expected the expected value, can be <code>null</code>
+	 * @param actual the actual value, can be <code>null</code>
+	 * @return the key of the failure
+	 */
+	synchronized long add(String trace, String expected, String actual) {
+		String[] failure= { trace, expected, actual };
+		if (fCount == fOffsets.length) {
+			fOffsets= Arrays.copyOf(fOffsets, fCount * 2);
+			fLengths= Arrays.copyOf(fLengths, fCount * 2);
+		}
+		long key= fCount;
+		if (fInMemory == null && !fDisposed) {
+			try {
+				ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+				DataOutputStream out= new DataOutputStream(bytes);
+				for (String value : failure) {
+					if (value == null) {
+						out.writeInt(NULL_LENGTH);
+					} else {
+						byte[] encoded= value.getBytes(StandardCharsets.UTF_8);
+						out.writeInt(encoded.length);
+						out.write(encoded);
+					}
+				}
+				RandomAccessFile access= getAccess();
+				access.seek(fLength);
+				access.write(bytes.toByteArray());
+				fOffsets[fCount]= fLength;
+				fLengths[fCount]= bytes.size();
+				fLength+= bytes.size();
+				fCount++;
+				return key;
+			} catch (IOException e) {
+				JUnitCorePlugin.log(e);
+			}
+		}
+		if (fInMemory == null)
+			fInMemory= new HashMap<>();
+		fInMemory.put(Long.valueOf(key), failure);
+		fOffsets[fCount]= IN_MEMORY;
+		fCount++;
+		return key;
+	}
+
+	/**
+	 * Returns the failure with the given key.
+	 *
+	 * @param key the key returned by {@link #add(String, String, String)}
+	 * @return the trace, expected and actual value
+	 */
+	synchronized String[] get(long key) {
+		if (key < 0 || key >= fCount || fOffsets[(int) key] == REMOVED)
+			return new String[3];
+		long offset= fOffsets[(int) key];
+		if (offset == IN_MEMORY)
+			return fInMemory.get(Long.valueOf(key));
+		if (fDisposed)
+			return new String[3];
+		if (key == fCachedKey)
+			return fCachedFailure;
+		String[] failure= new String[3];
+		try {
+			if (fAccess != null) {
+				read(fAccess, offset, failure);
+			} else {
+				try (RandomAccessFile access= new RandomAccessFile(fFile, "r")) { //$NON-NLS-1$
+					read(access, offset, failure);
+				}
+			}
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+			return failure;
+		}
+		fCachedKey= key;
+		fCachedFailure= failure;
+		return failure;
+	}
+
+	private static void read(RandomAccessFile access, long offset, String[] failure) throws IOException {
+		access.seek(offset);
+		for (int i= 0; i < failure.length; i++) {
+			int length= access.readInt();
+			if (length != NULL_LENGTH) {
+				byte[] encoded= new byte[length];
+				access.readFully(encoded);
+				failure[i]= new String(encoded, StandardCharsets.UTF_8);
+			}
+		}
+	}
+
+	/**
+	 * Removes the failure with the given key, e.g. because it has been replaced. The file is
+	 * truncated when no failure is left in it, and compacted when most of it is taken by
+	 * removed failures.
+	 *
+	 * @param key the key returned by {@link #add(String, String, String)}
+	 */
+	synchronized void remove(long key) {
+		if (key < 0 || key >= fCount)
+			return;
+		int index= (int) key;
+		long offset= fOffsets[index];
+		fOffsets[index]= REMOVED;
+		if (key == fCachedKey) {
+			fCachedKey= NONE;
+			fCachedFailure= null;
+		}
+		if (offset == IN_MEMORY) {
+			fInMemory.remove(Long.valueOf(key));
+			return;
+		}
+		if (offset == REMOVED || fDisposed)
+			return;
+
+		fRemovedLength+= fLengths[index];
+		if (fRemovedLength < fLength && (fRemovedLength <= MIN_COMPACTION_SIZE || fRemovedLength <= fLength / 2))
+			return;
+		boolean closed= fAccess == null;
+		try {
+			if (fRemovedLength == fLength)
+				getAccess().setLength(0);
+			else
+				compact(getAccess());
+			fLength-= fRemovedLength;
+			fRemovedLength= 0;
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+		} finally {
+			if (closed)
+				close();
+		}
+	}
+
+	/**
+	 * Moves the records of the failures that have not been removed to the start of the file.
+	 * The records are in the order of their keys.
+	 *
+	 * @param access the file
+	 * @throws IOException if the file cannot be read or written
+	 */
+	private void compact(RandomAccessFile access) throws IOException {
+		long position= 0;
+		for (int i= 0; i < fCount; i++) {
+			long offset= fOffsets[i];
+			if (offset < 0)
+				continue;
+			if (offset != position) {
+				byte[] record= new byte[fLengths[i]];
+				access.seek(offset);
+				access.readFully(record);
+				access.seek(position);
+				access.write(record);
+				fOffsets[i]= position;
+			}
+			position+= fLengths[i];
+		}
+		access.setLength(position);
+	}
+
+	/**
+	 * Closes the temporary file. The failures are still available, the file is opened again
+	 * to read them.
+	 */
+	synchronized void close() {
+		if (fAccess != null) {
+			try {
+				fAccess.close();
+			} catch (IOException e) {
+				JUnitCorePlugin.log(e);
+			}
+			fAccess= null;
+		}
+	}
+
+	/**
+	 * Deletes the temporary file. Failures that have been written to the file are
+	 * no longer available afterwards.
+	 */
+	synchronized void dispose() {
+		close();
+		if (fFile != null) {
+			fFile.delete();
+			fFile= null;
+		}
+		fDisposed= true;
+		fLength= 0;
+		fRemovedLength= 0;
+		fCachedKey= NONE;
+		fCachedFailure= null;
+	}
+
+	private RandomAccessFile getAccess() throws IOException {
+		if (fAccess == null) {
+			if (fFile == null) {
+				fFile= File.createTempFile("junitFailures", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+				fFile.deleteOnExit();
+			}
+			fAccess= new RandomAccessFile(fFile, "rw"); //$NON-NLS-1$
+		}
+		return fAccess;
+	}
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -50,6 +51,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
@@ -404,6 +406,53 @@ public final class JUnitModel {
 		return null; // does not happen
 	}
 
+	/**
+	 * Imports a test run session from the given file in a background job.
+	 * <p>
+	 * The session is added to this model as soon as the test run element has been read.
+	 * It is running while the file is read, and its {@link ITestSessionListener}s are
+	 * notified of every test that is added, so that views can show partial results of
+	 * large files. Stopping the session cancels the import.
+	 * </p>
+	 *
+	 * @param file a file containing a test run session transcript
+	 * @return the scheduled import job
+	 */
+	public static Job importTestRunSessionInBackground(final File file) {
+		Job job= new Job(Messages.format(ModelMessages.JUnitModel_importing_from_file, BasicElementLabels.getPathLabel(file))) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				monitor.beginTask(getName(), IProgressMonitor.UNKNOWN);
+				TestRunHandler handler= new TestRunHandler(monitor, true);
+				long start= System.currentTimeMillis();
+				boolean completed= false;
+				try {
+					SAXParserFactory parserFactory= SAXParserFactory.newInstance();
+					SAXParser parser= parserFactory.newSAXParser();
+					parser.parse(file, handler);
+					completed= true;
+					return org.eclipse.core.runtime.Status.OK_STATUS;
+				} catch (OperationCanceledException e) {
+					return org.eclipse.core.runtime.Status.CANCEL_STATUS;
+				} catch (ParserConfigurationException | SAXException | IOException | IllegalArgumentException e) {
+					// IllegalArgumentException: Bug in parser: can throw IAE even if file is not null
+					return new org.eclipse.core.runtime.Status(IStatus.ERROR,
+							JUnitCorePlugin.getPluginId(),
+							Messages.format(ModelMessages.JUnitModel_could_not_read, BasicElementLabels.getPathLabel(file)),
+							e);
+				} finally {
+					TestRunSession session= handler.getTestRunSession();
+					if (session != null)
+						session.importEnded(System.currentTimeMillis() - start, completed);
+					monitor.done();
+				}
+			}
+		};
+		job.setUser(true);
+		job.schedule();
+		return job;
+	}
+
 	/**
 	 * Imports a test run session from the given URL.
 	 *
@@ -495,10 +544,11 @@ public final class JUnitModel {
 	 * @throws CoreException if an error occurred
 	 */
 	public static void exportTestRunSession(TestRunSession testRunSession, File file) throws CoreException {
-		FileOutputStream out= null;
+		OutputStream out= null;
 		try {
-			out= new FileOutputStream(file);
-            exportTestRunSession(testRunSession, out);
+			out= new BufferedOutputStream(new FileOutputStream(file));
+			exportTestRunSession(testRunSession, out);
+			out.flush();
 
 		} catch (IOException | TransformerConfigurationException e) {
 			throwExportError(file, e);
@@ -568,6 +618,7 @@ public final class JUnitModel {
 			notifyTestRunSessionRemoved(testRunSession);
 		}
 		testRunSession.removeSwapFile();
+		testRunSession.dispose();
 	}
 
 	private void notifyTestRunSessionRemoved(TestRunSession testRunSession) {
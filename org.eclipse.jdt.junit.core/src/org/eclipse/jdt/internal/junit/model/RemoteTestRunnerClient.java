@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
@@ -24,6 +27,7 @@ import java.io.PushbackReader;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import org.eclipse.core.runtime.ISafeRunnable;
@@ -228,6 +232,14 @@ public class RemoteTestRunnerClient {
 	private int fPort= -1;
 	private PrintWriter fWriter;
 	private PushbackReader fPushbackReader;
+	/**
+	 * The input of the binary protocol, or <code>null</code> if the runner uses the text protocol
+	 */
+	private DataInputStream fBinaryInput;
+	/**
+	 * The line delimiter of the runner that uses the binary protocol
+	 */
+	private String fBinaryLineDelimiter;
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
@@ -266,11 +278,18 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
+				BufferedInputStream input= new BufferedInputStream(fSocket.getInputStream());
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
-				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				if (isBinaryProtocol(input)) {
+					fBinaryInput= new DataInputStream(input);
+					fBinaryLineDelimiter= fBinaryInput.readUTF();
+					readFrames(fBinaryInput);
+				} else {
+					fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+					String message;
+					while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+						receiveMessage(message);
+				}
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
 			} catch (IOException e) {
@@ -326,6 +345,13 @@ public class RemoteTestRunnerClient {
 			}
 		} catch(IOException e) {
 		}
+		try {
+			if (fBinaryInput != null) {
+				fBinaryInput.close();
+				fBinaryInput= null;
+			}
+		} catch(IOException e) {
+		}
 		try {
 			if (fSocket != null) {
 				fSocket.close();
@@ -346,6 +372,88 @@ public class RemoteTestRunnerClient {
 		return fSocket != null;
 	}
 
+	/**
+	 * Checks whether the runner uses the binary protocol. Consumes the protocol
+	 * header if it does, otherwise leaves the input unchanged.
+	 *
+	 * @param input the input from the runner
+	 * @return <code>true</code> if the input starts with {@link MessageIds#BINARY_PROTOCOL_MAGIC}
+	 * @throws IOException if an I/O error occurs
+	 */
+	private static boolean isBinaryProtocol(BufferedInputStream input) throws IOException {
+		input.mark(4);
+		int magic= 0;
+		for (int i= 0; i < 4; i++) {
+			int b= input.read();
+			if (b == -1) {
+				input.reset();
+				return false;
+			}
+			magic= (magic << 8) | b;
+		}
+		if (magic == MessageIds.BINARY_PROTOCOL_MAGIC)
+			return true;
+		input.reset();
+		return false;
+	}
+
+	/**
+	 * Reads the frames of the binary protocol until the runner closes the connection.
+	 *
+	 * @param in the input from the runner, positioned after the protocol header
+	 *            and the line delimiter
+	 * @throws IOException if an I/O error occurs
+	 * @see org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter
+	 */
+	private void readFrames(DataInputStream in) throws IOException {
+		while (true) {
+			int length;
+			try {
+				length= in.readInt();
+			} catch (EOFException e) {
+				return;
+			}
+			byte[] bytes= new byte[length];
+			in.readFully(bytes);
+			ByteBuffer frame= ByteBuffer.wrap(bytes);
+			int count= frame.getInt();
+			for (int i= 0; i < count; i++) {
+				int size= frame.getInt();
+				receiveBinaryMessage(new String(bytes, frame.position(), size, StandardCharsets.UTF_8));
+				frame.position(frame.position() + size);
+			}
+		}
+	}
+
+	/**
+	 * Processes a message of the binary protocol. Messages may span multiple lines
+	 * (e.g. traces); they are split into lines, as they would have been received
+	 * with the text protocol. The last line is terminated by the line delimiter
+	 * of the runner.
+	 *
+	 * @param message the message
+	 */
+	private void receiveBinaryMessage(String message) {
+		int start= 0;
+		int length= message.length();
+		for (int i= 0; i < length; i++) {
+			char ch= message.charAt(i);
+			if (ch == '\n' || ch == '\r') {
+				String line= message.substring(start, i);
+				if (ch == '\r' && i + 1 < length && message.charAt(i + 1) == '\n') {
+					fLastLineDelimiter= "\r\n"; //$NON-NLS-1$
+					i++;
+				} else {
+					fLastLineDelimiter= ch == '\n' ? "\n" : "\r"; //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				receiveMessage(line);
+				start= i + 1;
+			}
+		}
+		fLastLineDelimiter= fBinaryLineDelimiter;
+		receiveMessage(message.substring(start));
+	}
+
 	private String readMessage(PushbackReader in) throws IOException {
 		StringBuilder buf= new StringBuilder(128);
 		int ch;
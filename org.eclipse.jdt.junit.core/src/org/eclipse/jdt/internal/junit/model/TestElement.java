@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -166,8 +166,17 @@ public abstract class TestElement implements ITestElement {
 
 	}
 
+	private static final int TRACE= 1;
+	private static final int EXPECTED= 2;
+	private static final int ACTUAL= 4;
+
 	private final TestSuiteElement fParent;
+	/**
+	 * The test id, or <code>null</code> if the id is the decimal representation of
+	 * {@link #fIndex}. Most ids are numbers, which need less memory as an int.
+	 */
 	private final String fId;
+	private final int fIndex;
 	private String fTestName;
 
 	/**
@@ -190,9 +199,18 @@ public abstract class TestElement implements ITestElement {
 	private String fUniqueId;
 
 	private Status fStatus;
-	private String fTrace;
-	private String fExpected;
-	private String fActual;
+
+	/**
+	 * The key of the trace, expected and actual value in the {@link FailureTraceStore} of the
+	 * root, or {@link FailureTraceStore#NONE}.
+	 */
+	private long fFailure= FailureTraceStore.NONE;
+
+	/**
+	 * The parts of the failure that are not <code>null</code>, a combination of {@link #TRACE},
+	 * {@link #EXPECTED} and {@link #ACTUAL}.
+	 */
+	private byte fFailureParts;
 
 	private boolean fAssumptionFailed;
 
@@ -222,7 +240,8 @@ public abstract class TestElement implements ITestElement {
 		Assert.isNotNull(id);
 		Assert.isNotNull(testName);
 		fParent= parent;
-		fId= id;
+		fIndex= TestElementIndex.toIndex(id);
+		fId= fIndex < 0 ? id : null;
 		fTestName= testName;
 		fDisplayName= displayName;
 		fParameterTypes= parameterTypes;
@@ -262,8 +281,9 @@ public abstract class TestElement implements ITestElement {
 	public FailureTrace getFailureTrace() {
 		Result testResult= getTestResult(false);
 		if (testResult == Result.ERROR || testResult == Result.FAILURE
-				|| (testResult == Result.IGNORED && fTrace != null)) {
-			return new FailureTrace(fTrace, fExpected, fActual);
+				|| (testResult == Result.IGNORED && (fFailureParts & TRACE) != 0)) {
+			String[] failure= getFailure();
+			return new FailureTrace(failure[0], failure[1], failure[2]);
 		}
 		return null;
 	}
@@ -276,7 +296,7 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public String getId() {
-		return fId;
+		return fId != null ? fId : Integer.toString(fIndex);
 	}
 
 	public String getTestName() {
@@ -304,35 +324,53 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public void setStatus(Status status, String trace, String expected, String actual) {
-		if (trace != null && fTrace != null) {
+		if (trace != null && (fFailureParts & TRACE) != 0) {
 			//don't overwrite first trace if same test run logs multiple errors
-			fTrace= fTrace + trace;
+			String[] failure= getFailure();
+			setFailure(failure[0] + trace, failure[1], failure[2]);
 		} else {
-			fTrace= trace;
-			fExpected= expected;
-			fActual= actual;
+			setFailure(trace, expected, actual);
 		}
 		setStatus(status);
 	}
 
+	private void setFailure(String trace, String expected, String actual) {
+		int parts= (trace != null ? TRACE : 0) | (expected != null ? EXPECTED : 0) | (actual != null ? ACTUAL : 0);
+		FailureTraceStore store= getRoot().getFailureTraceStore();
+		if (fFailure != FailureTraceStore.NONE)
+			store.remove(fFailure);
+		fFailure= parts == 0 ? FailureTraceStore.NONE : store.add(trace, expected, actual);
+		fFailureParts= (byte) parts;
+	}
+
+	/**
+	 * @return the trace, expected and actual value, which are loaded from the
+	 *         {@link FailureTraceStore} of the root
+	 */
+	private String[] getFailure() {
+		if (fFailure == FailureTraceStore.NONE)
+			return new String[3];
+		return getRoot().getFailureTraceStore().get(fFailure);
+	}
+
 	public Status getStatus() {
 		return fStatus;
 	}
 
 	public String getTrace() {
-		return fTrace;
+		return (fFailureParts & TRACE) != 0 ? getFailure()[0] : null;
 	}
 
 	public String getExpected() {
-		return fExpected;
+		return (fFailureParts & EXPECTED) != 0 ? getFailure()[1] : null;
 	}
 
 	public String getActual() {
-		return fActual;
+		return (fFailureParts & ACTUAL) != 0 ? getFailure()[2] : null;
 	}
 
 	public boolean isComparisonFailure() {
-		return fExpected != null && fActual != null;
+		return (fFailureParts & (EXPECTED | ACTUAL)) == (EXPECTED | ACTUAL);
 	}
 
 	/**
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.HashMap;
+
+/**
+ * Maps test ids to the test elements of a {@link TestRunSession}.
+ * <p>
+ * The test runners number the tests consecutively, so test ids that are
+ * non-negative decimal numbers are used as index into an array. Other ids are
+ * kept in a map.
+ * </p>
+ */
+class TestElementIndex {
+
+	private static final int INITIAL_CAPACITY= 64;
+
+	/**
+	 * Ids that exceed the array by more than this are kept in the map, so that
+	 * sparse ids do not allocate large arrays.
+	 */
+	private static final int MAX_GAP= 1024;
+
+	private TestElement[] fElements= new TestElement[INITIAL_CAPACITY];
+
+	/**
+	 * Test elements with ids that are not used as index, or <code>null</code>.
+	 */
+	private HashMap<String, TestElement> fOtherElements;
+
+	/**
+	 * Returns the index for the given test id.
+	 *
+	 * @param id the test id
+	 * @return the non-negative number denoted by <code>id</code>, or
+	 *         <code>-1</code> if it is not a canonical decimal representation of
+	 *         such a number
+	 */
+	static int toIndex(String id) {
+		int length= id.length();
+		if (length == 0 || length > 9 || (length > 1 && id.charAt(0) == '0'))
+			return -1;
+		int index= 0;
+		for (int i= 0; i < length; i++) {
+			char ch= id.charAt(i);
+			if (ch < '0' || ch > '9')
+				return -1;
+			index= index * 10 + (ch - '0');
+		}
+		return index;
+	}
+
+	void put(String id, TestElement element) {
+		int index= toIndex(id);
+		if (index >= 0 && index < fElements.length + MAX_GAP) {
+			if (index >= fElements.length) {
+				TestElement[] elements= new TestElement[Math.max(fElements.length * 2, index + 1)];
+				System.arraycopy(fElements, 0, elements, 0, fElements.length);
+				fElements= elements;
+			}
+			fElements[index]= element;
+			if (fOtherElements != null)
+				fOtherElements.remove(id);
+		} else {
+			if (fOtherElements == null)
+				fOtherElements= new HashMap<>();
+			fOtherElements.put(id, element);
+		}
+	}
+
+	TestElement get(String id) {
+		int index= toIndex(id);
+		if (index >= 0 && index < fElements.length) {
+			TestElement element= fElements[index];
+			if (element != null)
+				return element;
+		}
+		return fOtherElements != null ? fOtherElements.get(id) : null;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,8 @@ public class TestRoot extends TestSuiteElement {
 
 	private final ITestRunSession fSession;
 
+	private final FailureTraceStore fFailureTraceStore= new FailureTraceStore();
+
 	public TestRoot(ITestRunSession session) {
 		super(null, "-1", session.getTestRunName(), 1, session.getTestRunName(), null, null); //$NON-NLS-1$
 		fSession= session;
@@ -33,4 +35,26 @@ public class TestRoot extends TestSuiteElement {
 	public ITestRunSession getTestRunSession() {
 		return fSession;
 	}
+
+	/**
+	 * @return the store of the failures of the elements in this tree
+	 */
+	FailureTraceStore getFailureTraceStore() {
+		return fFailureTraceStore;
+	}
+
+	/**
+	 * Closes the file of the failures of the elements in this tree until further failures
+	 * are added.
+	 */
+	void closeFailureTraceStore() {
+		fFailureTraceStore.close();
+	}
+
+	/**
+	 * Releases the failures of the elements in this tree.
+	 */
+	void dispose() {
+		fFailureTraceStore.dispose();
+	}
 }
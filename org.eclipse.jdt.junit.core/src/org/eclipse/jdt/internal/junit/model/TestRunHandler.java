@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ import org.eclipse.jdt.core.IJavaModel;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
 import org.eclipse.jdt.internal.junit.model.TestElement.Status;
 
 public class TestRunHandler extends DefaultHandler {
@@ -65,6 +66,12 @@ public class TestRunHandler extends DefaultHandler {
 	private IProgressMonitor fMonitor;
 	private int fLastReportedLine;
 
+	/**
+	 * <code>true</code> iff the session is added to the model as soon as it has been created,
+	 * and its listeners are notified of the tests while they are read.
+	 */
+	private boolean fIncremental;
+
 	public TestRunHandler() {
 
 	}
@@ -73,6 +80,17 @@ public class TestRunHandler extends DefaultHandler {
 		fMonitor= monitor;
 	}
 
+	/**
+	 * @param monitor a progress monitor for cancellation
+	 * @param incremental <code>true</code> to add the session to the model as soon as it
+	 *            has been created, and to notify its listeners of the tests while they are read
+	 * @see JUnitModel#importTestRunSessionInBackground(java.io.File)
+	 */
+	public TestRunHandler(IProgressMonitor monitor, boolean incremental) {
+		fMonitor= monitor;
+		fIncremental= incremental;
+	}
+
 	public TestRunHandler(TestRunSession testRunSession) {
 		fTestRunSession= testRunSession;
 	}
@@ -98,6 +116,8 @@ public class TestRunHandler extends DefaultHandler {
 		}
 		if (Thread.interrupted())
 			throw new OperationCanceledException();
+		if (fIncremental && (fMonitor.isCanceled() || fTestRunSession != null && fTestRunSession.isStopped()))
+			throw new OperationCanceledException();
 
 		switch (qName) {
 		case IXMLTags.NODE_TESTRUN:
@@ -121,6 +141,7 @@ public class TestRunHandler extends DefaultHandler {
 					fTestRunSession.setExcludeTags(excludeTags);
 				}
 				//TODO: read counts?
+				handleTestRunSessionCreated();
 
 			} else {
 				fTestRunSession.reset();
@@ -137,6 +158,7 @@ public class TestRunHandler extends DefaultHandler {
 					// support standalone suites and Ant's 'junitreport' task:
 					fTestRunSession= new TestRunSession(name, null);
 					fTestSuite= fTestRunSession.getTestRoot();
+					handleTestRunSessionCreated();
 				}	String pack= attributes.getValue(IXMLTags.ATTR_PACKAGE);
 				String suiteName= pack == null ? name : pack + "." + name; //$NON-NLS-1$
 				String displayName= attributes.getValue(IXMLTags.ATTR_DISPLAY_NAME);
@@ -153,6 +175,7 @@ public class TestRunHandler extends DefaultHandler {
 				}	fTestSuite= (TestSuiteElement) fTestRunSession.createTestElement(fTestSuite, getNextId(), suiteName, true, 0, false, displayName, paramTypes, uniqueId);
 				readTime(fTestSuite, attributes);
 				fNotRun.push(Boolean.valueOf(attributes.getValue(IXMLTags.ATTR_INCOMPLETE)));
+				handleTestElementAdded(fTestSuite);
 				break;
 			}
 		// not interested
@@ -180,6 +203,7 @@ public class TestRunHandler extends DefaultHandler {
 				fNotRun.push(Boolean.parseBoolean(attributes.getValue(IXMLTags.ATTR_INCOMPLETE)));
 				fTestCase.setIgnored(Boolean.parseBoolean(attributes.getValue(IXMLTags.ATTR_IGNORED)));
 				readTime(fTestCase, attributes);
+				handleTestElementAdded(fTestCase);
 				break;
 			}
 		case IXMLTags.NODE_ERROR:
@@ -247,6 +271,8 @@ public class TestRunHandler extends DefaultHandler {
 		switch (qName) {
 		// OK
 		case IXMLTags.NODE_TESTRUN:
+			if (fTestRunSession != null)
+				fTestRunSession.closeFailureTraceStore();
 			break;
 		// OK
 		case IXMLTags.NODE_TESTSUITES:
@@ -311,6 +337,18 @@ public class TestRunHandler extends DefaultHandler {
 		}
 	}
 
+	private void handleTestRunSessionCreated() {
+		if (fIncremental) {
+			fTestRunSession.importStarted();
+			JUnitCorePlugin.getModel().addTestRunSession(fTestRunSession);
+		}
+	}
+
+	private void handleTestElementAdded(TestElement testElement) {
+		if (fIncremental)
+			fTestRunSession.importTestAdded(testElement);
+	}
+
 	private void handleTestElementEnd(TestElement testElement) {
 		boolean completed= fNotRun.pop() != Boolean.TRUE;
 		fTestRunSession.registerTestEnded(testElement, completed);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,7 +86,14 @@ public class TestRunSession implements ITestRunSession {
 	/**
 	 * Map from testId to testElement.
 	 */
-	private HashMap<String, TestElement> fIdToTest;
+	private TestElementIndex fIdToTest;
+
+	/**
+	 * The suite names and parameter types of the test elements, used to share equal strings
+	 * between the elements. Suite names are mostly class names, which are repeated when a
+	 * class is run in several suites.
+	 */
+	private HashMap<String, String> fNames;
 
 	/**
 	 * The TestSuites for which additional children are expected.
@@ -167,7 +174,8 @@ public class TestRunSession implements ITestRunSession {
 		fTestRunnerKind= ITestKind.NULL; //TODO
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new TestElementIndex();
+		fNames= new HashMap<>();
 
 		fTestRunnerClient= null;
 
@@ -191,7 +199,8 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new TestElementIndex();
+		fNames= new HashMap<>();
 
 		fTestRunnerClient= new RemoteTestRunnerClient();
 		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
@@ -236,9 +245,12 @@ public class TestRunSession implements ITestRunSession {
 		fIgnoredCount= 0;
 		fTotalCount= 0;
 
+		if (fTestRoot != null)
+			fTestRoot.dispose();
 		fTestRoot= new TestRoot(this);
 		fTestResult= null;
-		fIdToTest= new HashMap<>();
+		fIdToTest= new TestElementIndex();
+		fNames= new HashMap<>();
 	}
 
 	@Override
@@ -372,9 +384,11 @@ public class TestRunSession implements ITestRunSession {
 
 			JUnitModel.exportTestRunSession(this, swapFile);
 			fTestResult= fTestRoot.getTestResult(true);
+			fTestRoot.dispose();
 			fTestRoot= null;
 			fTestRunnerClient= null;
-			fIdToTest= new HashMap<>();
+			fIdToTest= new TestElementIndex();
+			fNames= new HashMap<>();
 			fIncompleteTestSuites= null;
 			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
@@ -389,6 +403,23 @@ public class TestRunSession implements ITestRunSession {
 	}
 
 
+	/**
+	 * Closes the file of the failure traces of the test tree. Called when a test run or an
+	 * import has ended, the traces are read from the file on demand afterwards.
+	 */
+	synchronized void closeFailureTraceStore() {
+		if (fTestRoot != null)
+			fTestRoot.closeFailureTraceStore();
+	}
+
+	/**
+	 * Releases the failure traces of the test tree. Called when the session has been removed.
+	 */
+	synchronized void dispose() {
+		if (fTestRoot != null)
+			fTestRoot.dispose();
+	}
+
 	public void removeSwapFile() {
 		File swapFile= getSwapFile();
 		if (swapFile.exists())
@@ -473,6 +504,48 @@ public class TestRunSession implements ITestRunSession {
 		return false;
 	}
 
+	/**
+	 * Marks this session as running while it is imported, and notifies the listeners.
+	 *
+	 * @see JUnitModel#importTestRunSessionInBackground(File)
+	 */
+	void importStarted() {
+		fIsRunning= true;
+		for (ITestSessionListener listener : fSessionListeners) {
+			listener.sessionStarted();
+		}
+	}
+
+	/**
+	 * Notifies the listeners of a test element that has been imported.
+	 *
+	 * @param testElement the imported test element
+	 */
+	void importTestAdded(TestElement testElement) {
+		for (ITestSessionListener listener : fSessionListeners) {
+			listener.testAdded(testElement);
+		}
+	}
+
+	/**
+	 * Marks the import of this session as finished, and notifies the listeners.
+	 *
+	 * @param elapsedTime the time the import took, in milliseconds
+	 * @param completed <code>true</code> iff the whole file has been read
+	 */
+	void importEnded(long elapsedTime, boolean completed) {
+		fIsRunning= false;
+		closeFailureTraceStore();
+		if (!completed)
+			fIsStopped= true;
+		for (ITestSessionListener listener : fSessionListeners) {
+			if (completed)
+				listener.sessionEnded(elapsedTime);
+			else
+				listener.sessionStopped(elapsedTime);
+		}
+	}
+
 	public TestElement getTestElement(String id) {
 		return fIdToTest.get(id);
 	}
@@ -568,7 +641,14 @@ public class TestRunSession implements ITestRunSession {
 		if (parameterTypes != null && parameterTypes.length > 1) {
 			parameterTypes= Arrays.stream(parameterTypes).map(String::trim).toArray(String[]::new);
 		}
+		if (parameterTypes != null) {
+			for (int i= 0; i < parameterTypes.length; i++) {
+				parameterTypes[i]= shareName(parameterTypes[i]);
+			}
+		}
 		if (isSuite) {
+			testName= shareName(testName);
+			displayName= shareName(displayName);
 			TestSuiteElement testSuiteElement= new TestSuiteElement(parent, id, testName, testCount, displayName, parameterTypes, uniqueId);
 			testElement= testSuiteElement;
 			if (testCount > 0) {
@@ -583,6 +663,13 @@ public class TestRunSession implements ITestRunSession {
 		return testElement;
 	}
 
+	private String shareName(String name) {
+		if (name == null)
+			return null;
+		String shared= fNames.putIfAbsent(name, name);
+		return shared != null ? shared : name;
+	}
+
 	/**
 	 * Append the test name from <code>s</code> to <code>testName</code>.
 	 *
@@ -648,6 +735,7 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testRunEnded(long elapsedTime) {
 			fIsRunning= false;
+			closeFailureTraceStore();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionEnded(elapsedTime);
@@ -658,6 +746,7 @@ public class TestRunSession implements ITestRunSession {
 		public void testRunStopped(long elapsedTime) {
 			fIsRunning= false;
 			fIsStopped= true;
+			closeFailureTraceStore();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionStopped(elapsedTime);
@@ -668,6 +757,7 @@ public class TestRunSession implements ITestRunSession {
 		public void testRunTerminated() {
 			fIsRunning= false;
 			fIsStopped= true;
+			closeFailureTraceStore();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionTerminated();
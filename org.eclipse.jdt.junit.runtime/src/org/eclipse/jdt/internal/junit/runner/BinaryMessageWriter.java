@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes messages of the RemoteTestRunner in the binary protocol.
+ * <p>
+ * The stream starts with {@link MessageIds#BINARY_PROTOCOL_MAGIC} and the line
+ * delimiter of the runner in the format of {@link java.io.DataOutput#writeUTF(String)},
+ * followed by frames of the form
+ * <pre>frameLength:int messageCount:int (messageLength:int message:UTF-8)*</pre>
+ * where <code>frameLength</code> is the number of bytes following it. All
+ * integers are big-endian. The messages are the same as in the text protocol,
+ * except that a message is not terminated by a line delimiter. The client
+ * terminates the last line of a message with the line delimiter from the header,
+ * as a message of the text protocol would have been terminated by the runner.
+ * </p>
+ * <p>
+ * Messages are collected into a frame until the frame is full or
+ * {@link #MAX_FRAME_DELAY} ms have passed since the first message of the
+ * frame. A daemon thread sends pending frames that are not flushed otherwise.
+ * </p>
+ *
+ * @see MessageIds#BINARY_PROTOCOL_MAGIC
+ */
+public class BinaryMessageWriter {
+
+	/**
+	 * Maximal number of bytes of the messages in a frame.
+	 */
+	public static final int MAX_FRAME_SIZE= 32 * 1024;
+
+	/**
+	 * Maximal time in ms a message is kept before it is sent.
+	 */
+	public static final int MAX_FRAME_DELAY= 50;
+
+	private final DataOutputStream fOutput;
+
+	private final ByteArrayOutputStream fFrame= new ByteArrayOutputStream(MAX_FRAME_SIZE + 1024);
+
+	private final DataOutputStream fFrameOutput= new DataOutputStream(fFrame);
+
+	private int fMessageCount;
+
+	/**
+	 * The time when the first pending message was written.
+	 */
+	private long fFrameStart;
+
+	private Thread fFlusher;
+
+	private boolean fClosed;
+
+	/**
+	 * Creates a writer and sends the protocol header with the line delimiter of
+	 * this VM.
+	 *
+	 * @param output the output stream to write to
+	 * @param autoFlush <code>true</code> to start a thread that sends pending
+	 *            messages after {@link #MAX_FRAME_DELAY} ms
+	 * @throws IOException if the header could not be written
+	 */
+	public BinaryMessageWriter(OutputStream output, boolean autoFlush) throws IOException {
+		this(output, System.getProperty("line.separator"), autoFlush); //$NON-NLS-1$
+	}
+
+	/**
+	 * Creates a writer and sends the protocol header.
+	 *
+	 * @param output the output stream to write to
+	 * @param lineDelimiter the line delimiter that terminates the messages
+	 * @param autoFlush <code>true</code> to start a thread that sends pending
+	 *            messages after {@link #MAX_FRAME_DELAY} ms
+	 * @throws IOException if the header could not be written
+	 */
+	public BinaryMessageWriter(OutputStream output, String lineDelimiter, boolean autoFlush) throws IOException {
+		fOutput= new DataOutputStream(output);
+		fOutput.writeInt(MessageIds.BINARY_PROTOCOL_MAGIC);
+		fOutput.writeUTF(lineDelimiter);
+		fOutput.flush();
+		if (autoFlush) {
+			fFlusher= new Thread("BinaryMessageFlusher") { //$NON-NLS-1$
+				@Override
+				public void run() {
+					try {
+						while (sendPendingFrame()) {
+							Thread.sleep(MAX_FRAME_DELAY);
+						}
+					} catch (InterruptedException e) {
+						// closed
+					}
+				}
+			};
+			fFlusher.setDaemon(true);
+			fFlusher.start();
+		}
+	}
+
+	/**
+	 * Adds a message to the current frame. Sends the frame if it is full.
+	 *
+	 * @param message the message
+	 * @throws IOException if an I/O error occurs
+	 */
+	public synchronized void write(String message) throws IOException {
+		byte[] bytes= message.getBytes(StandardCharsets.UTF_8);
+		if (fMessageCount == 0)
+			fFrameStart= System.currentTimeMillis();
+		fFrameOutput.writeInt(bytes.length);
+		fFrameOutput.write(bytes);
+		fMessageCount++;
+		if (fFrame.size() >= MAX_FRAME_SIZE)
+			writeFrame();
+	}
+
+	/**
+	 * Sends the current frame if its first message has been pending for
+	 * {@link #MAX_FRAME_DELAY} ms.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	public synchronized void flush() throws IOException {
+		if (fMessageCount > 0 && System.currentTimeMillis() - fFrameStart >= MAX_FRAME_DELAY)
+			writeFrame();
+	}
+
+	/**
+	 * Sends the current frame, regardless of its size and age.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	public synchronized void forceFlush() throws IOException {
+		if (fMessageCount > 0)
+			writeFrame();
+	}
+
+	/**
+	 * Sends all pending messages and closes the underlying stream.
+	 */
+	public void close() {
+		synchronized (this) {
+			if (fClosed)
+				return;
+			fClosed= true;
+			try {
+				forceFlush();
+				fOutput.close();
+			} catch (IOException e) {
+				// the connection is gone anyway
+			}
+		}
+		if (fFlusher != null)
+			fFlusher.interrupt();
+	}
+
+	/**
+	 * Sends the pending messages of the current frame if they are due.
+	 *
+	 * @return <code>false</code> if the writer has been closed
+	 */
+	synchronized boolean sendPendingFrame() {
+		if (fClosed)
+			return false;
+		try {
+			flush();
+		} catch (IOException e) {
+			return false;
+		}
+		return true;
+	}
+
+	private void writeFrame() throws IOException {
+		fOutput.writeInt(fFrame.size() + 4);
+		fOutput.writeInt(fMessageCount);
+		fFrame.writeTo(fOutput);
+		fOutput.flush();
+		fFrame.reset();
+		fMessageCount= 0;
+	}
+}
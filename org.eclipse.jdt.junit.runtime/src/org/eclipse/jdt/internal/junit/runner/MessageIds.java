@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,24 @@ public class MessageIds {
 	 */
 	public static final int MSG_HEADER_LENGTH= 8;
 
+	/**
+	 * The first four bytes sent by a RemoteTestRunner that uses the binary
+	 * protocol, followed by the line delimiter of the runner. Text messages
+	 * never start with a <code>NUL</code> character, so a client can detect the
+	 * protocol used by the runner from the first bytes it receives. The runner
+	 * only uses the binary protocol if it is started with
+	 * {@link #BINARY_PROTOCOL_ARGUMENT}.
+	 *
+	 * @see BinaryMessageWriter
+	 */
+	public static final int BINARY_PROTOCOL_MAGIC= 0x004A5501;
+
+	/**
+	 * Program argument that requests the binary protocol from the RemoteTestRunner.
+	 * Older runners ignore it and use the text protocol.
+	 */
+	public static final String BINARY_PROTOCOL_ARGUMENT= "-binaryprotocol"; //$NON-NLS-1$
+
 	/**
 	 * Notification that a test trace has started.
 	 * The end of the trace is signaled by a TRACE_END
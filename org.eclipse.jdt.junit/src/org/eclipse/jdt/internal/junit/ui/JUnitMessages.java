@@ -295,8 +295,6 @@ public final class JUnitMessages extends NLS {
 
 	public static String TestRunnerViewPart_ExportTestRunSessionAction_title;
 
-	public static String TestRunnerViewPart_ImportTestRunSessionAction_error_title;
-
 	public static String TestRunnerViewPart_ImportTestRunSessionAction_name;
 
 	public static String TestRunnerViewPart_ImportTestRunSessionAction_title;
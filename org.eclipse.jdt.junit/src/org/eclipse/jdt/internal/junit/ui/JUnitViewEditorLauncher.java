@@ -28,7 +28,7 @@ public class JUnitViewEditorLauncher implements IEditorLauncher {
 	public void open(IPath file) {
 		try {
 			JUnitPlugin.getActivePage().showView(TestRunnerViewPart.NAME);
-			JUnitModel.importTestRunSession(file.toFile());
+			JUnitModel.importTestRunSessionInBackground(file.toFile());
 		} catch (CoreException e) {
 			ExceptionHandler.handle(e, JUnitMessages.JUnitViewEditorLauncher_dialog_title, JUnitMessages.JUnitViewEditorLauncher_error_occurred);
 		}
@@ -520,12 +520,8 @@ public class TestRunnerViewPart extends ViewPart {
 			//TODO: MULTI: getFileNames()
 			File file= new File(path);
 
-			try {
-				JUnitModel.importTestRunSession(file);
-			} catch (CoreException e) {
-				JUnitPlugin.log(e);
-				ErrorDialog.openError(fShell, JUnitMessages.TestRunnerViewPart_ImportTestRunSessionAction_error_title, e.getStatus().getMessage(), e.getStatus());
-			}
+			// errors are reported by the job
+			JUnitModel.importTestRunSessionInBackground(file);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -104,6 +104,14 @@ public class AbstractSemanticHighlightingTest {
 
 	private static SourceViewer fSourceViewer;
 
+	protected static JavaEditor getEditor() {
+		return fEditor;
+	}
+
+	protected static SourceViewer getSourceViewer() {
+		return fSourceViewer;
+	}
+
 	@Before
 	public void before() throws Exception {
 		disableAllSemanticHighlightings();
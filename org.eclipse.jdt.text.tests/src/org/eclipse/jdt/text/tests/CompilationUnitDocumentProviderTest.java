@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Test;
 
@@ -34,6 +39,12 @@ import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.core.filebuffers.tests.ResourceHelper;
 
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.IAnnotationModel;
+
 import org.eclipse.ui.IEditorInput;
 import org.eclipse.ui.part.FileEditorInput;
 
@@ -42,12 +53,20 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IProblemRequestor;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.compiler.IProblem;
+
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
+import org.eclipse.jdt.internal.compiler.problem.ProblemSeverities;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitDocumentProvider.ProblemAnnotation;
 import org.eclipse.jdt.internal.ui.javaeditor.ICompilationUnitDocumentProvider;
+import org.eclipse.jdt.internal.ui.text.java.IProblemRequestorExtension;
+import org.eclipse.jdt.internal.ui.text.spelling.CoreSpellingProblem;
 
 
 public class CompilationUnitDocumentProviderTest {
@@ -132,6 +151,76 @@ public class CompilationUnitDocumentProviderTest {
 		assertEquals(source, cu.getSource());
 	}
 
+	@Test
+	public void testReportingSequenceInRegions() throws Exception {
+		setupProject();
+		IFile file= ResourcesPlugin.getWorkspace().getRoot().getFile(new Path("/P/src/testA/testB/A.java"));
+		IEditorInput input= new FileEditorInput(file);
+		ICompilationUnitDocumentProvider provider= JavaPlugin.getDefault().getCompilationUnitDocumentProvider();
+		provider.connect(input);
+		try {
+			IDocument document= provider.getDocument(input);
+			IAnnotationModel model= provider.getAnnotationModel(input);
+			IProblemRequestorExtension extension= (IProblemRequestorExtension) model;
+			extension.setIsHandlingTemporaryProblems(true);
+			int middle= document.getLength() / 2;
+			IRegion firstHalf= new Region(0, middle);
+			IRegion secondHalf= new Region(middle, document.getLength() - middle);
+
+			report(model, null, false, spellingProblem(document, 2), spellingProblem(document, middle + 2), javaProblem(10));
+			assertEquals(List.of("error:10", "spelling:2", "spelling:" + (middle + 2)), getProblemAnnotations(model));
+
+			// spelling problems inside the first half are replaced, the others are kept
+			report(model, new IRegion[] { firstHalf }, true, spellingProblem(document, 4));
+			assertEquals(List.of("error:10", "spelling:4", "spelling:" + (middle + 2)), getProblemAnnotations(model));
+
+			// spelling problems inside the second half and all Java problems are replaced
+			report(model, new IRegion[] { secondHalf }, false, spellingProblem(document, middle + 4));
+			assertEquals(List.of("spelling:4", "spelling:" + (middle + 4)), getProblemAnnotations(model));
+
+			// a sequence without regions replaces all problems
+			report(model, null, false, javaProblem(12));
+			assertEquals(List.of("error:12"), getProblemAnnotations(model));
+		} finally {
+			provider.disconnect(input);
+		}
+	}
+
+	private static void report(IAnnotationModel model, IRegion[] spellingRegions, boolean spellingOnly, IProblem... problems) {
+		IProblemRequestorExtension extension= (IProblemRequestorExtension) model;
+		if (spellingRegions == null && !spellingOnly)
+			extension.beginReportingSequence();
+		else
+			extension.beginReportingSequence(spellingRegions, spellingOnly);
+		try {
+			for (IProblem problem : problems)
+				((IProblemRequestor) model).acceptProblem(problem);
+		} finally {
+			extension.endReportingSequence();
+		}
+	}
+
+	private static IProblem spellingProblem(IDocument document, int offset) {
+		return new CoreSpellingProblem(offset, offset + 2, 1, "spelling", "abc", false, false, document, "A.java");
+	}
+
+	private static IProblem javaProblem(int offset) {
+		return new DefaultProblem("A.java".toCharArray(), "error", IProblem.UndefinedMethod, new String[0], ProblemSeverities.Error, offset, offset + 2, 1, 1);
+	}
+
+	private static List<String> getProblemAnnotations(IAnnotationModel model) {
+		List<String> result= new ArrayList<>();
+		for (Iterator<Annotation> iter= model.getAnnotationIterator(); iter.hasNext();) {
+			Annotation annotation= iter.next();
+			if (annotation instanceof ProblemAnnotation) {
+				String kind= ProblemAnnotation.SPELLING_ANNOTATION_TYPE.equals(annotation.getType()) ? "spelling" : "error";
+				result.add(kind + ":" + model.getPosition(annotation).getOffset());
+			}
+		}
+		Collections.sort(result);
+		return result;
+	}
+
 	private void checkFile(IFile file) throws CoreException {
 		assertNotNull(file);
 		IEditorInput input= new FileEditorInput(file);
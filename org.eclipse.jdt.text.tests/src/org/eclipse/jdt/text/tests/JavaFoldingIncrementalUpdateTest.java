@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.SourceViewer;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
+import org.eclipse.jface.text.source.projection.ProjectionViewer;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.text.folding.IJavaFoldingStructureProvider;
+
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+
+/**
+ * Tests that updating the folding structure after an edit computes the same folding regions as
+ * computing the folding structure of the whole compilation unit.
+ */
+public class JavaFoldingIncrementalUpdateTest {
+
+	private static final String SOURCE= "package p;\n" +
+			"\n" +
+			"import java.util.List;\n" +
+			"import java.util.Map;\n" +
+			"\n" +
+			"/**\n" +
+			" * A class with foldable members.\n" +
+			" */\n" +
+			"public class Folding {\n" +
+			"	/**\n" +
+			"	 * The first method.\n" +
+			"	 */\n" +
+			"	public void first() {\n" +
+			"		int a= 1;\n" +
+			"		a++;\n" +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * The second method.\n" +
+			"	 */\n" +
+			"	public void second() {\n" +
+			"		int b= 2;\n" +
+			"		b++;\n" +
+			"	}\n" +
+			"\n" +
+			"	class Inner {\n" +
+			"		void inner() {\n" +
+			"			first();\n" +
+			"		}\n" +
+			"	}\n" +
+			"}\n";
+
+	private IJavaProject fProject;
+
+	private boolean fWasFoldingEnabled;
+
+	private JavaEditor fEditor;
+
+	private SourceViewer fViewer;
+
+	@Before
+	public void setUp() throws Exception {
+		fWasFoldingEnabled= EditorTestHelper.enableFolding(true);
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		IPackageFragment pack= root.createPackageFragment("p", true, null);
+		ICompilationUnit unit= pack.createCompilationUnit("Folding.java", SOURCE, true, null);
+		fEditor= (JavaEditor) EditorUtility.openInEditor(unit);
+		fViewer= EditorTestHelper.getSourceViewer(fEditor);
+		assertTrue(EditorTestHelper.joinReconciler(fViewer, 0, 10000, 100));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		EditorTestHelper.closeAllEditors();
+		EditorTestHelper.enableFolding(fWasFoldingEnabled);
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void editInsideMember() throws Exception {
+		List<String> initial= getFoldingRegions();
+
+		replace("		a++;\n", "		a++;\n		a+= 2;\n		a--;\n");
+		List<String> actual= getFoldingRegions();
+		assertEquals(initial.size(), actual.size());
+		assertEquals(computeFoldingRegions(), actual);
+
+		// an edit inside the method of the inner type
+		replace("			first();\n", "			first();\n			second();\n");
+		actual= getFoldingRegions();
+		assertEquals(initial.size(), actual.size());
+		assertEquals(computeFoldingRegions(), actual);
+	}
+
+	@Test
+	public void editOutsideMember() throws Exception {
+		List<String> initial= getFoldingRegions();
+
+		// a new method with a Javadoc comment adds two folding regions
+		replace("	class Inner {\n", "	/**\n	 * The third method.\n	 */\n	public void third() {\n		second();\n	}\n\n	class Inner {\n");
+		List<String> actual= getFoldingRegions();
+		assertEquals(initial.size() + 2, actual.size());
+		assertEquals(computeFoldingRegions(), actual);
+
+		// removing a method with its Javadoc comment removes its folding regions
+		replace("	/**\n	 * The second method.\n	 */\n	public void second() {\n		int b= 2;\n		b++;\n	}\n\n", "");
+		actual= getFoldingRegions();
+		assertEquals(initial.size(), actual.size());
+		assertEquals(computeFoldingRegions(), actual);
+	}
+
+	/**
+	 * Replaces the first occurrence of the given text in the editor and waits until the editor is
+	 * reconciled.
+	 *
+	 * @param text the replaced text
+	 * @param replacement the replacement
+	 * @throws Exception if the text cannot be replaced
+	 */
+	private void replace(String text, String replacement) throws Exception {
+		IDocument document= fViewer.getDocument();
+		int offset= document.get().indexOf(text);
+		assertTrue("Missing text: " + text, offset != -1);
+		document.replace(offset, text.length(), replacement);
+		assertTrue(EditorTestHelper.joinReconciler(fViewer, 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+	}
+
+	/**
+	 * Computes the folding structure of the whole compilation unit again.
+	 *
+	 * @return the folding regions
+	 */
+	private List<String> computeFoldingRegions() {
+		fEditor.getAdapter(IJavaFoldingStructureProvider.class).initialize();
+		EditorTestHelper.runEventQueue(100);
+		return getFoldingRegions();
+	}
+
+	/**
+	 * Returns the ranges of the folding regions, sorted by offset.
+	 *
+	 * @return the sorted ranges
+	 */
+	private List<String> getFoldingRegions() {
+		ProjectionAnnotationModel model= ((ProjectionViewer) fViewer).getProjectionAnnotationModel();
+		List<String> regions= new ArrayList<>();
+		for (Iterator<Annotation> iter= model.getAnnotationIterator(); iter.hasNext();) {
+			Position position= model.getPosition(iter.next());
+			regions.add(String.format("%08d:%04d", position.getOffset(), position.getLength()));
+		}
+		Collections.sort(regions);
+		return regions;
+	}
+}
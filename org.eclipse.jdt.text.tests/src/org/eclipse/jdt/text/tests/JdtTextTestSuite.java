@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,12 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 import org.eclipse.jdt.text.tests.codemining.CodeMiningTriggerTest;
+import org.eclipse.jdt.text.tests.codemining.JavaReferenceCountResolverTest;
 import org.eclipse.jdt.text.tests.codemining.ParameterNamesCodeMiningTest;
 import org.eclipse.jdt.text.tests.contentassist.ContentAssistTestSuite;
+import org.eclipse.jdt.text.tests.spelling.BatchSpellCheckerTest;
+import org.eclipse.jdt.text.tests.spelling.PackedSpellDictionaryTest;
+import org.eclipse.jdt.text.tests.spelling.PackedWordListTest;
 import org.eclipse.jdt.text.tests.spelling.SpellCheckEngineTestCase;
 import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 
@@ -58,8 +62,13 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 //			});
 	BracketInserterTest.class,
 	SpellCheckEngineTestCase.class,
+	PackedWordListTest.class,
+	PackedSpellDictionaryTest.class,
+	BatchSpellCheckerTest.class,
 	SemanticHighlightingTest.class,
+	SemanticHighlightingIncrementalReconcileTest.class,
 	AutoboxingSemanticHighlightingTest.class,
+	JavaFoldingIncrementalUpdateTest.class,
 	NewForLoopJavaContextTest.class,
 	IteratorForLoopJavaContextTest.class,
 	ArrayWithTempVarForLoopJavaContextTest.class,
@@ -73,6 +82,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	JavaElementPrefixPatternMatcherTest.class,
 	CodeMiningTriggerTest.class,
 	ParameterNamesCodeMiningTest.class,
+	JavaReferenceCountResolverTest.class,
 })
 public class JdtTextTestSuite {
 }
\ No newline at end of file
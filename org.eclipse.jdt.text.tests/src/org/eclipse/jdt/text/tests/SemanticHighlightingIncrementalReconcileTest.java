@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+
+/**
+ * Tests that reconciling only the member body in which the document has been edited highlights
+ * the same positions as reconciling the whole compilation unit.
+ */
+public class SemanticHighlightingIncrementalReconcileTest extends AbstractSemanticHighlightingTest {
+
+	private static final String[] HIGHLIGHTINGS= {
+			SemanticHighlightings.FIELD,
+			SemanticHighlightings.STATIC_FIELD,
+			SemanticHighlightings.LOCAL_VARIABLE_DECLARATION,
+			SemanticHighlightings.LOCAL_VARIABLE,
+			SemanticHighlightings.PARAMETER_VARIABLE,
+			SemanticHighlightings.METHOD_DECLARATION,
+			SemanticHighlightings.METHOD,
+			SemanticHighlightings.STATIC_METHOD_INVOCATION,
+			SemanticHighlightings.ABSTRACT_METHOD_INVOCATION,
+			SemanticHighlightings.DEPRECATED_MEMBER,
+			SemanticHighlightings.CLASS,
+	};
+
+	@Rule
+	public SemanticHighlightingTestSetup shts= new SemanticHighlightingTestSetup("/SHTest/src/SHTest.java");
+
+	@Before
+	public void setUp() {
+		for (String highlighting : HIGHLIGHTINGS)
+			setUpSemanticHighlighting(highlighting);
+	}
+
+	@Test
+	public void editInsideMethodBody() throws Exception {
+		replace(9, 0, 0, "\t\tint added= field + staticField;\n");
+		List<String> actual= getHighlightedRanges();
+		assertContains(createPosition(9, 6, 5), actual);
+		assertContains(createPosition(9, 13, 5), actual);
+		assertEquals(reconcileFully(), actual);
+
+		// an edit inside another method
+		replace(26, 0, 0, "\t\tstaticMethod();\n");
+		actual= getHighlightedRanges();
+		assertContains(createPosition(26, 2, 12), actual);
+		assertEquals(reconcileFully(), actual);
+
+		// remove "local++;"
+		replace(10, 2, 8, "");
+		actual= getHighlightedRanges();
+		assertEquals(reconcileFully(), actual);
+	}
+
+	@Test
+	public void editChangingMemberStructure() throws Exception {
+		// all inserted inside the body of method(int), which is split into two methods
+		String inserted= "\t}\n\tvoid inserted(int other) {\n\t\tint added= other + field;\n";
+		replace(9, 0, 0, inserted);
+		List<String> actual= getHighlightedRanges();
+		assertContains(createPosition(10, 6, 8), actual);
+		assertContains(createPosition(11, 6, 5), actual);
+		assertEquals(reconcileFully(), actual);
+
+		// join the methods again
+		replace(9, 0, inserted.length(), "");
+		actual= getHighlightedRanges();
+		assertEquals(reconcileFully(), actual);
+	}
+
+	/**
+	 * Replaces text in the document of the editor and waits until the editor is reconciled.
+	 *
+	 * @param line the line of the replaced text
+	 * @param column the column of the replaced text
+	 * @param length the length of the replaced text
+	 * @param text the replacement
+	 * @throws Exception if the text cannot be replaced
+	 */
+	private void replace(int line, int column, int length, String text) throws Exception {
+		IDocument document= getSourceViewer().getDocument();
+		document.replace(document.getLineOffset(line) + column, length, text);
+		assertTrue(EditorTestHelper.joinReconciler(getSourceViewer(), 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+	}
+
+	/**
+	 * Highlights the whole compilation unit again.
+	 *
+	 * @return the highlighted ranges
+	 * @throws Exception if the positions cannot be computed
+	 */
+	private List<String> reconcileFully() throws Exception {
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(getEditor(), JavaEditor.class).get("fSemanticManager");
+		SemanticHighlightingReconciler reconciler= (SemanticHighlightingReconciler) new Accessor(manager, manager.getClass()).get("fReconciler");
+		reconciler.refresh();
+		Job job= (Job) new Accessor(reconciler, SemanticHighlightingReconciler.class).get("fJob");
+		if (job != null)
+			job.join();
+		EditorTestHelper.runEventQueue(100);
+		return getHighlightedRanges();
+	}
+
+	/**
+	 * Returns the ranges of the highlighted positions. Positions with the same offset can be
+	 * in a different order, the ranges are therefore sorted.
+	 *
+	 * @return the sorted ranges
+	 * @throws Exception if the positions cannot be read
+	 */
+	private List<String> getHighlightedRanges() throws Exception {
+		List<String> ranges= new ArrayList<>();
+		for (Position position : getSemanticHighlightingPositions())
+			ranges.add(toRange(position));
+		Collections.sort(ranges);
+		return ranges;
+	}
+
+	private static String toRange(Position position) {
+		return String.format("%08d:%04d", position.getOffset(), position.getLength());
+	}
+
+	private static void assertContains(Position expected, List<String> ranges) {
+		assertTrue("Missing position " + toRange(expected), ranges.contains(toRange(expected)));
+	}
+}
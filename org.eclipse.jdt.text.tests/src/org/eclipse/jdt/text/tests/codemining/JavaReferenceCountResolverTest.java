@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.codemining;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaReferenceCountResolver;
+
+/**
+ * Tests that the batched searches of the reference minings count as many references as a
+ * search per element, and that the type hierarchies of the implementation minings are shared.
+ */
+public class JavaReferenceCountResolverTest {
+
+	private IJavaProject fProject;
+
+	private IPackageFragment fPackage;
+
+	private JavaReferenceCountResolver fResolver;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+		fResolver= new JavaReferenceCountResolver();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fResolver.dispose();
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void testReferenceCounts() throws Exception {
+		String a= "package p;\n" +
+				"public class A {\n" +
+				"	public int count;\n" +
+				"	public String name;\n" +
+				"	public void run() {}\n" +
+				"	public void run(int times) {}\n" +
+				"	public static A create() { return new A(); }\n" +
+				"}\n";
+		String b= "package p;\n" +
+				"public class B {\n" +
+				"	void use(A a) {\n" +
+				"		a.count++;\n" +
+				"		a.count= a.name.length();\n" +
+				"		a.run();\n" +
+				"		a.run(1);\n" +
+				"		a.run(a.count);\n" +
+				"		Runnable r= a::run;\n" +
+				"		A.create().run();\n" +
+				"	}\n" +
+				"}\n";
+		IType typeA= fPackage.createCompilationUnit("A.java", a, true, null).getType("A");
+		IType typeB= fPackage.createCompilationUnit("B.java", b, true, null).getType("B");
+
+		List<IJavaElement> elements= new ArrayList<>();
+		elements.add(typeA);
+		elements.add(typeA.getField("count"));
+		elements.add(typeA.getField("name"));
+		elements.add(typeA.getMethod("run", new String[0]));
+		elements.add(typeA.getMethod("run", new String[] { "I" }));
+		elements.add(typeA.getMethod("create", new String[0]));
+		elements.add(typeB);
+		elements.add(typeB.getMethod("use", new String[] { "QA;" }));
+		fResolver.request(elements);
+
+		for (IJavaElement element : elements) {
+			long expected= countReferences(element);
+			assertEquals(element.getElementName(), expected, getReferenceCount(element));
+		}
+		assertEquals(3, getReferenceCount(typeA.getField("count")));
+		assertEquals(3, getReferenceCount(typeA.getMethod("run", new String[0])));
+		assertEquals(2, getReferenceCount(typeA.getMethod("run", new String[] { "I" })));
+		assertEquals(0, getReferenceCount(typeB));
+	}
+
+	@Test
+	public void testReconcileKeepsCountsOfOtherUnits() throws Exception {
+		String a= "package p;\n" +
+				"public class A {\n" +
+				"	public void run() {}\n" +
+				"}\n";
+		String b= "package p;\n" +
+				"public class B {\n" +
+				"	void use(A a) {\n" +
+				"		a.run();\n" +
+				"	}\n" +
+				"}\n";
+		IType typeA= fPackage.createCompilationUnit("A.java", a, true, null).getType("A");
+		ICompilationUnit unitB= fPackage.createCompilationUnit("B.java", b, true, null);
+		unitB.becomeWorkingCopy(null);
+		waitForAutoBuild();
+		try {
+			IMethod run= typeA.getMethod("run", new String[0]);
+			IMethod use= unitB.getType("B").getMethod("use", new String[] { "QA;" });
+			assertEquals(1, getReferenceCount(run));
+			assertEquals(0, getReferenceCount(use));
+			Object runBefore= fResolver.getReferenceCount(run);
+			Object useBefore= fResolver.getReferenceCount(use);
+
+			IBuffer buffer= unitB.getBuffer();
+			buffer.replace(buffer.getContents().lastIndexOf('}'), 0, "	void other() {}\n");
+			unitB.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			assertSame(runBefore, fResolver.getReferenceCount(run));
+			assertNotSame(useBefore, fResolver.getReferenceCount(use));
+			assertEquals(0, getReferenceCount(use));
+		} finally {
+			unitB.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testReconcileDiscardsCountsOfReconciledUnit() throws Exception {
+		String a= "package p;\n" +
+				"public class A {\n" +
+				"	public void run() {}\n" +
+				"	void self() {\n" +
+				"		run();\n" +
+				"	}\n" +
+				"}\n";
+		ICompilationUnit unitA= fPackage.createCompilationUnit("A.java", a, true, null);
+		unitA.becomeWorkingCopy(null);
+		waitForAutoBuild();
+		try {
+			IMethod run= unitA.getType("A").getMethod("run", new String[0]);
+			assertEquals(1, getReferenceCount(run));
+			Object before= fResolver.getReferenceCount(run);
+
+			IBuffer buffer= unitA.getBuffer();
+			buffer.replace(buffer.getContents().lastIndexOf('}'), 0, "	void again() {\n		run();\n	}\n");
+			unitA.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			assertNotSame(before, fResolver.getReferenceCount(run));
+			assertEquals(2, getReferenceCount(run));
+		} finally {
+			unitA.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testImplementationCounts() throws Exception {
+		String shape= "package p;\n" +
+				"public interface Shape {\n" +
+				"	double area();\n" +
+				"}\n";
+		String shapes= "package p;\n" +
+				"class Circle implements Shape {\n" +
+				"	public double area() { return 3; }\n" +
+				"}\n" +
+				"class Square implements Shape {\n" +
+				"	public double area() { return 4; }\n" +
+				"}\n" +
+				"abstract class Polygon implements Shape {\n" +
+				"}\n" +
+				"class Triangle extends Polygon {\n" +
+				"	public double area() { return 1; }\n" +
+				"}\n";
+		IType typeShape= fPackage.createCompilationUnit("Shape.java", shape, true, null).getType("Shape");
+		fPackage.createCompilationUnit("Shapes.java", shapes, true, null);
+
+		ITypeHierarchy hierarchy= fResolver.getTypeHierarchy(typeShape, new NullProgressMonitor());
+		assertSame(hierarchy, fResolver.getTypeHierarchy(typeShape, new NullProgressMonitor()));
+
+		IType[] subtypes= hierarchy.getAllSubtypes(typeShape);
+		assertEquals(4, subtypes.length);
+		int implementations= 0;
+		for (IType subtype : subtypes) {
+			if (subtype.getMethod("area", new String[0]).exists())
+				implementations++;
+		}
+		assertEquals(3, implementations);
+
+		// a new subtype is found once the Java model has changed
+		fPackage.createCompilationUnit("Hexagon.java", "package p;\nclass Hexagon extends Polygon {\n}\n", true, null);
+		ITypeHierarchy changed= fResolver.getTypeHierarchy(typeShape, new NullProgressMonitor());
+		assertNotSame(hierarchy, changed);
+		assertEquals(5, changed.getAllSubtypes(typeShape).length);
+	}
+
+	/**
+	 * Waits until the build of the created compilation units is done, so that no further Java
+	 * model change clears the caches of the resolver.
+	 */
+	private static void waitForAutoBuild() throws InterruptedException {
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+	}
+
+	private long getReferenceCount(IJavaElement element) throws Exception {
+		return fResolver.getReferenceCount(element).get(20, TimeUnit.SECONDS).longValue();
+	}
+
+	private static long countReferences(IJavaElement element) throws CoreException {
+		long[] count= new long[1];
+		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, SearchEngine.createWorkspaceScope(),
+				new SearchRequestor() {
+					@Override
+					public void acceptSearchMatch(SearchMatch match) {
+						// the sources of the tests compile, all matches are accurate
+						count[0]++;
+					}
+				}, null);
+		return count[0];
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -121,6 +121,113 @@ public class ChainCompletionTest {
 		assertEquals("getBar().getBaz() - 2 elements", proposals.get(0).getDisplayString());
 	}
 
+	@Test
+	public void testMemberAddedAfterCompletion() throws Exception {
+		ICompilationUnit bar= pkg.createCompilationUnit("Bar.java", "package test;\n" +
+				"public class Bar {\n" +
+				"  public Baz getBaz() {\n" +
+				"    return new Baz();\n" +
+				"  }\n" +
+				"}", false, null);
+		pkg.createCompilationUnit("Baz.java", "package test;\n" +
+				"public class Baz {\n" +
+				"}", false, null);
+
+		StringBuffer buf= new StringBuffer();
+		buf.append("package test;\n" +
+				"public class Foo {\n" +
+				"  public Bar getBar() {\n" +
+				"    return new Bar();\n" +
+				"  }\n" +
+				"\n" +
+				"  public void method() {\n" +
+				"    Baz b = $\n" +
+				"  }\n" +
+				"}");
+
+		int completionIndex= getCompletionIndex(buf);
+		ICompilationUnit cu= getCompilationUnit(pkg, buf, "Foo.java");
+
+		List<ICompletionProposal> proposals= computeCompletionProposals(cu, completionIndex);
+		assertEquals(1, proposals.size());
+		assertEquals("getBar().getBaz() - 2 elements", proposals.get(0).getDisplayString());
+
+		bar.getBuffer().setContents("package test;\n" +
+				"public class Bar {\n" +
+				"  public Baz getBaz() {\n" +
+				"    return new Baz();\n" +
+				"  }\n" +
+				"  public Baz getOtherBaz() {\n" +
+				"    return new Baz();\n" +
+				"  }\n" +
+				"}");
+		bar.save(null, true);
+
+		proposals= computeCompletionProposals(cu, completionIndex);
+		assertEquals(2, proposals.size());
+		assertProposalsExist(Arrays.asList("getBar().getBaz() - 2 elements", "getBar().getOtherBaz() - 2 elements"), proposals);
+	}
+
+	@Test
+	public void testMemberAddedToSupertypeInRequiredProject() throws Exception {
+		IJavaProject libProject= JavaProjectHelper.createJavaProject("TestLibProject", "bin");
+		try {
+			JavaProjectHelper.addRTJar18(libProject);
+			IPackageFragment lib= JavaProjectHelper.addSourceContainer(libProject, "src").createPackageFragment("lib", false, null);
+			ICompilationUnit base= lib.createCompilationUnit("Base.java", "package lib;\n" +
+					"public class Base {\n" +
+					"  public Baz getBaz() {\n" +
+					"    return new Baz();\n" +
+					"  }\n" +
+					"}", false, null);
+			lib.createCompilationUnit("Baz.java", "package lib;\n" +
+					"public class Baz {\n" +
+					"}", false, null);
+			JavaProjectHelper.addRequiredProject(fJProject, libProject);
+			pkg.createCompilationUnit("Bar.java", "package test;\n" +
+					"public class Bar extends lib.Base {\n" +
+					"}", false, null);
+
+			StringBuffer buf= new StringBuffer();
+			buf.append("package test;\n" +
+					"import lib.Baz;\n" +
+					"public class Foo {\n" +
+					"  public Bar getBar() {\n" +
+					"    return new Bar();\n" +
+					"  }\n" +
+					"\n" +
+					"  public void method() {\n" +
+					"    Baz b = $\n" +
+					"  }\n" +
+					"}");
+
+			int completionIndex= getCompletionIndex(buf);
+			ICompilationUnit cu= getCompilationUnit(pkg, buf, "Foo.java");
+
+			List<ICompletionProposal> proposals= computeCompletionProposals(cu, completionIndex);
+			assertEquals(1, proposals.size());
+			assertEquals("getBar().getBaz() - 2 elements", proposals.get(0).getDisplayString());
+
+			// the edges of Bar depend on its supertype in the required project
+			base.getBuffer().setContents("package lib;\n" +
+					"public class Base {\n" +
+					"  public Baz getBaz() {\n" +
+					"    return new Baz();\n" +
+					"  }\n" +
+					"  public Baz getOtherBaz() {\n" +
+					"    return new Baz();\n" +
+					"  }\n" +
+					"}");
+			base.save(null, true);
+
+			proposals= computeCompletionProposals(cu, completionIndex);
+			assertEquals(2, proposals.size());
+			assertProposalsExist(Arrays.asList("getBar().getBaz() - 2 elements", "getBar().getOtherBaz() - 2 elements"), proposals);
+		} finally {
+			JavaProjectHelper.delete(libProject);
+		}
+	}
+
 	@Test
 	public void testPrimitiveCompletion() throws Exception {
 		StringBuffer buf= new StringBuffer();
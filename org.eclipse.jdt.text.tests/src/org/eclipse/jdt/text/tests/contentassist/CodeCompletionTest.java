@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.BufferedReader;
@@ -41,11 +42,16 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.testplugin.NullTestUtils;
 import org.eclipse.jdt.testplugin.TestOptions;
 
+import org.eclipse.swt.graphics.Image;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.text.tests.Accessor;
+
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.resource.ImageDescriptor;
 
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
@@ -1087,6 +1093,55 @@ public class CodeCompletionTest extends AbstractCompletionTest {
 		assertEquals(result, doc.get());
 	}
 
+	@Test
+	public void testFieldAndLocalProposalImages() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String contents= "package test1;\n" +
+				"\n" +
+				"public class Completion {\n" +
+				"    int fField;\n" +
+				"    void foomethod() {\n" +
+				"        int fLocal= 0;\n" +
+				"        f//here\n" +
+				"    }\n" +
+				"}\n";
+		ICompilationUnit cu= pack1.createCompilationUnit("Completion.java", contents, false, null);
+
+		int offset= contents.indexOf("//here");
+
+		CompletionProposalCollector collector= createCollector(cu, offset);
+		codeComplete(cu, offset, collector);
+
+		IJavaCompletionProposal field= null;
+		IJavaCompletionProposal local= null;
+		for (IJavaCompletionProposal p : collector.getJavaCompletionProposals()) {
+			if (p.getDisplayString().startsWith("fField"))
+				field= p;
+			else if (p.getDisplayString().startsWith("fLocal"))
+				local= p;
+		}
+		assertNotNull("no proposal for fField", field);
+		assertNotNull("no proposal for fLocal", local);
+		// the images are created when they are requested
+		assertImageCreatedLazily(field);
+		assertImageCreatedLazily(local);
+	}
+
+	private static void assertImageCreatedLazily(IJavaCompletionProposal proposal) {
+		Accessor accessor= new Accessor(proposal, AbstractJavaCompletionProposal.class);
+		ImageDescriptor descriptor= (ImageDescriptor) accessor.get("fImageDescriptor");
+		assertNotNull("no image descriptor for " + proposal.getDisplayString(), descriptor);
+		assertNull("image created before it was requested", accessor.get("fImage"));
+
+		Image image= proposal.getImage();
+		assertNotNull(image);
+		assertSame(JavaPlugin.getImageDescriptorRegistry().get(descriptor), image);
+		assertNull(accessor.get("fImageDescriptor"));
+		assertSame(image, proposal.getImage());
+	}
+
 	private CompletionProposalCollector createCollector(ICompilationUnit cu, int offset) throws PartInitException, JavaModelException {
 		CompletionProposalCollector collector= new CompletionProposalCollector(cu);
 		collector.setInvocationContext(createContext(offset, cu));
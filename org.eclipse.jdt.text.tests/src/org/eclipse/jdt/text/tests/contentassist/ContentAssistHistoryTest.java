@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,12 @@
 package org.eclipse.jdt.text.tests.contentassist;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +27,7 @@ import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import org.eclipse.core.runtime.Preferences;
 
@@ -56,6 +60,9 @@ public class ContentAssistHistoryTest {
 	private static IType fgArrayListT;
 	private static IType fgLinkedListT;
 
+	@Rule
+	public TemporaryFolder fTemporaryFolder= new TemporaryFolder();
+
 	@Rule
 	public ProjectTestSetup pts= new ProjectTestSetup() {
 			/*
@@ -243,6 +250,50 @@ public class ContentAssistHistoryTest {
 		assertEqualMap(map(LIST, list(ARRAY_LIST), COLLECTION, list(ARRAY_LIST), ITERABLE, list(ARRAY_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
 	}
 
+	@Test
+	public void testLoadStoreFile() throws Exception {
+		ContentAssistHistory history= new ContentAssistHistory();
+
+		history.remember(fgListT, fgArrayListT);
+		history.remember(fgListT, fgLinkedListT);
+		history.remember(fgCharSequenceT, fgStringT);
+
+		File file= fTemporaryFolder.newFile("history.dat");
+		ContentAssistHistory.store(history, file);
+		ContentAssistHistory loaded= ContentAssistHistory.load(file);
+
+		assertEqualMap(map(LIST, list(ARRAY_LIST, LINKED_LIST), COLLECTION, list(ARRAY_LIST, LINKED_LIST), ITERABLE, list(ARRAY_LIST, LINKED_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
+	}
+
+	@Test
+	public void testFlush() throws Exception {
+		File file= new File(fTemporaryFolder.getRoot(), "history.dat");
+		ContentAssistHistory history= new ContentAssistHistory();
+		history.setFile(file);
+
+		history.flush();
+		assertNull(ContentAssistHistory.load(file));
+
+		history.remember(fgListT, fgArrayListT);
+		history.flush();
+		history.setFile(null);
+
+		assertEqualMap(map(LIST, list(ARRAY_LIST), COLLECTION, list(ARRAY_LIST), ITERABLE, list(ARRAY_LIST)), ContentAssistHistory.load(file).getEntireHistory());
+	}
+
+	@Test
+	public void testSharedHistory() {
+		ContentAssistHistory history= new ContentAssistHistory();
+		history.remember(fgListT, fgArrayListT);
+
+		RHSHistory rhsHistory= history.getHistory(LIST);
+		assertSame(rhsHistory, history.getHistory(LIST));
+
+		history.remember(fgListT, fgLinkedListT);
+		assertEquals(list(ARRAY_LIST), rhsHistory.getTypes());
+		assertEquals(list(ARRAY_LIST, LINKED_LIST), history.getHistory(LIST).getTypes());
+	}
+
 	private static void assertEqualMap(Map<String, List<String>> expected, Map<String, RHSHistory> actual) {
 		assertEqualMap("", expected, actual);
 	}
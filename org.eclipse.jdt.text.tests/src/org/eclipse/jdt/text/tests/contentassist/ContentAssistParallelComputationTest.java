@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.contentassist.ContentAssistant;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.java.CompletionProposalComputerRegistry;
+import org.eclipse.jdt.internal.ui.text.java.ContentAssistProcessor;
+import org.eclipse.jdt.internal.ui.text.java.JavaCompletionProcessor;
+
+/**
+ * Tests that the proposal categories computing in parallel outside of the UI thread return the
+ * same proposals as the sequential computation, and that a category which does not return in
+ * time neither delays nor blocks the following invocations.
+ */
+public class ContentAssistParallelComputationTest {
+
+	private static final String SOURCE= "package test1;\n" +
+			"public class Blah {\n" +
+			"	// " + SlowCompletionProposalComputer.CONTENT_TRIGGER_STRING + "\n" +
+			"	void m() {\n" +
+			"		Str\n" +
+			"	}\n" +
+			"}\n";
+
+	private IJavaProject fProject;
+
+	private JavaEditor fEditor;
+
+	private JavaCompletionProcessor fProcessor;
+
+	private long fBudget= 60000;
+
+	private int fOffset;
+
+	@Before
+	public void setUp() throws Exception {
+		JavaPlugin.getDefault().getPreferenceStore().setValue(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION, true);
+		fProject= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fProject, "src");
+		IPackageFragment pack= sourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit cu= pack.createCompilationUnit("Blah.java", SOURCE, true, new NullProgressMonitor());
+		fEditor= (JavaEditor) JavaUI.openInEditor(cu);
+		fOffset= SOURCE.indexOf("Str\n") + 3;
+		ContentAssistant assistant= new ContentAssistant();
+		assistant.setDocumentPartitioning(IJavaPartitions.JAVA_PARTITIONING);
+		fProcessor= new JavaCompletionProcessor(fEditor, assistant, IDocument.DEFAULT_CONTENT_TYPE) {
+			@Override
+			protected long getComputationBudget() {
+				return fBudget;
+			}
+		};
+		SlowCompletionProposalComputer.reset();
+		suppressCancellationReport();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		release();
+		JavaPlugin.getDefault().getPreferenceStore().setToDefault(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION);
+		EditorTestHelper.closeAllEditors();
+		JavaProjectHelper.delete(fProject);
+	}
+
+	/**
+	 * The first cancellation of a computer is reported in a dialog, which would block the tests.
+	 */
+	private static void suppressCancellationReport() {
+		List<?> descriptors= (List<?>) new Accessor(CompletionProposalComputerRegistry.getDefault(), CompletionProposalComputerRegistry.class).get("fDescriptors");
+		for (Object descriptor : descriptors) {
+			Accessor accessor= new Accessor(descriptor, descriptor.getClass());
+			if (SlowCompletionProposalComputer.ID.equals(accessor.get("fId")))
+				accessor.set("fIsCancellationReported", true);
+		}
+	}
+
+	@Test
+	public void testProposalOrder() throws Exception {
+		// computed sequentially in the UI thread
+		List<String> sequential= toDisplayStrings(fProcessor.computeCompletionProposals(fEditor.getViewer(), fOffset));
+		assertTrue(sequential.contains(SlowCompletionProposalComputer.CONTENT_TRIGGER_STRING));
+		assertTrue(sequential.size() > 1);
+
+		List<String> parallel= computeInBackground();
+		Thread thread= SlowCompletionProposalComputer.getLastThread();
+		assertNotSame(Display.getDefault().getThread(), thread);
+		assertEquals("Java Content Assist", thread.getName());
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void testComputationCancelled() throws Exception {
+		List<String> expected= computeInBackground();
+		expected.remove(SlowCompletionProposalComputer.CONTENT_TRIGGER_STRING);
+
+		fBudget= 1000;
+		SlowCompletionProposalComputer.block();
+		long start= System.currentTimeMillis();
+		List<String> proposals= computeInBackground();
+		long duration= System.currentTimeMillis() - start;
+		assertTrue("Waited for " + duration + " ms", duration < 15000);
+		assertEquals(expected, proposals);
+		assertNull(fProcessor.getErrorMessage());
+
+		release();
+		assertTrue("Monitor not cancelled", SlowCompletionProposalComputer.isLastCanceled());
+	}
+
+	@Test
+	public void testSlowComputerDoesNotBlockNextInvocation() throws Exception {
+		fBudget= 2000;
+		SlowCompletionProposalComputer.block();
+		List<String> first= computeInBackground();
+		assertFalse(first.contains(SlowCompletionProposalComputer.CONTENT_TRIGGER_STRING));
+		assertEquals(1, SlowCompletionProposalComputer.getInvocations());
+
+		// the category is still computing and is not asked again
+		long start= System.currentTimeMillis();
+		List<String> second= computeInBackground();
+		long duration= System.currentTimeMillis() - start;
+		assertTrue("Waited for " + duration + " ms", duration < fBudget);
+		assertEquals(first, second);
+		assertEquals(1, SlowCompletionProposalComputer.getInvocations());
+
+		// once it has returned, it computes proposals again
+		release();
+		List<String> third= computeInBackground();
+		assertTrue(third.contains(SlowCompletionProposalComputer.CONTENT_TRIGGER_STRING));
+		assertEquals(2, SlowCompletionProposalComputer.getInvocations());
+	}
+
+	/**
+	 * Releases the blocked computer and waits until its category is no longer computing.
+	 *
+	 * @throws Exception if the category does not return
+	 */
+	private static void release() throws Exception {
+		assertTrue(SlowCompletionProposalComputer.release());
+		Set<?> computing= (Set<?>) new Accessor(null, ContentAssistProcessor.class).get("COMPUTING_CATEGORIES");
+		for (int i= 0; i < 100 && !computing.isEmpty(); i++)
+			Thread.sleep(50);
+		assertTrue("Category still computing", computing.isEmpty());
+	}
+
+	private List<String> computeInBackground() throws Exception {
+		AtomicReference<ICompletionProposal[]> result= new AtomicReference<>();
+		AtomicReference<Throwable> exception= new AtomicReference<>();
+		Thread thread= new Thread(() -> {
+			try {
+				result.set(fProcessor.computeCompletionProposals(fEditor.getViewer(), fOffset));
+			} catch (Throwable e) {
+				exception.set(e);
+			}
+		});
+		thread.start();
+		thread.join();
+		if (exception.get() != null)
+			throw new AssertionError(exception.get());
+		assertNotNull(result.get());
+		return toDisplayStrings(result.get());
+	}
+
+	private static List<String> toDisplayStrings(ICompletionProposal[] proposals) {
+		List<String> strings= new ArrayList<>(proposals.length);
+		for (ICompletionProposal proposal : proposals)
+			strings.add(proposal.getDisplayString());
+		return strings;
+	}
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.CompletionContext;
+import org.eclipse.jdt.core.CompletionProposal;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.text.java.CompletionProposalCollector;
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
+
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+
+/**
+ * Tests that the core context of a content assist invocation is computed by running code
+ * completion once, also when the proposal computers ask for it concurrently.
+ */
+public class JavaContentAssistInvocationContextTest {
+
+	private static final String SOURCE= "package test1;\n" +
+			"public class Blah {\n" +
+			"	void m() {\n" +
+			"		String s= Str\n" +
+			"	}\n" +
+			"}\n";
+
+	private IJavaProject fProject;
+
+	private ICompilationUnit fUnit;
+
+	private JavaEditor fEditor;
+
+	private int fOffset;
+
+	private final AtomicInteger fCodeCompletions= new AtomicInteger();
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fProject, "src");
+		IPackageFragment pack= sourceFolder.createPackageFragment("test1", false, null);
+		fUnit= pack.createCompilationUnit("Blah.java", SOURCE, true, new NullProgressMonitor());
+		fEditor= (JavaEditor) JavaUI.openInEditor(fUnit);
+		fOffset= SOURCE.indexOf("Str\n") + 3;
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		EditorTestHelper.closeAllEditors();
+		JavaProjectHelper.delete(fProject);
+	}
+
+	/**
+	 * Creates a context whose compilation unit counts the code completions and runs the given
+	 * action while code completion runs.
+	 *
+	 * @param duringCodeComplete the action
+	 * @return the context
+	 */
+	private JavaContentAssistInvocationContext createContext(Runnable duringCodeComplete) {
+		ICompilationUnit unit= (ICompilationUnit) Proxy.newProxyInstance(ICompilationUnit.class.getClassLoader(), new Class<?>[] { ICompilationUnit.class }, (proxy, method, args) -> {
+			if ("codeComplete".equals(method.getName())) {
+				fCodeCompletions.incrementAndGet();
+				duringCodeComplete.run();
+			}
+			try {
+				return method.invoke(fUnit, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		});
+		return new JavaContentAssistInvocationContext(fEditor.getViewer(), fOffset, fEditor) {
+			@Override
+			public ICompilationUnit getCompilationUnit() {
+				return unit;
+			}
+		};
+	}
+
+	@Test
+	public void testCodeCompleteRunsOnce() throws Exception {
+		JavaContentAssistInvocationContext context= createContext(() -> {
+			try {
+				// the other threads ask for the core context meanwhile
+				Thread.sleep(500);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		CountDownLatch start= new CountDownLatch(1);
+		List<CompletableFuture<CompletionContext>> results= new ArrayList<>();
+		for (int i= 0; i < 4; i++) {
+			boolean keywordsFirst= i % 2 == 0;
+			results.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				if (keywordsFirst)
+					assertNotNull(context.getKeywordProposals());
+				CompletionContext coreContext= context.getCoreContext();
+				context.getExpectedType();
+				return coreContext;
+			}));
+		}
+		start.countDown();
+
+		CompletionContext coreContext= results.get(0).get(20, TimeUnit.SECONDS);
+		assertNotNull(coreContext);
+		for (CompletableFuture<CompletionContext> result : results)
+			assertSame(coreContext, result.get(20, TimeUnit.SECONDS));
+		assertNotNull(context.getKeywordProposals());
+		assertEquals("String", context.getExpectedType().getElementName());
+		assertEquals(1, fCodeCompletions.get());
+	}
+
+	@Test
+	public void testCodeCompleteRunsOutsideOfLock() throws Exception {
+		AtomicReference<JavaContentAssistInvocationContext> context= new AtomicReference<>();
+		AtomicReference<Throwable> blocked= new AtomicReference<>();
+		context.set(createContext(() -> {
+			try {
+				// would time out if code completion ran while the context is locked
+				assertNotNull(CompletableFuture.supplyAsync(() -> context.get().getLabelProvider()).get(10, TimeUnit.SECONDS));
+				assertNotNull(CompletableFuture.supplyAsync(() -> context.get().getCompilationUnit()).get(10, TimeUnit.SECONDS));
+			} catch (Throwable e) {
+				blocked.set(e);
+			}
+		}));
+
+		assertNotNull(context.get().getCoreContext());
+		if (blocked.get() != null)
+			throw new AssertionError(blocked.get());
+		assertEquals(1, fCodeCompletions.get());
+	}
+
+	@Test
+	public void testContextOfCollectorUsed() throws Exception {
+		JavaContentAssistInvocationContext context= createContext(() -> {
+			// nothing to do
+		});
+		CompletionProposalCollector collector= new CompletionProposalCollector(fUnit);
+		collector.setIgnored(CompletionProposal.KEYWORD, false);
+		collector.setInvocationContext(context);
+		fUnit.codeComplete(fOffset, collector, new NullProgressMonitor());
+
+		assertSame(collector.getContext(), context.getCoreContext());
+		assertNotNull(context.getKeywordProposals());
+		assertEquals(0, fCodeCompletions.get());
+	}
+}
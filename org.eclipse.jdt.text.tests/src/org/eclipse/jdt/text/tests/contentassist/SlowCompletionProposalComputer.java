@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.text.contentassist.CompletionProposal;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.contentassist.IContextInformation;
+
+import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
+
+/**
+ * A computer in a category of its own that can be blocked and then ignores the cancellation of
+ * its progress monitor until it is released.
+ */
+public class SlowCompletionProposalComputer implements IJavaCompletionProposalComputer {
+
+	public static final String ID= "org.eclipse.jdt.text.tests.SlowCompletionProposalComputer";
+
+	public static final String CONTENT_TRIGGER_STRING= "slowCompletion";
+
+	private static final AtomicInteger fgInvocations= new AtomicInteger();
+
+	private static volatile CountDownLatch fgBlocker;
+
+	private static volatile CountDownLatch fgFinished= new CountDownLatch(0);
+
+	private static volatile Thread fgLastThread;
+
+	private static volatile boolean fgLastCanceled;
+
+	/**
+	 * Blocks the computations started from now on until {@link #release()} is called.
+	 */
+	public static void block() {
+		fgBlocker= new CountDownLatch(1);
+		fgFinished= new CountDownLatch(1);
+	}
+
+	/**
+	 * Releases the blocked computations and waits until they have returned.
+	 *
+	 * @return <code>true</code> if the computations returned in time
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public static boolean release() throws InterruptedException {
+		CountDownLatch blocker= fgBlocker;
+		fgBlocker= null;
+		if (blocker != null)
+			blocker.countDown();
+		return fgFinished.await(20, TimeUnit.SECONDS);
+	}
+
+	public static void reset() {
+		fgInvocations.set(0);
+		fgLastThread= null;
+		fgLastCanceled= false;
+	}
+
+	public static int getInvocations() {
+		return fgInvocations.get();
+	}
+
+	public static Thread getLastThread() {
+		return fgLastThread;
+	}
+
+	public static boolean isLastCanceled() {
+		return fgLastCanceled;
+	}
+
+	@Override
+	public void sessionStarted() {
+	}
+
+	@Override
+	public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		if (!context.getDocument().get().contains(CONTENT_TRIGGER_STRING))
+			return Collections.emptyList();
+
+		fgInvocations.incrementAndGet();
+		fgLastThread= Thread.currentThread();
+		CountDownLatch blocker= fgBlocker;
+		if (blocker != null) {
+			try {
+				// ignores the cancellation
+				blocker.await(20, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			fgLastCanceled= monitor.isCanceled();
+			fgFinished.countDown();
+		}
+		return Collections.singletonList(new CompletionProposal(CONTENT_TRIGGER_STRING, context.getInvocationOffset(), 0, 0, null, CONTENT_TRIGGER_STRING, null, null));
+	}
+
+	@Override
+	public List<IContextInformation> computeContextInformation(ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String getErrorMessage() {
+		return null;
+	}
+
+	@Override
+	public void sessionEnded() {
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlighting;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticToken;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticTokenClassifier;
+
+
+/**
+ * Measures the time to classify the names of a large compilation unit by the semantic
+ * highlightings, with the dispatch table of {@link SemanticTokenClassifier} and with a linear
+ * scan over all semantic highlightings.
+ *
+ * @since 3.26
+ */
+public class SemanticTokenClassificationTest extends TextPerformanceTestCase {
+
+	private static final Class<SemanticTokenClassificationTest> THIS= SemanticTokenClassificationTest.class;
+
+	private static final String FILE= PerformanceTestSetup.STYLED_TEXT;
+
+	private static final int WARM_UP_RUNS= 5;
+
+	private static final int MEASURED_RUNS= 50;
+
+	private SemanticHighlighting[] fSemanticHighlightings;
+
+	private boolean[] fEnabled;
+
+	private List<SimpleName> fNames;
+
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+
+		fSemanticHighlightings= SemanticHighlightings.getSemanticHighlightings();
+		// all enabled is the worst case for both the table and the linear scan
+		fEnabled= new boolean[fSemanticHighlightings.length];
+		Arrays.fill(fEnabled, true);
+
+		IFile file= ResourceTestHelper.findFile(FILE);
+		ICompilationUnit unit= JavaCore.createCompilationUnitFrom(file);
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource(unit);
+		parser.setResolveBindings(true);
+		parser.setStatementsRecovery(IASTSharedValues.SHARED_AST_STATEMENT_RECOVERY);
+		parser.setBindingsRecovery(IASTSharedValues.SHARED_BINDING_RECOVERY);
+		CompilationUnit root= (CompilationUnit) parser.createAST(null);
+
+		fNames= new ArrayList<>();
+		root.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(SimpleName node) {
+				fNames.add(node);
+				return false;
+			}
+		});
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		fNames= null;
+	}
+
+	public void testDispatchTable() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), true, true);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Java Editor: Semantic token classification");
+		measure(performanceMeter, getMeasuredRuns(), true, false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testLinearScan() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), false, true);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Java Editor: Semantic token classification (linear scan)");
+		measure(performanceMeter, getMeasuredRuns(), false, false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	/**
+	 * Both ways have to agree on every name of the compilation unit.
+	 */
+	public void testSameClassification() throws Exception {
+		SemanticTokenClassifier classifier= new SemanticTokenClassifier(fSemanticHighlightings, fEnabled);
+		SemanticToken token= new SemanticToken();
+		for (SimpleName name : fNames) {
+			token.update(name);
+			assertEquals(ASTResolving.getFullName(name), classifyLinear(token), classifier.classify(token));
+			token.clear();
+		}
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, boolean dispatchTable, boolean printDebugInfo) {
+		SemanticToken token= new SemanticToken();
+		for (int i= 0; i < runs; i++) {
+			int classified= 0;
+			performanceMeter.start();
+			// the classifier is created once per reconcile, so it is part of the measurement
+			SemanticTokenClassifier classifier= dispatchTable ? new SemanticTokenClassifier(fSemanticHighlightings, fEnabled) : null;
+			for (SimpleName name : fNames) {
+				token.update(name);
+				int index= dispatchTable ? classifier.classify(token) : classifyLinear(token);
+				if (index != -1)
+					classified++;
+				token.clear();
+			}
+			performanceMeter.stop();
+			if (printDebugInfo && i == 0)
+				System.out.println("No of classified names : " + classified + " of " + fNames.size());
+		}
+	}
+
+	private int classifyLinear(SemanticToken token) {
+		for (int i= 0; i < fSemanticHighlightings.length; i++) {
+			if (fEnabled[i] && fSemanticHighlightings[i].consumes(token))
+				return i;
+		}
+		return -1;
+	}
+}
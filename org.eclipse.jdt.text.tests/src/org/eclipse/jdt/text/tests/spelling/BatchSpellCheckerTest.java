@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.content.IContentType;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
+
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertiesFileDocumentSetupParticipant;
+import org.eclipse.jdt.internal.ui.text.spelling.BatchSpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.DefaultSpellingEngine;
+
+/**
+ * Tests that checking documents concurrently finds the same problems as checking them
+ * one after the other.
+ */
+public class BatchSpellCheckerTest {
+
+	private static final int JAVA_DOCUMENTS= 40;
+
+	private static final int PROPERTIES_DOCUMENTS= 10;
+
+	private static final int PARALLELISM= 4;
+
+	private static final String[] MISSPELLED= { "recieve", "seperate", "occurence", "definately", "accomodate" };
+
+	private final IPreferenceStore fStore= PreferenceConstants.getPreferenceStore();
+
+	private String fLocale;
+
+	private List<IDocument> fJavaDocuments;
+
+	private List<IDocument> fPropertiesDocuments;
+
+	@Before
+	public void setUp() {
+		fLocale= fStore.getString(PreferenceConstants.SPELLING_LOCALE);
+		fStore.setValue(PreferenceConstants.SPELLING_LOCALE, "en_US");
+
+		fJavaDocuments= new ArrayList<>();
+		for (int i= 0; i < JAVA_DOCUMENTS; i++) {
+			IDocument document= new Document(createJavaSource(i));
+			JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+			fJavaDocuments.add(document);
+		}
+		fPropertiesDocuments= new ArrayList<>();
+		for (int i= 0; i < PROPERTIES_DOCUMENTS; i++) {
+			IDocument document= new Document(createProperties(i));
+			PropertiesFileDocumentSetupParticipant.setupDocument(document);
+			fPropertiesDocuments.add(document);
+		}
+	}
+
+	@After
+	public void tearDown() {
+		fStore.setValue(PreferenceConstants.SPELLING_LOCALE, fLocale);
+	}
+
+	@Test
+	public void testConcurrentEqualsSequential() {
+		BatchSpellChecker.Report expected= check(1);
+		assertTrue("No spelling problems found", expected.getProblemCount() > 0);
+
+		for (int run= 0; run < 3; run++) {
+			BatchSpellChecker.Report actual= check(PARALLELISM);
+			assertEquals(expected.getDocumentCount(), actual.getDocumentCount());
+			assertEquals(expected.getProblemCount(), actual.getProblemCount());
+			for (int i= 0; i < expected.getDocumentCount(); i++) {
+				assertSame(expected.getDocument(i), actual.getDocument(i));
+				assertEqualProblems(i, expected.getProblems(i), actual.getProblems(i));
+			}
+		}
+	}
+
+	private BatchSpellChecker.Report check(int parallelism) {
+		IContentType javaContentType= Platform.getContentTypeManager().getContentType(JavaCore.JAVA_SOURCE_CONTENT_TYPE);
+		IContentType propertiesContentType= Platform.getContentTypeManager().getContentType("org.eclipse.jdt.core.javaProperties");
+		BatchSpellChecker checker= new BatchSpellChecker(new DefaultSpellingEngine(), parallelism);
+		for (IDocument document : fJavaDocuments)
+			checker.add(document, javaContentType);
+		for (IDocument document : fPropertiesDocuments)
+			checker.add(document, propertiesContentType);
+		return checker.check(null);
+	}
+
+	private static void assertEqualProblems(int document, SpellingProblem[] expected, SpellingProblem[] actual) {
+		assertEquals("Wrong number of problems in document " + document, expected.length, actual.length);
+		for (int i= 0; i < expected.length; i++) {
+			String message= "Problem " + i + " of document " + document;
+			assertEquals(message, expected[i].getOffset(), actual[i].getOffset());
+			assertEquals(message, expected[i].getLength(), actual[i].getLength());
+			assertEquals(message, expected[i].getMessage(), actual[i].getMessage());
+		}
+	}
+
+	private static String createJavaSource(int index) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.eclipse.example.pack").append(index % 10).append(";\n\n");
+		buf.append("/**\n * This class has been generated to test the spell checker.\n */\n");
+		buf.append("public class Generated").append(index).append(" {\n");
+		for (int member= 0; member < 10; member++) {
+			buf.append("\t/**\n\t * Returns the value of the field number ").append(member).append(". Callers should ");
+			buf.append(MISSPELLED[(index + member) % MISSPELLED.length]).append(" the value only once.\n\t */\n");
+			buf.append("\tpublic String getValue").append(member).append("() {\n");
+			buf.append("\t\t// compute the value lazily and ").append(MISSPELLED[member % MISSPELLED.length]).append(" it\n");
+			buf.append("\t\treturn \"the value of the field\";\n\t}\n\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	private static String createProperties(int index) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("# Messages of the generated bundle number ").append(index).append('\n');
+		for (int key= 0; key < 20; key++) {
+			buf.append("Generated_message").append(key).append("=The operation could not ");
+			buf.append(MISSPELLED[(index + key) % MISSPELLED.length]).append(" the file {0}.\n");
+		}
+		return buf.toString();
+	}
+}
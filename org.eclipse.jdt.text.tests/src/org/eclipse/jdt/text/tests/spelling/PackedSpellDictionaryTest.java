@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.PackedSpellDictionary;
+
+public class PackedSpellDictionaryTest {
+
+	private final IPreferenceStore fPreferences= PreferenceConstants.getPreferenceStore();
+
+	private File fFile;
+
+	private PackedSpellDictionary fDictionary;
+
+	@Before
+	public void setUp() throws IOException {
+		fPreferences.setValue(PreferenceConstants.SPELLING_USER_DICTIONARY_ENCODING, StandardCharsets.UTF_8.name());
+		fFile= File.createTempFile("words", ".dictionary");
+		fDictionary= new PackedSpellDictionary() {
+			@Override
+			protected URL getURL() throws MalformedURLException {
+				return fFile.toURI().toURL();
+			}
+
+			@Override
+			protected File getCacheFile(URL url) {
+				return null;
+			}
+		};
+	}
+
+	@After
+	public void tearDown() {
+		fDictionary.unload();
+		fFile.delete();
+		fPreferences.setToDefault(PreferenceConstants.SPELLING_USER_DICTIONARY_ENCODING);
+	}
+
+	private void writeWords(byte[]... lines) throws IOException {
+		try (FileOutputStream out= new FileOutputStream(fFile)) {
+			for (byte[] line : lines) {
+				out.write(line);
+				out.write('\n');
+			}
+		}
+	}
+
+	@Test
+	public void testMalformedLineSkipped() throws IOException {
+		writeWords("sentence".getBytes(StandardCharsets.UTF_8), new byte[] { 'b', (byte) 0xc3, '(' }, "truck".getBytes(StandardCharsets.UTF_8));
+
+		assertTrue(fDictionary.isCorrect("sentence"));
+		assertTrue(fDictionary.isCorrect("truck"));
+		assertFalse(fDictionary.isCorrect("b\ufffd("));
+		assertFalse(fDictionary.isCorrect("b"));
+	}
+
+	@Test
+	public void testStripNonLetters() throws IOException {
+		writeWords("sentence".getBytes(StandardCharsets.UTF_8), "\u00e4rger".getBytes(StandardCharsets.UTF_8));
+
+		assertTrue(fDictionary.isCorrect("(sentence)."));
+		assertTrue(fDictionary.isCorrect("\"\u00e4rger\""));
+		fDictionary.setStripNonLetters(false);
+		assertFalse(fDictionary.isCorrect("(sentence)."));
+		assertTrue(fDictionary.isCorrect("sentence"));
+	}
+}
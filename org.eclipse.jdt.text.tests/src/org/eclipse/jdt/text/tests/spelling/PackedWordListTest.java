@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultPhoneticDistanceAlgorithm;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.PackedWordList;
+
+public class PackedWordListTest {
+
+	private static final List<String> WORDS= Arrays.asList(
+			"sentence", "Sentence", "sentences", "sentinel", "send", "tense", "truck", "Truck", "trucks", "lorry",
+			"global", "globe", "a", "an", "and", "ant", "dictionary", "diction", "friend", "fiend", "field", "send");
+
+	@Test
+	public void testContains() {
+		PackedWordList list= PackedWordList.create(WORDS, 0);
+		assertEquals(21, list.size());
+		for (String word : WORDS)
+			assertTrue(word, list.contains(word));
+		assertFalse(list.contains("sentenc"));
+		assertFalse(list.contains("lorr"));
+		assertFalse(list.contains("zebra"));
+		assertFalse(list.contains(""));
+	}
+
+	@Test
+	public void testSorted() {
+		PackedWordList list= PackedWordList.create(WORDS, 0);
+		for (int i= 1; i < list.size(); i++)
+			assertTrue(list.get(i - 1).compareTo(list.get(i)) < 0);
+	}
+
+	@Test
+	public void testFindWords() {
+		PackedWordList list= PackedWordList.create(WORDS, 0);
+		DefaultPhoneticDistanceAlgorithm algorithm= new DefaultPhoneticDistanceAlgorithm();
+		String[] queries= { "sentense", "Truk", "freind", "dictoinary", "an", "snetence", "x", "globel" };
+		int[] bounds= { 1, 100, 160, 300, 1000 };
+		for (String query : queries) {
+			for (int bound : bounds) {
+				Map<String, Integer> expected= new HashMap<>();
+				for (String word : WORDS) {
+					int distance= algorithm.getDistance(word, query);
+					if (distance < bound)
+						expected.put(word, Integer.valueOf(distance));
+				}
+				Map<String, Integer> actual= new HashMap<>();
+				list.findWords(query, bound, (word, distance) -> assertNull(actual.put(word, Integer.valueOf(distance))));
+				assertEquals(query + " < " + bound, expected, actual);
+			}
+		}
+	}
+
+	@Test
+	public void testWriteAndMap() throws IOException {
+		PackedWordList list= PackedWordList.create(WORDS, 42);
+		File file= File.createTempFile("words", ".bin");
+		try {
+			list.write(file);
+			PackedWordList mapped= PackedWordList.map(file);
+			assertNotNull(mapped);
+			assertEquals(42, mapped.getStamp());
+			assertEquals(list.size(), mapped.size());
+			for (int i= 0; i < list.size(); i++)
+				assertEquals(list.get(i), mapped.get(i));
+			assertTrue(mapped.contains("sentinel"));
+			assertFalse(mapped.contains("sentinels"));
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testMapInvalidFile() throws IOException {
+		File file= File.createTempFile("words", ".bin");
+		try {
+			try (FileOutputStream out= new FileOutputStream(file)) {
+				out.write(new byte[64]);
+			}
+			assertNull(PackedWordList.map(file));
+		} finally {
+			file.delete();
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.content.IContentType;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertiesFileDocumentSetupParticipant;
+import org.eclipse.jdt.internal.ui.text.spelling.BatchSpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.DefaultSpellingEngine;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures spell checking the comments of many Java files and the values of many
+ * properties files, sequentially and concurrently.
+ */
+public class BatchSpellCheckPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int JAVA_DOCUMENTS= 400;
+
+	private static final int PROPERTIES_DOCUMENTS= 100;
+
+	private static final int MEMBERS= 40;
+
+	private static final String[] MISSPELLED= { "recieve", "seperate", "occurence", "definately", "accomodate" };
+
+	private final IPreferenceStore fStore= PreferenceConstants.getPreferenceStore();
+
+	private String fLocale;
+
+	private List<IDocument> fJavaDocuments;
+
+	private List<IDocument> fPropertiesDocuments;
+
+	@Before
+	public void createDocuments() {
+		fLocale= fStore.getString(PreferenceConstants.SPELLING_LOCALE);
+		fStore.setValue(PreferenceConstants.SPELLING_LOCALE, "en_US");
+
+		fJavaDocuments= new ArrayList<>();
+		for (int i= 0; i < JAVA_DOCUMENTS; i++) {
+			IDocument document= new Document(createJavaSource(i));
+			JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+			fJavaDocuments.add(document);
+		}
+		fPropertiesDocuments= new ArrayList<>();
+		for (int i= 0; i < PROPERTIES_DOCUMENTS; i++) {
+			IDocument document= new Document(createProperties(i));
+			PropertiesFileDocumentSetupParticipant.setupDocument(document);
+			fPropertiesDocuments.add(document);
+		}
+	}
+
+	@After
+	public void restoreLocale() {
+		fStore.setValue(PreferenceConstants.SPELLING_LOCALE, fLocale);
+	}
+
+	@Test
+	public void testSequential() throws Exception {
+		measure(Performance.getDefault().getNullPerformanceMeter(), 1, 1);
+		measure(fPerformanceMeter, 1, 5);
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	@Test
+	public void testConcurrent() throws Exception {
+		int parallelism= Runtime.getRuntime().availableProcessors();
+		measure(Performance.getDefault().getNullPerformanceMeter(), parallelism, 1);
+		measure(fPerformanceMeter, parallelism, 5);
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int parallelism, int runs) throws Exception {
+		IContentType javaContentType= Platform.getContentTypeManager().getContentType(JavaCore.JAVA_SOURCE_CONTENT_TYPE);
+		IContentType propertiesContentType= Platform.getContentTypeManager().getContentType("org.eclipse.jdt.core.javaProperties");
+		for (int i= 0; i < runs; i++) {
+			BatchSpellChecker checker= new BatchSpellChecker(new DefaultSpellingEngine(), parallelism);
+			for (IDocument document : fJavaDocuments)
+				checker.add(document, javaContentType);
+			for (IDocument document : fPropertiesDocuments)
+				checker.add(document, propertiesContentType);
+
+			joinBackgroudActivities();
+			performanceMeter.start();
+			BatchSpellChecker.Report report= checker.check(null);
+			performanceMeter.stop();
+			assertEquals(JAVA_DOCUMENTS + PROPERTIES_DOCUMENTS, report.getDocumentCount());
+		}
+	}
+
+	private static String createJavaSource(int index) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.eclipse.example.pack").append(index % 10).append(";\n\n");
+		buf.append("/**\n * This class has been generated to measure the spell checker.\n");
+		buf.append(" * It should not be used for anything else, or it will definitely break.\n */\n");
+		buf.append("public class Generated").append(index).append(" {\n");
+		for (int member= 0; member < MEMBERS; member++) {
+			buf.append("\t/**\n\t * Returns the value of the field number ").append(member).append(", which is computed when the\n");
+			buf.append("\t * method is called for the first time. Callers should ").append(MISSPELLED[member % MISSPELLED.length]);
+			buf.append(" the value only once.\n\t *\n\t * @return the value\n\t */\n");
+			buf.append("\tpublic String getValue").append(member).append("() {\n");
+			buf.append("\t\t// compute the value lazily and remember it for the next call\n");
+			buf.append("\t\treturn \"the value of the field\";\n\t}\n\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	private static String createProperties(int index) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("# Messages of the generated bundle number ").append(index).append('\n');
+		for (int key= 0; key < 4 * MEMBERS; key++) {
+			buf.append("Generated_message").append(key).append("=The operation could not ");
+			buf.append(MISSPELLED[key % MISSPELLED.length]).append(" the file {0} because it has been deleted.\n");
+		}
+		return buf.toString();
+	}
+}
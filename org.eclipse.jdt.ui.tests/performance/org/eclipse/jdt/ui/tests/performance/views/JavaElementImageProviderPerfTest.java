@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementImageProvider;
+
+/**
+ * Measures the throughput of the image labels of Java elements, as computed by the label
+ * providers of the Java views.
+ */
+public class JavaElementImageProviderPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int LABELS= 100000;
+
+	private static class MyTestSetup extends ExternalResource {
+
+		public static IJavaProject fJProject1;
+		public static IPackageFragmentRoot fJRE;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			fJRE= JavaProjectHelper.addRTJar13(fJProject1);
+			assertNotNull("rt not found", fJRE);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testImageLabels() throws Exception {
+		tagAsSummary("Image labels of 100k Java elements", Dimension.ELAPSED_PROCESS);
+
+		List<IJavaElement> elements= collectElements();
+		assertTrue(elements.size() > 1000);
+
+		int flags= JavaElementImageProvider.SMALL_ICONS | JavaElementImageProvider.OVERLAY_ICONS;
+		for (int i= 0; i < 10; i++) {
+			JavaElementImageProvider provider= new JavaElementImageProvider();
+			try {
+				joinBackgroudActivities();
+				startMeasuring();
+				for (int k= 0; k < LABELS; k++) {
+					provider.getImageLabel(elements.get(k % elements.size()), flags);
+				}
+				stopMeasuring();
+			} finally {
+				provider.dispose();
+			}
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static List<IJavaElement> collectElements() throws CoreException {
+		List<IJavaElement> elements= new ArrayList<>();
+		for (IJavaElement child : MyTestSetup.fJRE.getChildren()) {
+			IPackageFragment pack= (IPackageFragment) child;
+			elements.add(pack);
+			for (IClassFile classFile : pack.getClassFiles()) {
+				if (classFile instanceof IOrdinaryClassFile) {
+					IType type= ((IOrdinaryClassFile) classFile).getType();
+					elements.add(type);
+					elements.addAll(Arrays.asList(type.getFields()));
+					elements.addAll(Arrays.asList(type.getMethods()));
+				}
+			}
+		}
+		return elements;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.jdt.ui.tests.performance.views;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.util.zip.ZipFile;
@@ -29,6 +30,7 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.testplugin.JavaTestPlugin;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Path;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -59,6 +61,8 @@ public class PackageExplorerPerfTest extends JdtPerformanceTestCaseCommon {
 
 		public static IJavaProject fJProject1;
 
+		public static IPackageFragmentRoot fLibrary;
+
 		@Override
 		public void before() throws Throwable {
 			fJProject1= JavaProjectHelper.createJavaProject("Testing", "bin");
@@ -66,6 +70,8 @@ public class PackageExplorerPerfTest extends JdtPerformanceTestCaseCommon {
 			assertNotNull("rt not found", JavaProjectHelper.addRTJar13(fJProject1));
 			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
 			JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+			File library= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.RT_STUBS_18);
+			fLibrary= JavaProjectHelper.addLibrary(fJProject1, Path.fromOSString(library.getPath()));
 		}
 		@Override
 		public void after() {
@@ -149,6 +155,32 @@ public class PackageExplorerPerfTest extends JdtPerformanceTestCaseCommon {
 		finishMeasurements();
 	}
 
+	// expanding a large library that is not open yet must not block the UI thread
+	@Test
+	public void testEExpandLibraryCold() throws Exception {
+		IPackageFragmentRoot library= MyTestSetup.fLibrary;
+		TreeViewer viewer= getViewer();
+		library.close();
+		joinBackgroudActivities();
+		startMeasuring();
+		viewer.expandToLevel(library, 1);
+		finishMeasurements();
+		joinBackgroudActivities();
+		assertTrue(library.isOpen());
+	}
+
+	@Test
+	public void testFExpandLibraryWarm() throws Exception {
+		IPackageFragmentRoot library= MyTestSetup.fLibrary;
+		TreeViewer viewer= getViewer();
+		library.open(null);
+		viewer.collapseToLevel(library, 1);
+		joinBackgroudActivities();
+		startMeasuring();
+		viewer.expandToLevel(library, 1);
+		finishMeasurements();
+	}
+
 	private void touchAllFilesOnDisk(IFolder folder) throws CoreException {
 		final long now= System.currentTimeMillis();
 		folder.accept(resource -> {
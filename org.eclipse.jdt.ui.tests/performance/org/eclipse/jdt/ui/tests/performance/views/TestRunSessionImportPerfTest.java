@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.JUnitModel;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures the throughput of importing and exporting test run sessions from
+ * synthetic JUnit XML reports.
+ * <p>
+ * The size of the report in MB can be set with the system property
+ * <code>org.eclipse.jdt.ui.tests.junitReportSize</code>, e.g. to several GB
+ * for a stress test.
+ * </p>
+ */
+public class TestRunSessionImportPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final long REPORT_SIZE= Long.getLong("org.eclipse.jdt.ui.tests.junitReportSize", 64).longValue() * 1024 * 1024;
+
+	private static final int TESTS_PER_SUITE= 500;
+
+	private static File fReport;
+
+	private static File fExport;
+
+	@BeforeClass
+	public static void createReport() throws IOException {
+		fReport= File.createTempFile("junitReport", ".xml");
+		fExport= File.createTempFile("junitExport", ".xml");
+		try (Writer writer= new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fReport), StandardCharsets.UTF_8))) {
+			writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites>\n");
+			long size= 0;
+			for (int suite= 0; size < REPORT_SIZE; suite++) {
+				String className= "org.eclipse.example.pack" + suite % 100 + ".GeneratedTest" + suite;
+				StringBuilder buf= new StringBuilder();
+				buf.append("<testsuite name=\"").append(className).append("\" tests=\"").append(TESTS_PER_SUITE).append("\">\n");
+				for (int test= 0; test < TESTS_PER_SUITE; test++) {
+					buf.append("<testcase classname=\"").append(className).append("\" name=\"test[").append(test).append("]\" time=\"0.001\"");
+					if (test % 50 == 0) {
+						buf.append(">\n<failure>java.lang.AssertionError: expected:&lt;").append(test).append("&gt; but was:&lt;0&gt;\n");
+						for (int frame= 0; frame < 20; frame++) {
+							buf.append("\tat ").append(className).append(".test(GeneratedTest.java:").append(frame + 10).append(")\n");
+						}
+						buf.append("</failure>\n</testcase>\n");
+					} else {
+						buf.append("/>\n");
+					}
+				}
+				buf.append("</testsuite>\n");
+				writer.write(buf.toString());
+				size+= buf.length();
+			}
+			writer.write("</testsuites>\n");
+		}
+	}
+
+	@AfterClass
+	public static void deleteReport() {
+		fReport.delete();
+		fExport.delete();
+	}
+
+	@Test
+	public void testImport() throws Exception {
+		measureImport(Performance.getDefault().getNullPerformanceMeter(), 1);
+		measureImport(fPerformanceMeter, 3);
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	@Test
+	public void testExport() throws Exception {
+		TestRunSession session= JUnitModel.importTestRunSession(fReport);
+		try {
+			measureExport(Performance.getDefault().getNullPerformanceMeter(), session, 1);
+			measureExport(fPerformanceMeter, session, 3);
+			commitMeasurements();
+			Performance.getDefault().assertPerformance(fPerformanceMeter);
+		} finally {
+			JUnitCorePlugin.getModel().removeTestRunSession(session);
+		}
+	}
+
+	private void measureImport(PerformanceMeter performanceMeter, int runs) throws Exception {
+		for (int i= 0; i < runs; i++) {
+			joinBackgroudActivities();
+			performanceMeter.start();
+			TestRunSession session= JUnitModel.importTestRunSession(fReport);
+			performanceMeter.stop();
+			assertTrue(session.getTotalCount() > 0);
+			JUnitCorePlugin.getModel().removeTestRunSession(session);
+		}
+	}
+
+	private void measureExport(PerformanceMeter performanceMeter, TestRunSession session, int runs) throws Exception {
+		for (int i= 0; i < runs; i++) {
+			joinBackgroudActivities();
+			performanceMeter.start();
+			JUnitModel.exportTestRunSession(session, fExport);
+			performanceMeter.stop();
+			assertTrue(fExport.length() > 0);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.tests.RemoteTestRunnerConnection;
+
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Compares the event throughput of the text and the binary protocol of the
+ * remote test runner. Each run sends the events of a suite with many
+ * parameterized tests from a {@link RemoteTestRunner} to a
+ * {@link org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient} over a
+ * local socket, until the client has received the end of the run.
+ */
+public class TestRunnerProtocolPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int TEST_COUNT= 200000;
+
+	private static final String[] MESSAGES= createMessages();
+
+	private static String[] createMessages() {
+		String[] messages= new String[TEST_COUNT * 3];
+		for (int i= 0; i < TEST_COUNT; i++) {
+			String id= String.valueOf(i + 2);
+			String name= "testParameterized[" + i + "](org.eclipse.example.ParameterizedTest)";
+			messages[3 * i]= MessageIds.TEST_TREE + id + ',' + name + ",false,1,false,1," + name + ",,";
+			messages[3 * i + 1]= MessageIds.TEST_START + id + ',' + name;
+			messages[3 * i + 2]= MessageIds.TEST_END + id + ',' + name;
+		}
+		return messages;
+	}
+
+	@Test
+	public void testTextProtocol() throws Exception {
+		measure(Performance.getDefault().getNullPerformanceMeter(), 2, false);
+		measure(fPerformanceMeter, 10, false);
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	@Test
+	public void testBinaryProtocol() throws Exception {
+		measure(Performance.getDefault().getNullPerformanceMeter(), 2, true);
+		measure(fPerformanceMeter, 10, true);
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, boolean binary) throws Exception {
+		for (int j= 0; j < runs; j++) {
+			RemoteTestRunnerConnection connection= new RemoteTestRunnerConnection();
+			try {
+				RemoteTestRunner runner= connection.connectRunner(binary);
+				performanceMeter.start();
+				runner.sendMessage(MessageIds.TEST_RUN_START + TEST_COUNT + " v2");
+				for (int i= 0; i < MESSAGES.length; i++) {
+					runner.sendMessage(MESSAGES[i]);
+					// the runner flushes after the start and the end of a test, but not after tree entries
+					if (i % 3 != 0)
+						runner.flush();
+				}
+				runner.sendMessage(MessageIds.TEST_RUN_END + 0);
+				runner.flush();
+				connection.waitForRunEnded();
+				performanceMeter.stop();
+				assertEquals(binary, connection.isBinaryProtocol());
+				assertEquals(TEST_COUNT, connection.getTreeEntryCount());
+				assertEquals(TEST_COUNT, connection.getEndedTestCount());
+			} finally {
+				connection.close();
+			}
+		}
+	}
+}
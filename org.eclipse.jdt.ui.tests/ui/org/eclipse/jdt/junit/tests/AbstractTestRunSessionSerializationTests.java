@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@
 package org.eclipse.jdt.junit.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -47,7 +48,9 @@ import org.eclipse.jdt.testplugin.util.DisplayHelper;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IFile;
 
@@ -58,6 +61,8 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.ITestRunSessionListener;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 import org.eclipse.jdt.internal.junit.model.TestRunSession;
 import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
@@ -117,6 +122,14 @@ public class AbstractTestRunSessionSerializationTests {
 			// due to lingering TestRunnerViewPart$TestSessionListeners
 			serializationResult.fTestRunSession.swapOut();
 			assertEqualSessions(serializationResult.fTestRunSession, imported);
+
+			TestRunSession importedInBackground= importTestRunSessionInBackground(resultFile.getLocation().toFile(), IStatus.OK);
+			try {
+				assertFalse(importedInBackground.isStopped());
+				assertEqualSessions(serializationResult.fTestRunSession, importedInBackground);
+			} finally {
+				JUnitCorePlugin.getModel().removeTestRunSession(importedInBackground);
+			}
 		} finally {
 			if (resultFile.exists())
 				try {
@@ -127,6 +140,47 @@ public class AbstractTestRunSessionSerializationTests {
 		}
 	}
 
+	/**
+	 * Imports a test run session with {@link JUnitModel#importTestRunSessionInBackground(File)}
+	 * and waits for the import job.
+	 *
+	 * @param file the file to import
+	 * @param expectedSeverity the expected severity of the result of the import job
+	 * @return the session which has been added to the model, the caller has to remove it
+	 */
+	protected static TestRunSession importTestRunSessionInBackground(File file, int expectedSeverity) {
+		final TestRunSession[] added= { null };
+		ITestRunSessionListener listener= new ITestRunSessionListener() {
+			@Override
+			public void sessionAdded(TestRunSession testRunSession) {
+				added[0]= testRunSession;
+			}
+
+			@Override
+			public void sessionRemoved(TestRunSession testRunSession) {
+				// not interested
+			}
+		};
+		JUnitModel model= JUnitCorePlugin.getModel();
+		model.addTestRunSessionListener(listener);
+		try {
+			final Job job= JUnitModel.importTestRunSessionInBackground(file);
+			// listeners of the JUnit view may need the display while the session is imported
+			assertTrue("Import did not finish", new DisplayHelper() {
+				@Override
+				protected boolean condition() {
+					return job.getResult() != null;
+				}
+			}.waitForCondition(Display.getCurrent(), TIMEOUT, 100));
+			assertEquals(expectedSeverity, job.getResult().getSeverity());
+		} finally {
+			model.removeTestRunSessionListener(listener);
+		}
+		assertNotNull("No session added", added[0]);
+		assertFalse(added[0].isRunning());
+		return added[0];
+	}
+
 	private void assertEqualXML(String expected, String actual) {
 		/*
 		 * Strips &#13; and &#10;
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertTrue;
+
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jdt.internal.junit.model.ITestRunListener2;
+import org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+
+import org.eclipse.jdt.launching.SocketUtil;
+
+/**
+ * Connects a {@link RemoteTestRunnerClient} to a {@link RemoteTestRunner} over a local socket
+ * and records the events received by the client. The runner writes its messages with the
+ * writers it uses in a launched test VM.
+ */
+public class RemoteTestRunnerConnection implements ITestRunListener2 {
+
+	/**
+	 * A runner that is connected to the client without running tests.
+	 */
+	private static final class Runner extends RemoteTestRunner {
+
+		Runner(String[] args) {
+			init(args);
+		}
+
+		@Override
+		public boolean connect() {
+			return super.connect();
+		}
+
+		void close() {
+			new Accessor(this, RemoteTestRunner.class).invoke("shutDown", new Object[0]);
+		}
+	}
+
+	private final RemoteTestRunnerClient fClient= new RemoteTestRunnerClient();
+
+	private final int fPort= SocketUtil.findFreePort();
+
+	private Runner fRunner;
+
+	private Socket fSocket;
+
+	private final CountDownLatch fRunEnded= new CountDownLatch(1);
+
+	private final AtomicInteger fTreeEntries= new AtomicInteger();
+
+	private final AtomicInteger fEndedTests= new AtomicInteger();
+
+	private final List<String[]> fFailures= Collections.synchronizedList(new ArrayList<>());
+
+	/**
+	 * Starts the client.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for the client
+	 */
+	public RemoteTestRunnerConnection() throws InterruptedException {
+		fClient.startListening(new ITestRunListener2[] { this }, fPort);
+		// the runner waits two seconds before it tries again to connect
+		Accessor client= new Accessor(fClient, RemoteTestRunnerClient.class);
+		for (int i= 0; i < 100 && client.get("fServerSocket") == null; i++)
+			Thread.sleep(50);
+	}
+
+	/**
+	 * Connects a runner to the client.
+	 *
+	 * @param binary <code>true</code> to request the binary protocol like the launcher does
+	 * @return the runner
+	 */
+	public RemoteTestRunner connectRunner(boolean binary) {
+		List<String> args= new ArrayList<>();
+		Collections.addAll(args, "-classnames", "pack.ATest", "-port", String.valueOf(fPort));
+		if (binary)
+			args.add(MessageIds.BINARY_PROTOCOL_ARGUMENT);
+		fRunner= new Runner(args.toArray(new String[args.size()]));
+		assertTrue(fRunner.connect());
+		return fRunner;
+	}
+
+	/**
+	 * Connects a plain socket to the client, e.g. to send the messages of a runner that
+	 * predates the binary protocol.
+	 *
+	 * @return the socket
+	 * @throws Exception if the socket cannot be connected
+	 */
+	public Socket connectSocket() throws Exception {
+		fSocket= new Socket("localhost", fPort);
+		return fSocket;
+	}
+
+	/**
+	 * @return <code>true</code> if the client reads the binary protocol, only valid while the
+	 *         runner is connected
+	 */
+	public boolean isBinaryProtocol() {
+		return new Accessor(fClient, RemoteTestRunnerClient.class).get("fBinaryInput") != null;
+	}
+
+	/**
+	 * Waits until the client has received the end of the test run.
+	 *
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void waitForRunEnded() throws InterruptedException {
+		assertTrue("Test run did not end", fRunEnded.await(60, TimeUnit.SECONDS));
+	}
+
+	public int getTreeEntryCount() {
+		return fTreeEntries.get();
+	}
+
+	public int getEndedTestCount() {
+		return fEndedTests.get();
+	}
+
+	/**
+	 * @return the trace, expected and actual value of the failed tests
+	 */
+	public List<String[]> getFailures() {
+		return fFailures;
+	}
+
+	/**
+	 * Disconnects the runner and stops the client.
+	 *
+	 * @throws Exception if the socket cannot be closed
+	 */
+	public void close() throws Exception {
+		if (fRunner != null)
+			fRunner.close();
+		if (fSocket != null)
+			fSocket.close();
+		fClient.stopWaiting();
+	}
+
+	@Override
+	public void testRunStarted(int testCount) {
+	}
+
+	@Override
+	public void testRunEnded(long elapsedTime) {
+		fRunEnded.countDown();
+	}
+
+	@Override
+	public void testRunStopped(long elapsedTime) {
+	}
+
+	@Override
+	public void testStarted(String testId, String testName) {
+	}
+
+	@Override
+	public void testEnded(String testId, String testName) {
+		fEndedTests.incrementAndGet();
+	}
+
+	@Override
+	public void testRunTerminated() {
+	}
+
+	@Override
+	public void testTreeEntry(String description) {
+		fTreeEntries.incrementAndGet();
+	}
+
+	@Override
+	public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+		fFailures.add(new String[] { trace, expected, actual });
+	}
+
+	@Override
+	public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+	}
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.MessageSender;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+
+/**
+ * Tests that the remote test runner client negotiates the protocol with the runner, falls back
+ * to the text protocol for runners that do not support the binary one, and receives the same
+ * multi-line failures with both protocols.
+ */
+public class RemoteTestRunnerProtocolTest {
+
+	private static final String TRACE= "junit.framework.ComparisonFailure: expected:<[a]> but was:<[b]>\n"
+			+ "\tat pack.ATest.testA(ATest.java:7)\r\n"
+			+ "\tat pack.ATest.run(ATest.java:3)";
+
+	private static final String EXPECTED= "line 1\nline 2";
+
+	private static final String ACTUAL= "line 1\r\nline 3";
+
+	private RemoteTestRunnerConnection fConnection;
+
+	@Before
+	public void setUp() throws Exception {
+		fConnection= new RemoteTestRunnerConnection();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fConnection.close();
+	}
+
+	/**
+	 * Sends the messages of a run of a test class with a single failing test.
+	 *
+	 * @param sender the sender
+	 */
+	private static void sendRun(MessageSender sender) {
+		sender.sendMessage(MessageIds.TEST_RUN_START + "1 v2");
+		sender.sendMessage(MessageIds.TEST_TREE + "1,pack.ATest,true,1,false,-1,pack.ATest,,");
+		sender.sendMessage(MessageIds.TEST_TREE + "2,testA(pack.ATest),false,1,false,1,testA(pack.ATest),,");
+		sender.sendMessage(MessageIds.TEST_START + "2,testA(pack.ATest)");
+		sender.sendMessage(MessageIds.TEST_FAILED + "2,testA(pack.ATest)");
+		sender.sendMessage(MessageIds.EXPECTED_START);
+		sender.sendMessage(EXPECTED);
+		sender.sendMessage(MessageIds.EXPECTED_END);
+		sender.sendMessage(MessageIds.ACTUAL_START);
+		sender.sendMessage(ACTUAL);
+		sender.sendMessage(MessageIds.ACTUAL_END);
+		sender.sendMessage(MessageIds.TRACE_START);
+		sender.sendMessage(TRACE);
+		sender.sendMessage(MessageIds.TRACE_END);
+		sender.sendMessage(MessageIds.TEST_END + "2,testA(pack.ATest)");
+		sender.sendMessage(MessageIds.TEST_RUN_END + "10");
+		sender.flush();
+	}
+
+	/**
+	 * Creates a sender of the text protocol, as used by runners that predate the binary one.
+	 *
+	 * @param output the output to the client
+	 * @param lineDelimiter the line delimiter of the runner
+	 * @return the sender
+	 */
+	private static MessageSender createTextSender(OutputStream output, String lineDelimiter) {
+		PrintWriter writer= new PrintWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)), false);
+		return new MessageSender() {
+			@Override
+			public void sendMessage(String msg) {
+				writer.print(msg);
+				writer.print(lineDelimiter);
+			}
+
+			@Override
+			public void flush() {
+				writer.flush();
+			}
+		};
+	}
+
+	private static MessageSender createBinarySender(OutputStream output, String lineDelimiter) throws IOException {
+		BinaryMessageWriter writer= new BinaryMessageWriter(new BufferedOutputStream(output), lineDelimiter, false);
+		return new MessageSender() {
+			@Override
+			public void sendMessage(String msg) {
+				try {
+					writer.write(msg);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			@Override
+			public void flush() {
+				try {
+					writer.forceFlush();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+	}
+
+	private void assertRunReceived() throws InterruptedException {
+		fConnection.waitForRunEnded();
+		assertEquals(2, fConnection.getTreeEntryCount());
+		assertEquals(1, fConnection.getEndedTestCount());
+		assertEquals(1, fConnection.getFailures().size());
+	}
+
+	@Test
+	public void testBinaryProtocolNegotiated() throws Exception {
+		RemoteTestRunner runner= fConnection.connectRunner(true);
+		sendRun(runner);
+
+		assertRunReceived();
+		assertTrue(fConnection.isBinaryProtocol());
+	}
+
+	@Test
+	public void testTextProtocolOfOldRunner() throws Exception {
+		// an old runner ignores the argument requesting the binary protocol
+		sendRun(createTextSender(fConnection.connectSocket().getOutputStream(), "\n"));
+
+		assertRunReceived();
+		assertFalse(fConnection.isBinaryProtocol());
+	}
+
+	@Test
+	public void testTextProtocolNotRequested() throws Exception {
+		RemoteTestRunner runner= fConnection.connectRunner(false);
+		sendRun(runner);
+
+		assertRunReceived();
+		assertFalse(fConnection.isBinaryProtocol());
+	}
+
+	@Test
+	public void testMultiLineFailures() throws Exception {
+		for (String lineDelimiter : new String[] { "\n", "\r\n" }) {
+			// the last line of a message is terminated by the line delimiter of the runner
+			String[] expected= { TRACE + lineDelimiter, EXPECTED, ACTUAL };
+			assertArrayEquals(lineDelimiter, expected, receiveFailure(false, lineDelimiter));
+			assertArrayEquals(lineDelimiter, expected, receiveFailure(true, lineDelimiter));
+		}
+	}
+
+	private String[] receiveFailure(boolean binary, String lineDelimiter) throws Exception {
+		RemoteTestRunnerConnection connection= new RemoteTestRunnerConnection();
+		try {
+			OutputStream output= connection.connectSocket().getOutputStream();
+			sendRun(binary ? createBinarySender(output, lineDelimiter) : createTextSender(output, lineDelimiter));
+			connection.waitForRunEnded();
+			assertEquals(1, connection.getFailures().size());
+			return connection.getFailures().get(0);
+		} finally {
+			connection.close();
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRoot;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+
+/**
+ * Tests that the failure traces of a test run session are stored in and read back from a
+ * temporary file, and that the test elements are found by their ids.
+ */
+public class TestRunSessionFailureTraceTest {
+
+	private static final String TRACE= "junit.framework.AssertionFailedError: expected:<1> but was:<2>\n"
+			+ "\tat pack.ATestCase.testA(ATestCase.java:5)\r\n"
+			+ "\tat java.base/jdk.internal.reflect.NativeMethodAccessorImpl.invoke0(Native Method)\n";
+
+	private TestRunSession fSession;
+
+	@Before
+	public void setUp() {
+		fSession= new TestRunSession("FailureTraceTest", null);
+	}
+
+	@After
+	public void tearDown() {
+		JUnitCorePlugin.getModel().removeTestRunSession(fSession);
+	}
+
+	private TestElement createTestCase(String id) {
+		return fSession.createTestElement(fSession.getTestRoot(), id, "test" + id, false, 1, false, null, null, null);
+	}
+
+	private Accessor getStore() {
+		Object store= new Accessor(fSession.getTestRoot(), TestRoot.class).get("fFailureTraceStore");
+		return new Accessor(store, store.getClass());
+	}
+
+	private File getFile() {
+		return (File) getStore().get("fFile");
+	}
+
+	private void runEnded() {
+		new Accessor(fSession, TestRunSession.class).invoke("closeFailureTraceStore", new Object[0]);
+	}
+
+	private static String createTrace(int length) {
+		char[] trace= new char[length];
+		Arrays.fill(trace, 'x');
+		return new String(trace);
+	}
+
+	@Test
+	public void testFailuresReadBack() throws Exception {
+		TestElement first= createTestCase("1");
+		TestElement second= createTestCase("2");
+		TestElement passed= createTestCase("3");
+		fSession.registerTestFailureStatus(first, Status.FAILURE, TRACE, "1", "2");
+		fSession.registerTestFailureStatus(second, Status.ERROR, "java.lang.NullPointerException\n\u00e4\u4e2d", null, null);
+		passed.setStatus(Status.OK);
+
+		File file= getFile();
+		assertNotNull(file);
+		assertTrue(file.length() > TRACE.length());
+
+		// the file is closed once the run has ended and opened again for each read
+		runEnded();
+		assertNull(getStore().get("fAccess"));
+
+		assertEquals(TRACE, first.getTrace());
+		assertEquals("1", first.getExpected());
+		assertEquals("2", first.getActual());
+		assertEquals("java.lang.NullPointerException\n\u00e4\u4e2d", second.getTrace());
+		assertNull(second.getExpected());
+		assertNull(second.getActual());
+		assertNull(passed.getTrace());
+		assertNull(passed.getFailureTrace());
+		assertEquals(TRACE, first.getFailureTrace().getTrace());
+		assertNull(getStore().get("fAccess"));
+	}
+
+	@Test
+	public void testIndexLookups() throws Exception {
+		TestElement zero= createTestCase("0");
+		TestElement padded= createTestCase("007");
+		TestElement named= createTestCase("[engine:junit-jupiter]/[class:pack.ATest]");
+		TestElement large= createTestCase("100000");
+		TestElement seven= createTestCase("7");
+
+		assertSame(zero, fSession.getTestElement("0"));
+		assertSame(padded, fSession.getTestElement("007"));
+		assertSame(seven, fSession.getTestElement("7"));
+		assertSame(named, fSession.getTestElement("[engine:junit-jupiter]/[class:pack.ATest]"));
+		assertSame(large, fSession.getTestElement("100000"));
+		assertEquals("007", padded.getId());
+		assertEquals("100000", large.getId());
+		assertNull(fSession.getTestElement("1"));
+		assertNull(fSession.getTestElement("-1"));
+		assertNull(fSession.getTestElement("99999"));
+	}
+
+	@Test
+	public void testReplacedFailuresReclaimed() throws Exception {
+		TestElement replaced= createTestCase("1");
+		TestElement kept= createTestCase("2");
+		fSession.registerTestFailureStatus(replaced, Status.FAILURE, createTrace(3 << 20), null, null);
+		fSession.registerTestFailureStatus(kept, Status.FAILURE, TRACE, "1", "2");
+		runEnded();
+		File file= getFile();
+		assertTrue(file.length() > 3 << 20);
+
+		// most of the file is taken by the replaced failure and is compacted
+		replaced.setStatus(Status.FAILURE, null, "expected", "actual");
+		assertTrue(file.length() < 1 << 10);
+		assertEquals("expected", replaced.getExpected());
+		assertNull(replaced.getTrace());
+		assertEquals(TRACE, kept.getTrace());
+		assertEquals("2", kept.getActual());
+		assertNull(getStore().get("fAccess"));
+
+		// the file is truncated when all failures have been removed
+		replaced.setStatus(Status.OK, null, null, null);
+		kept.setStatus(Status.OK, null, null, null);
+		assertEquals(0, file.length());
+		assertNull(kept.getTrace());
+	}
+
+	@Test
+	public void testSessionRemoved() throws Exception {
+		TestElement failed= createTestCase("1");
+		fSession.registerTestFailureStatus(failed, Status.FAILURE, TRACE, null, null);
+		File file= getFile();
+		assertTrue(file.exists());
+
+		JUnitCorePlugin.getModel().removeTestRunSession(fSession);
+		assertFalse(file.exists());
+		assertNull(getStore().get("fAccess"));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2008 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,16 +14,26 @@
 
 package org.eclipse.jdt.junit.tests;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.eclipse.jdt.junit.model.ITestElement;
 import org.eclipse.jdt.testplugin.JavaTestPlugin;
 
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
 
 import org.eclipse.jdt.ui.tests.core.rules.JUnitWorkspaceTestSetup;
 
@@ -76,4 +86,48 @@ public class TestRunSessionSerializationTests3 extends AbstractTestRunSessionSer
 		JUnitModel.importTestRunSession(testsFile); // no contents check for now...
 	}
 
+	@Test
+	public void testImportInBackground() throws Exception {
+		Path testsPath= new Path(JUnitWorkspaceTestSetup.getProjectPath() + "ant/result/TESTS-TestSuites.xml");
+		File testsFile= JavaTestPlugin.getDefault().getFileInPlugin(testsPath);
+		TestRunSession expected= JUnitModel.importTestRunSession(testsFile);
+		TestRunSession imported= importTestRunSessionInBackground(testsFile, IStatus.OK);
+		try {
+			assertEquals(expected.getTestRunName(), imported.getTestRunName());
+			assertEquals(expected.getTotalCount(), imported.getTotalCount());
+			assertEquals(expected.getFailureCount(), imported.getFailureCount());
+			assertEquals(expected.getErrorCount(), imported.getErrorCount());
+		} finally {
+			JUnitCorePlugin.getModel().removeTestRunSession(imported);
+		}
+	}
+
+	@Test
+	public void testImportMalformedInBackground() throws Exception {
+		File file= File.createTempFile("testresult", ".xml");
+		try {
+			String truncated= "" //
+					+ "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //
+					+ "<testrun name=\"Malformed\" tests=\"2\" started=\"2\" failures=\"0\" errors=\"0\" ignored=\"0\">\n" //
+					+ "  <testsuite name=\"pack.ATestCase\" time=\"0.001\">\n" //
+					+ "    <testcase name=\"testSucceed\" classname=\"pack.ATestCase\" time=\"0.001\"/>\n" //
+					+ "    <testcase name=\"testBroken\" classname=";
+			Files.write(file.toPath(), truncated.getBytes(StandardCharsets.UTF_8));
+
+			TestRunSession imported= importTestRunSessionInBackground(file, IStatus.ERROR);
+			try {
+				assertEquals("Malformed", imported.getTestRunName());
+				assertTrue(imported.isStopped());
+				// the tests read before the error are kept
+				ITestElement[] suites= imported.getTestRoot().getChildren();
+				assertEquals(1, suites.length);
+				assertEquals(1, ((TestSuiteElement) suites[0]).getChildren().length);
+			} finally {
+				JUnitCorePlugin.getModel().removeTestRunSession(imported);
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
 }
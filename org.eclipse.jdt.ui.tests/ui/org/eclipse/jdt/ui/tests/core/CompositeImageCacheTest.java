@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.jdt.ui.JavaElementImageDescriptor;
+
+import org.eclipse.jdt.internal.ui.JavaPluginImages;
+import org.eclipse.jdt.internal.ui.viewsupport.CompositeImageCache;
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementImageProvider;
+
+public class CompositeImageCacheTest {
+
+	private CompositeImageCache fCache;
+
+	@Before
+	public void setUp() {
+		fCache= new CompositeImageCache(Display.getDefault());
+	}
+
+	@After
+	public void tearDown() {
+		fCache.dispose();
+	}
+
+	private Image get(int flags) {
+		Image image= fCache.get(JavaPluginImages.DESC_OBJS_CLASS, flags, JavaElementImageProvider.SMALL_SIZE);
+		assertNotNull(image);
+		return image;
+	}
+
+	@Test
+	public void testImagesInterned() {
+		Image image= get(JavaElementImageDescriptor.FINAL);
+		assertSame(image, get(JavaElementImageDescriptor.FINAL));
+		assertNotSame(image, get(JavaElementImageDescriptor.STATIC));
+		assertNotSame(image, fCache.get(JavaPluginImages.DESC_OBJS_CLASS, JavaElementImageDescriptor.FINAL, JavaElementImageProvider.BIG_SIZE));
+		assertEquals(3, fCache.getMisses());
+		assertEquals(1, fCache.getHits());
+		assertEquals(3, fCache.size());
+	}
+
+	@Test
+	public void testImagesLiveUntilDisposed() {
+		Image image= get(JavaElementImageDescriptor.FINAL);
+
+		// other clients may hold on to the images, they are never evicted
+		for (int i= 1; i <= 300; i++)
+			get(i << 16);
+		assertFalse(image.isDisposed());
+		assertSame(image, get(JavaElementImageDescriptor.FINAL));
+
+		fCache.dispose();
+		assertTrue(image.isDisposed());
+		assertEquals(0, fCache.size());
+	}
+}
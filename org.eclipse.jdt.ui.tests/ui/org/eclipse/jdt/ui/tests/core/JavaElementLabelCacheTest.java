@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class JavaElementLabelCacheTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private static final long FLAGS= JavaElementLabelsCore.ALL_DEFAULT | JavaElementLabelsCore.M_PRE_RETURNTYPE;
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragment fPack1;
+
+	private final JavaElementLabelCache fCache= JavaElementLabelCache.getInstance();
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack1= root.createPackageFragment("pack1", true, null);
+		fCache.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fCache.setDefaultCapacity();
+		fCache.clear();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	@Test
+	public void testHitsAndMisses() throws Exception {
+		ICompilationUnit cu= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {\n\tString foo(int i) { return null; }\n}\n", false, null);
+		IMethod method= cu.getType("A").getMethod("foo", new String[] { "I" });
+
+		String label= JavaElementLabelsCore.getElementLabel(method, FLAGS);
+		assertEquals("String foo(int)", label);
+		assertEquals(0, fCache.getHits());
+		assertEquals(1, fCache.getMisses());
+		assertTrue(fCache.contains(method, FLAGS));
+
+		assertEquals(label, JavaElementLabelsCore.getElementLabel(method, FLAGS));
+		assertEquals(1, fCache.getHits());
+
+		JavaElementLabelsCore.getElementLabel(method, JavaElementLabelsCore.ALL_DEFAULT);
+		assertEquals(2, fCache.getMisses());
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		ICompilationUnit cuA= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {\n\tString foo(int i) { return null; }\n}\n", false, null);
+		ICompilationUnit cuB= fPack1.createCompilationUnit("B.java", "package pack1;\npublic class B {}\n", false, null);
+		IMethod method= cuA.getType("A").getMethod("foo", new String[] { "I" });
+		IType typeB= cuB.getType("B");
+
+		JavaElementLabelsCore.getElementLabel(method, FLAGS);
+		JavaElementLabelsCore.getElementLabel(typeB, FLAGS);
+
+		cuA.getBuffer().setContents("package pack1;\npublic class A {\n\tObject foo(int i) { return null; }\n}\n");
+		cuA.save(null, true);
+
+		assertFalse(fCache.contains(method, FLAGS));
+		assertTrue(fCache.contains(typeB, FLAGS));
+		assertEquals("Object foo(int)", JavaElementLabelsCore.getElementLabel(method, FLAGS));
+	}
+
+	@Test
+	public void testUILabels() throws Exception {
+		ICompilationUnit cuA= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {\n\tString foo(int i) { return null; }\n}\n", false, null);
+		ICompilationUnit cuB= fPack1.createCompilationUnit("B.java", "package pack1;\npublic class B {}\n", false, null);
+		IMethod method= cuA.getType("A").getMethod("foo", new String[] { "I" });
+		IType typeB= cuB.getType("B");
+
+		String label= JavaElementLabels.getElementLabel(method, FLAGS);
+		assertEquals("String foo(int)", label);
+		assertEquals(0, fCache.getHits());
+		assertTrue(fCache.contains(method, FLAGS, true));
+		// the labels of the UI and of the core are kept apart
+		assertFalse(fCache.contains(method, FLAGS));
+
+		assertEquals(label, JavaElementLabels.getElementLabel(method, FLAGS));
+		assertEquals(1, fCache.getHits());
+
+		JavaElementLabels.getElementLabel(typeB, FLAGS);
+		cuA.getBuffer().setContents("package pack1;\npublic class A {\n\tObject foo(int i) { return null; }\n}\n");
+		cuA.save(null, true);
+
+		assertFalse(fCache.contains(method, FLAGS, true));
+		assertTrue(fCache.contains(typeB, FLAGS, true));
+		assertEquals("Object foo(int)", JavaElementLabels.getElementLabel(method, FLAGS));
+	}
+
+	@Test
+	public void testUncacheable() throws Exception {
+		ICompilationUnit cu= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\n", false, null);
+		IType type= cu.getType("A");
+		long flags= JavaElementLabelsCore.T_FULLY_QUALIFIED | JavaElementLabelsCore.P_COMPRESSED;
+
+		JavaElementLabelsCore.getElementLabel(type, flags);
+		assertFalse(fCache.contains(type, flags));
+
+		ICompilationUnit workingCopy= cu.getWorkingCopy(null);
+		try {
+			JavaElementLabelsCore.getElementLabel(workingCopy.getType("A"), FLAGS);
+			assertFalse(fCache.contains(workingCopy.getType("A"), FLAGS));
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		ICompilationUnit cu= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {\n\tint a;\n\tint b;\n}\n", false, null);
+		IType type= cu.getType("A");
+
+		fCache.setCapacity(1);
+		JavaElementLabelsCore.getElementLabel(type.getField("a"), FLAGS);
+		JavaElementLabelsCore.getElementLabel(type.getField("b"), FLAGS);
+
+		assertFalse(fCache.contains(type.getField("a"), FLAGS));
+		assertTrue(fCache.contains(type.getField("b"), FLAGS));
+	}
+}
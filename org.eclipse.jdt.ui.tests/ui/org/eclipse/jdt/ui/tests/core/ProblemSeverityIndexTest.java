@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityIndex;
+
+public class ProblemSeverityIndexTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragment fPack1;
+
+	private final ProblemSeverityIndex fIndex= new ProblemSeverityIndex();
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack1= root.createPackageFragment("pack1", true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fIndex.clear();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private static IMarker createProblem(IResource resource, int severity) throws Exception {
+		IMarker marker= resource.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		return marker;
+	}
+
+	private void assertSameSeverity(IResource resource) throws Exception {
+		for (int depth : new int[] { IResource.DEPTH_ZERO, IResource.DEPTH_ONE, IResource.DEPTH_INFINITE }) {
+			int expected= resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+			assertEquals(resource + " depth " + depth, expected, fIndex.findMaxProblemSeverity(resource, depth));
+		}
+	}
+
+	@Test
+	public void testIndex() throws Exception {
+		ICompilationUnit cuA= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\n", false, null);
+		ICompilationUnit cuB= fPack1.createCompilationUnit("B.java", "package pack1;\npublic class B {}\n", false, null);
+		createProblem(cuA.getResource(), IMarker.SEVERITY_WARNING);
+		createProblem(cuB.getResource(), IMarker.SEVERITY_INFO);
+		createProblem(cuB.getResource(), IMarker.SEVERITY_ERROR);
+
+		IProject project= fJProject1.getProject();
+		assertFalse(fIndex.isIndexed(project));
+		assertSameSeverity(project);
+		assertTrue(fIndex.isIndexed(project));
+		assertSameSeverity(cuA.getResource());
+		assertSameSeverity(cuB.getResource());
+		assertSameSeverity(fPack1.getResource());
+		assertSameSeverity(fPack1.getResource().getParent());
+	}
+
+	@Test
+	public void testUpdate() throws Exception {
+		ICompilationUnit cuA= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\n", false, null);
+		ICompilationUnit cuB= fPack1.createCompilationUnit("B.java", "package pack1;\npublic class B {}\n", false, null);
+		IFile fileA= (IFile) cuA.getResource();
+		IFile fileB= (IFile) cuB.getResource();
+		IMarker warning= createProblem(fileA, IMarker.SEVERITY_WARNING);
+		IProject project= fJProject1.getProject();
+		assertEquals(IMarker.SEVERITY_WARNING, fIndex.findMaxProblemSeverity(project, IResource.DEPTH_INFINITE));
+
+		// an error on B changes the severity of B and all its ancestors
+		createProblem(fileB, IMarker.SEVERITY_ERROR);
+		Set<IResource> affected= new HashSet<>();
+		fIndex.update(Collections.singleton(fileB), Collections.emptySet(), affected);
+		assertTrue(affected.contains(fileB));
+		assertTrue(affected.contains(fPack1.getResource()));
+		assertTrue(affected.contains(project));
+		assertSameSeverity(project);
+		assertSameSeverity(fileB);
+
+		// the warning on A does not change the severity of the ancestors
+		warning.delete();
+		affected.clear();
+		fIndex.update(Collections.singleton(fileA), Collections.emptySet(), affected);
+		assertEquals(Collections.singleton(fileA), affected);
+		assertSameSeverity(fileA);
+		assertSameSeverity(project);
+
+		// removing B removes the error
+		IFolder folder= (IFolder) fPack1.getResource();
+		fileB.delete(true, null);
+		affected.clear();
+		fIndex.update(Collections.emptySet(), Collections.singleton(fileB), affected);
+		assertTrue(affected.contains(project));
+		assertSameSeverity(folder);
+		assertSameSeverity(project);
+	}
+}
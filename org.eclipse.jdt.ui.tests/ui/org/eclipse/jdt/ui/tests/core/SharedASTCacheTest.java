@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.internal.core.manipulation.SharedASTCache;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class SharedASTCacheTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragment fPack1;
+
+	private final SharedASTCache fCache= SharedASTCache.getInstance();
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack1= root.createPackageFragment("pack1", true, null);
+		fCache.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fCache.setDefaultCapacity();
+		fCache.clear();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	@Test
+	public void testHitsAndMisses() throws Exception {
+		ICompilationUnit cu= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\n", false, null);
+
+		CompilationUnit ast= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(ast);
+		assertEquals(0, fCache.getHits());
+		assertEquals(1, fCache.getMisses());
+		assertTrue(fCache.contains(cu));
+
+		assertSame(ast, SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null));
+		assertEquals(1, fCache.getHits());
+		assertEquals(1, fCache.getMisses());
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		ICompilationUnit cuA= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\n", false, null);
+		ICompilationUnit cuB= fPack1.createCompilationUnit("B.java", "package pack1;\npublic class B {}\n", false, null);
+
+		fCache.setCapacity(1, Long.MAX_VALUE);
+		SharedASTProviderCore.getAST(cuA, SharedASTProviderCore.WAIT_YES, null);
+		SharedASTProviderCore.getAST(cuB, SharedASTProviderCore.WAIT_YES, null);
+
+		assertFalse(fCache.contains(cuA));
+		assertTrue(fCache.contains(cuB));
+	}
+
+	@Test
+	public void testModifiedWorkingCopy() throws Exception {
+		ICompilationUnit cu= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\n", false, null);
+		cu.becomeWorkingCopy(null);
+		try {
+			CompilationUnit ast= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+
+			String contents= "package pack1;\npublic class A {\n\tint a;\n}\n";
+			cu.getBuffer().setContents(contents);
+
+			CompilationUnit modified= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+			assertNotSame(ast, modified);
+			assertEquals(contents, cu.getBuffer().getContents());
+			assertEquals(contents.length(), modified.getLength());
+
+			// a change that keeps the length of the contents
+			cu.getBuffer().replace(contents.indexOf('a'), 1, "b");
+			CompilationUnit renamed= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+			assertNotSame(modified, renamed);
+			assertTrue(renamed.toString().contains("int b;"));
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		ICompilationUnit cuA= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\n", false, null);
+		ICompilationUnit cuB= fPack1.createCompilationUnit("B.java", "package pack1;\npublic class B extends A {}\n", false, null);
+
+		SharedASTProviderCore.getAST(cuB, SharedASTProviderCore.WAIT_YES, null);
+		assertTrue(fCache.contains(cuB));
+
+		// the bindings of B depend on the members of A
+		cuA.getBuffer().setContents("package pack1;\npublic class A {\n\tint a;\n}\n");
+		cuA.save(null, true);
+
+		assertFalse(fCache.contains(cuB));
+	}
+
+	@Test
+	public void testInvalidationOfRequiringProject() throws Exception {
+		IJavaProject jProject2= JavaProjectHelper.createJavaProject("TestProject2", "bin");
+		try {
+			JavaProjectHelper.addRTJar(jProject2);
+			JavaProjectHelper.addRequiredProject(jProject2, fJProject1);
+			IPackageFragment pack2= JavaProjectHelper.addSourceContainer(jProject2, "src").createPackageFragment("pack2", true, null);
+
+			ICompilationUnit cuA= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\n", false, null);
+			ICompilationUnit cuB= pack2.createCompilationUnit("B.java", "package pack2;\npublic class B extends pack1.A {}\n", false, null);
+			ICompilationUnit cuC= pack2.createCompilationUnit("C.java", "package pack2;\npublic class C {}\n", false, null);
+
+			SharedASTProviderCore.getAST(cuB, SharedASTProviderCore.WAIT_YES, null);
+			SharedASTProviderCore.getAST(cuC, SharedASTProviderCore.WAIT_YES, null);
+			assertTrue(fCache.contains(cuB));
+
+			// the bindings of B in the requiring project depend on the members of A
+			cuA.getBuffer().setContents("package pack1;\npublic class A {\n\tint a;\n}\n");
+			cuA.save(null, true);
+
+			assertFalse(fCache.contains(cuB));
+			assertFalse(fCache.contains(cuC));
+		} finally {
+			JavaProjectHelper.delete(jProject2);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class SuperTypeHierarchyCacheTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragment fPack1;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack1= root.createPackageFragment("pack1", true, null);
+		SuperTypeHierarchyCache.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SuperTypeHierarchyCache.setCacheCapacity(2000);
+		SuperTypeHierarchyCache.clear();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	@Test
+	public void testHitsAndMisses() throws Exception {
+		ICompilationUnit cu= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\nclass B extends A {}\n", false, null);
+		IType typeA= cu.getType("A");
+		IType typeB= cu.getType("B");
+
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(typeB);
+		assertEquals(0, SuperTypeHierarchyCache.getCacheHits());
+		assertEquals(1, SuperTypeHierarchyCache.getCacheMisses());
+
+		// the super type hierarchy of B contains A
+		assertTrue(SuperTypeHierarchyCache.hasInCache(typeA));
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(typeA));
+		assertEquals(1, SuperTypeHierarchyCache.getCacheHits());
+		assertEquals(1, SuperTypeHierarchyCache.getCacheMisses());
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		ICompilationUnit cu= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\nclass B {}\n", false, null);
+		IType typeA= cu.getType("A");
+		IType typeB= cu.getType("B");
+
+		SuperTypeHierarchyCache.setCacheCapacity(1);
+		SuperTypeHierarchyCache.getTypeHierarchy(typeA);
+		SuperTypeHierarchyCache.getTypeHierarchy(typeB);
+
+		assertFalse(SuperTypeHierarchyCache.hasInCache(typeA));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(typeB));
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		ICompilationUnit cu= fPack1.createCompilationUnit("A.java", "package pack1;\npublic class A {}\nclass B extends A {}\n", false, null);
+		IType typeB= cu.getType("B");
+
+		SuperTypeHierarchyCache.getTypeHierarchy(typeB);
+		assertTrue(SuperTypeHierarchyCache.hasInCache(typeB));
+
+		cu.getBuffer().setContents("package pack1;\npublic class A {}\nclass B {}\n");
+		cu.save(null, true);
+
+		assertFalse(SuperTypeHierarchyCache.hasInCache(typeB));
+	}
+}
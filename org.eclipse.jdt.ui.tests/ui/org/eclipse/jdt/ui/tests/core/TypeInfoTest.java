@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -49,6 +50,7 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -190,6 +192,64 @@ public class TypeInfoTest {
 	}
 
 
+	@Test
+	public void testTypeNameIndex() throws Exception {
+		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+		assertNotNull("Junit source", junitSrcArchive);
+		JavaProjectHelper.addSourceContainerWithImport(fJProject2, "src", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("com.oti", true, null);
+		pack1.getCompilationUnit("V.java").createType("public class V {\n static class VInner {\n}\n}\n", null, true, null);
+		JavaProjectHelper.addRequiredProject(fJProject1, fJProject2);
+
+		IJavaSearchScope scope= SearchEngine.createJavaSearchScope(new IJavaElement[] { fJProject1 });
+		TypeNameIndex index= TypeNameIndex.getInstance();
+		index.markStale();
+
+		// the index is built by a job, the types are searched by the caller until then
+		ArrayList<TypeNameMatch> result= new ArrayList<>();
+		assertFalse(index.search(new TypeInfoFilter("V", scope, IJavaSearchConstants.TYPE, null), new TypeNameMatchCollector(result), null));
+		assertEquals(0, result.size());
+		for (int i= 0; i < 600 && !index.isBuilt(); i++)
+			Thread.sleep(100);
+		assertTrue(index.isBuilt());
+
+		assertTrue(index.search(new TypeInfoFilter("V", scope, IJavaSearchConstants.TYPE, null), new TypeNameMatchCollector(result), null));
+		findTypeRef(result, "com.oti.V");
+		findTypeRef(result, "com.oti.V.VInner");
+		findTypeRef(result, "java.util.Vector");
+		findTypeRef(result, "junit.runner.Version");
+		assertEquals("Should find 8 elements, is " + result.size(), 8, result.size());
+		for (TypeNameMatch ref : result) {
+			assertResolve(ref);
+		}
+
+		result.clear();
+		assertTrue(index.search(new TypeInfoFilter("TCT", scope, IJavaSearchConstants.CLASS, null), new TypeNameMatchCollector(result), null));
+		findTypeRef(result, "junit.tests.framework.TestCaseTest");
+
+		// changed compilation units are read again without building the index
+		ICompilationUnit cu2= pack1.createCompilationUnit("VNew.java", "package com.oti;\npublic interface VNew {\n}\n", true, null);
+		assertTrue(index.isBuilt());
+		result.clear();
+		assertTrue(index.search(new TypeInfoFilter("VN", scope, IJavaSearchConstants.INTERFACE, null), new TypeNameMatchCollector(result), null));
+		assertEquals(1, result.size());
+		findTypeRef(result, "com.oti.VNew");
+
+		cu2.delete(true, null);
+		result.clear();
+		assertTrue(index.search(new TypeInfoFilter("VN", scope, IJavaSearchConstants.TYPE, null), new TypeNameMatchCollector(result), null));
+		assertEquals(0, result.size());
+
+		// classpath changes make the index stale
+		JavaProjectHelper.removeFromClasspath(fJProject1, fJProject2.getPath());
+		assertFalse(index.isBuilt());
+		index.build(null);
+		result.clear();
+		assertTrue(index.search(new TypeInfoFilter("V", scope, IJavaSearchConstants.TYPE, null), new TypeNameMatchCollector(result), null));
+		assertEquals("Should find 6 elements, is " + result.size(), 6, result.size());
+	}
+
 	@Test
 	public void bug44772() throws Exception {
 		File lib= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.MYLIB);
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.packageview;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TreeItem;
+
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.jface.viewers.TreeViewer;
+
+import org.eclipse.ui.progress.PendingUpdateAdapter;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.internal.ui.packageview.PackageExplorerContentProvider;
+
+/**
+ * Tests that the children of a package fragment root which is not open yet are fetched in the
+ * background when it is expanded for the first time, and computed in place afterwards.
+ */
+public class PackageExplorerDeferredFetchingTest {
+
+	private IJavaProject fJProject;
+
+	private IPackageFragmentRoot fJAR;
+
+	private Shell fShell;
+
+	private TreeViewer fViewer;
+
+	private PackageExplorerContentProvider fProvider;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		File jreArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.RT_STUBS_15);
+		fJAR= JavaProjectHelper.addLibrary(fJProject, new Path(jreArchive.getPath()));
+		fJAR.close();
+
+		fShell= new Shell(Display.getDefault());
+		fViewer= new TreeViewer(fShell, SWT.NONE);
+		fProvider= new PackageExplorerContentProvider(false);
+		fProvider.setDeferredFetching(true);
+		fViewer.setContentProvider(fProvider);
+		fViewer.setInput(fJProject);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fShell.dispose();
+		JavaProjectHelper.delete(fJProject);
+	}
+
+	@Test
+	public void testChildrenFetchedInBackground() throws Exception {
+		assertFalse(fJAR.isOpen());
+		assertTrue(fProvider.hasChildren(fJAR));
+		assertFalse("hasChildren opened the root", fJAR.isOpen());
+
+		fViewer.expandToLevel(fJAR, 1);
+		assertTrue("No pending node shown", isPending());
+
+		assertTrue("Children not fetched", new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return !isPending() && getChildItems().length > 0;
+			}
+		}.waitForCondition(fShell.getDisplay(), 10000));
+
+		assertTrue(fJAR.isOpen());
+		Set<Object> expected= new HashSet<>(Arrays.asList(fProvider.getChildren(fJAR)));
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, getChildren());
+	}
+
+	@Test
+	public void testChildrenOfClosedRootComputedInPlaceAfterFirstExpansion() throws Exception {
+		fViewer.expandToLevel(fJAR, 1);
+		assertTrue("Children not fetched", new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return !isPending() && getChildItems().length > 0;
+			}
+		}.waitForCondition(fShell.getDisplay(), 10000));
+		Set<Object> expected= getChildren();
+
+		// the Java model closes roots to free memory
+		fJAR.close();
+		fViewer.refresh();
+
+		assertFalse("Pending node shown again", isPending());
+		assertEquals(expected, getChildren());
+	}
+
+	private TreeItem[] getChildItems() {
+		TreeItem item= (TreeItem) fViewer.testFindItem(fJAR);
+		return item != null ? item.getItems() : new TreeItem[0];
+	}
+
+	private boolean isPending() {
+		for (TreeItem item : getChildItems()) {
+			if (item.getData() instanceof PendingUpdateAdapter)
+				return true;
+		}
+		return false;
+	}
+
+	private Set<Object> getChildren() {
+		Set<Object> children= new HashSet<>();
+		for (TreeItem item : getChildItems())
+			children.add(item.getData());
+		return children;
+	}
+}
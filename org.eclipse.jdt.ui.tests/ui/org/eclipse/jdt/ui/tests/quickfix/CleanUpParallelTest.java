@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
+import org.eclipse.jdt.internal.ui.fix.CodeStyleCleanUp;
+import org.eclipse.jdt.internal.ui.fix.ControlStatementsCleanUp;
+import org.eclipse.jdt.internal.ui.fix.IThreadSafeCleanUp;
+import org.eclipse.jdt.internal.ui.fix.ImportsCleanUp;
+
+/**
+ * Tests that cleaning up a project with several workers gives the same result as
+ * cleaning it up on the calling thread.
+ */
+public class CleanUpParallelTest extends CleanUpTestCase {
+
+	private static final int PACKAGE_COUNT= 3;
+
+	private static final int UNITS_PER_PACKAGE= 60;
+
+	private static final int PARALLELISM= 4;
+
+	/**
+	 * Records the threads on which fixes are calculated.
+	 */
+	private static final class ThreadRecordingCleanUp extends AbstractCleanUp implements IThreadSafeCleanUp {
+
+		private final Set<Thread> fThreads= ConcurrentHashMap.newKeySet();
+
+		@Override
+		public ICleanUpFix createFix(CleanUpContext context) throws CoreException {
+			fThreads.add(Thread.currentThread());
+			return null;
+		}
+
+		public Set<Thread> getThreads() {
+			return fThreads;
+		}
+	}
+
+	/**
+	 * Records how many of the working copies it has seen are still open while a fix is
+	 * calculated. The clean up requires a fresh AST, it is therefore applied to working copies
+	 * if a preceding clean up changed a compilation unit.
+	 */
+	private static final class WorkingCopyRecordingCleanUp extends AbstractCleanUp {
+
+		private final List<ICompilationUnit> fWorkingCopies= new ArrayList<>();
+
+		private int fMaxOpenWorkingCopies;
+
+		@Override
+		public CleanUpRequirements getRequirements() {
+			return new CleanUpRequirements(true, true, false, null);
+		}
+
+		@Override
+		public ICleanUpFix createFix(CleanUpContext context) throws CoreException {
+			ICompilationUnit unit= context.getCompilationUnit();
+			if (unit.getOwner() != null) {
+				fWorkingCopies.add(unit);
+				int open= 0;
+				for (ICompilationUnit workingCopy : fWorkingCopies) {
+					if (workingCopy.isWorkingCopy())
+						open++;
+				}
+				fMaxOpenWorkingCopies= Math.max(fMaxOpenWorkingCopies, open);
+			}
+			return null;
+		}
+
+		public int getWorkingCopyCount() {
+			return fWorkingCopies.size();
+		}
+
+		public int getMaxOpenWorkingCopies() {
+			return fMaxOpenWorkingCopies;
+		}
+
+		public boolean hasOpenWorkingCopies() {
+			for (ICompilationUnit workingCopy : fWorkingCopies) {
+				if (workingCopy.isWorkingCopy())
+					return true;
+			}
+			return false;
+		}
+	}
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	@Override
+	protected IJavaProject getProject() {
+		return projectSetup.getProject();
+	}
+
+	@Override
+	protected IClasspathEntry[] getDefaultClasspath() throws CoreException {
+		return projectSetup.getDefaultClasspath();
+	}
+
+	private ICompilationUnit[] createCompilationUnits() throws Exception {
+		ICompilationUnit[] result= new ICompilationUnit[PACKAGE_COUNT * UNITS_PER_PACKAGE];
+		for (int i= 0; i < PACKAGE_COUNT; i++) {
+			IPackageFragment pack= fSourceFolder.createPackageFragment("test" + i, false, null);
+			for (int j= 0; j < UNITS_PER_PACKAGE; j++) {
+				String sample= "" //
+						+ "package test" + i + ";\n" //
+						+ "import java.util.ArrayList;\n" //
+						+ "import java.util.List;\n" //
+						+ "public class E" + j + " {\n" //
+						+ "    private int count;\n" //
+						+ "    public void foo(List<String> list) {\n" //
+						+ "        if (list.isEmpty())\n" //
+						+ "            count++;\n" //
+						+ "    }\n" //
+						+ "}\n";
+				result[i * UNITS_PER_PACKAGE + j]= pack.createCompilationUnit("E" + j + ".java", sample, false, null);
+			}
+		}
+		return result;
+	}
+
+	private String[] cleanUp(ICompilationUnit[] cus, ICleanUp[] cleanUps, int parallelism) throws Exception {
+		return cleanUp(cus, cleanUps, parallelism, 0);
+	}
+
+	private String[] cleanUp(ICompilationUnit[] cus, ICleanUp[] cleanUps, int parallelism, long memoryBudget) throws Exception {
+		String[] original= new String[cus.length];
+		for (int i= 0; i < cus.length; i++) {
+			original[i]= cus[i].getBuffer().getContents();
+		}
+
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setMaxParallelism(parallelism);
+		ref.setMemoryBudget(memoryBudget);
+		performRefactoring(ref, cus, cleanUps, null);
+
+		String[] result= new String[cus.length];
+		for (int i= 0; i < cus.length; i++) {
+			result[i]= cus[i].getBuffer().getContents();
+			cus[i].getBuffer().setContents(original[i]);
+			cus[i].save(null, true);
+		}
+		return result;
+	}
+
+	@Test
+	public void testOrganizeImportsIsCleanedUpSequentially() throws Exception {
+		enable(CleanUpConstants.ORGANIZE_IMPORTS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		ICompilationUnit[] cus= createCompilationUnits();
+
+		String[] expected= cleanUp(cus, new ICleanUp[] { new ImportsCleanUp(), new ControlStatementsCleanUp() }, 1);
+
+		ThreadRecordingCleanUp recorder= new ThreadRecordingCleanUp();
+		String[] actual= cleanUp(cus, new ICleanUp[] { new ImportsCleanUp(), new ControlStatementsCleanUp(), recorder }, PARALLELISM);
+
+		assertArrayEquals(expected, actual);
+		assertEquals(Set.of(Thread.currentThread()), recorder.getThreads());
+
+		for (String content : actual) {
+			assertTrue(content, content.indexOf("ArrayList") == -1);
+			assertTrue(content, content.indexOf("if (list.isEmpty()) {") != -1);
+		}
+	}
+
+	@Test
+	public void testThreadSafeCleanUpsInParallel() throws Exception {
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS);
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS_ALWAYS);
+
+		ICompilationUnit[] cus= createCompilationUnits();
+
+		String[] expected= cleanUp(cus, new ICleanUp[] { new ControlStatementsCleanUp(), new CodeStyleCleanUp() }, 1);
+
+		ThreadRecordingCleanUp recorder= new ThreadRecordingCleanUp();
+		String[] actual= cleanUp(cus, new ICleanUp[] { new ControlStatementsCleanUp(), new CodeStyleCleanUp(), recorder }, PARALLELISM);
+
+		assertArrayEquals(expected, actual);
+		assertNotEquals(Set.of(Thread.currentThread()), recorder.getThreads());
+		assertEquals(PACKAGE_COUNT, recorder.getThreads().size());
+
+		for (String content : actual) {
+			assertTrue(content, content.indexOf("this.count++;") != -1);
+		}
+	}
+
+	@Test
+	public void testDisabledCleanUpsInParallel() throws Exception {
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		ICompilationUnit[] cus= createCompilationUnits();
+
+		String[] expected= cleanUp(cus, new ICleanUp[] { new ControlStatementsCleanUp() }, 1);
+
+		// organize imports is disabled and does not prevent the parallel clean up
+		ThreadRecordingCleanUp recorder= new ThreadRecordingCleanUp();
+		String[] actual= cleanUp(cus, new ICleanUp[] { new ImportsCleanUp(), new ControlStatementsCleanUp(), recorder }, PARALLELISM);
+
+		assertArrayEquals(expected, actual);
+		assertEquals(PACKAGE_COUNT, recorder.getThreads().size());
+
+		for (String content : actual) {
+			assertTrue(content, content.indexOf("import java.util.ArrayList;") != -1);
+		}
+	}
+
+	@Test
+	public void testWorkingCopiesReleasedWhenBudgetExceeded() throws Exception {
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		ICompilationUnit[] cus= createCompilationUnits();
+
+		WorkingCopyRecordingCleanUp unbounded= new WorkingCopyRecordingCleanUp();
+		String[] expected= cleanUp(cus, new ICleanUp[] { new ControlStatementsCleanUp(), unbounded }, 1);
+		assertEquals(cus.length, unbounded.getWorkingCopyCount());
+		assertEquals(cus.length, unbounded.getMaxOpenWorkingCopies());
+		assertFalse(unbounded.hasOpenWorkingCopies());
+
+		// each compilation unit exceeds the budget and is cleaned up in a batch of its own
+		WorkingCopyRecordingCleanUp bounded= new WorkingCopyRecordingCleanUp();
+		String[] actual= cleanUp(cus, new ICleanUp[] { new ControlStatementsCleanUp(), bounded }, 1, 1);
+		assertEquals(cus.length, bounded.getWorkingCopyCount());
+		assertEquals(1, bounded.getMaxOpenWorkingCopies());
+		assertFalse(bounded.hasOpenWorkingCopies());
+
+		assertArrayEquals(expected, actual);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,19 +14,29 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -60,6 +70,7 @@ import org.eclipse.ltk.core.refactoring.TextEditBasedChangeGroup;
 import org.eclipse.ltk.core.refactoring.TextFileChange;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.JavaModelException;
@@ -82,13 +93,16 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
+import org.eclipse.jdt.internal.ui.fix.IThreadSafeCleanUp;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
 
@@ -244,6 +258,57 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	/**
+	 * Progress monitor shared by the workers of a parallel clean up. Serializes all
+	 * access to the wrapped monitor.
+	 */
+	private static final class SynchronizedProgressMonitor extends ProgressMonitorWrapper {
+
+		private SynchronizedProgressMonitor(IProgressMonitor monitor) {
+			super(monitor);
+		}
+
+		@Override
+		public synchronized void beginTask(String name, int totalWork) {
+			super.beginTask(name, totalWork);
+		}
+
+		@Override
+		public synchronized void done() {
+			super.done();
+		}
+
+		@Override
+		public synchronized void internalWorked(double work) {
+			super.internalWorked(work);
+		}
+
+		@Override
+		public synchronized boolean isCanceled() {
+			return super.isCanceled();
+		}
+
+		@Override
+		public synchronized void setCanceled(boolean b) {
+			super.setCanceled(b);
+		}
+
+		@Override
+		public synchronized void setTaskName(String name) {
+			super.setTaskName(name);
+		}
+
+		@Override
+		public synchronized void subTask(String name) {
+			super.subTask(name);
+		}
+
+		@Override
+		public synchronized void worked(int work) {
+			super.worked(work);
+		}
+	}
+
 	private static class CleanUpASTRequestor extends ASTRequestor {
 
 		private final List<ParseListElement> fUndoneElements;
@@ -325,6 +390,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private class CleanUpFixpointIterator {
 
 		private List<ParseListElement> fParseList;
+		private final ICompilationUnit[] fUnits;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
 		private final Map<String, String> fCleanUpOptions;
@@ -332,12 +398,24 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private int fIndex;
 
 		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+			this(targets, cleanUps, targets.length, 1);
+		}
+
+		/**
+		 * @param targets the targets to clean up
+		 * @param cleanUps the clean ups to apply
+		 * @param size the total number of targets reported in progress messages
+		 * @param index the index of the first target in progress messages
+		 */
+		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps, int size, int index) {
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
 
 			fParseList= new ArrayList<>(targets.length);
-			for (CleanUpTarget target : targets) {
-				fParseList.add(new ParseListElement(target, cleanUps));
+			fUnits= new ICompilationUnit[targets.length];
+			for (int i= 0; i < targets.length; i++) {
+				fParseList.add(new ParseListElement(targets[i], cleanUps));
+				fUnits[i]= targets[i].getCompilationUnit();
 			}
 
 			fCleanUpOptions= new Hashtable<>();
@@ -347,8 +425,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					fCleanUpOptions.putAll(currentCleanUpOption);
 			}
 
-			fSize= targets.length;
-			fIndex= 1;
+			fSize= size;
+			fIndex= index;
 		}
 
 		public boolean hasNext() {
@@ -437,13 +515,17 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return false;
 		}
 
+		/**
+		 * @return the changes, in the order of the targets passed to the constructor
+		 */
 		public Change[] getResult() {
 
 			Change[] result= new Change[fSolutions.size()];
 			int i=0;
-			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
-				List<CleanUpChange> changes= entry.getValue();
-				ICompilationUnit unit= entry.getKey();
+			for (ICompilationUnit unit : fUnits) {
+				List<CleanUpChange> changes= fSolutions.remove(unit);
+				if (changes == null)
+					continue;
 
 				int saveMode;
 				if (fLeaveFilesDirty) {
@@ -501,6 +583,17 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * Minimal number of compilation units per worker for a project to be cleaned up
+	 * in parallel. Smaller partitions do not amortize the cost of a separate batch parser.
+	 */
+	private static final int MIN_PARTITION_SIZE= 50;
+
+	/**
+	 * Interval in ms in which a parallel clean up checks for cancellation.
+	 */
+	private static final int CANCELATION_POLL_INTERVAL= 100;
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -508,6 +601,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private final String fName;
 
 	private boolean fUseOptionsFromProfile;
+	private int fMaxParallelism;
+	private long fMemoryBudget;
 
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
@@ -518,12 +613,42 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fMaxParallelism= 1;
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets the maximal number of worker threads used to calculate the fixes of a project.
+	 * The compilation units of a project are split into per package partitions which are
+	 * processed concurrently. This is only done if all enabled clean ups are
+	 * {@link IThreadSafeCleanUp}s, otherwise the fixes are calculated sequentially.
+	 *
+	 * @param maxParallelism the number of workers, <code>1</code> (the default) to calculate
+	 *            all fixes on the calling thread
+	 */
+	public void setMaxParallelism(int maxParallelism) {
+		fMaxParallelism= Math.max(1, maxParallelism);
+	}
+
+	/**
+	 * Sets the memory budget for the working copies of a clean up. The compilation units are
+	 * cleaned up in batches whose accumulated source size does not exceed the budget. The
+	 * working copies and intermediate changes of a batch are released as soon as the batch
+	 * is finished, so the memory needed does not grow with the number of modified files
+	 * beyond the resulting changes. With parallel execution the budget is shared by all workers,
+	 * each worker uses an equal part of it.
+	 *
+	 * @param bytes the maximal source size of a batch in bytes, <code>0</code> (the default)
+	 *            to clean up all compilation units of a project in one batch
+	 * @see #setMaxParallelism(int)
+	 */
+	public void setMemoryBudget(long bytes) {
+		fMemoryBudget= Math.max(0, bytes);
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -672,23 +797,225 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	}
 
 	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
-		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps);
+		List<CleanUpTarget[]> partitions= createPartitions(targets, cleanUps);
+		if (partitions.size() > 1)
+			return cleanUpPartitions(project, targets, partitions, cleanUps, monitor);
 
 		SubProgressMonitor subMonitor= new SubProgressMonitor(monitor, 2 * targets.length * cleanUps.length);
 		subMonitor.beginTask("", targets.length); //$NON-NLS-1$
 		subMonitor.subTask(Messages.format(FixMessages.CleanUpRefactoring_Parser_Startup_message, BasicElementLabels.getResourceName(project.getProject())));
 		try {
-			while (iter.hasNext()) {
-				iter.next(subMonitor);
+			return cleanUpTargets(targets, cleanUps, fMemoryBudget, targets.length, 1, subMonitor);
+		} finally {
+			subMonitor.done();
+		}
+	}
+
+	/**
+	 * Cleans up the given targets in batches which fit into the memory budget. The working
+	 * copies of a batch are discarded before the next batch is started, only the resulting
+	 * changes are kept.
+	 *
+	 * @param targets the targets to clean up
+	 * @param cleanUps the clean ups to apply
+	 * @param memoryBudget the maximal source size of a batch in bytes, <code>0</code> for a
+	 *            single batch
+	 * @param size the total number of targets reported in progress messages
+	 * @param index the index of the first target in progress messages
+	 * @param monitor the progress monitor
+	 * @return the changes, in the order of <code>targets</code>
+	 * @throws CoreException if a fix could not be calculated
+	 */
+	private Change[] cleanUpTargets(CleanUpTarget[] targets, ICleanUp[] cleanUps, long memoryBudget, int size, int index, IProgressMonitor monitor) throws CoreException {
+		List<Change> result= new ArrayList<>();
+		for (CleanUpTarget[] batch : createBatches(targets, memoryBudget)) {
+			CleanUpFixpointIterator iter= new CleanUpFixpointIterator(batch, cleanUps, size, index);
+			try {
+				while (iter.hasNext()) {
+					iter.next(monitor);
+				}
+
+				Collections.addAll(result, iter.getResult());
+			} finally {
+				iter.dispose();
+			}
+			index+= batch.length;
+		}
+		return result.toArray(new Change[result.size()]);
+	}
+
+	private static List<CleanUpTarget[]> createBatches(CleanUpTarget[] targets, long memoryBudget) {
+		List<CleanUpTarget[]> result= new ArrayList<>();
+		if (memoryBudget <= 0) {
+			result.add(targets);
+			return result;
+		}
+
+		List<CleanUpTarget> current= new ArrayList<>();
+		long currentSize= 0;
+		for (CleanUpTarget target : targets) {
+			long targetSize= getSourceSize(target.getCompilationUnit());
+			if (!current.isEmpty() && currentSize + targetSize > memoryBudget) {
+				result.add(current.toArray(new CleanUpTarget[current.size()]));
+				current.clear();
+				currentSize= 0;
+			}
+			current.add(target);
+			currentSize+= targetSize;
+		}
+		if (!current.isEmpty())
+			result.add(current.toArray(new CleanUpTarget[current.size()]));
+
+		return result;
+	}
+
+	private static long getSourceSize(ICompilationUnit unit) {
+		IResource resource= unit.getResource();
+		if (resource == null)
+			return 0;
+
+		IPath location= resource.getLocation();
+		if (location == null)
+			return 0;
+
+		return location.toFile().length();
+	}
+
+	/**
+	 * Splits the given targets into at most <code>fMaxParallelism</code> partitions. The
+	 * targets are grouped by package, the partitions are contiguous runs of packages in the
+	 * order in which the packages first occur in <code>targets</code>.
+	 *
+	 * @param targets the targets of a project
+	 * @param cleanUps the clean ups to apply
+	 * @return the partitions, a single partition if the project is not cleaned up in parallel
+	 */
+	private List<CleanUpTarget[]> createPartitions(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+		List<CleanUpTarget[]> result= new ArrayList<>();
+		int count= Math.min(fMaxParallelism, targets.length / MIN_PARTITION_SIZE);
+		if (count <= 1 || !isThreadSafe(cleanUps)) {
+			result.add(targets);
+			return result;
+		}
+
+		Map<IJavaElement, List<CleanUpTarget>> packages= new LinkedHashMap<>();
+		for (CleanUpTarget target : targets) {
+			IJavaElement pack= target.getCompilationUnit().getParent();
+			List<CleanUpTarget> packageTargets= packages.get(pack);
+			if (packageTargets == null) {
+				packageTargets= new ArrayList<>();
+				packages.put(pack, packageTargets);
+			}
+			packageTargets.add(target);
+		}
+
+		int partitionSize= (targets.length + count - 1) / count;
+		List<CleanUpTarget> current= new ArrayList<>();
+		for (List<CleanUpTarget> packageTargets : packages.values()) {
+			current.addAll(packageTargets);
+			if (current.size() >= partitionSize) {
+				result.add(current.toArray(new CleanUpTarget[current.size()]));
+				current.clear();
+			}
+		}
+		if (!current.isEmpty())
+			result.add(current.toArray(new CleanUpTarget[current.size()]));
+
+		return result;
+	}
+
+	/**
+	 * Returns whether the fixes of the given clean ups can be calculated concurrently. Clean ups
+	 * which are disabled by their options are ignored, only the enabled ones must be
+	 * {@link IThreadSafeCleanUp}s.
+	 *
+	 * @param cleanUps the clean ups with their options set
+	 * @return <code>true</code> if all enabled clean ups are thread safe
+	 */
+	private static boolean isThreadSafe(ICleanUp[] cleanUps) {
+		for (ICleanUp cleanUp : cleanUps) {
+			if (!(cleanUp instanceof IThreadSafeCleanUp) && isEnabled(cleanUp))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the given clean up executes a step with its current options. A disabled
+	 * clean up describes no step and requires neither an AST nor the changed regions.
+	 *
+	 * @param cleanUp the clean up with its options set
+	 * @return <code>true</code> if the clean up may create a fix
+	 */
+	private static boolean isEnabled(ICleanUp cleanUp) {
+		if (!(cleanUp instanceof AbstractCleanUp))
+			return true; // contributed clean ups are not known to describe all their steps
+
+		String[] steps= cleanUp.getStepDescriptions();
+		if (steps != null && steps.length > 0)
+			return true;
+
+		CleanUpRequirements requirements= cleanUp.getRequirements();
+		return requirements.requiresAST() || requirements.requiresChangedRegions();
+	}
+
+	private Change[] cleanUpPartitions(IJavaProject project, CleanUpTarget[] targets, List<CleanUpTarget[]> partitions, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
+		SubProgressMonitor subMonitor= new SubProgressMonitor(monitor, 2 * targets.length * cleanUps.length);
+		subMonitor.beginTask("", targets.length); //$NON-NLS-1$
+		subMonitor.subTask(Messages.format(FixMessages.CleanUpRefactoring_Parser_Startup_message, BasicElementLabels.getResourceName(project.getProject())));
+
+		final IProgressMonitor sharedMonitor= new SynchronizedProgressMonitor(subMonitor);
+		final long memoryBudget= fMemoryBudget > 0 ? Math.max(1, fMemoryBudget / partitions.size()) : 0;
+		ExecutorService executor= Executors.newFixedThreadPool(partitions.size());
+		try {
+			List<Future<Change[]>> futures= new ArrayList<>(partitions.size());
+			int index= 1;
+			for (CleanUpTarget[] partition : partitions) {
+				final int partitionIndex= index;
+				index+= partition.length;
+				futures.add(executor.submit(() -> cleanUpTargets(partition, cleanUps, memoryBudget, targets.length, partitionIndex, sharedMonitor)));
 			}
 
-			return iter.getResult();
+			List<Change> result= new ArrayList<>();
+			for (Future<Change[]> future : futures) {
+				for (Change change : waitForPartition(future, sharedMonitor)) {
+					result.add(change);
+				}
+			}
+			return result.toArray(new Change[result.size()]);
 		} finally {
-			iter.dispose();
+			executor.shutdownNow();
 			subMonitor.done();
 		}
 	}
 
+	private static Change[] waitForPartition(Future<Change[]> future, IProgressMonitor monitor) throws CoreException {
+		while (true) {
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+
+			try {
+				return future.get(CANCELATION_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// poll again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof CoreException)
+					throw (CoreException) cause;
+				if (cause instanceof FixCalculationException)
+					throw ((FixCalculationException) cause).getException();
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				if (cause instanceof Error)
+					throw (Error) cause;
+				throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
+			}
+		}
+	}
+
 	private RefactoringStatus setOptionsFromProfile(IJavaProject javaProject, ICleanUp[] cleanUps) {
 		Map<String, String> options= CleanUpPreferenceUtil.loadOptions(new ProjectScope(javaProject.getProject()));
 		if (options == null)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -264,6 +264,19 @@ public class TypeInfoFilter {
 		return matchesName(type);
 	}
 
+	/**
+	 * Returns whether the package and the scope of the given type match this filter. Used with
+	 * {@link #matchesName(String)} and {@link #matchesModifiers(int)} to filter types
+	 * before a {@link TypeNameMatch} has been created for them.
+	 *
+	 * @param type the type
+	 * @return <code>true</code> if the package and the scope match
+	 * @since 3.26
+	 */
+	public boolean matchesPackageAndScope(TypeNameMatch type) {
+		return matchesPackage(type) && matchesScope(type);
+	}
+
 	public boolean matchesFilterExtension(TypeNameMatch type) {
 		if (fFilterExtension == null)
 			return true;
@@ -272,10 +285,21 @@ public class TypeInfoFilter {
 	}
 
 	private boolean matchesName(TypeNameMatch type) {
+		return matchesName(type.getSimpleTypeName());
+	}
+
+	/**
+	 * Returns whether the given simple type name matches the name pattern of this filter.
+	 *
+	 * @param simpleTypeName the simple type name
+	 * @return <code>true</code> if the name matches
+	 * @since 3.26
+	 */
+	public boolean matchesName(String simpleTypeName) {
 		if (fText.length() == 0) {
 			return true; //empty pattern matches all names
 		}
-		return fNameMatcher.matches(type.getSimpleTypeName());
+		return fNameMatcher.matches(simpleTypeName);
 	}
 
 	private boolean matchesPackage(TypeNameMatch type) {
@@ -291,9 +315,20 @@ public class TypeInfoFilter {
 	}
 
 	private boolean matchesModifiers(TypeNameMatch type) {
+		return matchesModifiers(type.getModifiers());
+	}
+
+	/**
+	 * Returns whether a type with the given modifiers is of the element kind of this filter.
+	 *
+	 * @param typeModifiers the modifiers of the type
+	 * @return <code>true</code> if the modifiers match
+	 * @since 3.26
+	 */
+	public boolean matchesModifiers(int typeModifiers) {
 		if (fElementKind == IJavaSearchConstants.TYPE)
 			return true;
-		int modifiers= type.getModifiers() & TYPE_MODIFIERS;
+		int modifiers= typeModifiers & TYPE_MODIFIERS;
 		switch (fElementKind) {
 			case IJavaSearchConstants.CLASS:
 				return modifiers == 0;
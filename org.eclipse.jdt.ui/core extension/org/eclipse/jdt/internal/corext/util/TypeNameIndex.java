@@ -0,0 +1,623 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.CorextMessages;
+
+/**
+ * In-memory index of the names of all types in the workspace, used by the open type dialog to
+ * filter types without a search for every change of the pattern.
+ * <p>
+ * The index is built with a single search in a job, which is scheduled when the index is first
+ * used; searches until then are left to the caller. The names are packed into one
+ * character array, sorted by their lower case simple names, so that the types matching a prefix,
+ * camel case or exact pattern are looked up by binary search on the first characters of the
+ * pattern. Only the package fragment, the type qualified name and the modifiers of a type are
+ * kept, its handle and {@link TypeNameMatch} are created for the matches.
+ * </p>
+ * <p>
+ * Changed compilation units are read again from Java element deltas and overlay the types
+ * indexed for them. Changes of classpaths, package fragment roots or class files make the index
+ * stale; it is then built again in the job when it is used next.
+ * </p>
+ * <p>
+ * Searches run on an immutable snapshot of the index and do not lock. This class is thread safe.
+ * </p>
+ *
+ * @since 3.26
+ */
+public final class TypeNameIndex {
+
+	/**
+	 * System property to disable the index, the open type dialog then searches for every
+	 * pattern.
+	 */
+	public static final String ENABLED_PROPERTY= "org.eclipse.jdt.ui.typeNameIndex"; //$NON-NLS-1$
+
+	/**
+	 * Maximal number of changed compilation units that overlay the index before it is built again.
+	 */
+	private static final int MAX_CHANGED_UNITS= 1000;
+
+	private static final String JAVA_EXTENSION= ".java"; //$NON-NLS-1$
+
+	private static final String CLASS_EXTENSION= ".class"; //$NON-NLS-1$
+
+	/**
+	 * The types of a changed compilation unit.
+	 */
+	private static final class UnitType {
+		final IType fType;
+		final String fSimpleName;
+		final int fModifiers;
+
+		UnitType(IType type, int modifiers) {
+			fType= type;
+			fSimpleName= type.getElementName();
+			fModifiers= modifiers;
+		}
+	}
+
+	/**
+	 * An immutable state of the index.
+	 */
+	private static final class Snapshot {
+		/** The type qualified names, e.g. <code>Outer.Inner</code>, sorted by simple names */
+		final char[] fChars;
+		/** The start of the type qualified name of each type in {@link #fChars}, plus the end */
+		final int[] fStarts;
+		/** The start of the simple name of each type in {@link #fChars} */
+		final int[] fSimpleNameStarts;
+		/** The index of the package fragment of each type in {@link #fPackages} */
+		final int[] fPackageIndices;
+		final int[] fModifiers;
+		final IPackageFragment[] fPackages;
+		final boolean[] fBinaryPackages;
+		/** Names of compilation units that cannot be derived from the type qualified name */
+		final Map<Integer, String> fUnitNames;
+		/** The types of the changed compilation units, overlaying the indexed ones */
+		final Map<ICompilationUnit, UnitType[]> fChangedUnits;
+
+		Snapshot(char[] chars, int[] starts, int[] simpleNameStarts, int[] packageIndices, int[] modifiers, IPackageFragment[] packages,
+				boolean[] binaryPackages, Map<Integer, String> unitNames, Map<ICompilationUnit, UnitType[]> changedUnits) {
+			fChars= chars;
+			fStarts= starts;
+			fSimpleNameStarts= simpleNameStarts;
+			fPackageIndices= packageIndices;
+			fModifiers= modifiers;
+			fPackages= packages;
+			fBinaryPackages= binaryPackages;
+			fUnitNames= unitNames;
+			fChangedUnits= changedUnits;
+		}
+
+		Snapshot withChangedUnits(Map<ICompilationUnit, UnitType[]> changedUnits) {
+			return new Snapshot(fChars, fStarts, fSimpleNameStarts, fPackageIndices, fModifiers, fPackages, fBinaryPackages, fUnitNames, changedUnits);
+		}
+
+		int size() {
+			return fModifiers.length;
+		}
+
+		String getSimpleName(int i) {
+			return new String(fChars, fSimpleNameStarts[i], fStarts[i + 1] - fSimpleNameStarts[i]);
+		}
+
+		/**
+		 * Compares the lower case simple name of a type with a lower case prefix.
+		 *
+		 * @return a negative number if the name sorts before the prefix, 0 if it starts with the
+		 *         prefix, a positive number otherwise
+		 */
+		int compareToPrefix(int i, String prefix) {
+			int start= fSimpleNameStarts[i];
+			int length= fStarts[i + 1] - start;
+			int n= Math.min(length, prefix.length());
+			for (int k= 0; k < n; k++) {
+				int diff= Character.toLowerCase(fChars[start + k]) - prefix.charAt(k);
+				if (diff != 0)
+					return diff;
+			}
+			return length < prefix.length() ? -1 : 0;
+		}
+
+		/**
+		 * Creates the handle of an indexed type.
+		 *
+		 * @return the type
+		 */
+		IType createType(int i) {
+			IPackageFragment pack= fPackages[fPackageIndices[i]];
+			String qualifiedName= new String(fChars, fStarts[i], fStarts[i + 1] - fStarts[i]);
+			String unitName= fUnitNames.get(Integer.valueOf(i));
+			if (fBinaryPackages[fPackageIndices[i]]) {
+				if (unitName == null)
+					unitName= qualifiedName.replace('.', '$') + CLASS_EXTENSION;
+				return pack.getOrdinaryClassFile(unitName).getType();
+			}
+			String[] segments= qualifiedName.split("\\."); //$NON-NLS-1$
+			if (unitName == null)
+				unitName= segments[0] + JAVA_EXTENSION;
+			IType type= pack.getCompilationUnit(unitName).getType(segments[0]);
+			for (int k= 1; k < segments.length; k++) {
+				type= type.getType(segments[k]);
+			}
+			return type;
+		}
+	}
+
+	private final class DeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<ICompilationUnit> changedUnits= new HashSet<>();
+			if (processDelta(event.getDelta(), changedUnits)) {
+				markStale();
+			} else if (!changedUnits.isEmpty()) {
+				unitsChanged(changedUnits);
+			}
+		}
+	}
+
+	private static class BuildJob extends Job {
+		public static final String FAMILY= BuildJob.class.getName();
+		public BuildJob() {
+			super(CorextMessages.TypeNameIndex_build);
+		}
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				TypeNameIndex.getInstance().build(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (JavaModelException e) {
+				return e.getStatus();
+			}
+			return Status.OK_STATUS;
+		}
+		@Override
+		public boolean belongsTo(Object family) {
+			return FAMILY.equals(family);
+		}
+	}
+
+	private static TypeNameIndex fgInstance;
+
+	/** The current snapshot, <code>null</code> if the index has to be built */
+	private volatile Snapshot fSnapshot;
+
+	/** Serializes builds of the index */
+	private final Object fBuildLock= new Object();
+
+	/** Whether the index is being built, guarded by <code>this</code> */
+	private boolean fBuilding;
+
+	/** Units changed while the index is built, guarded by <code>this</code> */
+	private final Set<ICompilationUnit> fPendingUnits= new HashSet<>();
+
+	/** Whether the index became stale while it was built, guarded by <code>this</code> */
+	private boolean fStaleWhileBuilding;
+
+	private final IElementChangedListener fDeltaListener;
+
+	private final BuildJob fBuildJob;
+
+	public static synchronized TypeNameIndex getInstance() {
+		if (fgInstance == null)
+			fgInstance= new TypeNameIndex();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		JavaCore.removeElementChangedListener(fgInstance.fDeltaListener);
+		fgInstance.fBuildJob.cancel();
+		fgInstance= null;
+	}
+
+	/**
+	 * Returns whether the open type dialog uses the index, see {@link #ENABLED_PROPERTY}.
+	 *
+	 * @return <code>true</code> if the index is enabled
+	 */
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, Boolean.TRUE.toString()));
+	}
+
+	private TypeNameIndex() {
+		fDeltaListener= new DeltaListener();
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		fBuildJob= new BuildJob();
+		fBuildJob.setSystem(true);
+		fBuildJob.setPriority(Job.SHORT);
+	}
+
+	/**
+	 * Reports the types that match the given filter like {@link TypeInfoFilter#matchesHistoryElement(TypeNameMatch)},
+	 * except for the filter extension. Nothing is reported if the index is not built; the build is
+	 * then scheduled and the caller has to search for the types itself.
+	 *
+	 * @param filter the filter
+	 * @param requestor the requestor to report the matches to
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @return <code>true</code> if the matches have been reported, <code>false</code> if the index
+	 *         is not built
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	public boolean search(TypeInfoFilter filter, TypeNameMatchRequestor requestor, IProgressMonitor monitor) {
+		Snapshot snapshot= fSnapshot;
+		if (snapshot == null) {
+			// the build is not canceled with the searches of the changing patterns
+			fBuildJob.schedule();
+			return false;
+		}
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+
+		int from= 0;
+		int to= snapshot.size();
+		String prefix= getLookupPrefix(filter);
+		if (prefix.length() > 0) {
+			from= lowerBound(snapshot, prefix, 0);
+			to= lowerBound(snapshot, prefix, 1);
+		}
+
+		Map<ICompilationUnit, UnitType[]> changedUnits= snapshot.fChangedUnits;
+		for (int i= from; i < to; i++) {
+			if ((i & 0xff) == 0 && monitor.isCanceled())
+				throw new OperationCanceledException();
+			if (!filter.matchesModifiers(snapshot.fModifiers[i]) || !filter.matchesName(snapshot.getSimpleName(i)))
+				continue;
+			IType type= snapshot.createType(i);
+			if (!changedUnits.isEmpty() && changedUnits.containsKey(type.getCompilationUnit()))
+				continue;
+			accept(SearchEngine.createTypeNameMatch(type, snapshot.fModifiers[i]), filter, requestor);
+		}
+		for (UnitType[] types : changedUnits.values()) {
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+			for (UnitType type : types) {
+				if (filter.matchesModifiers(type.fModifiers) && filter.matchesName(type.fSimpleName))
+					accept(SearchEngine.createTypeNameMatch(type.fType, type.fModifiers), filter, requestor);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Builds the index if it is not built. The index is usually built by a job scheduled by
+	 * {@link #search(TypeInfoFilter, TypeNameMatchRequestor, IProgressMonitor)}.
+	 *
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @throws JavaModelException if the index cannot be built
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	public void build(IProgressMonitor monitor) throws JavaModelException {
+		if (fSnapshot != null)
+			return;
+		synchronized (fBuildLock) {
+			if (fSnapshot != null)
+				return;
+			synchronized (this) {
+				fBuilding= true;
+				fStaleWhileBuilding= false;
+				fPendingUnits.clear();
+			}
+			try {
+				Snapshot snapshot= createSnapshot(monitor == null ? new NullProgressMonitor() : monitor);
+				synchronized (this) {
+					if (!fPendingUnits.isEmpty())
+						snapshot= snapshot.withChangedUnits(readUnits(snapshot.fChangedUnits, fPendingUnits));
+					// a stale index is discarded, it is built again when it is used next
+					if (!fStaleWhileBuilding)
+						fSnapshot= snapshot;
+				}
+			} finally {
+				synchronized (this) {
+					fBuilding= false;
+					fPendingUnits.clear();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the index is built and up to date.
+	 *
+	 * @return <code>true</code> if the next search does not build the index
+	 */
+	public boolean isBuilt() {
+		return fSnapshot != null;
+	}
+
+	/**
+	 * Discards the index, it is built again when it is used next.
+	 */
+	public synchronized void markStale() {
+		fSnapshot= null;
+		if (fBuilding)
+			fStaleWhileBuilding= true;
+	}
+
+	private static void accept(TypeNameMatch match, TypeInfoFilter filter, TypeNameMatchRequestor requestor) {
+		if (filter.matchesPackageAndScope(match))
+			requestor.acceptTypeNameMatch(match);
+	}
+
+	/**
+	 * Returns the lower case characters that the simple names of all matches start with.
+	 *
+	 * @param filter the filter
+	 * @return the prefix, empty if the matches can start with any character
+	 */
+	private static String getLookupPrefix(TypeInfoFilter filter) {
+		if (filter.getText().length() == 0)
+			return ""; //$NON-NLS-1$
+		String pattern= filter.getNamePattern();
+		int matchKind= filter.getSearchFlags();
+		// camel case and wildcard patterns are anchored at the first character of the name
+		int length= matchKind == SearchPattern.R_PREFIX_MATCH || matchKind == SearchPattern.R_EXACT_MATCH ? pattern.length() : Math.min(1, pattern.length());
+		StringBuilder prefix= new StringBuilder(length);
+		for (int i= 0; i < length; i++) {
+			char ch= pattern.charAt(i);
+			// case insensitive matching of other characters does not map to lower case
+			if (ch == '*' || ch == '?' || ch >= 128)
+				break;
+			prefix.append(Character.toLowerCase(ch));
+		}
+		return prefix.toString();
+	}
+
+	/**
+	 * Returns the index of the first type whose simple name does not sort before the prefix if
+	 * <code>bound</code> is 0, or after the types that start with the prefix if it is 1.
+	 */
+	private static int lowerBound(Snapshot snapshot, String prefix, int bound) {
+		int low= 0;
+		int high= snapshot.size();
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (snapshot.compareToPrefix(mid, prefix) < bound)
+				low= mid + 1;
+			else
+				high= mid;
+		}
+		return low;
+	}
+
+	private static Snapshot createSnapshot(IProgressMonitor monitor) throws JavaModelException {
+		List<TypeNameMatch> matches= new ArrayList<>();
+		TypeNameMatchRequestor requestor= new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				matches.add(match);
+			}
+		};
+		// consider primary working copies like the open type dialog
+		new SearchEngine((WorkingCopyOwner) null).searchAllTypeNames(
+				null,
+				SearchPattern.R_EXACT_MATCH,
+				null,
+				SearchPattern.R_PREFIX_MATCH,
+				IJavaSearchConstants.TYPE,
+				SearchEngine.createWorkspaceScope(),
+				requestor,
+				IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+				monitor);
+
+		int size= matches.size();
+		String[] simpleNames= new String[size];
+		String[] lowerCaseNames= new String[size];
+		Integer[] order= new Integer[size];
+		int length= 0;
+		for (int i= 0; i < size; i++) {
+			TypeNameMatch match= matches.get(i);
+			simpleNames[i]= match.getSimpleTypeName();
+			lowerCaseNames[i]= toLowerCase(simpleNames[i]);
+			order[i]= Integer.valueOf(i);
+			length+= match.getTypeQualifiedName().length();
+		}
+		Arrays.sort(order, (i1, i2) -> lowerCaseNames[i1.intValue()].compareTo(lowerCaseNames[i2.intValue()]));
+
+		char[] chars= new char[length];
+		int[] starts= new int[size + 1];
+		int[] simpleNameStarts= new int[size];
+		int[] packageIndices= new int[size];
+		int[] modifiers= new int[size];
+		Map<IPackageFragment, Integer> packages= new HashMap<>();
+		List<Boolean> binaryPackages= new ArrayList<>();
+		Map<Integer, String> unitNames= new HashMap<>();
+		int offset= 0;
+		for (int i= 0; i < size; i++) {
+			if ((i & 0xfff) == 0 && monitor.isCanceled())
+				throw new OperationCanceledException();
+			TypeNameMatch match= matches.get(order[i].intValue());
+			IType type= match.getType();
+			String qualifiedName= match.getTypeQualifiedName();
+			qualifiedName.getChars(0, qualifiedName.length(), chars, offset);
+			starts[i]= offset;
+			simpleNameStarts[i]= offset + qualifiedName.length() - simpleNames[order[i].intValue()].length();
+			offset+= qualifiedName.length();
+			modifiers[i]= match.getModifiers();
+
+			IPackageFragment pack= type.getPackageFragment();
+			Integer packageIndex= packages.get(pack);
+			if (packageIndex == null) {
+				packageIndex= Integer.valueOf(packages.size());
+				packages.put(pack, packageIndex);
+				binaryPackages.add(Boolean.valueOf(type.isBinary()));
+			}
+			packageIndices[i]= packageIndex.intValue();
+
+			String unitName= type.getTypeRoot().getElementName();
+			String derivedName= type.isBinary()
+					? qualifiedName.replace('.', '$') + CLASS_EXTENSION
+					: qualifiedName.split("\\.")[0] + JAVA_EXTENSION; //$NON-NLS-1$
+			if (!unitName.equals(derivedName))
+				unitNames.put(Integer.valueOf(i), unitName);
+		}
+		starts[size]= offset;
+
+		IPackageFragment[] packageArray= new IPackageFragment[packages.size()];
+		for (Map.Entry<IPackageFragment, Integer> entry : packages.entrySet()) {
+			packageArray[entry.getValue().intValue()]= entry.getKey();
+		}
+		boolean[] binaryArray= new boolean[binaryPackages.size()];
+		for (int i= 0; i < binaryArray.length; i++) {
+			binaryArray[i]= binaryPackages.get(i).booleanValue();
+		}
+		return new Snapshot(chars, starts, simpleNameStarts, packageIndices, modifiers, packageArray, binaryArray, unitNames,
+				Collections.emptyMap());
+	}
+
+	private static String toLowerCase(String name) {
+		char[] chars= name.toCharArray();
+		for (int i= 0; i < chars.length; i++) {
+			chars[i]= Character.toLowerCase(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	private synchronized void unitsChanged(Set<ICompilationUnit> units) {
+		if (fBuilding)
+			fPendingUnits.addAll(units);
+		Snapshot snapshot= fSnapshot;
+		if (snapshot == null)
+			return;
+		Map<ICompilationUnit, UnitType[]> changedUnits= readUnits(snapshot.fChangedUnits, units);
+		fSnapshot= changedUnits.size() > MAX_CHANGED_UNITS ? null : snapshot.withChangedUnits(changedUnits);
+	}
+
+	private static Map<ICompilationUnit, UnitType[]> readUnits(Map<ICompilationUnit, UnitType[]> changedUnits, Collection<ICompilationUnit> units) {
+		Map<ICompilationUnit, UnitType[]> result= new HashMap<>(changedUnits);
+		for (ICompilationUnit unit : units) {
+			List<UnitType> types= new ArrayList<>();
+			if (unit.exists()) {
+				try {
+					for (IType type : unit.getAllTypes()) {
+						types.add(new UnitType(type, type.getFlags()));
+					}
+				} catch (JavaModelException e) {
+					// the unit has been removed concurrently
+				}
+			}
+			result.put(unit, types.toArray(new UnitType[types.size()]));
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Collects the compilation units whose types may have changed.
+	 *
+	 * @param delta the delta
+	 * @param changedUnits the set to add the changed units to
+	 * @return <code>true</code> if the index is stale
+	 */
+	private static boolean processDelta(IJavaElementDelta delta, Set<ICompilationUnit> changedUnits) {
+		IJavaElement element= delta.getElement();
+		boolean isChanged= delta.getKind() == IJavaElementDelta.CHANGED;
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (!isChanged || (delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0)
+					return true;
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() == IJavaElementDelta.ADDED && isSourcePackage((IPackageFragment) element)) {
+					try {
+						changedUnits.addAll(Arrays.asList(((IPackageFragment) element).getCompilationUnits()));
+					} catch (JavaModelException e) {
+						return true;
+					}
+					return false;
+				}
+				if (!isChanged)
+					return true;
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit= (ICompilationUnit) element;
+				if (!JavaModelUtil.isPrimary(unit))
+					return false;
+				if (!isChanged || (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0 || hasTypeChange(delta))
+					changedUnits.add(unit.getPrimary());
+				return false;
+			case IJavaElement.CLASS_FILE:
+				return true;
+			default:
+				return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (processDelta(child, changedUnits))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isSourcePackage(IPackageFragment pack) {
+		try {
+			return pack.getKind() == IPackageFragmentRoot.K_SOURCE;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns whether a fine grained delta adds, removes or modifies a type.
+	 */
+	private static boolean hasTypeChange(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() != IJavaElement.TYPE)
+				continue;
+			if (child.getKind() != IJavaElementDelta.CHANGED || (child.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0 || hasTypeChange(child))
+				return true;
+		}
+		return false;
+	}
+}
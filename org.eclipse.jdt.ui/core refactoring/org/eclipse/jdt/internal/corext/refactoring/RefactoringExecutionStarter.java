@@ -152,6 +152,12 @@ import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
  */
 public final class RefactoringExecutionStarter {
 
+	/**
+	 * Fraction of the maximal heap size used as the source size budget of a clean up, shared by all
+	 * workers.
+	 */
+	private static final int CLEAN_UP_MEMORY_BUDGET_DIVISOR= 32;
+
 	private static RenameSupport createRenameSupport(IJavaElement element, String newName, int flags) throws CoreException {
 		switch (element.getElementType()) {
 			case IJavaElement.JAVA_PROJECT:
@@ -229,6 +235,8 @@ public final class RefactoringExecutionStarter {
 
 	public static void startCleanupRefactoring(ICompilationUnit[] cus, ICleanUp[] cleanUps, boolean useOptionsFromProfile, Shell shell, boolean showWizard, String actionName) throws InvocationTargetException {
 		final CleanUpRefactoring refactoring= new CleanUpRefactoring(actionName);
+		refactoring.setMaxParallelism(Runtime.getRuntime().availableProcessors());
+		refactoring.setMemoryBudget(Runtime.getRuntime().maxMemory() / CLEAN_UP_MEMORY_BUDGET_DIVISOR);
 		for (ICompilationUnit cu : cus) {
 			refactoring.addCompilationUnit(cu);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,6 +75,7 @@ import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoRequestorAdapter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -663,20 +664,24 @@ public class TypeInfoViewer {
 		protected TypeNameMatch[] getSearchResult(Set matchIdsInHistory, ProgressMonitor monitor) throws CoreException {
 			long start= System.currentTimeMillis();
 			fReqestor.setHistory(matchIdsInHistory);
-			// consider primary working copies during searching
-			SearchEngine engine= new SearchEngine((WorkingCopyOwner)null);
-			String packPattern= fFilter.getPackagePattern();
 			monitor.setTaskName(JavaUIMessages.TypeInfoViewer_searchJob_taskName);
-			engine.searchAllTypeNames(
-				packPattern == null ? null : packPattern.toCharArray(),
-				fFilter.getPackageFlags(),
-				fFilter.getNamePattern().toCharArray(),
-				fFilter.getSearchFlags(),
-				fElementKind,
-				fScope,
-				fReqestor,
-				IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
-				monitor);
+			// until the index is built, the types are searched
+			if (!TypeNameIndex.isEnabled() || fFilter.getSearchScope() != fScope || fFilter.getElementKind() != fElementKind
+					|| !TypeNameIndex.getInstance().search(fFilter, fReqestor, monitor)) {
+				// consider primary working copies during searching
+				SearchEngine engine= new SearchEngine((WorkingCopyOwner)null);
+				String packPattern= fFilter.getPackagePattern();
+				engine.searchAllTypeNames(
+					packPattern == null ? null : packPattern.toCharArray(),
+					fFilter.getPackageFlags(),
+					fFilter.getNamePattern().toCharArray(),
+					fFilter.getSearchFlags(),
+					fElementKind,
+					fScope,
+					fReqestor,
+					IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+					monitor);
+			}
 			if (DEBUG)
 				System.out.println("Time needed until search has finished: " + (System.currentTimeMillis() - start)); //$NON-NLS-1$
 			TypeNameMatch[] result= fReqestor.getResult();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -104,6 +105,7 @@ import org.eclipse.jdt.internal.corext.template.java.SWTContextType;
 import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
 import org.eclipse.jdt.internal.corext.util.QualifiedTypeNameHistory;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
 import org.eclipse.jdt.ui.JavaUI;
@@ -158,6 +160,11 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 * @since 3.0
 	 */
 	private static final String CODE_TEMPLATES_KEY= "org.eclipse.jdt.ui.text.custom_code_templates"; //$NON-NLS-1$
+	/**
+	 * The name of the file in the state location to which the content assist history is saved.
+	 * @since 3.26
+	 */
+	private static final String CONTENT_ASSIST_HISTORY_FILE= "content_assist_history.dat"; //$NON-NLS-1$
 
 	public static boolean DEBUG_AST_PROVIDER;
 
@@ -513,9 +520,14 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 				fTypeFilter= null;
 			}
 
-			if (fContentAssistHistory != null) {
-				ContentAssistHistory.store(fContentAssistHistory, getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
-				fContentAssistHistory= null;
+			synchronized (this) {
+				if (fContentAssistHistory != null) {
+					fContentAssistHistory.flush();
+					fContentAssistHistory.setFile(null);
+					fContentAssistHistory= null;
+					// the history is saved to the state location, drop the one of earlier versions
+					getPluginPreferences().setToDefault(PreferenceConstants.CODEASSIST_LRU_HISTORY);
+				}
 			}
 
 			if (fTemplateStore != null) {
@@ -560,6 +572,7 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 			// must add here to guarantee that it is the first in the listener list
 
 			OpenTypeHistory.shutdown();
+			TypeNameIndex.shutdown();
 
 			JavaManipulation.setPreferenceNodeId(null);
 		} finally {
@@ -1022,15 +1035,25 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 * @return the Java content assist history
 	 * @since 3.2
 	 */
-	public ContentAssistHistory getContentAssistHistory() {
+	public synchronized ContentAssistHistory getContentAssistHistory() {
 		if (fContentAssistHistory == null) {
+			File file= getStateLocation().append(CONTENT_ASSIST_HISTORY_FILE).toFile();
+			boolean migrated= false;
 			try {
-				fContentAssistHistory= ContentAssistHistory.load(getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
+				fContentAssistHistory= ContentAssistHistory.load(file);
+				if (fContentAssistHistory == null) {
+					// read the history that earlier versions stored in the preferences
+					fContentAssistHistory= ContentAssistHistory.load(getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
+					migrated= fContentAssistHistory != null;
+				}
 			} catch (CoreException x) {
 				log(x);
 			}
 			if (fContentAssistHistory == null)
 				fContentAssistHistory= new ContentAssistHistory();
+			fContentAssistHistory.setFile(file);
+			if (migrated)
+				fContentAssistHistory.setDirty();
 		}
 
 		return fContentAssistHistory;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,7 @@ import java.util.Map;
  * Creates fixes which can resolve code style issues
  * @see org.eclipse.jdt.internal.corext.fix.CodeStyleFix
  */
-public class CodeStyleCleanUp extends AbstractMultiFixCoreWrapper<CodeStyleCleanUpCore> {
+public class CodeStyleCleanUp extends AbstractMultiFixCoreWrapper<CodeStyleCleanUpCore> implements IThreadSafeCleanUp {
 
 	public CodeStyleCleanUp(final Map<String, String> options) {
 		super(options, new CodeStyleCleanUpCore());
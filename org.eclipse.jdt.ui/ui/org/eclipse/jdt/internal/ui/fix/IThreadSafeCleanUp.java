@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+/**
+ * A clean up which keeps no state between {@link ICleanUp#checkPreConditions checkPreConditions},
+ * {@link ICleanUp#createFix(CleanUpContext) createFix} and
+ * {@link ICleanUp#checkPostConditions checkPostConditions}. <code>createFix</code> can
+ * therefore be called concurrently for different compilation units.
+ */
+public interface IThreadSafeCleanUp extends ICleanUp {
+}
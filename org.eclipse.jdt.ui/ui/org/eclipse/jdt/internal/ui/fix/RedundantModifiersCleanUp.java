@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2019 itemis AG (http://www.itemis.eu) and others.
+ * Copyright (c) 2018, 2026 itemis AG (http://www.itemis.eu) and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,7 +58,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>For nested interfaces the <code>static</code> modifier is redundant.</li>
  * </ul>
  */
-public class RedundantModifiersCleanUp extends AbstractMultiFix {
+public class RedundantModifiersCleanUp extends AbstractMultiFix implements IThreadSafeCleanUp {
 	public RedundantModifiersCleanUp() {
 		this(Collections.emptyMap());
 	}
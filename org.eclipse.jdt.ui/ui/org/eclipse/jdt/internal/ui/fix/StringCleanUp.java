@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,7 +38,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * @see org.eclipse.jdt.internal.corext.fix.StringFix
  *
  */
-public class StringCleanUp extends AbstractMultiFix {
+public class StringCleanUp extends AbstractMultiFix implements IThreadSafeCleanUp {
 
 	public StringCleanUp(Map<String, String> options) {
 		super(options);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,7 +38,7 @@ import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
  * @see org.eclipse.jdt.internal.corext.fix.UnusedCodeFix
  *
  */
-public class UnusedCodeCleanUp extends AbstractMultiFix {
+public class UnusedCodeCleanUp extends AbstractMultiFix implements IThreadSafeCleanUp {
 
 	private final UnusedCodeCleanUpCore cleanUpCore;
 
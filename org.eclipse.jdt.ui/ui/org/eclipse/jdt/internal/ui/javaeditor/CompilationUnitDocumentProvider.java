@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -523,6 +523,10 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 		private static class ProblemRequestorState {
 			boolean fInsideReportingSequence= false;
 			List<IProblem> fReportedProblems;
+			/** The regions whose spelling problems are reported, <code>null</code> for the whole document */
+			IRegion[] fSpellingRegions;
+			/** <code>true</code> if only spelling problems are reported */
+			boolean fSpellingOnly;
 		}
 
 		private ThreadLocal<ProblemRequestorState> fProblemRequestorState= new ThreadLocal<>();
@@ -603,6 +607,22 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 				internalBeginReporting(true);
 		}
 
+		/*
+		 * @see org.eclipse.jdt.internal.ui.text.java.IProblemRequestorExtension#beginReportingSequence(org.eclipse.jface.text.IRegion[], boolean)
+		 */
+		@Override
+		public void beginReportingSequence(IRegion[] spellingRegions, boolean spellingOnly) {
+			ProblemRequestorState state= fProblemRequestorState.get();
+			if (state == null) {
+				internalBeginReporting(true);
+				state= fProblemRequestorState.get();
+				if (state != null) {
+					state.fSpellingRegions= spellingRegions;
+					state.fSpellingOnly= spellingOnly;
+				}
+			}
+		}
+
 		/**
 		 * Sets up the infrastructure necessary for problem reporting.
 		 *
@@ -662,31 +682,50 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 			}
 
 			if (stateCount == 0)
-				reportProblems(state.fReportedProblems);
+				reportProblems(state);
 		}
 
 		/**
 		 * Signals the end of problem reporting.
 		 *
-		 * @param reportedProblems the problems to report
+		 * @param state the state of the reporting, holding the problems to report
 		 */
-		private void reportProblems(List<IProblem> reportedProblems) {
+		private void reportProblems(ProblemRequestorState state) {
 			if (fProgressMonitor != null && fProgressMonitor.isCanceled())
 				return;
 
+			List<IProblem> reportedProblems= state.fReportedProblems;
 			boolean temporaryProblemsChanged= false;
 
 			synchronized (getLockObject()) {
 
 				boolean isCanceled= false;
 
-				fPreviouslyOverlaid= fCurrentlyOverlaid;
-				fCurrentlyOverlaid= new ArrayList<>();
+				if (!state.fSpellingOnly) {
+					fPreviouslyOverlaid= fCurrentlyOverlaid;
+					fCurrentlyOverlaid= new ArrayList<>();
+				}
 
 				if (fGeneratedAnnotations.size() > 0) {
-					temporaryProblemsChanged= true;
-					removeAnnotations(fGeneratedAnnotations, false, true);
-					fGeneratedAnnotations.clear();
+					List<ProblemAnnotation> replaced= fGeneratedAnnotations;
+					if (state.fSpellingOnly || state.fSpellingRegions != null) {
+						replaced= new ArrayList<>();
+						for (Iterator<ProblemAnnotation> iter= fGeneratedAnnotations.iterator(); iter.hasNext();) {
+							ProblemAnnotation annotation= iter.next();
+							Position position= getPosition(annotation);
+							if (isReplaced(annotation, position, state)) {
+								replaced.add(annotation);
+								iter.remove();
+							} else if (!state.fSpellingOnly && position != null) {
+								overlayMarkers(position, annotation);
+							}
+						}
+					}
+					if (replaced.size() > 0) {
+						temporaryProblemsChanged= true;
+						removeAnnotations(replaced, false, true);
+						replaced.clear();
+					}
 				}
 
 				if (reportedProblems != null && reportedProblems.size() > 0) {
@@ -705,7 +744,8 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 
 							try {
 								ProblemAnnotation annotation= new ProblemAnnotation(problem, fCompilationUnit);
-								overlayMarkers(position, annotation);
+								if (!state.fSpellingOnly)
+									overlayMarkers(position, annotation);
 								addAnnotation(annotation, position, false);
 								fGeneratedAnnotations.add(annotation);
 
@@ -717,14 +757,37 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 					}
 				}
 
-				removeMarkerOverlays(isCanceled);
-				fPreviouslyOverlaid= null;
+				if (!state.fSpellingOnly) {
+					removeMarkerOverlays(isCanceled);
+					fPreviouslyOverlaid= null;
+				}
 			}
 
 			if (temporaryProblemsChanged)
 				fireModelChanged();
 		}
 
+		/**
+		 * Tells whether the given generated annotation is replaced by the problems of the given
+		 * reporting.
+		 *
+		 * @param annotation the generated annotation
+		 * @param position the position of the annotation or <code>null</code>
+		 * @param state the state of the reporting
+		 * @return <code>true</code> if the annotation is replaced
+		 */
+		private static boolean isReplaced(ProblemAnnotation annotation, Position position, ProblemRequestorState state) {
+			if (!ProblemAnnotation.SPELLING_ANNOTATION_TYPE.equals(annotation.getType()))
+				return !state.fSpellingOnly;
+			if (state.fSpellingRegions == null || position == null)
+				return true;
+			for (IRegion region : state.fSpellingRegions) {
+				if (position.overlapsWith(region.getOffset(), region.getLength()))
+					return true;
+			}
+			return false;
+		}
+
 		private void removeMarkerOverlays(boolean isCanceled) {
 			if (isCanceled) {
 				fCurrentlyOverlaid.addAll(fPreviouslyOverlaid);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1659,6 +1659,11 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 	public void aboutToWork(JavaReconciler javaReconciler) {
 		// Notify AST provider
 		CoreASTProvider.getInstance().aboutToBeReconciled(getInputJavaElement(), javaReconciler::signalWaitForFinish);
+
+		// Notify listeners
+		for (IJavaReconcilingListener listener : fReconcilingListeners) {
+			listener.aboutToWork(javaReconciler);
+		}
 	}
 
 	/*
@@ -1712,7 +1717,7 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 	 * @param listener	The reconcile listener to be added
 	 * @since 3.0
 	 */
-	final void addReconcileListener(IJavaReconcilingListener listener) {
+	public final void addReconcileListener(IJavaReconcilingListener listener) {
 		synchronized (fReconcilingListeners) {
 			fReconcilingListeners.add(listener);
 		}
@@ -1725,7 +1730,7 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 	 * @param listener	the reconcile listener to be removed
 	 * @since 3.0
 	 */
-	final void removeReconcileListener(IJavaReconcilingListener listener) {
+	public final void removeReconcileListener(IJavaReconcilingListener listener) {
 		synchronized (fReconcilingListeners) {
 			fReconcilingListeners.remove(listener);
 		}
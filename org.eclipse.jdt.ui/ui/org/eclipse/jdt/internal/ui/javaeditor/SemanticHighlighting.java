@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,8 @@ import org.eclipse.jface.resource.ColorRegistry;
 
 import org.eclipse.ui.PlatformUI;
 
+import org.eclipse.jdt.core.dom.IBinding;
+
 import org.eclipse.jdt.ui.JavaUI;
 
 
@@ -27,6 +29,24 @@ import org.eclipse.jdt.ui.JavaUI;
  */
 public abstract class SemanticHighlighting extends SemanticHighlightingCore {
 
+	/**
+	 * Token kind of a name without binding.
+	 * @since 3.26
+	 */
+	public static final int UNRESOLVED_NAME= 0;
+
+	/**
+	 * Token kind of a literal.
+	 * @since 3.26
+	 */
+	public static final int LITERAL= 8;
+
+	/**
+	 * Bit set of all token kinds.
+	 * @since 3.26
+	 */
+	public static final int ALL_TOKEN_KINDS= (1 << LITERAL + 1) - 1;
+
 	/**
 	 * @return the preference key, will be augmented by a prefix and a suffix for each preference
 	 */
@@ -76,6 +96,20 @@ public abstract class SemanticHighlighting extends SemanticHighlightingCore {
 	 */
 	public abstract boolean isEnabledByDefault();
 
+	/**
+	 * Returns the kinds of the tokens this semantic highlighting can consume. The kind of a name
+	 * is the kind of its binding, see {@link IBinding#getKind()}, or {@link #UNRESOLVED_NAME}
+	 * if it has no binding. The kind of a literal is {@link #LITERAL}. The semantic
+	 * highlighting is not asked whether it consumes tokens of other kinds.
+	 *
+	 * @return the bit set of <code>1 &lt;&lt; kind</code> for each consumed token kind
+	 * @see SemanticTokenClassifier
+	 * @since 3.26
+	 */
+	public int getConsumedTokenKinds() {
+		return ALL_TOKEN_KINDS;
+	}
+
 	private String getThemeColorKey() {
 		return JavaUI.ID_PLUGIN + "." + getPreferenceKey() + "Highlighting";  //$NON-NLS-1$//$NON-NLS-2$
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.jdt.internal.ui.javaeditor;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import org.eclipse.swt.widgets.Display;
@@ -25,7 +26,9 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.ITextInputListener;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.TextPresentation;
@@ -36,25 +39,34 @@ import org.eclipse.ui.IWorkbenchPartSite;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnnotationTypeMemberDeclaration;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
+import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
 import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
 import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SimpleType;
 import org.eclipse.jdt.core.dom.SuperConstructorInvocation;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.YieldStatement;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.HighlightedPosition;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.Highlighting;
-import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.DeprecatedMemberHighlighting;
-import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.RestrictedIdentifiersHighlighting;
 import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
 import org.eclipse.jdt.internal.ui.util.ASTHelper;
 
@@ -77,15 +89,12 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		@Override
 		protected boolean visitLiteral(Expression node) {
 			fToken.update(node);
-			for (int i= 0, n= fJobSemanticHighlightings.length; i < n; i++) {
-				SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-				if (fJobHighlightings[i].isEnabled() && semanticHighlighting.consumesLiteral(fToken)) {
-					int offset= node.getStartPosition();
-					int length= node.getLength();
-					if (offset > -1 && length > 0)
-						addPosition(offset, length, fJobHighlightings[i]);
-					break;
-				}
+			int index= fJobClassifier.classifyLiteral(fToken);
+			if (index != -1) {
+				int offset= node.getStartPosition();
+				int length= node.getLength();
+				if (offset > -1 && length > 0)
+					addPosition(offset, length, fJobHighlightings[index]);
 			}
 			fToken.clear();
 			return false;
@@ -97,7 +106,6 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		@Override
 		public boolean visit(ConstructorInvocation node) {
-			// XXX Hack for performance reasons (should loop over fJobSemanticHighlightings can call consumes(*))
 			if (fJobDeprecatedMemberHighlighting != null) {
 				IMethodBinding constructorBinding= node.resolveConstructorBinding();
 				if (constructorBinding != null && constructorBinding.isDeprecated()) {
@@ -116,7 +124,6 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		@Override
 		public boolean visit(SuperConstructorInvocation node) {
-			// XXX Hack for performance reasons (should loop over fJobSemanticHighlightings can call consumes(*))
 			if (fJobDeprecatedMemberHighlighting != null) {
 				IMethodBinding constructorBinding= node.resolveConstructorBinding();
 				if (constructorBinding != null && constructorBinding.isDeprecated()) {
@@ -135,12 +142,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 				int offset= node.getStartPosition();
 				int length= node.getLength();
 				if (offset > -1 && length > 0) {
-					for (int i= 0; i < fJobSemanticHighlightings.length; i++) {
-						SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-						if (semanticHighlighting instanceof RestrictedIdentifiersHighlighting) {
-							addPosition(offset, length, fJobHighlightings[i]);
-							return false;
-						}
+					if (fJobRestrictedIdentifiersHighlighting != null) {
+						addPosition(offset, length, fJobRestrictedIdentifiersHighlighting);
+						return false;
 					}
 				}
 			}
@@ -154,12 +158,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 				int offset= node.getStartPosition();
 				int length= 5; // length of 'yield'
 				if (offset > -1 && length > 0) {
-					for (int i= 0; i < fJobSemanticHighlightings.length; i++) {
-						SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-						if (semanticHighlighting instanceof RestrictedIdentifiersHighlighting) {
-							addPosition(offset, length, fJobHighlightings[i]);
-							return true;
-						}
+					if (fJobRestrictedIdentifiersHighlighting != null) {
+						addPosition(offset, length, fJobRestrictedIdentifiersHighlighting);
+						return true;
 					}
 				}
 			}
@@ -173,12 +174,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 				int offset= node.getRestrictedIdentifierStartPosition();
 				int length= 6; // length of 'record'
 				if (offset > -1 && length > 0) {
-					for (int i= 0; i < fJobSemanticHighlightings.length; i++) {
-						SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-						if (semanticHighlighting instanceof RestrictedIdentifiersHighlighting) {
-							addPosition(offset, length, fJobHighlightings[i]);
-							return true;
-						}
+					if (fJobRestrictedIdentifiersHighlighting != null) {
+						addPosition(offset, length, fJobRestrictedIdentifiersHighlighting);
+						return true;
 					}
 				}
 			}
@@ -192,12 +190,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 					int offset= node.getRestrictedIdentifierStartPosition();
 					int length= 7; // length of 'permits'
 					if (offset > -1) {
-						for (int i= 0; i < fJobSemanticHighlightings.length; i++) {
-							SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-							if (semanticHighlighting instanceof RestrictedIdentifiersHighlighting) {
-								addPosition(offset, length, fJobHighlightings[i]);
-								return true;
-							}
+						if (fJobRestrictedIdentifiersHighlighting != null) {
+							addPosition(offset, length, fJobRestrictedIdentifiersHighlighting);
+							return true;
 						}
 					}
 				}
@@ -222,12 +217,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 					return true;
 				}
 				if (offset > -1 && length > 0) {
-					for (int i= 0; i < fJobSemanticHighlightings.length; i++) {
-						SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-						if (semanticHighlighting instanceof RestrictedIdentifiersHighlighting) {
-							addPosition(offset, length, fJobHighlightings[i]);
-							return false;
-						}
+					if (fJobRestrictedIdentifiersHighlighting != null) {
+						addPosition(offset, length, fJobRestrictedIdentifiersHighlighting);
+						return false;
 					}
 				}
 			}
@@ -240,15 +232,12 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		@Override
 		public boolean visit(SimpleName node) {
 			fToken.update(node);
-			for (int i= 0, n= fJobSemanticHighlightings.length; i < n; i++) {
-				SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-				if (fJobHighlightings[i].isEnabled() && semanticHighlighting.consumes(fToken)) {
-					int offset= node.getStartPosition();
-					int length= node.getLength();
-					if (offset > -1 && length > 0)
-						addPosition(offset, length, fJobHighlightings[i]);
-					break;
-				}
+			int index= fJobClassifier.classify(fToken);
+			if (index != -1) {
+				int offset= node.getStartPosition();
+				int length= node.getLength();
+				if (offset > -1 && length > 0)
+					addPosition(offset, length, fJobHighlightings[index]);
 			}
 			fToken.clear();
 			return false;
@@ -262,14 +251,13 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		private void addPosition(int offset, int length, Highlighting highlighting) {
 			boolean isExisting= false;
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
+			for (int i= computeIndexAtOffset(offset), n= fRemovedPositions.size(); i < n; i++) {
 				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-				if (position == null)
-					continue;
-				if (position.isEqual(offset, length, highlighting)) {
+				if (position.getOffset() != offset)
+					break;
+				if (!fRetainedPositions.get(i) && position.isEqual(offset, length, highlighting)) {
 					isExisting= true;
-					fRemovedPositions.set(i, null);
+					fRetainedPositions.set(i);
 					fNOfRemovedPositions--;
 					break;
 				}
@@ -288,15 +276,150 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		@Override
 		protected void retainPositions(int offset, int length) {
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
+			int end= offset + length;
+			for (int i= computeIndexAtOffset(offset), n= fRemovedPositions.size(); i < n; i++) {
 				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-				if (position != null && position.isContained(offset, length)) {
-					fRemovedPositions.set(i, null);
+				if (position.getOffset() >= end)
+					break;
+				if (!fRetainedPositions.get(i) && position.isContained(offset, length)) {
+					fRetainedPositions.set(i);
 					fNOfRemovedPositions--;
 				}
 			}
 		}
+
+		/**
+		 * Returns the index of the first removed position with an offset greater than or equal
+		 * to the given offset. The removed positions are ordered by offset.
+		 *
+		 * @param offset the offset
+		 * @return the index of the first position at or after the offset
+		 * @since 3.26
+		 */
+		private int computeIndexAtOffset(int offset) {
+			int i= -1;
+			int j= fRemovedPositions.size();
+			while (j - i > 1) {
+				int k= (i + j) >> 1;
+				if (fRemovedPositions.get(k).getOffset() >= offset)
+					j= k;
+				else
+					i= k;
+			}
+			return j;
+		}
+	}
+
+	/**
+	 * Tracks the range of the document that has changed since the last reconcile.
+	 *
+	 * @since 3.26
+	 */
+	private class ChangeTracker implements IDocumentListener, ITextInputListener {
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			synchronized (fChangeLock) {
+				fChangedRange.update(event, true);
+				if (fJobChangedRange != null)
+					fJobChangedRange.update(event, false);
+			}
+		}
+
+		@Override
+		public void inputDocumentAboutToBeChanged(IDocument oldInput, IDocument newInput) {
+			if (oldInput != null)
+				oldInput.removeDocumentListener(this);
+		}
+
+		@Override
+		public void inputDocumentChanged(IDocument oldInput, IDocument newInput) {
+			if (newInput != null)
+				newInput.addDocumentListener(this);
+			synchronized (fChangeLock) {
+				fChangedRange.clear();
+				fFullReconcile= true;
+			}
+		}
+	}
+
+	/**
+	 * A range of the document that is kept up to date with document changes.
+	 *
+	 * @since 3.26
+	 */
+	private static final class ChangedRange {
+
+		/** The range offset, <code>-1</code> if the range is empty */
+		private int fOffset= -1;
+		/** The range end offset, exclusive */
+		private int fEnd;
+
+		/**
+		 * Updates this range with the given document event.
+		 *
+		 * @param event the document event
+		 * @param include <code>true</code> iff the text inserted by the event should be added to the range
+		 */
+		void update(DocumentEvent event, boolean include) {
+			int eventOffset= event.getOffset();
+			int eventEnd= eventOffset + event.getLength();
+			int newEnd= eventOffset + (event.getText() != null ? event.getText().length() : 0);
+			if (fOffset != -1) {
+				int deltaLength= newEnd - eventEnd;
+				if (fOffset >= eventEnd)
+					fOffset+= deltaLength;
+				else if (fOffset > eventOffset)
+					fOffset= eventOffset;
+				if (fEnd >= eventEnd)
+					fEnd+= deltaLength;
+				else if (fEnd > eventOffset)
+					fEnd= newEnd;
+			}
+			if (include)
+				add(eventOffset, newEnd);
+		}
+
+		void add(int offset, int end) {
+			if (fOffset == -1) {
+				fOffset= offset;
+				fEnd= end;
+			} else {
+				fOffset= Math.min(fOffset, offset);
+				fEnd= Math.max(fEnd, end);
+			}
+		}
+
+		void add(ChangedRange range) {
+			if (!range.isEmpty())
+				add(range.fOffset, range.fEnd);
+		}
+
+		ChangedRange copy() {
+			ChangedRange copy= new ChangedRange();
+			copy.add(this);
+			return copy;
+		}
+
+		void clear() {
+			fOffset= -1;
+		}
+
+		boolean isEmpty() {
+			return fOffset == -1;
+		}
+
+		int getOffset() {
+			return fOffset;
+		}
+
+		int getLength() {
+			return fEnd - fOffset;
+		}
 	}
 
 	/** Position collector */
@@ -315,11 +438,47 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 
 	/** Background job's added highlighted positions */
 	private List<Position> fAddedPositions= new ArrayList<>();
-	/** Background job's removed highlighted positions */
+	/** Background job's removed highlighted positions, ordered by offset */
 	private List<Position> fRemovedPositions= new ArrayList<>();
+	/**
+	 * Indices of the removed positions which are retained
+	 * @since 3.26
+	 */
+	private final BitSet fRetainedPositions= new BitSet();
 	/** Number of removed positions */
 	private int fNOfRemovedPositions;
 
+	/**
+	 * Tracks the changed range of the document of a compilation unit editor
+	 * @since 3.26
+	 */
+	private final ChangeTracker fChangeTracker= new ChangeTracker();
+	/**
+	 * Lock for the changed ranges
+	 * @since 3.26
+	 */
+	private final Object fChangeLock= new Object();
+	/**
+	 * Range changed since the last reconcile has started
+	 * @since 3.26
+	 */
+	private final ChangedRange fChangedRange= new ChangedRange();
+	/**
+	 * Range reconciled by the running reconcile, or <code>null</code>
+	 * @since 3.26
+	 */
+	private ChangedRange fJobChangedRange;
+	/**
+	 * <code>true</code> iff the next reconcile must collect the positions of the whole AST
+	 * @since 3.26
+	 */
+	private boolean fFullReconcile= true;
+	/**
+	 * The member structure of the last reconciled AST, see {@link #computeMemberStructure(CompilationUnit)}
+	 * @since 3.26
+	 */
+	private String fMemberStructure;
+
 	/** Background job */
 	private Job fJob;
 	/** Background job lock */
@@ -344,11 +503,23 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	private Highlighting[] fJobHighlightings;
 
 	/**
-	 * XXX Hack for performance reasons (should loop over fJobSemanticHighlightings can call consumes(*))
+	 * Token classifier of the enabled semantic highlightings - cache for background thread, only valid during {@link #reconciled(CompilationUnit, boolean, IProgressMonitor)}
+	 * @since 3.26
+	 */
+	private SemanticTokenClassifier fJobClassifier;
+
+	/**
+	 * Deprecated member highlighting for constructor invocations, <code>null</code> if disabled - cache for background thread
 	 * @since 3.5
 	 */
 	private Highlighting fJobDeprecatedMemberHighlighting;
 
+	/**
+	 * Highlighting of restricted identifiers - cache for background thread
+	 * @since 3.26
+	 */
+	private Highlighting fJobRestrictedIdentifiersHighlighting;
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener#aboutToBeReconciled()
 	 */
@@ -373,6 +544,18 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fJobSemanticHighlightings= fSemanticHighlightings;
 		fJobHighlightings= fHighlightings;
 
+		ChangedRange changedRange;
+		boolean fullReconcile;
+		synchronized (fChangeLock) {
+			changedRange= fChangedRange.copy();
+			fChangedRange.clear();
+			// kept up to date in case the changes have to be reconciled again
+			fJobChangedRange= changedRange.copy();
+			fullReconcile= fFullReconcile || forced;
+			fFullReconcile= false;
+		}
+		boolean isReconciled= false;
+
 		try {
 			if (fJobPresenter == null || fJobSemanticHighlightings == null || fJobHighlightings == null)
 				return;
@@ -382,21 +565,22 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (ast == null || fJobPresenter.isCanceled())
 				return;
 
-			ASTNode[] subtrees= getAffectedSubtrees(ast);
+			String memberStructure= computeMemberStructure(ast);
+			ASTNode[] subtrees= getAffectedSubtrees(ast, fullReconcile ? null : changedRange, memberStructure);
 			if (subtrees.length == 0)
 				return;
 
-			startReconcilingPositions();
+			startReconcilingPositions(subtrees);
 
 			if (!fJobPresenter.isCanceled()) {
-				fJobDeprecatedMemberHighlighting= null;
-				for (int i= 0, n= fJobSemanticHighlightings.length; i < n; i++) {
-					SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-					if (fJobHighlightings[i].isEnabled() && semanticHighlighting instanceof DeprecatedMemberHighlighting) {
-						fJobDeprecatedMemberHighlighting= fJobHighlightings[i];
-						break;
-					}
-				}
+				boolean[] enabled= new boolean[fJobHighlightings.length];
+				for (int i= 0; i < enabled.length; i++)
+					enabled[i]= fJobHighlightings[i].isEnabled();
+				fJobClassifier= new SemanticTokenClassifier(fJobSemanticHighlightings, enabled);
+				int deprecatedMember= fJobClassifier.getDeprecatedMemberHighlighting();
+				fJobDeprecatedMemberHighlighting= deprecatedMember != -1 ? fJobHighlightings[deprecatedMember] : null;
+				int restrictedIdentifiers= fJobClassifier.getRestrictedIdentifiersHighlighting();
+				fJobRestrictedIdentifiersHighlighting= restrictedIdentifiers != -1 ? fJobHighlightings[restrictedIdentifiers] : null;
 				reconcilePositions(subtrees);
 			}
 
@@ -408,11 +592,26 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
 
 			stopReconcilingPositions();
+
+			if (!fJobPresenter.isCanceled()) {
+				fMemberStructure= memberStructure;
+				isReconciled= true;
+			}
 		} finally {
+			synchronized (fChangeLock) {
+				if (!isReconciled) {
+					// the changes have to be reconciled by the next reconcile
+					fChangedRange.add(fJobChangedRange);
+					fFullReconcile|= fullReconcile;
+				}
+				fJobChangedRange= null;
+			}
 			fJobPresenter= null;
 			fJobSemanticHighlightings= null;
 			fJobHighlightings= null;
+			fJobClassifier= null;
 			fJobDeprecatedMemberHighlighting= null;
+			fJobRestrictedIdentifiersHighlighting= null;
 			synchronized (fReconcileLock) {
 				fIsReconciling= false;
 			}
@@ -420,19 +619,109 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	}
 
 	/**
-	 * @param node Root node
+	 * Returns the subtrees of the AST whose positions have to be collected again.
+	 * <p>
+	 * Changes inside the body of a method or initializer can only affect the highlighting of
+	 * that body declaration, as long as the members of the compilation unit are unchanged. In
+	 * this case only the body declaration is returned, otherwise the whole AST.
+	 * </p>
+	 *
+	 * @param ast the AST
+	 * @param changedRange the range changed since the last reconcile, or <code>null</code> if unknown
+	 * @param memberStructure the member structure of the AST
 	 * @return Array of subtrees that may be affected by past document changes
 	 */
-	private ASTNode[] getAffectedSubtrees(ASTNode node) {
-		// TODO: only return nodes which are affected by document changes - would require an 'anchor' concept for taking distant effects into account
-		return new ASTNode[] { node };
+	private ASTNode[] getAffectedSubtrees(CompilationUnit ast, ChangedRange changedRange, String memberStructure) {
+		if (changedRange != null && !changedRange.isEmpty() && memberStructure.equals(fMemberStructure)) {
+			BodyDeclaration declaration= findEnclosingBodyDeclaration(ast, changedRange.getOffset(), changedRange.getLength());
+			if (declaration != null)
+				return new ASTNode[] { declaration };
+		}
+		return new ASTNode[] { ast };
+	}
+
+	/**
+	 * Returns the method or initializer whose body strictly contains the given range and which
+	 * is a member of a type declaration.
+	 *
+	 * @param ast the AST
+	 * @param offset the range offset
+	 * @param length the range length
+	 * @return the body declaration, or <code>null</code> if none
+	 * @since 3.26
+	 */
+	private static BodyDeclaration findEnclosingBodyDeclaration(CompilationUnit ast, int offset, int length) {
+		BodyDeclaration declaration= null;
+		for (ASTNode node= NodeFinder.perform(ast, offset, length); node != null; node= node.getParent()) {
+			Block body= null;
+			if (node instanceof MethodDeclaration)
+				body= ((MethodDeclaration) node).getBody();
+			else if (node instanceof Initializer)
+				body= ((Initializer) node).getBody();
+			if (body != null && body.getStartPosition() < offset && offset + length < body.getStartPosition() + body.getLength())
+				declaration= (BodyDeclaration) node;
+		}
+		if (declaration == null || !(declaration.getParent() instanceof AbstractTypeDeclaration))
+			return null;
+		return declaration;
+	}
+
+	/**
+	 * Computes a description of the members of the given AST. A change of the description
+	 * indicates that a change affected more than the body it has been made in, e.g. by
+	 * unbalancing its braces.
+	 *
+	 * @param ast the AST
+	 * @return the member structure
+	 * @since 3.26
+	 */
+	private static String computeMemberStructure(CompilationUnit ast) {
+		StringBuilder buf= new StringBuilder();
+		buf.append(ast.imports().size());
+		appendMemberStructure(ast.types(), buf);
+		return buf.toString();
+	}
+
+	private static void appendMemberStructure(List<?> declarations, StringBuilder buf) {
+		for (Object element : declarations) {
+			BodyDeclaration declaration= (BodyDeclaration) element;
+			buf.append('|').append(declaration.getNodeType()).append(':').append(declaration.getModifiers());
+			if (declaration instanceof AbstractTypeDeclaration) {
+				AbstractTypeDeclaration type= (AbstractTypeDeclaration) declaration;
+				buf.append(type.getName().getIdentifier()).append('{');
+				if (type instanceof EnumDeclaration)
+					appendMemberStructure(((EnumDeclaration) type).enumConstants(), buf);
+				appendMemberStructure(type.bodyDeclarations(), buf);
+				buf.append('}');
+			} else if (declaration instanceof MethodDeclaration) {
+				MethodDeclaration method= (MethodDeclaration) declaration;
+				buf.append(method.getName().getIdentifier()).append('(').append(method.parameters().size()).append(')');
+				if (method.getBody() == null)
+					buf.append(';');
+			} else if (declaration instanceof FieldDeclaration) {
+				for (Object fragment : ((FieldDeclaration) declaration).fragments())
+					buf.append(((VariableDeclarationFragment) fragment).getName().getIdentifier()).append(',');
+			} else if (declaration instanceof EnumConstantDeclaration) {
+				buf.append(((EnumConstantDeclaration) declaration).getName().getIdentifier());
+			} else if (declaration instanceof AnnotationTypeMemberDeclaration) {
+				buf.append(((AnnotationTypeMemberDeclaration) declaration).getName().getIdentifier());
+			}
+		}
 	}
 
 	/**
 	 * Start reconciling positions.
+	 *
+	 * @param subtrees the AST subtrees whose positions are reconciled
 	 */
-	private void startReconcilingPositions() {
-		fJobPresenter.addAllPositions(fRemovedPositions);
+	private void startReconcilingPositions(ASTNode[] subtrees) {
+		for (ASTNode subtree : subtrees) {
+			if (subtree instanceof CompilationUnit)
+				fJobPresenter.addAllPositions(fRemovedPositions);
+			else
+				fJobPresenter.addAllPositions(fRemovedPositions, subtree.getStartPosition(), subtree.getLength());
+		}
+		fRetainedPositions.clear();
 		fNOfRemovedPositions= fRemovedPositions.size();
 	}
 
@@ -442,17 +731,14 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @param subtrees the AST subtrees
 	 */
 	private void reconcilePositions(ASTNode[] subtrees) {
-		// FIXME: remove positions not covered by subtrees
-
-
-
+		// only the positions covered by the subtrees have been added to the removed positions
 		for (ASTNode subtree : subtrees)
 			subtree.accept(fCollector);
 		List<Position> oldPositions= fRemovedPositions;
 		List<Position> newPositions= new ArrayList<>(fNOfRemovedPositions);
-		for (Position current : oldPositions) {
-			if (current != null)
-				newPositions.add(current);
+		for (int i= 0, n= oldPositions.size(); i < n; i++) {
+			if (!fRetainedPositions.get(i))
+				newPositions.add(oldPositions.get(i));
 		}
 		fRemovedPositions= newPositions;
 	}
@@ -485,7 +771,17 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		if (display == null || display.isDisposed())
 			return;
 
-		display.asyncExec(runnable);
+		final SemanticHighlightingPresenter presenter= fJobPresenter;
+		display.asyncExec(() -> {
+			boolean isCanceled= presenter.isCanceled();
+			runnable.run();
+			if (isCanceled || presenter.isCanceled()) {
+				// the update may have been dropped, the reconciled positions are lost
+				synchronized (fChangeLock) {
+					fFullReconcile= true;
+				}
+			}
+		});
 	}
 
 	/**
@@ -493,6 +789,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private void stopReconcilingPositions() {
 		fRemovedPositions.clear();
+		fRetainedPositions.clear();
 		fNOfRemovedPositions= 0;
 		fAddedPositions.clear();
 	}
@@ -514,6 +811,10 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fSourceViewer= sourceViewer;
 
 		if (fEditor instanceof CompilationUnitEditor) {
+			fSourceViewer.addTextInputListener(fChangeTracker);
+			IDocument document= fSourceViewer.getDocument();
+			if (document != null)
+				document.addDocumentListener(fChangeTracker);
 			((CompilationUnitEditor)fEditor).addReconcileListener(this);
 		} else if (fEditor == null) {
 			fSourceViewer.addTextInputListener(this);
@@ -529,9 +830,13 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			fPresenter.setCanceled(true);
 
 		if (fEditor != null) {
-			if (fEditor instanceof CompilationUnitEditor)
+			if (fEditor instanceof CompilationUnitEditor) {
 				((CompilationUnitEditor)fEditor).removeReconcileListener(this);
-			else
+				fSourceViewer.removeTextInputListener(fChangeTracker);
+				IDocument document= fSourceViewer.getDocument();
+				if (document != null)
+					document.removeDocumentListener(fChangeTracker);
+			} else
 				fSourceViewer.removeTextInputListener(this);
 			fEditor= null;
 		}
@@ -614,6 +919,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @since 3.2
 	 */
 	public void refresh() {
+		synchronized (fChangeLock) {
+			fFullReconcile= true;
+		}
 		scheduleJob();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -266,6 +266,11 @@ public class SemanticHighlightings {
 			IBinding binding= token.getBinding();
 			return binding != null && binding.getKind() == IBinding.VARIABLE && ((IVariableBinding)binding).isField() && (binding.getModifiers() & (Modifier.FINAL | Modifier.STATIC)) == (Modifier.FINAL | Modifier.STATIC);
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.VARIABLE;
+		}
 	}
 
 	/**
@@ -329,6 +334,11 @@ public class SemanticHighlightings {
 			IBinding binding= token.getBinding();
 			return binding != null && binding.getKind() == IBinding.VARIABLE && ((IVariableBinding)binding).isField() && (binding.getModifiers() & Modifier.STATIC) == Modifier.STATIC;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.VARIABLE;
+		}
 	}
 
 	/**
@@ -392,6 +402,11 @@ public class SemanticHighlightings {
 			IBinding binding= token.getBinding();
 			return binding != null && binding.getKind() == IBinding.VARIABLE && ((IVariableBinding)binding).isField();
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.VARIABLE;
+		}
 	}
 
 	/**
@@ -563,6 +578,11 @@ public class SemanticHighlightings {
 			StructuralPropertyDescriptor location= token.getNode().getLocationInParent();
 			return location == MethodDeclaration.NAME_PROPERTY || location == AnnotationTypeMemberDeclaration.NAME_PROPERTY;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.METHOD | 1 << UNRESOLVED_NAME;
+		}
 	}
 
 	/**
@@ -630,6 +650,11 @@ public class SemanticHighlightings {
 			IBinding binding= token.getBinding();
 			return binding != null && binding.getKind() == IBinding.METHOD && (binding.getModifiers() & Modifier.STATIC) == Modifier.STATIC;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.METHOD;
+		}
 	}
 
 	/**
@@ -701,6 +726,11 @@ public class SemanticHighlightings {
 
 			return false;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.METHOD;
+		}
 	}
 
 	/**
@@ -779,6 +809,11 @@ public class SemanticHighlightings {
 
 			return true;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.METHOD;
+		}
 	}
 
 	/**
@@ -854,6 +889,11 @@ public class SemanticHighlightings {
 
 			return Bindings.isSuperType(declaringType, currentType);
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.METHOD;
+		}
 	}
 
 	/**
@@ -917,6 +957,12 @@ public class SemanticHighlightings {
 			IBinding binding= getBinding(token);
 			return binding != null && binding.getKind() == IBinding.METHOD;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			// the type name of a class instance creation consumes the constructor binding
+			return 1 << IBinding.METHOD | 1 << IBinding.TYPE | 1 << UNRESOLVED_NAME;
+		}
 	}
 
 	/**
@@ -988,6 +1034,11 @@ public class SemanticHighlightings {
 			}
 			return false;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.VARIABLE | 1 << UNRESOLVED_NAME;
+		}
 	}
 
 	/**
@@ -1055,6 +1106,11 @@ public class SemanticHighlightings {
 			}
 			return false;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.VARIABLE;
+		}
 	}
 
 	/**
@@ -1122,6 +1178,11 @@ public class SemanticHighlightings {
 			}
 			return false;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.VARIABLE;
+		}
 	}
 
 	/**
@@ -1288,6 +1349,11 @@ public class SemanticHighlightings {
 			IBinding binding= token.getBinding();
 			return binding instanceof ITypeBinding && ((ITypeBinding) binding).isTypeVariable();
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.TYPE;
+		}
 	}
 
 	/**
@@ -1367,6 +1433,11 @@ public class SemanticHighlightings {
 			IBinding binding= token.getBinding();
 			return binding instanceof ITypeBinding && ((ITypeBinding) binding).isClass();
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.TYPE;
+		}
 	}
 
 	/**
@@ -1447,6 +1518,11 @@ public class SemanticHighlightings {
 			IBinding binding= token.getBinding();
 			return binding instanceof ITypeBinding && ((ITypeBinding) binding).isEnum();
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.TYPE;
+		}
 	}
 
 	/**
@@ -1526,6 +1602,11 @@ public class SemanticHighlightings {
 			IBinding binding= token.getBinding();
 			return binding instanceof ITypeBinding && ((ITypeBinding) binding).isInterface();
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.TYPE;
+		}
 	}
 
 	/**
@@ -1606,6 +1687,11 @@ public class SemanticHighlightings {
 			IBinding binding= token.getBinding();
 			return binding instanceof ITypeBinding && ((ITypeBinding) binding).isAnnotation();
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.TYPE;
+		}
 	}
 
 	/**
@@ -1682,6 +1768,11 @@ public class SemanticHighlightings {
 
 			return false;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.TYPE | 1 << UNRESOLVED_NAME;
+		}
 	}
 
 	/**
@@ -1754,6 +1845,11 @@ public class SemanticHighlightings {
 			Expression expr= token.getLiteral();
 			return expr != null && expr.getNodeType() == ASTNode.NUMBER_LITERAL;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << LITERAL;
+		}
 	}
 
 	/**
@@ -1839,6 +1935,11 @@ public class SemanticHighlightings {
 
 			return false;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.TYPE;
+		}
 	}
 
 	/**
@@ -1917,6 +2018,11 @@ public class SemanticHighlightings {
 
 			return Bindings.isSuperType(declaringType, currentType);
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 1 << IBinding.VARIABLE;
+		}
 	}
 
 	/**
@@ -1958,6 +2064,11 @@ public class SemanticHighlightings {
 		public boolean consumes(SemanticToken token) {
 			return false;
 		}
+
+		@Override
+		public int getConsumedTokenKinds() {
+			return 0;
+		}
 	}
 
 	/**
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jdt.core.dom.IBinding;
+
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.DeprecatedMemberHighlighting;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.RestrictedIdentifiersHighlighting;
+
+/**
+ * Classifies semantic tokens by the enabled semantic highlightings.
+ * <p>
+ * The binding of a name is resolved once to determine its token kind. The token is then only
+ * offered to the enabled semantic highlightings that consume tokens of that kind, see
+ * {@link SemanticHighlighting#getConsumedTokenKinds()}, instead of to all of them. The first
+ * semantic highlighting that consumes the token wins, as before.
+ * </p>
+ * <p>
+ * A classifier is a snapshot of the enabled semantic highlightings, it is created once per
+ * reconcile.
+ * </p>
+ *
+ * @since 3.26
+ */
+public final class SemanticTokenClassifier {
+
+	/** Indices of the candidate semantic highlightings per token kind, in order */
+	private final int[][] fCandidates= new int[SemanticHighlighting.LITERAL + 1][];
+
+	/** Indices of all enabled semantic highlightings, for unknown binding kinds */
+	private final int[] fEnabled;
+
+	private final SemanticHighlighting[] fSemanticHighlightings;
+
+	private final int fDeprecatedMemberIndex;
+
+	private final int fRestrictedIdentifiersIndex;
+
+	/**
+	 * Creates a classifier.
+	 *
+	 * @param semanticHighlightings the semantic highlightings in the order of precedence
+	 * @param enabled whether the semantic highlighting with the same index is enabled
+	 */
+	public SemanticTokenClassifier(SemanticHighlighting[] semanticHighlightings, boolean[] enabled) {
+		Assert.isLegal(semanticHighlightings.length == enabled.length);
+		fSemanticHighlightings= semanticHighlightings;
+
+		int[] indices= new int[semanticHighlightings.length];
+		int count= 0;
+		for (int i= 0; i < semanticHighlightings.length; i++) {
+			if (enabled[i])
+				indices[count++]= i;
+		}
+		fEnabled= Arrays.copyOf(indices, count);
+
+		for (int kind= 0; kind < fCandidates.length; kind++) {
+			int candidates= 0;
+			for (int index : fEnabled) {
+				if ((semanticHighlightings[index].getConsumedTokenKinds() & 1 << kind) != 0)
+					indices[candidates++]= index;
+			}
+			fCandidates[kind]= Arrays.copyOf(indices, candidates);
+		}
+
+		int deprecatedMemberIndex= -1;
+		for (int index : fEnabled) {
+			if (semanticHighlightings[index] instanceof DeprecatedMemberHighlighting) {
+				deprecatedMemberIndex= index;
+				break;
+			}
+		}
+		fDeprecatedMemberIndex= deprecatedMemberIndex;
+
+		// restricted identifiers are highlighted even if disabled, their style is reset then
+		int restrictedIdentifiersIndex= -1;
+		for (int i= 0; i < semanticHighlightings.length; i++) {
+			if (semanticHighlightings[i] instanceof RestrictedIdentifiersHighlighting) {
+				restrictedIdentifiersIndex= i;
+				break;
+			}
+		}
+		fRestrictedIdentifiersIndex= restrictedIdentifiersIndex;
+	}
+
+	/**
+	 * Returns the semantic highlighting that consumes the given name token.
+	 *
+	 * @param token the token of a {@link org.eclipse.jdt.core.dom.SimpleName}
+	 * @return the index of the semantic highlighting, or <code>-1</code> if none consumes the token
+	 */
+	public int classify(SemanticToken token) {
+		IBinding binding= token.getBinding();
+		int kind= binding != null ? binding.getKind() : SemanticHighlighting.UNRESOLVED_NAME;
+		int[] candidates= kind >= 0 && kind < SemanticHighlighting.LITERAL ? fCandidates[kind] : fEnabled;
+		for (int index : candidates) {
+			if (fSemanticHighlightings[index].consumes(token))
+				return index;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the semantic highlighting that consumes the given literal token.
+	 *
+	 * @param token the token of a literal
+	 * @return the index of the semantic highlighting, or <code>-1</code> if none consumes the token
+	 */
+	public int classifyLiteral(SemanticToken token) {
+		for (int index : fCandidates[SemanticHighlighting.LITERAL]) {
+			if (fSemanticHighlightings[index].consumesLiteral(token))
+				return index;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the deprecated member highlighting, which also applies to constructor invocations.
+	 *
+	 * @return the index of the deprecated member highlighting, or <code>-1</code> if it is disabled
+	 */
+	public int getDeprecatedMemberHighlighting() {
+		return fDeprecatedMemberIndex;
+	}
+
+	/**
+	 * Returns the highlighting of restricted identifiers like <code>var</code> or
+	 * <code>record</code>.
+	 *
+	 * @return the index of the restricted identifiers highlighting, or <code>-1</code> if none
+	 */
+	public int getRestrictedIdentifiersHighlighting() {
+		return fRestrictedIdentifiersIndex;
+	}
+}
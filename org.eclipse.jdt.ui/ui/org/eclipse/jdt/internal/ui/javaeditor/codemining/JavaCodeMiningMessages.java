@@ -31,6 +31,8 @@ final class JavaCodeMiningMessages extends NLS {
 
 	public static String JavaImplementationCodeMining_label;
 
+	public static String JavaReferenceCountResolver_job_name;
+
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, JavaCodeMiningMessages.class);
 	}
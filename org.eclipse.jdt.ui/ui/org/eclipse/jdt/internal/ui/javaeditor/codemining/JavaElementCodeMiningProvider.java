@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Angelo Zerr and others.
+ * Copyright (c) 2018, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,8 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 
 	private final boolean editorEnabled;
 
+	private final JavaReferenceCountResolver resolver;
+
 	public JavaElementCodeMiningProvider() {
 		editorEnabled= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_CODEMINING_ENABLED);
 		showAtLeastOne= editorEnabled && JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_SHOW_CODEMINING_AT_LEAST_ONE);
@@ -75,6 +77,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 		showReferencesOnFields= editorEnabled && JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_SHOW_REFERENCES_ON_FIELDS);
 		showReferencesOnMethods= editorEnabled && JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_SHOW_REFERENCES_ON_METHODS);
 		showImplementations= editorEnabled && JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_SHOW_IMPLEMENTATIONS);
+		resolver= showReferences || showImplementations ? new JavaReferenceCountResolver() : null;
 	}
 
 	@Override
@@ -101,6 +104,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 				IJavaElement[] elements= unit.getChildren();
 				List<ICodeMining> minings= new ArrayList<>(elements.length);
 				collectMinings(unit, textEditor, unit.getChildren(), minings, viewer, monitor);
+				requestReferenceCounts(minings);
 				// interrupt if editor was marked to be reconciled in the meantime
 				if (viewer instanceof ISourceViewerExtension5) {
 					ISourceViewerExtension5 codeMiningViewer= (ISourceViewerExtension5)viewer;
@@ -158,7 +162,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 							|| (showReferencesOnFields && (element.getElementType() == IJavaElement.FIELD)) // Show references on fields
 					) {
 						minings.add(new JavaReferenceCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(),
-								this, showAtLeastOne));
+								this, resolver, showAtLeastOne));
 					}
 				} catch (BadLocationException e) {
 					// Should never occur
@@ -178,7 +182,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 				if (addMining) {
 					try {
 						minings.add(new JavaImplementationCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(), this,
-								showAtLeastOne));
+								resolver, showAtLeastOne));
 					} catch (BadLocationException e) {
 						// Should never occur
 					}
@@ -187,4 +191,30 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 		}
 	}
 
+	/**
+	 * Requests the reference counts of all reference minings at once, so that they are searched
+	 * together instead of one by one when the minings are resolved.
+	 *
+	 * @param minings the collected minings
+	 */
+	private void requestReferenceCounts(List<ICodeMining> minings) {
+		List<IJavaElement> elements= new ArrayList<>();
+		for (ICodeMining mining : minings) {
+			if (mining instanceof JavaReferenceCodeMining) {
+				elements.add(((JavaReferenceCodeMining) mining).getElement());
+			}
+		}
+		if (!elements.isEmpty()) {
+			resolver.request(elements);
+		}
+	}
+
+	@Override
+	public void dispose() {
+		if (resolver != null) {
+			resolver.dispose();
+		}
+		super.dispose();
+	}
+
 }
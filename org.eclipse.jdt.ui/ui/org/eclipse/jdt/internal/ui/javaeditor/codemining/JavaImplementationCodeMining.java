@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Angelo Zerr and others.
+ * Copyright (c) 2019, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,14 +61,17 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 
 	private final JavaEditor editor;
 
+	private final JavaReferenceCountResolver resolver;
+
 	private final boolean showImplementationsAtLeastOne;
 
 	private Consumer<MouseEvent> action;
 
 	public JavaImplementationCodeMining(IJavaElement element, JavaEditor editor, IDocument document, ICodeMiningProvider provider,
-			boolean showImplementationsAtLeastOne) throws JavaModelException, BadLocationException {
+			JavaReferenceCountResolver resolver, boolean showImplementationsAtLeastOne) throws JavaModelException, BadLocationException {
 		super(element, document, provider, null);
 		this.editor= editor;
+		this.resolver= resolver;
 		this.showImplementationsAtLeastOne= showImplementationsAtLeastOne;
 	}
 
@@ -161,8 +164,8 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @return the count of implementation for the given java element type.
 	 * @throws JavaModelException throws when Java error
 	 */
-	private static long countTypeImplementations(IType type, IProgressMonitor monitor) throws JavaModelException {
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+	private long countTypeImplementations(IType type, IProgressMonitor monitor) throws JavaModelException {
+		IType[] results= resolver.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		return Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).count();
 	}
 
@@ -174,8 +177,8 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @return the first type implementation.
 	 * @throws JavaModelException throws when Java error
 	 */
-	private static IType getTypeImplementation(IType type, IProgressMonitor monitor) throws JavaModelException {
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+	private IType getTypeImplementation(IType type, IProgressMonitor monitor) throws JavaModelException {
+		IType[] results= resolver.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		return Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).findFirst().get();
 	}
 
@@ -187,12 +190,12 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @return the count of implementation for the given java element method.
 	 * @throws CoreException throws when java error
 	 */
-	private static long countMethodImplementations(IMethod method, IProgressMonitor monitor) throws CoreException {
+	private long countMethodImplementations(IMethod method, IProgressMonitor monitor) throws CoreException {
 		if (method == null) {
 			return 0;
 		}
 		IType type= method.getDeclaringType();
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+		IType[] results= resolver.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		List<IType> list= Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).collect(Collectors.toList());
 		long count= list.stream().filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).count();
 		return count;
@@ -206,9 +209,9 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @return the implementation for the given java element method.
 	 * @throws CoreException throws when java error
 	 */
-	private static IMethod getMethodImplementation(IMethod method, IProgressMonitor monitor) throws CoreException {
+	private IMethod getMethodImplementation(IMethod method, IProgressMonitor monitor) throws CoreException {
 		IType type= method.getDeclaringType();
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+		IType[] results= resolver.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		List<IType> list= Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).collect(Collectors.toList());
 		Optional<IType> foundType= list.stream().filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).findFirst();
 		return foundType.get().getMethod(method.getElementName(), method.getParameterTypes());
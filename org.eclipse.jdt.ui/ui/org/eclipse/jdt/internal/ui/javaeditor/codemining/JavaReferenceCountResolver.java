@@ -0,0 +1,525 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.search.ui.NewSearchUI;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.FieldReferenceMatch;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.MethodReferenceMatch;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.core.search.TypeReferenceMatch;
+
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+/**
+ * Resolves the reference counts and type hierarchies of the Java code minings of one editor.
+ * <p>
+ * The elements of all pending reference minings are searched with one OR-combined search
+ * pattern instead of one search per mining. Each match is attributed to the element whose name
+ * it refers to. Elements that share their kind and name with another pending element, e.g.
+ * overloaded methods, are searched in further batches, and the elements of a match that cannot
+ * be attributed reliably are searched one by one.
+ * </p>
+ * <p>
+ * Counts and type hierarchies are cached per element until the Java model changes. A reconcile
+ * only discards the cached elements of the reconciled compilation unit.
+ * </p>
+ *
+ * @since 3.26
+ */
+public class JavaReferenceCountResolver implements IElementChangedListener {
+
+	private final Map<IJavaElement, CompletableFuture<Long>> fReferenceCounts= new HashMap<>();
+
+	private final Map<IType, CompletableFuture<ITypeHierarchy>> fTypeHierarchies= new HashMap<>();
+
+	private final Map<IJavaElement, CompletableFuture<Long>> fPending= new LinkedHashMap<>();
+
+	private final Job fSearchJob;
+
+	private boolean fDisposed;
+
+	public JavaReferenceCountResolver() {
+		fSearchJob= Job.create(JavaCodeMiningMessages.JavaReferenceCountResolver_job_name, this::searchPending);
+		fSearchJob.setSystem(true);
+		fSearchJob.setPriority(Job.DECORATE);
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Requests the reference counts of the given elements. The elements are searched together in
+	 * the background.
+	 *
+	 * @param elements the elements
+	 */
+	public void request(Collection<IJavaElement> elements) {
+		boolean schedule= false;
+		synchronized (this) {
+			if (fDisposed) {
+				return;
+			}
+			for (IJavaElement element : elements) {
+				if (!fReferenceCounts.containsKey(element)) {
+					CompletableFuture<Long> count= new CompletableFuture<>();
+					fReferenceCounts.put(element, count);
+					fPending.put(element, count);
+					schedule= true;
+				}
+			}
+		}
+		if (schedule) {
+			fSearchJob.schedule();
+		}
+	}
+
+	/**
+	 * Returns the number of references to the given element. The count is searched together with
+	 * the other requested elements unless it is cached.
+	 *
+	 * @param element the element
+	 * @return the future number of references
+	 */
+	public CompletableFuture<Long> getReferenceCount(IJavaElement element) {
+		CompletableFuture<Long> count;
+		synchronized (this) {
+			count= fReferenceCounts.get(element);
+		}
+		if (count == null) {
+			request(Collections.singleton(element));
+			synchronized (this) {
+				count= fReferenceCounts.get(element);
+			}
+			if (count == null) {
+				// disposed
+				count= new CompletableFuture<>();
+				count.cancel(false);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the type hierarchy of the given type. The hierarchy is shared by the minings of
+	 * the type and all its methods.
+	 *
+	 * @param type the type
+	 * @param monitor the progress monitor
+	 * @return the type hierarchy
+	 * @throws JavaModelException if the hierarchy cannot be created
+	 */
+	public ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor monitor) throws JavaModelException {
+		CompletableFuture<ITypeHierarchy> hierarchy;
+		boolean create= false;
+		synchronized (this) {
+			hierarchy= fTypeHierarchies.get(type);
+			if (hierarchy == null) {
+				hierarchy= new CompletableFuture<>();
+				if (!fDisposed) {
+					fTypeHierarchies.put(type, hierarchy);
+				}
+				create= true;
+			}
+		}
+		if (create) {
+			try {
+				hierarchy.complete(type.newTypeHierarchy(monitor));
+			} catch (JavaModelException | RuntimeException e) {
+				synchronized (this) {
+					fTypeHierarchies.remove(type, hierarchy);
+				}
+				hierarchy.completeExceptionally(e);
+				throw e;
+			}
+		}
+		try {
+			return hierarchy.join();
+		} catch (CompletionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof JavaModelException) {
+				throw (JavaModelException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (event.getType() == ElementChangedEvent.POST_RECONCILE) {
+			// a reconcile only changes the elements of the reconciled working copy, the counts of
+			// the elements of other compilation units are searched again once it is saved
+			Set<ICompilationUnit> units= new HashSet<>();
+			collectCompilationUnits(event.getDelta(), units);
+			synchronized (this) {
+				// pending counts are still completed for the minings that requested them
+				fReferenceCounts.keySet().removeIf(element -> isInside(element, units));
+				fTypeHierarchies.keySet().removeIf(type -> isInside(type, units));
+			}
+			return;
+		}
+		synchronized (this) {
+			fReferenceCounts.clear();
+			fTypeHierarchies.clear();
+		}
+	}
+
+	private static void collectCompilationUnits(IJavaElementDelta delta, Set<ICompilationUnit> units) {
+		IJavaElement element= delta.getElement();
+		if (element instanceof ICompilationUnit) {
+			units.add(((ICompilationUnit) element).getPrimary());
+			return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectCompilationUnits(child, units);
+		}
+	}
+
+	private static boolean isInside(IJavaElement element, Set<ICompilationUnit> units) {
+		ICompilationUnit unit= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		return unit != null && units.contains(unit.getPrimary());
+	}
+
+	/**
+	 * Stops listening to Java model changes and cancels the pending searches.
+	 */
+	public void dispose() {
+		synchronized (this) {
+			fDisposed= true;
+			fReferenceCounts.clear();
+			fTypeHierarchies.clear();
+		}
+		JavaCore.removeElementChangedListener(this);
+		fSearchJob.cancel();
+		cancelPending();
+	}
+
+	private void cancelPending() {
+		List<CompletableFuture<Long>> counts;
+		synchronized (this) {
+			counts= new ArrayList<>(fPending.values());
+			fPending.clear();
+		}
+		for (CompletableFuture<Long> count : counts) {
+			count.cancel(false);
+		}
+	}
+
+	private void searchPending(IProgressMonitor monitor) {
+		Map<IJavaElement, CompletableFuture<Long>> pending;
+		synchronized (this) {
+			pending= new LinkedHashMap<>(fPending);
+			fPending.clear();
+		}
+		if (pending.isEmpty()) {
+			return;
+		}
+		try {
+			// the workspace scope of an element depends on whether it is inside the JRE
+			JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+			Map<Boolean, List<IJavaElement>> byScope= new LinkedHashMap<>();
+			for (IJavaElement element : pending.keySet()) {
+				byScope.computeIfAbsent(Boolean.valueOf(factory.isInsideJRE(element)), k -> new ArrayList<>()).add(element);
+			}
+			SubMonitor progress= SubMonitor.convert(monitor, byScope.size());
+			for (Map.Entry<Boolean, List<IJavaElement>> entry : byScope.entrySet()) {
+				IJavaSearchScope scope= factory.createWorkspaceScope(entry.getKey().booleanValue());
+				search(entry.getValue(), scope, pending, progress.split(1));
+			}
+		} catch (OperationCanceledException e) {
+			List<CompletableFuture<Long>> canceled= new ArrayList<>();
+			for (CompletableFuture<Long> count : pending.values()) {
+				if (count.cancel(false)) {
+					canceled.add(count);
+				}
+			}
+			synchronized (this) {
+				fReferenceCounts.values().removeAll(canceled);
+			}
+		} catch (RuntimeException e) {
+			fail(pending, e);
+			throw e;
+		}
+	}
+
+	private void search(List<IJavaElement> elements, IJavaSearchScope scope, Map<IJavaElement, CompletableFuture<Long>> counts,
+			IProgressMonitor monitor) {
+		// batches of elements that can be told apart by their kind and name
+		List<Map<String, IJavaElement>> batches= new ArrayList<>();
+		for (IJavaElement element : elements) {
+			String key= getKey(element.getElementType(), element.getElementName());
+			Map<String, IJavaElement> batch= null;
+			for (Map<String, IJavaElement> candidate : batches) {
+				if (!candidate.containsKey(key)) {
+					batch= candidate;
+					break;
+				}
+			}
+			if (batch == null) {
+				batch= new HashMap<>();
+				batches.add(batch);
+			}
+			batch.put(key, element);
+		}
+
+		SubMonitor progress= SubMonitor.convert(monitor, batches.size() + elements.size());
+		Set<IJavaElement> unresolved= new LinkedHashSet<>();
+		for (Map<String, IJavaElement> batch : batches) {
+			Map<IJavaElement, long[]> batchCounts= new HashMap<>();
+			try {
+				searchBatch(batch, scope, batchCounts, unresolved, progress.split(1));
+			} catch (CoreException e) {
+				fail(counts, batch.values(), e);
+				continue;
+			}
+			for (IJavaElement element : batch.values()) {
+				if (!unresolved.contains(element)) {
+					long[] count= batchCounts.get(element);
+					counts.get(element).complete(Long.valueOf(count != null ? count[0] : 0));
+				}
+			}
+		}
+		progress.setWorkRemaining(unresolved.size());
+		for (IJavaElement element : unresolved) {
+			Map<IJavaElement, long[]> batchCounts= new HashMap<>();
+			Map<String, IJavaElement> batch= Collections.singletonMap(getKey(element.getElementType(), element.getElementName()), element);
+			try {
+				searchBatch(batch, scope, batchCounts, null, progress.split(1));
+			} catch (CoreException e) {
+				fail(counts, batch.values(), e);
+				continue;
+			}
+			long[] count= batchCounts.get(element);
+			counts.get(element).complete(Long.valueOf(count != null ? count[0] : 0));
+		}
+	}
+
+	/**
+	 * Searches the references to a batch of elements and attributes the matches.
+	 *
+	 * @param batch the elements of the batch by their key
+	 * @param scope the search scope
+	 * @param counts the counts to update
+	 * @param unresolved the set to which elements are added whose matches cannot be
+	 *            attributed, or <code>null</code> if the batch has only one element
+	 * @param monitor the progress monitor
+	 * @throws CoreException if the search fails
+	 */
+	private static void searchBatch(Map<String, IJavaElement> batch, IJavaSearchScope scope, Map<IJavaElement, long[]> counts,
+			Set<IJavaElement> unresolved, IProgressMonitor monitor) throws CoreException {
+		SearchPattern pattern= null;
+		for (IJavaElement element : batch.values()) {
+			SearchPattern elementPattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+			if (elementPattern != null) {
+				pattern= pattern == null ? elementPattern : SearchPattern.createOrPattern(pattern, elementPattern);
+			}
+		}
+		if (pattern == null) {
+			return;
+		}
+		final boolean ignoreInaccurate= NewSearchUI.arePotentialMatchesIgnored();
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, new SearchRequestor() {
+
+			private ITypeRoot fRoot;
+
+			private IBuffer fBuffer;
+
+			@Override
+			public void acceptSearchMatch(SearchMatch match) throws CoreException {
+				if (match.getAccuracy() == SearchMatch.A_INACCURATE && ignoreInaccurate) {
+					return;
+				}
+				Object o= match.getElement();
+				if (!(o instanceof IJavaElement)) {
+					return;
+				}
+				IJavaElement e= (IJavaElement) o;
+				ITypeRoot root= (ITypeRoot) e.getAncestor(IJavaElement.COMPILATION_UNIT);
+				if (root == null) {
+					root= (ITypeRoot) e.getAncestor(IJavaElement.CLASS_FILE);
+					if (root == null) {
+						return;
+					}
+				}
+				IJavaElement referenced;
+				if (unresolved == null) {
+					referenced= batch.values().iterator().next();
+				} else {
+					if (root != fRoot) {
+						fRoot= root;
+						try {
+							fBuffer= root.getBuffer();
+						} catch (JavaModelException ex) {
+							// the candidates of the matches are searched one by one
+							fBuffer= null;
+						}
+					}
+					referenced= findReferencedElement(match, batch, fBuffer, unresolved);
+				}
+				if (referenced != null) {
+					counts.computeIfAbsent(referenced, k -> new long[1])[0]++;
+				}
+			}
+		}, monitor);
+	}
+
+	/**
+	 * Finds the element of a batch that a match refers to, by the names in the source range of
+	 * the match.
+	 *
+	 * @param match the match
+	 * @param batch the elements of the batch by their key
+	 * @param buffer the buffer of the match, can be <code>null</code>
+	 * @param unresolved the set to which the candidates are added if the match is ambiguous
+	 * @return the referenced element, or <code>null</code> if the match cannot be attributed
+	 */
+	private static IJavaElement findReferencedElement(SearchMatch match, Map<String, IJavaElement> batch, IBuffer buffer,
+			Set<IJavaElement> unresolved) {
+		int[] kinds;
+		if (match instanceof MethodReferenceMatch) {
+			kinds= new int[] { IJavaElement.METHOD };
+		} else if (match instanceof FieldReferenceMatch) {
+			kinds= new int[] { IJavaElement.FIELD };
+		} else if (match instanceof TypeReferenceMatch) {
+			kinds= new int[] { IJavaElement.TYPE };
+		} else {
+			// the names in the match tell which element it refers to
+			kinds= new int[] { IJavaElement.TYPE, IJavaElement.FIELD, IJavaElement.METHOD };
+		}
+		String text= null;
+		if (buffer != null && match.getOffset() >= 0 && match.getOffset() + match.getLength() <= buffer.getLength()) {
+			text= buffer.getText(match.getOffset(), match.getLength());
+		}
+		if (text == null) {
+			return findCandidate(batch, kinds, unresolved);
+		}
+
+		// the names of the batch that occur in the match, in their order
+		Set<IJavaElement> candidates= new LinkedHashSet<>();
+		for (int i= 0, length= text.length(); i < length;) {
+			if (Character.isJavaIdentifierStart(text.charAt(i))) {
+				int start= i++;
+				while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+					i++;
+				}
+				String name= text.substring(start, i);
+				for (int kind : kinds) {
+					IJavaElement candidate= batch.get(getKey(kind, name));
+					if (candidate != null) {
+						candidates.add(candidate);
+					}
+				}
+			} else {
+				i++;
+			}
+		}
+		if (candidates.size() == 1) {
+			return candidates.iterator().next();
+		}
+		if (candidates.isEmpty()) {
+			return findCandidate(batch, kinds, unresolved);
+		}
+		if (kinds.length == 1 && kinds[0] == IJavaElement.METHOD && text.indexOf("::") == -1) { //$NON-NLS-1$
+			// the range of a method invocation starts with its name, the arguments follow
+			return candidates.iterator().next();
+		}
+		unresolved.addAll(candidates);
+		return null;
+	}
+
+	/**
+	 * Finds the element of a batch that a match refers to by the kind of the match only. Only
+	 * if several elements of the batch have the kind of the match, they are added to the
+	 * unresolved elements.
+	 *
+	 * @param batch the elements of the batch by their key
+	 * @param kinds the element kinds that the match can refer to
+	 * @param unresolved the set to which the candidates are added if the match is ambiguous
+	 * @return the referenced element, or <code>null</code> if the match cannot be attributed
+	 */
+	private static IJavaElement findCandidate(Map<String, IJavaElement> batch, int[] kinds, Set<IJavaElement> unresolved) {
+		List<IJavaElement> candidates= new ArrayList<>();
+		for (IJavaElement element : batch.values()) {
+			for (int kind : kinds) {
+				if (element.getElementType() == kind) {
+					candidates.add(element);
+				}
+			}
+		}
+		if (candidates.size() == 1) {
+			return candidates.get(0);
+		}
+		unresolved.addAll(candidates);
+		return null;
+	}
+
+	private static String getKey(int kind, String name) {
+		return kind + ":" + name; //$NON-NLS-1$
+	}
+
+	private void fail(Map<IJavaElement, CompletableFuture<Long>> counts, Throwable exception) {
+		fail(counts, counts.keySet(), exception);
+	}
+
+	private void fail(Map<IJavaElement, CompletableFuture<Long>> counts, Collection<IJavaElement> elements, Throwable exception) {
+		List<CompletableFuture<Long>> failed= new ArrayList<>();
+		for (IJavaElement element : elements) {
+			CompletableFuture<Long> count= counts.get(element);
+			if (count.completeExceptionally(exception)) {
+				failed.add(count);
+			}
+		}
+		synchronized (this) {
+			// search the elements again when they are requested the next time
+			fReferenceCounts.values().removeAll(failed);
+		}
+	}
+}
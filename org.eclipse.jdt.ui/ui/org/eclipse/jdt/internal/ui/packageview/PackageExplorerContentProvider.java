@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -28,12 +30,14 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
 
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 
+import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.jface.viewers.IBasicPropertyConstants;
@@ -41,6 +45,9 @@ import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
 
 import org.eclipse.ui.IWorkingSet;
+import org.eclipse.ui.progress.DeferredTreeContentManager;
+import org.eclipse.ui.progress.IDeferredWorkbenchAdapter;
+import org.eclipse.ui.progress.IElementCollector;
 import org.eclipse.ui.progress.UIJob;
 
 import org.eclipse.jdt.core.ElementChangedEvent;
@@ -60,6 +67,7 @@ import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
+import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.StandardJavaElementContentProvider;
 
@@ -93,6 +101,25 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 
 	private UIJob fUpdateJob;
 
+	/**
+	 * Number of children of a package fragment root that are added to the viewer at once when
+	 * they are fetched in the background.
+	 */
+	private static final int DEFERRED_PAGE_SIZE= 500;
+
+	/**
+	 * Fetches the children of package fragment roots that are not open yet in a background job,
+	 * or <code>null</code> if all children are computed when they are requested.
+	 */
+	private DeferredTreeContentManager fDeferredContentManager;
+	private boolean fDeferredFetching;
+	private final Set<IPackageFragmentRoot> fPendingRoots= ConcurrentHashMap.newKeySet();
+	/**
+	 * The package fragment roots whose children have been fetched in the background. The Java
+	 * model may close a root again to free memory, its children are then computed in place.
+	 */
+	private final Set<IPackageFragmentRoot> fFetchedRoots= ConcurrentHashMap.newKeySet();
+
 	/**
 	 * We use a cache to know whether a package has a single child for the hierarchical representation.
 	 * This avoids looping over all packages for each call to
@@ -117,6 +144,107 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 		packageCache= new PackageCache.PerRootCache();
 	}
 
+	/**
+	 * Opening a package fragment root reads all entries of an archive or all folders of a source
+	 * folder, which blocks the UI thread for large libraries. If enabled, the children of roots
+	 * that are not open yet are fetched in a background job and added to the viewer in pages,
+	 * while a pending node is shown.
+	 *
+	 * @param enabled <code>true</code> to fetch the children of package fragment roots that are
+	 *            not open yet in the background
+	 * @since 3.26
+	 */
+	public void setDeferredFetching(boolean enabled) {
+		fDeferredFetching= enabled;
+		if (!enabled)
+			fDeferredContentManager= null;
+		else if (fViewer != null)
+			fDeferredContentManager= createDeferredContentManager(fViewer);
+	}
+
+	private DeferredTreeContentManager createDeferredContentManager(TreeViewer viewer) {
+		final IDeferredWorkbenchAdapter adapter= new DeferredRootContent();
+		return new DeferredTreeContentManager(viewer) {
+			@Override
+			protected IDeferredWorkbenchAdapter getAdapter(Object element) {
+				return element instanceof IPackageFragmentRoot ? adapter : null;
+			}
+		};
+	}
+
+	/**
+	 * Returns whether the children of the given element are fetched in the background.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the element is a package fragment root that is not open yet and
+	 *         whose children have not been fetched before
+	 */
+	private boolean isDeferred(Object element) {
+		if (fDeferredContentManager == null || !(element instanceof IPackageFragmentRoot))
+			return false;
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element;
+		// children requested by a background job are computed in place
+		return !fFetchedRoots.contains(root) && !root.isOpen() && root.exists() && Display.getCurrent() != null;
+	}
+
+	/**
+	 * Opens a package fragment root in the background and adds its children in pages.
+	 */
+	private final class DeferredRootContent implements IDeferredWorkbenchAdapter {
+
+		@Override
+		public void fetchDeferredChildren(Object object, IElementCollector collector, IProgressMonitor monitor) {
+			IPackageFragmentRoot root= (IPackageFragmentRoot) object;
+			try {
+				root.open(monitor);
+				if (monitor.isCanceled())
+					return;
+				Object[] children= getChildren(root);
+				for (int i= 0; i < children.length && !monitor.isCanceled(); i+= DEFERRED_PAGE_SIZE) {
+					collector.add(Arrays.copyOfRange(children, i, Math.min(i + DEFERRED_PAGE_SIZE, children.length)), monitor);
+				}
+				if (!monitor.isCanceled())
+					fFetchedRoots.add(root);
+				collector.done();
+			} catch (JavaModelException e) {
+				if (!e.isDoesNotExist())
+					JavaPlugin.log(e);
+			} finally {
+				fPendingRoots.remove(root);
+			}
+		}
+
+		@Override
+		public boolean isContainer() {
+			return true;
+		}
+
+		@Override
+		public ISchedulingRule getRule(Object object) {
+			return null;
+		}
+
+		@Override
+		public Object[] getChildren(Object object) {
+			return PackageExplorerContentProvider.this.getChildren(object);
+		}
+
+		@Override
+		public ImageDescriptor getImageDescriptor(Object object) {
+			return null;
+		}
+
+		@Override
+		public String getLabel(Object object) {
+			return JavaElementLabels.getElementLabel((IJavaElement) object, JavaElementLabels.ALL_DEFAULT);
+		}
+
+		@Override
+		public Object getParent(Object object) {
+			return PackageExplorerContentProvider.this.getParent(object);
+		}
+	}
+
 	private boolean arePackagesFoldedInHierarchicalLayout(){
 		return PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.APPEARANCE_FOLD_PACKAGES_IN_PACKAGE_EXPLORER);
 	}
@@ -299,6 +427,13 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 			if (parentElement instanceof PackageFragmentRootContainer)
 				return getContainerPackageFragmentRoots((PackageFragmentRootContainer)parentElement);
 
+			if (isDeferred(parentElement)) {
+				// the children of a root that is being fetched are added when they are available
+				if (!fPendingRoots.add((IPackageFragmentRoot) parentElement))
+					return NO_CHILDREN;
+				return fDeferredContentManager.getChildren(parentElement);
+			}
+
 			if (parentElement instanceof IProject) {
 				IProject project= (IProject) parentElement;
 				if (project.isAccessible())
@@ -312,6 +447,14 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 		}
 	}
 
+	@Override
+	public boolean hasChildren(Object element) {
+		// don't open the root to find out
+		if (isDeferred(element))
+			return true;
+		return super.hasChildren(element);
+	}
+
 	@Override
 	protected Object[] getPackageFragmentRoots(IJavaProject project) throws JavaModelException {
 		if (!project.getProject().isOpen())
@@ -397,6 +540,10 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	@Override
 	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
 		super.inputChanged(viewer, oldInput, newInput);
+		if (fDeferredFetching && fViewer != viewer)
+			fDeferredContentManager= viewer != null ? createDeferredContentManager((TreeViewer) viewer) : null;
+		if (oldInput != newInput)
+			fFetchedRoots.clear();
 		fViewer= (TreeViewer)viewer;
 		if (oldInput == null && newInput != null) {
 			JavaCore.addElementChangedListener(this);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -594,6 +594,7 @@ public class PackageExplorerPart extends ViewPart
 		fContentProvider= createContentProvider();
 		fContentProvider.setIsFlatLayout(fIsCurrentLayoutFlat);
 		fContentProvider.setShowLibrariesNode(fShowLibrariesNode);
+		fContentProvider.setDeferredFetching(true);
 		fViewer.setContentProvider(fContentProvider);
 
 		fViewer.setComparer(createElementComparer());
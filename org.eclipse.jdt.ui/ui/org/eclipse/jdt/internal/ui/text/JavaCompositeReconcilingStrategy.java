@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITextListener;
+import org.eclipse.jface.text.IViewportListener;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextEvent;
 import org.eclipse.jface.text.reconciler.DirtyRegion;
 import org.eclipse.jface.text.reconciler.IReconcilingStrategy;
 import org.eclipse.jface.text.source.IAnnotationModel;
@@ -31,13 +39,81 @@ import org.eclipse.jdt.internal.ui.text.spelling.JavaSpellingReconcileStrategy;
 /**
  * Reconciling strategy for Java code. This is a composite strategy containing the
  * regular java model reconciler and the comment spelling strategy.
+ * <p>
+ * Large documents are reconciled viewport first: the comments in the visible region are spell
+ * checked together with the Java model reconcile, and the listeners of the reconciled AST are
+ * notified right after. The comments outside of the visible region are spell checked
+ * afterwards, that pass is cancelled as soon as the document changes again.
+ * </p>
  *
  * @since 3.0
  */
 public class JavaCompositeReconcilingStrategy  extends CompositeReconcilingStrategy {
 
+	/**
+	 * Tracks the visible region of the viewer in the UI thread, so that the reconciler thread
+	 * does not need to access the widget.
+	 *
+	 * @since 3.26
+	 */
+	private class ViewportTracker implements IViewportListener, ITextListener {
+
+		@Override
+		public void viewportChanged(int verticalOffset) {
+			update();
+		}
+
+		@Override
+		public void textChanged(TextEvent event) {
+			if (event.getViewerRedrawState())
+				update();
+		}
+
+		private void update() {
+			if (fViewer.getTextWidget() == null || fViewer.getTextWidget().isDisposed())
+				return;
+			int offset= fViewer.getTopIndexStartOffset();
+			int end= fViewer.getBottomIndexEndOffset();
+			if (offset >= 0 && end >= offset)
+				fVisibleRegion= new Region(offset, end - offset + 1);
+		}
+	}
+
+	/**
+	 * Documents with at least this number of characters are reconciled viewport first.
+	 *
+	 * @since 3.26
+	 */
+	private static final int VIEWPORT_FIRST_THRESHOLD= 64 * 1024;
+
+	/**
+	 * The number of lines that are assumed to be visible at the top of the document as long as
+	 * the viewer has not reported its visible region.
+	 *
+	 * @since 3.26
+	 */
+	private static final int DEFAULT_VISIBLE_LINES= 100;
+
 	private ITextEditor fEditor;
 	private JavaReconcilingStrategy fJavaStrategy;
+	/** @since 3.26 */
+	private final ISourceViewer fViewer;
+	/** @since 3.26 */
+	private final JavaSpellingReconcileStrategy fSpellingStrategy;
+	/** @since 3.26 */
+	private IDocument fDocument;
+	/** @since 3.26 */
+	private IProgressMonitor fProgressMonitor;
+	/**
+	 * The last known visible region of the viewer, <code>null</code> if not known yet.
+	 * @since 3.26
+	 */
+	private volatile IRegion fVisibleRegion;
+	/**
+	 * Tracks the visible region, <code>null</code> if there is no viewer or after {@link #uninstall()}.
+	 * @since 3.26
+	 */
+	private ViewportTracker fViewportTracker;
 
 	/**
 	 * Creates a new Java reconciling strategy.
@@ -48,11 +124,33 @@ public class JavaCompositeReconcilingStrategy  extends CompositeReconcilingStrat
 	 */
 	public JavaCompositeReconcilingStrategy(ISourceViewer viewer, ITextEditor editor, String documentPartitioning) {
 		fEditor= editor;
+		fViewer= viewer;
 		fJavaStrategy= new JavaReconcilingStrategy(editor);
+		fSpellingStrategy= new JavaSpellingReconcileStrategy(viewer, editor);
 		setReconcilingStrategies(new IReconcilingStrategy[] {
 			fJavaStrategy,
-			new JavaSpellingReconcileStrategy(viewer, editor)
+			fSpellingStrategy
 		});
+		if (viewer != null) {
+			fViewportTracker= new ViewportTracker();
+			viewer.addViewportListener(fViewportTracker);
+			viewer.addTextListener(fViewportTracker);
+		}
+	}
+
+	/**
+	 * Stops tracking the visible region of the viewer. Called when the reconciler of this
+	 * strategy is uninstalled.
+	 *
+	 * @since 3.26
+	 */
+	public void uninstall() {
+		if (fViewportTracker != null) {
+			fViewer.removeViewportListener(fViewportTracker);
+			fViewer.removeTextListener(fViewportTracker);
+			fViewportTracker= null;
+		}
+		fVisibleRegion= null;
 	}
 
 	/**
@@ -77,6 +175,11 @@ public class JavaCompositeReconcilingStrategy  extends CompositeReconcilingStrat
 	 */
 	@Override
 	public void reconcile(DirtyRegion dirtyRegion, IRegion subRegion) {
+		IRegion visibleRegion= getViewportFirstRegion();
+		if (visibleRegion != null) {
+			reconcileViewportFirst(() -> fJavaStrategy.reconcile(dirtyRegion, subRegion), visibleRegion);
+			return;
+		}
 		try {
 			IProblemRequestorExtension e= getProblemRequestorExtension();
 			if (e != null) {
@@ -99,6 +202,11 @@ public class JavaCompositeReconcilingStrategy  extends CompositeReconcilingStrat
 	 */
 	@Override
 	public void reconcile(IRegion partition) {
+		IRegion visibleRegion= getViewportFirstRegion();
+		if (visibleRegion != null) {
+			reconcileViewportFirst(() -> fJavaStrategy.reconcile(partition), visibleRegion);
+			return;
+		}
 		try {
 			IProblemRequestorExtension e= getProblemRequestorExtension();
 			if (e != null) {
@@ -117,6 +225,113 @@ public class JavaCompositeReconcilingStrategy  extends CompositeReconcilingStrat
 	}
 
 
+	/**
+	 * Reconciles the Java model and spell checks the visible region, then notifies the
+	 * listeners, and finally spell checks the rest of the document unless the reconcile has
+	 * been cancelled in the meantime.
+	 *
+	 * @param javaReconcile reconciles the Java model
+	 * @param visibleRegion the visible region
+	 * @since 3.26
+	 */
+	private void reconcileViewportFirst(Runnable javaReconcile, IRegion visibleRegion) {
+		IProblemRequestorExtension e= getProblemRequestorExtension();
+		try {
+			e.beginReportingSequence(new IRegion[] { visibleRegion }, false);
+			try {
+				javaReconcile.run();
+				if (!isCanceled())
+					fSpellingStrategy.reconcile(visibleRegion);
+			} finally {
+				e.endReportingSequence();
+			}
+		} finally {
+			reconciled();
+		}
+
+		if (isCanceled())
+			return;
+
+		int length= fDocument.getLength();
+		int visibleEnd= Math.min(visibleRegion.getOffset() + visibleRegion.getLength(), length);
+		IRegion[] offscreenRegions= {
+				new Region(0, visibleRegion.getOffset()),
+				new Region(visibleEnd, length - visibleEnd)
+		};
+		// the annotation model drops the problems of a cancelled reporting sequence
+		e.setProgressMonitor(fProgressMonitor);
+		e.beginReportingSequence(offscreenRegions, true);
+		try {
+			for (IRegion region : offscreenRegions) {
+				if (region.getLength() > 0 && !isCanceled())
+					fSpellingStrategy.reconcile(region);
+			}
+		} finally {
+			e.endReportingSequence();
+			e.setProgressMonitor(null);
+		}
+	}
+
+	/**
+	 * Returns the visible region if the document is to be reconciled viewport first.
+	 *
+	 * @return the visible region, extended to full lines, or <code>null</code> if the whole
+	 *         document is to be reconciled at once
+	 * @since 3.26
+	 */
+	private IRegion getViewportFirstRegion() {
+		IDocument document= fDocument;
+		if (document == null || document.getLength() < VIEWPORT_FIRST_THRESHOLD)
+			return null;
+		if (!fSpellingStrategy.isSpellingEnabled() || getProblemRequestorExtension() == null)
+			return null;
+
+		try {
+			int length= document.getLength();
+			IRegion visibleRegion= fVisibleRegion;
+			int offset, end;
+			if (visibleRegion != null) {
+				offset= Math.min(visibleRegion.getOffset(), length);
+				end= Math.min(visibleRegion.getOffset() + visibleRegion.getLength(), length);
+			} else {
+				offset= 0;
+				end= document.getLineOffset(Math.min(DEFAULT_VISIBLE_LINES, document.getNumberOfLines() - 1));
+			}
+			offset= document.getLineInformationOfOffset(offset).getOffset();
+			IRegion endLine= document.getLineInformationOfOffset(end);
+			end= endLine.getOffset() + endLine.getLength();
+			if (offset == 0 && end == length)
+				return null;
+			return new Region(offset, end - offset);
+		} catch (BadLocationException x) {
+			return null;
+		}
+	}
+
+	private boolean isCanceled() {
+		return fProgressMonitor != null && fProgressMonitor.isCanceled();
+	}
+
+	/*
+	 * @see org.eclipse.jdt.internal.ui.text.CompositeReconcilingStrategy#setDocument(org.eclipse.jface.text.IDocument)
+	 * @since 3.26
+	 */
+	@Override
+	public void setDocument(IDocument document) {
+		fDocument= document;
+		super.setDocument(document);
+	}
+
+	/*
+	 * @see org.eclipse.jdt.internal.ui.text.CompositeReconcilingStrategy#setProgressMonitor(org.eclipse.core.runtime.IProgressMonitor)
+	 * @since 3.26
+	 */
+	@Override
+	public void setProgressMonitor(IProgressMonitor monitor) {
+		fProgressMonitor= monitor;
+		super.setProgressMonitor(monitor);
+	}
+
 	/**
 	 * Tells this strategy whether to inform its listeners.
 	 *
@@ -131,6 +346,11 @@ public class JavaCompositeReconcilingStrategy  extends CompositeReconcilingStrat
 	 */
 	@Override
 	public void initialReconcile() {
+		IRegion visibleRegion= getViewportFirstRegion();
+		if (visibleRegion != null) {
+			reconcileViewportFirst(fJavaStrategy::initialReconcile, visibleRegion);
+			return;
+		}
 		try {
 			IProblemRequestorExtension e= getProblemRequestorExtension();
 			if (e != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.jface.internal.text.html.HTMLPrinter;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.preference.PreferenceConverter;
 import org.eclipse.jface.resource.ColorRegistry;
+import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.StyledString;
 
@@ -235,6 +236,13 @@ public abstract class AbstractJavaCompletionProposal implements IJavaCompletionP
 	private int fReplacementLength;
 	private int fCursorPosition;
 	private Image fImage;
+	/**
+	 * The descriptor of the image that is created when the image is first requested, or
+	 * <code>null</code>.
+	 *
+	 * @since 3.26
+	 */
+	private ImageDescriptor fImageDescriptor;
 	private IContextInformation fContextInformation;
 	private ProposalInfo fProposalInfo;
 	private char[] fTriggerCharacters;
@@ -779,6 +787,10 @@ public abstract class AbstractJavaCompletionProposal implements IJavaCompletionP
 
 	@Override
 	public Image getImage() {
+		if (fImageDescriptor != null) {
+			fImage= JavaPlugin.getImageDescriptorRegistry().get(fImageDescriptor);
+			fImageDescriptor= null;
+		}
 		return fImage;
 	}
 
@@ -788,6 +800,19 @@ public abstract class AbstractJavaCompletionProposal implements IJavaCompletionP
 	 */
 	public void setImage(Image image) {
 		fImage= image;
+		fImageDescriptor= null;
+	}
+
+	/**
+	 * Sets the descriptor of the image. The image is only created when it is requested, usually
+	 * when the proposal is shown, and in the display thread.
+	 *
+	 * @param descriptor the descriptor of the image, or <code>null</code> for no image
+	 * @since 3.26
+	 */
+	public void setImageDescriptor(ImageDescriptor descriptor) {
+		fImage= null;
+		fImageDescriptor= descriptor;
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -332,18 +332,60 @@ public final class CompletionProposalCategory {
 	 *         {@link org.eclipse.jface.text.contentassist.ICompletionProposal})
 	 */
 	public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, String partition, SubProgressMonitor monitor) {
-		fLastError= null;
+		String[] errorMessage= new String[1];
+		List<ICompletionProposal> result= computeCompletionProposals(context, partition, monitor, errorMessage);
+		fLastError= errorMessage[0];
+		return result;
+	}
+
+	/**
+	 * Safely computes completion proposals of all computers of this category like
+	 * {@link #computeCompletionProposals(ContentAssistInvocationContext, String, SubProgressMonitor)},
+	 * but hands the error message of the computers to the caller instead of remembering it for
+	 * {@link #getErrorMessage()}. Callers computing the proposals of a category outside of the UI
+	 * thread use this method and must not start a computation while another one of the category is
+	 * still running.
+	 *
+	 * @param context the invocation context passed on to the extension
+	 * @param partition the partition type where to invocation occurred
+	 * @param monitor the progress monitor passed on to the extension
+	 * @param errorMessage an array of length 1 which receives the first error message of the
+	 *            computers, or <code>null</code> if there is none
+	 * @return the list of computed completion proposals
+	 * @since 3.26
+	 */
+	public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, String partition, SubProgressMonitor monitor, String[] errorMessage) {
+		errorMessage[0]= null;
 		List<ICompletionProposal> result= new ArrayList<>();
 		List<CompletionProposalComputerDescriptor> descriptors= new ArrayList<>(fRegistry.getProposalComputerDescriptors(partition));
 		for (CompletionProposalComputerDescriptor desc : descriptors) {
-			if (desc.getCategory() == this)
+			if (desc.getCategory() == this) {
 				result.addAll(desc.computeCompletionProposals(context, monitor));
-			if (fLastError == null && desc.getErrorMessage() != null)
-				fLastError= desc.getErrorMessage();
+				// the computers of other categories may be computing in other threads
+				if (errorMessage[0] == null && desc.getErrorMessage() != null)
+					errorMessage[0]= desc.getErrorMessage();
+			}
 		}
 		return result;
 	}
 
+	/**
+	 * Informs the computers of this category that are computing proposals in the given
+	 * partition that their computation has been cancelled because it did not return within the
+	 * given time budget. Their proposals are dropped.
+	 *
+	 * @param partition the partition type where the invocation occurred
+	 * @param budget the time budget in milliseconds
+	 * @since 3.26
+	 */
+	public void computationCancelled(String partition, long budget) {
+		List<CompletionProposalComputerDescriptor> descriptors= new ArrayList<>(fRegistry.getProposalComputerDescriptors(partition));
+		for (CompletionProposalComputerDescriptor desc : descriptors) {
+			if (desc.getCategory() == this && desc.isComputing())
+				desc.computationCancelled(budget);
+		}
+	}
+
 	/**
 	 * Safely computes context information objects of all computers of this category through their
 	 * extension. If an extension is disabled, throws an exception or otherwise does not adhere to
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2012 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -155,6 +155,34 @@ final class CompletionProposalComputerDescriptor {
 	 */
 	private final boolean fRequiresUIThread;
 
+	/**
+	 * The start of the running <code>computeCompletionProposals</code> operation in nanoseconds,
+	 * or <code>0</code> if none is running.
+	 * @since 3.26
+	 */
+	private volatile long fComputeStart;
+	/**
+	 * The number of completed <code>computeCompletionProposals</code> operations.
+	 * @since 3.26
+	 */
+	private int fInvocations;
+	/**
+	 * The total and maximal time of the completed <code>computeCompletionProposals</code>
+	 * operations, in nanoseconds.
+	 * @since 3.26
+	 */
+	private long fTotalTime, fMaxTime;
+	/**
+	 * The number of cancelled <code>computeCompletionProposals</code> operations.
+	 * @since 3.26
+	 */
+	private int fCancellations;
+	/**
+	 * Tells whether the user has been informed about a cancellation.
+	 * @since 3.26
+	 */
+	private boolean fIsCancellationReported;
+
 
 
 
@@ -343,9 +371,12 @@ final class CompletionProposalComputerDescriptor {
 			if (computer == null) // not active yet
 				return Collections.emptyList();
 
+			long start= System.nanoTime();
+			fComputeStart= start;
 			try {
 				PerformanceStats stats= startMeter(context, computer);
 				List<ICompletionProposal> proposals= computer.computeCompletionProposals(context, monitor);
+				recordTime(System.nanoTime() - start);
 				stopMeter(stats, COMPUTE_COMPLETION_PROPOSALS);
 
 				if (proposals != null) {
@@ -353,6 +384,7 @@ final class CompletionProposalComputerDescriptor {
 					return proposals;
 				}
 			} finally {
+				fComputeStart= 0;
 				// If computers are using non-ui thread, don't report delays.
 				fIsReportingDelay= !(context.getViewer() instanceof JavaSourceViewer)
 						|| !((JavaSourceViewer) context.getViewer()).isAsyncCompletionActive();
@@ -486,6 +518,56 @@ final class CompletionProposalComputerDescriptor {
 		fRegistry.informUser(this, status);
 	}
 
+	/**
+	 * Returns whether a <code>computeCompletionProposals</code> operation is running.
+	 *
+	 * @return <code>true</code> if proposals are being computed
+	 * @since 3.26
+	 */
+	boolean isComputing() {
+		return fComputeStart != 0;
+	}
+
+	/**
+	 * Records that the running <code>computeCompletionProposals</code> operation has been
+	 * cancelled because it did not return within the given budget. The user is informed about
+	 * the first cancellation.
+	 *
+	 * @param budget the time budget in milliseconds
+	 * @since 3.26
+	 */
+	void computationCancelled(long budget) {
+		synchronized (this) {
+			fCancellations++;
+			if (fIsCancellationReported)
+				return;
+			fIsCancellationReported= true;
+		}
+		String blame= createBlameMessage();
+		Object[] args= { COMPUTE_COMPLETION_PROPOSALS, Long.valueOf(budget) };
+		String reason= Messages.format(JavaTextMessages.CompletionProposalComputerDescriptor_reason_cancelled, args);
+		IStatus status= new Status(IStatus.WARNING, JavaPlugin.getPluginId(), IStatus.OK, blame + " " + reason + " " + getStatistics(), null); //$NON-NLS-1$ //$NON-NLS-2$
+		fRegistry.informUser(this, status);
+	}
+
+	private synchronized void recordTime(long time) {
+		fInvocations++;
+		fTotalTime+= time;
+		fMaxTime= Math.max(fMaxTime, time);
+	}
+
+	/**
+	 * Returns the timing statistics of the <code>computeCompletionProposals</code> operation.
+	 *
+	 * @return the statistics message
+	 * @since 3.26
+	 */
+	synchronized String getStatistics() {
+		long average= fInvocations == 0 ? 0 : fTotalTime / fInvocations / 1000000;
+		Object[] args= { Integer.valueOf(fInvocations), Long.valueOf(average), Long.valueOf(fMaxTime / 1000000), Integer.valueOf(fCancellations) };
+		return Messages.format(JavaTextMessages.CompletionProposalComputerDescriptor_statistics, args);
+	}
+
 	private PerformanceStats startMeter(Object context, IJavaCompletionProposalComputer computer) {
 		final PerformanceStats stats;
 		if (MEASURE_PERFORMANCE) {
@@ -553,6 +635,8 @@ final class CompletionProposalComputerDescriptor {
 		String blame= createBlameMessage();
 		Object[] args= {operation};
 		String reason= Messages.format(JavaTextMessages.CompletionProposalComputerDescriptor_reason_performance, args);
+		if (COMPUTE_COMPLETION_PROPOSALS.equals(operation))
+			reason= reason + " " + getStatistics(); //$NON-NLS-1$
 		return new Status(IStatus.WARNING, JavaPlugin.getPluginId(), IStatus.OK, blame + " " + reason, null); //$NON-NLS-1$
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.java;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -53,6 +64,8 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Preferences;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IType;
@@ -65,6 +78,11 @@ import org.eclipse.jdt.internal.ui.JavaUIStatus;
 
 /**
  * An LRU cache for code assist.
+ * <p>
+ * This class is thread safe. The history of a left hand side is computed once and shared until
+ * the history changes, see {@link #getHistory(String)}. A history that has a
+ * {@linkplain #setFile(File) file} is saved to it in the background after it has changed.
+ * </p>
  *
  * @since 3.2
  */
@@ -94,15 +112,17 @@ public final class ContentAssistHistory {
 				rootElement.setAttribute(ATTRIBUTE_MAX_RHS, Integer.toString(history.fMaxRHS));
 				document.appendChild(rootElement);
 
-				for (Entry<String, MRUSet<String>> entry : history.fLHSCache.entrySet()) {
-					String lhs = entry.getKey();
-					Element lhsElement= document.createElement(NODE_LHS);
-					lhsElement.setAttribute(ATTRIBUTE_NAME, lhs);
-					rootElement.appendChild(lhsElement);
-					for (String rhs : entry.getValue()) {
-						Element rhsElement= document.createElement(NODE_RHS);
-						rhsElement.setAttribute(ATTRIBUTE_NAME, rhs);
-						lhsElement.appendChild(rhsElement);
+				synchronized (history) {
+					for (Entry<String, MRUSet<String>> entry : history.fLHSCache.entrySet()) {
+						String lhs = entry.getKey();
+						Element lhsElement= document.createElement(NODE_LHS);
+						lhsElement.setAttribute(ATTRIBUTE_NAME, lhs);
+						rootElement.appendChild(lhsElement);
+						for (String rhs : entry.getValue()) {
+							Element rhsElement= document.createElement(NODE_RHS);
+							rhsElement.setAttribute(ATTRIBUTE_NAME, rhs);
+							lhsElement.appendChild(rhsElement);
+						}
 					}
 				}
 
@@ -178,9 +198,108 @@ public final class ContentAssistHistory {
 				return defaultValue;
 			}
 		}
+	}
+
+	/**
+	 * Binary persistence implementation. The type names are written once into a name table, the
+	 * left and right hand sides refer to them by index:
+	 *
+	 * <pre>
+	 * magic version maxLHS maxRHS
+	 * nameCount name*
+	 * lhsCount (lhsIndex rhsCount rhsIndex*)*
+	 * </pre>
+	 *
+	 * The left hand sides are written from the least to the most recently used one, the right
+	 * hand sides from the least to the most recently selected one.
+	 *
+	 * @since 3.26
+	 */
+	private static final class BinaryReaderWriter {
+
+		private static final int MAGIC= 0x4A434148; // "JCAH"
+		private static final int VERSION= 1;
+
+		public void store(ContentAssistHistory history, File file) throws CoreException {
+			Map<String, Integer> names= new LinkedHashMap<>();
+			List<int[]> entries= new ArrayList<>();
+			synchronized (history) {
+				for (Entry<String, MRUSet<String>> entry : history.fLHSCache.entrySet()) {
+					MRUSet<String> rhsCache= entry.getValue();
+					int[] indices= new int[rhsCache.size() + 1];
+					indices[0]= indexOf(names, entry.getKey());
+					int i= 1;
+					for (String rhs : rhsCache) {
+						indices[i++]= indexOf(names, rhs);
+					}
+					entries.add(indices);
+				}
+			}
+
+			File tmpFile= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(history.fMaxLHS);
+					out.writeInt(history.fMaxRHS);
+					out.writeInt(names.size());
+					for (String name : names.keySet()) {
+						out.writeUTF(name);
+					}
+					out.writeInt(entries.size());
+					for (int[] indices : entries) {
+						out.writeInt(indices[0]);
+						out.writeInt(indices.length - 1);
+						for (int i= 1; i < indices.length; i++) {
+							out.writeInt(indices[i]);
+						}
+					}
+				}
+				try {
+					Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} catch (IOException e) {
+				throw createException(e, JavaTextMessages.ContentAssistHistory_serialize_error);
+			}
+		}
+
+		public ContentAssistHistory load(File file) throws CoreException {
+			try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				if (in.readInt() != MAGIC || in.readInt() != VERSION)
+					return null;
+
+				int maxLHS= in.readInt();
+				int maxRHS= in.readInt();
+				ContentAssistHistory history= new ContentAssistHistory(maxLHS > 0 ? maxLHS : DEFAULT_TRACKED_LHS, maxRHS > 0 ? maxRHS : DEFAULT_TRACKED_RHS);
+
+				String[] names= new String[in.readInt()];
+				for (int i= 0; i < names.length; i++) {
+					names[i]= in.readUTF();
+				}
+				int nLHS= in.readInt();
+				for (int i= 0; i < nLHS; i++) {
+					Set<String> cache= history.getCache(names[in.readInt()]);
+					int nRHS= in.readInt();
+					for (int j= 0; j < nRHS; j++) {
+						cache.add(names[in.readInt()]);
+					}
+				}
+				return history;
+			} catch (IOException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+				throw createException(e, JavaTextMessages.ContentAssistHistory_deserialize_error);
+			}
+		}
 
-		private JavaUIException createException(Exception e, String message) {
-			return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, e));
+		private static int indexOf(Map<String, Integer> names, String name) {
+			Integer index= names.get(name);
+			if (index == null) {
+				index= Integer.valueOf(names.size());
+				names.put(name, index);
+			}
+			return index.intValue();
 		}
 	}
 
@@ -269,10 +388,11 @@ public final class ContentAssistHistory {
 	 */
 	public static final class RHSHistory {
 		private final LinkedHashMap<String, Integer> fHistory;
-		private List<String> fList;
+		private final List<String> fList;
 
 		RHSHistory(LinkedHashMap<String, Integer> history) {
 			fHistory= history;
+			fList= history == null ? Collections.<String>emptyList() : Collections.unmodifiableList(new ArrayList<>(history.keySet()));
 		}
 
 		/**
@@ -305,11 +425,6 @@ public final class ContentAssistHistory {
 		 * @return the list of remembered types as fully qualified type names
 		 */
 		public List<String> getTypes() {
-			if (fHistory == null)
-				return Collections.emptyList();
-			if (fList == null) {
-				fList= Collections.unmodifiableList(new ArrayList<>(fHistory.keySet()));
-			}
 			return fList;
 		}
 	}
@@ -318,6 +433,12 @@ public final class ContentAssistHistory {
 	private static final int DEFAULT_TRACKED_LHS= 100;
 	private static final int DEFAULT_TRACKED_RHS= 10;
 
+	/**
+	 * Delay in milliseconds before a changed history is saved, so that consecutive selections are
+	 * saved together.
+	 */
+	private static final long SAVE_DELAY= 5000;
+
 	private static final Set<String> UNCACHEABLE;
 	static {
 		Set<String> uncacheable= new HashSet<>();
@@ -328,10 +449,32 @@ public final class ContentAssistHistory {
 		UNCACHEABLE= Collections.unmodifiableSet(uncacheable);
 	}
 
+	/** The remembered right hand sides of each left hand side. Guarded by this history. */
 	private final LinkedHashMap<String, MRUSet<String>> fLHSCache;
 	private final int fMaxLHS;
 	private final int fMaxRHS;
 
+	/**
+	 * The computed histories of the left hand sides, cleared whenever {@link #fLHSCache} changes.
+	 * Only modified while holding the monitor of this history.
+	 */
+	private final Map<String, RHSHistory> fHistories= new ConcurrentHashMap<>();
+
+	/** Incremented whenever the history changes. Guarded by this history. */
+	private int fModificationCount;
+
+	/** The file to save the history to, or <code>null</code>. Guarded by this history. */
+	private File fFile;
+
+	/** Saves the history in the background. Guarded by this history. */
+	private Job fSaveJob;
+
+	/** Serializes the saving of the history. */
+	private final Object fSaveLock= new Object();
+
+	/** The modification count of the saved history. Guarded by {@link #fSaveLock}. */
+	private int fSavedModificationCount;
+
 	/**
 	 * Creates a new history.
 	 *
@@ -368,14 +511,17 @@ public final class ContentAssistHistory {
 		try {
 			if (!isCacheableRHS(rhs))
 				return;
+			// computed outside of the lock, the hierarchy may have to be read from disk
 			ITypeHierarchy hierarchy= rhs.newSupertypeHierarchy(getProgressMonitor());
 			if (hierarchy.contains(lhs)) {
 				// TODO remember for every member of the LHS hierarchy or not? Yes for now.
-				String rhsQualifiedName= rhs.getFullyQualifiedName();
+				List<String> lhsQualifiedNames= new ArrayList<>();
 				for (IType lhSide : hierarchy.getAllSupertypes(lhs)) {
-					rememberInternal(lhSide, rhsQualifiedName);
+					addCacheableLHS(lhSide, lhsQualifiedNames);
 				}
-				rememberInternal(lhs, rhsQualifiedName);
+				addCacheableLHS(lhs, lhsQualifiedNames);
+				if (!lhsQualifiedNames.isEmpty())
+					rememberInternal(lhsQualifiedNames, rhs.getFullyQualifiedName());
 			}
 		} catch (JavaModelException x) {
 			JavaPlugin.log(x);
@@ -388,9 +534,23 @@ public final class ContentAssistHistory {
 	 *
 	 * @param lhs the fully qualified type name of an expected type for which right hand sides are
 	 *        requested, or <code>null</code>
-	 * @return the right hand side history for the given type
+	 * @return the right hand side history for the given type, shared until the history changes
 	 */
 	public RHSHistory getHistory(String lhs) {
+		if (lhs == null)
+			return EMPTY_HISTORY;
+		RHSHistory history= fHistories.get(lhs);
+		if (history != null)
+			return history;
+		synchronized (this) {
+			history= computeHistory(lhs);
+			if (history != EMPTY_HISTORY)
+				fHistories.put(lhs, history);
+			return history;
+		}
+	}
+
+	private RHSHistory computeHistory(String lhs) {
 		MRUSet<String> rhsCache= fLHSCache.get(lhs);
 		if (rhsCache != null) {
 			int count= rhsCache.size();
@@ -411,7 +571,7 @@ public final class ContentAssistHistory {
 	 *
 	 * @return the set of remembered right hand sides ordered by least recent selection
 	 */
-	public Map<String, RHSHistory> getEntireHistory() {
+	public synchronized Map<String, RHSHistory> getEntireHistory() {
 		HashMap<String, RHSHistory> map= new HashMap<>((int) (fLHSCache.size() / 0.75));
 		for (Entry<String, MRUSet<String>> entry : fLHSCache.entrySet()) {
 			String lhs= entry.getKey();
@@ -420,10 +580,20 @@ public final class ContentAssistHistory {
 		return Collections.unmodifiableMap(map);
 	}
 
-	private void rememberInternal(IType lhs, String rhsQualifiedName) throws JavaModelException {
+	private void addCacheableLHS(IType lhs, List<String> lhsQualifiedNames) throws JavaModelException {
 		String lhsQualifiedName= lhs.getFullyQualifiedName();
 		if (isCacheableLHS(lhs, lhsQualifiedName))
+			lhsQualifiedNames.add(lhsQualifiedName);
+	}
+
+	private synchronized void rememberInternal(List<String> lhsQualifiedNames, String rhsQualifiedName) {
+		for (String lhsQualifiedName : lhsQualifiedNames) {
 			getCache(lhsQualifiedName).add(rhsQualifiedName);
+		}
+		fHistories.clear();
+		fModificationCount++;
+		if (fSaveJob != null)
+			fSaveJob.schedule(SAVE_DELAY);
 	}
 
 	private boolean isCacheableLHS(IType type, String qualifiedName) throws JavaModelException {
@@ -448,6 +618,83 @@ public final class ContentAssistHistory {
 		return new NullProgressMonitor();
 	}
 
+	/**
+	 * Sets the file to which the history is saved in the background after it has changed. The
+	 * history is not saved until it changes, see {@link #flush()}.
+	 *
+	 * @param file the file to save the history to, or <code>null</code> to stop saving the history
+	 * @see #load(File) on how to restore a history saved to the file
+	 * @since 3.26
+	 */
+	public synchronized void setFile(File file) {
+		fFile= file;
+		if (file == null) {
+			if (fSaveJob != null) {
+				fSaveJob.cancel();
+				fSaveJob= null;
+			}
+		} else if (fSaveJob == null) {
+			fSaveJob= Job.create(JavaTextMessages.ContentAssistHistory_save_job_name, monitor -> {
+				try {
+					save();
+				} catch (CoreException e) {
+					return e.getStatus();
+				}
+				return Status.OK_STATUS;
+			});
+			fSaveJob.setSystem(true);
+		}
+	}
+
+	/**
+	 * Saves the history to its file now if it has changed since it was last saved. Does nothing if
+	 * the history has no file.
+	 *
+	 * @throws CoreException if serialization fails
+	 * @see #setFile(File)
+	 * @since 3.26
+	 */
+	public void flush() throws CoreException {
+		Job saveJob;
+		synchronized (this) {
+			saveJob= fSaveJob;
+		}
+		if (saveJob != null)
+			saveJob.cancel();
+		save();
+	}
+
+	/**
+	 * Marks the history as changed, so that it is saved to its file even if it has not been
+	 * modified since it was loaded.
+	 *
+	 * @since 3.26
+	 */
+	public synchronized void setDirty() {
+		fModificationCount++;
+		if (fSaveJob != null)
+			fSaveJob.schedule(SAVE_DELAY);
+	}
+
+	private void save() throws CoreException {
+		synchronized (fSaveLock) {
+			File file;
+			int modificationCount;
+			synchronized (this) {
+				file= fFile;
+				modificationCount= fModificationCount;
+			}
+			if (file == null || modificationCount == fSavedModificationCount)
+				return;
+			new BinaryReaderWriter().store(this, file);
+			fSavedModificationCount= modificationCount;
+		}
+	}
+
+	private static JavaUIException createException(Exception e, String message) {
+		return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, e));
+	}
+
 	/**
 	 * Stores the history as XML document into the given preferences.
 	 *
@@ -481,4 +728,34 @@ public final class ContentAssistHistory {
 		}
 		return null;
 	}
+
+	/**
+	 * Stores the history into the given file in a compact binary format.
+	 *
+	 * @param history the history to store
+	 * @param file the file to store the history into
+	 * @throws CoreException if serialization fails
+	 * @see #load(File) on how to restore a history stored by this method
+	 * @since 3.26
+	 */
+	public static void store(ContentAssistHistory history, File file) throws CoreException {
+		new BinaryReaderWriter().store(history, file);
+	}
+
+	/**
+	 * Loads a history from a file written by {@link #store(ContentAssistHistory, File)}.
+	 *
+	 * @param file the file to retrieve the history from
+	 * @return the deserialized history, or <code>null</code> if the file does not exist or has an
+	 *         unknown format
+	 * @throws CoreException if deserialization fails
+	 * @see #store(ContentAssistHistory, File) on how to store a history such that it can be read
+	 *      by this method
+	 * @since 3.26
+	 */
+	public static ContentAssistHistory load(File file) throws CoreException {
+		if (!file.isFile())
+			return null;
+		return new BinaryReaderWriter().load(file);
+	}
 }
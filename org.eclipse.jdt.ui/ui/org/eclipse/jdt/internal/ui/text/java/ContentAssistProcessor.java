@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,14 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
@@ -77,6 +85,7 @@ import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIMessages;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
 
 
 /**
@@ -229,6 +238,43 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 
 	private static final Comparator<CompletionProposalCategory> ORDER_COMPARATOR= (d1, d2) -> d1.getSortOrder() - d2.getSortOrder();
 
+	/**
+	 * The default time in milliseconds that the categories computing proposals in parallel have
+	 * to return, a bit more than the timeout of code completion, see
+	 * {@link #getComputationBudget()}.
+	 *
+	 * @since 3.26
+	 */
+	private static final long COMPUTATION_BUDGET= Long.getLong("org.eclipse.jdt.ui.codeAssistBudget", 6000); //$NON-NLS-1$
+
+	/**
+	 * The executor of the categories computing proposals in parallel, see
+	 * {@link #isParallelComputation(ContentAssistInvocationContext)}.
+	 *
+	 * @since 3.26
+	 */
+	private static final ExecutorService COMPUTATION_EXECUTOR;
+
+	static {
+		int threads= Math.max(2, Runtime.getRuntime().availableProcessors());
+		ThreadPoolExecutor executor= new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "Java Content Assist"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		COMPUTATION_EXECUTOR= executor;
+	}
+
+	/**
+	 * The categories that are computing proposals. A category that is still computing, e.g.
+	 * because one of its computers ignored the cancellation of an earlier invocation, does not
+	 * compute proposals again until it has returned.
+	 *
+	 * @since 3.26
+	 */
+	private static final Set<CompletionProposalCategory> COMPUTING_CATEGORIES= ConcurrentHashMap.newKeySet();
+
 	private final List<CompletionProposalCategory> fCategories;
 	private final String fPartition;
 	private final ContentAssistant fAssistant;
@@ -329,12 +375,46 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		boolean needsSortingAfterFiltering= false;
 		List<ICompletionProposal> proposals= new ArrayList<>();
 		List<CompletionProposalCategory> providers= getCategories();
-		for (CompletionProposalCategory cat : providers) {
-			List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(monitor, 1));
+		List<Future<List<ICompletionProposal>>> futures= null;
+		List<IProgressMonitor> monitors= null;
+		List<String[]> errorMessages= new ArrayList<>(providers.size());
+		for (int i= 0; i < providers.size(); i++)
+			errorMessages.add(new String[1]);
+		if (isParallelComputation(context)) {
+			futures= new ArrayList<>(providers.size());
+			monitors= new ArrayList<>(providers.size());
+			for (int i= 0; i < providers.size(); i++) {
+				CompletionProposalCategory cat= providers.get(i);
+				if (cat.isEnabled() && cat.hasComputers(fPartition) && COMPUTING_CATEGORIES.add(cat)) {
+					IProgressMonitor catMonitor= new NullProgressMonitor();
+					String[] errorMessage= errorMessages.get(i);
+					futures.add(COMPUTATION_EXECUTOR.submit(() -> computeProposals(cat, context, new SubProgressMonitor(catMonitor, 1), errorMessage)));
+					monitors.add(catMonitor);
+				} else {
+					futures.add(null);
+					monitors.add(null);
+				}
+			}
+		}
+		long budget= getComputationBudget();
+		long deadline= System.currentTimeMillis() + budget;
+		for (int i= 0; i < providers.size(); i++) {
+			CompletionProposalCategory cat= providers.get(i);
+			List<ICompletionProposal> computed;
+			if (futures != null && futures.get(i) != null) {
+				computed= getComputedProposals(cat, futures.get(i), monitors.get(i), deadline, budget);
+				monitor.worked(1);
+			} else if (COMPUTING_CATEGORIES.add(cat)) {
+				computed= computeProposals(cat, context, new SubProgressMonitor(monitor, 1), errorMessages.get(i));
+			} else {
+				// still computing for an earlier invocation
+				computed= Collections.emptyList();
+				monitor.worked(1);
+			}
 			proposals.addAll(computed);
 			needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
 			if (fErrorMessage == null) {
-				fErrorMessage= cat.getErrorMessage();
+				fErrorMessage= errorMessages.get(i)[0];
 			}
 		}
 		if (fNeedsSortingAfterFiltering && !needsSortingAfterFiltering) {
@@ -344,6 +424,87 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		return proposals;
 	}
 
+	/**
+	 * Computes the proposals of a category which has been added to the computing categories, and
+	 * removes it from them once the computation has returned.
+	 *
+	 * @param category the category
+	 * @param context the code assist invocation context
+	 * @param monitor the progress monitor
+	 * @param errorMessage an array of length 1 which receives the error message of the computation
+	 * @return the computed proposals
+	 * @since 3.26
+	 */
+	private List<ICompletionProposal> computeProposals(CompletionProposalCategory category, ContentAssistInvocationContext context, SubProgressMonitor monitor, String[] errorMessage) {
+		try {
+			if (monitor.isCanceled())
+				return Collections.emptyList();
+			return category.computeCompletionProposals(context, fPartition, monitor, errorMessage);
+		} finally {
+			COMPUTING_CATEGORIES.remove(category);
+		}
+	}
+
+	/**
+	 * Returns whether the categories compute their proposals in parallel. This is the case when
+	 * content assist runs outside of the UI thread, since the proposal computers are then known
+	 * to not require it, see {@link JavaSourceViewer#isAsyncCompletionActive()}.
+	 *
+	 * @param context the code assist invocation context
+	 * @return <code>true</code> if the categories compute their proposals in parallel
+	 * @since 3.26
+	 */
+	private boolean isParallelComputation(ContentAssistInvocationContext context) {
+		ITextViewer viewer= context.getViewer();
+		return getCategories().size() > 1 && viewer instanceof JavaSourceViewer && ((JavaSourceViewer) viewer).isAsyncCompletionActive()
+				&& Display.getCurrent() == null;
+	}
+
+	/**
+	 * Returns the time in milliseconds that the categories computing proposals in parallel have to
+	 * return. Categories that take longer are cancelled and their proposals are dropped.
+	 * <p>
+	 * The default is given by the system property <code>org.eclipse.jdt.ui.codeAssistBudget</code>
+	 * and is 6000 milliseconds.
+	 * </p>
+	 *
+	 * @return the time budget in milliseconds
+	 * @since 3.26
+	 */
+	protected long getComputationBudget() {
+		return COMPUTATION_BUDGET;
+	}
+
+	/**
+	 * Waits for the proposals computed by a category in parallel. If the category does not
+	 * return before the deadline, its progress monitor is cancelled and no proposals are returned.
+	 * The category keeps computing until its computers return, but it is not waited for.
+	 *
+	 * @param category the category
+	 * @param future the computation of the category
+	 * @param monitor the progress monitor of the computation
+	 * @param deadline the deadline in milliseconds
+	 * @param budget the time budget in milliseconds
+	 * @return the computed proposals
+	 * @since 3.26
+	 */
+	private List<ICompletionProposal> getComputedProposals(CompletionProposalCategory category, Future<List<ICompletionProposal>> future, IProgressMonitor monitor, long deadline, long budget) {
+		try {
+			return future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// the future is not cancelled: a computation which has not started yet must still
+			// remove the category from the computing categories
+			monitor.setCanceled(true);
+			category.computationCancelled(fPartition, budget);
+		} catch (InterruptedException e) {
+			monitor.setCanceled(true);
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			JavaPlugin.log(e.getCause());
+		}
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Filters and sorts the proposals. The passed list may be modified
 	 * and returned, or a new list may be created and returned.
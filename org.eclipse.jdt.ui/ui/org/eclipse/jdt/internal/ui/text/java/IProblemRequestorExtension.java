@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2005 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.jdt.internal.ui.text.java;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import org.eclipse.jface.text.IRegion;
+
 
 /**
  * Extension to <code>IProblemRequestor</code>.
@@ -45,6 +47,20 @@ public interface IProblemRequestorExtension {
 	 */
 	void beginReportingSequence();
 
+	/**
+	 * Informs the problem requestor that a sequence of reportings is about to start, which only
+	 * replaces part of the reported problems. The spelling problems that have been reported
+	 * earlier outside of the given regions are kept. If <code>spellingOnly</code> is set, the
+	 * other problems that have been reported earlier are kept as well.
+	 *
+	 * @param spellingRegions the regions whose spelling problems are reported, or
+	 *            <code>null</code> for the whole document
+	 * @param spellingOnly <code>true</code> if only spelling problems are reported
+	 * @see #beginReportingSequence()
+	 * @since 3.26
+	 */
+	void beginReportingSequence(IRegion[] spellingRegions, boolean spellingOnly);
+
 	/**
 	 * Informs the problem requestor that the sequence of reportings has been finished.
 	 *
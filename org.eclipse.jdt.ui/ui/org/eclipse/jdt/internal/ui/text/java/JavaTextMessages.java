@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,8 @@ final class JavaTextMessages extends NLS {
 	public static String CompletionProposalComputerDescriptor_reason_runtime_ex;
 	public static String CompletionProposalComputerDescriptor_reason_API;
 	public static String CompletionProposalComputerDescriptor_reason_performance;
+	public static String CompletionProposalComputerDescriptor_reason_cancelled;
+	public static String CompletionProposalComputerDescriptor_statistics;
 	public static String CompletionProposalComputerDescriptor_blame_message;
 	public static String CompletionProposalComputerRegistry_invalid_message;
 	public static String CompletionProposalComputerRegistry_error_dialog_title;
@@ -71,5 +73,6 @@ final class JavaTextMessages extends NLS {
 	public static String ContentAssistProcessor_empty_message;
 	public static String ContentAssistHistory_serialize_error;
 	public static String ContentAssistHistory_deserialize_error;
+	public static String ContentAssistHistory_save_job_name;
 	public static String ProposalSorterHandle_blame;
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.swt.graphics.Point;
 
 import org.eclipse.core.runtime.Assert;
 
+import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.viewers.StyledString;
 
 import org.eclipse.jface.text.IDocument;
@@ -374,6 +375,12 @@ public class LazyJavaCompletionProposal extends AbstractJavaCompletionProposal {
 		super.setImage(image);
 	}
 
+	@Override
+	public final void setImageDescriptor(ImageDescriptor descriptor) {
+		fImageComputed= true;
+		super.setImageDescriptor(descriptor);
+	}
+
 	/**
 	 * Gets the proposal's relevance.
 	 * @return Returns a int
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,4 +42,14 @@ public class LazyModuleCompletionProposal extends LazyJavaCompletionProposal {
 
 		return super.computeProposalInfo();
 	}
+
+	/*
+	 * @see org.eclipse.jdt.internal.ui.text.java.LazyJavaCompletionProposal#computeSortString()
+	 */
+	@Override
+	protected String computeSortString() {
+		// the module name, sorting must not create the display strings of all proposals
+		return String.valueOf(fProposal.getDeclarationSignature());
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2013 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,4 +44,13 @@ public class LazyPackageCompletionProposal extends LazyJavaCompletionProposal {
 		return super.computeProposalInfo();
 	}
 
+	/*
+	 * @see org.eclipse.jdt.internal.ui.text.java.LazyJavaCompletionProposal#computeSortString()
+	 */
+	@Override
+	protected String computeSortString() {
+		// the package name, sorting must not create the display strings of all proposals
+		return String.valueOf(fProposal.getDeclarationSignature());
+	}
+
 }
@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.content.IContentType;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.ui.texteditor.spelling.ISpellingEngine;
+import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
+import org.eclipse.ui.texteditor.spelling.SpellingContext;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
+
+
+/**
+ * Spell checks many documents at once, e.g. all Java and properties files of a project.
+ * <p>
+ * The documents are tokenized and checked concurrently on a bounded thread pool. All
+ * threads share the {@linkplain SpellCheckEngine#getSpellChecker() spell checker} of the
+ * workspace and its dictionaries, which are safe for concurrent readers. The problems of
+ * all documents are returned in one {@link Report}, in the order the documents have been
+ * added.
+ * </p>
+ * <p>
+ * The documents must not be modified while they are checked, and must have the
+ * partitioning of their content type installed, as for the spelling reconciler.
+ * </p>
+ *
+ * @since 3.26
+ */
+public class BatchSpellChecker {
+
+	/**
+	 * The spelling problems of a batch.
+	 */
+	public static final class Report {
+
+		private final IDocument[] fDocuments;
+
+		private final SpellingProblem[][] fProblems;
+
+		private Report(IDocument[] documents, SpellingProblem[][] problems) {
+			fDocuments= documents;
+			fProblems= problems;
+		}
+
+		/**
+		 * Returns the number of checked documents.
+		 *
+		 * @return the number of documents
+		 */
+		public int getDocumentCount() {
+			return fDocuments.length;
+		}
+
+		/**
+		 * Returns the document with the given index.
+		 *
+		 * @param index the index, in the order the documents have been added
+		 * @return the document
+		 */
+		public IDocument getDocument(int index) {
+			return fDocuments[index];
+		}
+
+		/**
+		 * Returns the spelling problems of the document with the given index.
+		 *
+		 * @param index the index, in the order the documents have been added
+		 * @return the problems in the order they have been found
+		 */
+		public SpellingProblem[] getProblems(int index) {
+			return fProblems[index];
+		}
+
+		/**
+		 * Returns the number of spelling problems in all documents.
+		 *
+		 * @return the total number of problems
+		 */
+		public int getProblemCount() {
+			int count= 0;
+			for (SpellingProblem[] problems : fProblems)
+				count+= problems.length;
+			return count;
+		}
+	}
+
+	/**
+	 * Collects the problems of one document.
+	 */
+	private static final class ProblemCollector implements ISpellingProblemCollector {
+
+		private final List<SpellingProblem> fProblems= new ArrayList<>();
+
+		@Override
+		public void accept(SpellingProblem problem) {
+			fProblems.add(problem);
+		}
+
+		@Override
+		public void beginCollecting() {
+		}
+
+		@Override
+		public void endCollecting() {
+		}
+
+		SpellingProblem[] getProblems() {
+			return fProblems.toArray(new SpellingProblem[fProblems.size()]);
+		}
+	}
+
+	/**
+	 * Interval in ms in which the checker polls the progress monitor for cancellation.
+	 */
+	private static final long CANCELATION_POLL_INTERVAL= 100;
+
+	private final ISpellingEngine fEngine;
+
+	private final int fParallelism;
+
+	private final List<IDocument> fDocuments= new ArrayList<>();
+
+	private final List<IRegion[]> fRegions= new ArrayList<>();
+
+	private final List<SpellingContext> fContexts= new ArrayList<>();
+
+	/**
+	 * Creates a batch spell checker that uses the Java spelling engine and one thread per
+	 * available processor.
+	 */
+	public BatchSpellChecker() {
+		this(new DefaultSpellingEngine(), Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a batch spell checker.
+	 *
+	 * @param engine the spelling engine, must be safe to use from several threads
+	 * @param parallelism the maximal number of documents checked at the same time
+	 */
+	public BatchSpellChecker(ISpellingEngine engine, int parallelism) {
+		Assert.isLegal(engine != null);
+		Assert.isLegal(parallelism > 0);
+		fEngine= engine;
+		fParallelism= parallelism;
+	}
+
+	/**
+	 * Adds a document that is checked completely.
+	 *
+	 * @param document the document
+	 * @param contentType the content type of the document, selects the partitions that are checked
+	 */
+	public void add(IDocument document, IContentType contentType) {
+		add(document, new IRegion[] { new Region(0, document.getLength()) }, contentType);
+	}
+
+	/**
+	 * Adds regions of a document.
+	 *
+	 * @param document the document
+	 * @param regions the regions of the document to check
+	 * @param contentType the content type of the document, selects the partitions that are checked
+	 */
+	public void add(IDocument document, IRegion[] regions, IContentType contentType) {
+		SpellingContext context= new SpellingContext();
+		context.setContentType(contentType);
+		fDocuments.add(document);
+		fRegions.add(regions);
+		fContexts.add(context);
+	}
+
+	/**
+	 * Checks all added documents.
+	 *
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the problems of all documents
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public Report check(IProgressMonitor monitor) {
+		int count= fDocuments.size();
+		SubMonitor progress= SubMonitor.convert(monitor, count);
+		SpellingProblem[][] problems= new SpellingProblem[count][];
+		int parallelism= Math.min(fParallelism, count);
+		if (parallelism <= 1) {
+			for (int i= 0; i < count; i++) {
+				if (progress.isCanceled())
+					throw new OperationCanceledException();
+				problems[i]= check(i, progress);
+				progress.worked(1);
+			}
+		} else {
+			checkConcurrently(problems, parallelism, progress);
+		}
+		return new Report(fDocuments.toArray(new IDocument[count]), problems);
+	}
+
+	private void checkConcurrently(SpellingProblem[][] problems, int parallelism, SubMonitor progress) {
+		// the workers only poll this monitor, it is canceled from the calling thread
+		final IProgressMonitor workerMonitor= new NullProgressMonitor();
+		ExecutorService executor= Executors.newFixedThreadPool(parallelism);
+		try {
+			CompletionService<Integer> completion= new ExecutorCompletionService<>(executor);
+			for (int i= 0; i < problems.length; i++) {
+				final int index= i;
+				completion.submit(() -> {
+					problems[index]= check(index, workerMonitor);
+					return Integer.valueOf(index);
+				});
+			}
+			for (int done= 0; done < problems.length;) {
+				if (progress.isCanceled()) {
+					workerMonitor.setCanceled(true);
+					throw new OperationCanceledException();
+				}
+				Future<Integer> future;
+				try {
+					future= completion.poll(CANCELATION_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					workerMonitor.setCanceled(true);
+					throw new OperationCanceledException();
+				}
+				if (future == null)
+					continue;
+				try {
+					future.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				} catch (ExecutionException e) {
+					workerMonitor.setCanceled(true);
+					Throwable cause= e.getCause();
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if (cause instanceof Error)
+						throw (Error) cause;
+					throw new IllegalStateException(cause);
+				}
+				done++;
+				progress.worked(1);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private SpellingProblem[] check(int index, IProgressMonitor monitor) {
+		ProblemCollector collector= new ProblemCollector();
+		collector.beginCollecting();
+		try {
+			fEngine.check(fDocuments.get(index), fRegions.get(index), fContexts.get(index), collector, monitor);
+		} finally {
+			collector.endCollecting();
+		}
+		return collector.getProblems();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -133,7 +133,13 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 			super.reconcile(region);
 	}
 
-	private boolean isSpellingEnabled() {
+	/**
+	 * Tells whether spell checking is enabled.
+	 *
+	 * @return <code>true</code> if spell checking is enabled
+	 * @since 3.26
+	 */
+	public boolean isSpellingEnabled() {
 		return EditorsUI.getPreferenceStore().getBoolean(SpellingService.PREFERENCE_SPELLING_ENABLED);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,11 +27,11 @@ import java.nio.charset.CodingErrorAction;
 import java.nio.charset.MalformedInputException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -111,14 +111,17 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	/** The phonetic distance algorithm */
 	private IPhoneticDistanceAlgorithm fDistanceAlgorithm= new DefaultPhoneticDistanceAlgorithm();
 
-	/** The mapping from phonetic hashes to word lists */
-	private final Map<ByteArrayWrapper, Object> fHashBuckets= new HashMap<>(getInitialSize(), LOAD_FACTOR);
+	/**
+	 * The mapping from phonetic hashes to word lists. Once the dictionary is loaded, a bucket
+	 * is replaced instead of modified when a word is added, so that it can be read concurrently.
+	 */
+	private final Map<ByteArrayWrapper, Object> fHashBuckets= new ConcurrentHashMap<>(getInitialSize(), LOAD_FACTOR);
 
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
 
 	/** Is the dictionary already loaded? */
-	private boolean fLoaded= false;
+	private volatile boolean fLoaded= false;
 	/**
 	 * Must the dictionary be loaded?
 	 * @since 3.2
@@ -460,7 +463,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @param word
 	 *                   The word to hash in the dictionary
 	 */
-	protected final void hashWord(final String word) {
+	protected final synchronized void hashWord(final String word) {
 
 		final String hash= fHashProvider.getHash(word);
 		ByteArrayWrapper hashBytes;
@@ -480,7 +483,14 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		} else if (bucket instanceof ArrayList) {
 			@SuppressWarnings("unchecked")
 			ArrayList<byte[]> bucketList= (ArrayList<byte[]>)bucket;
-			bucketList.add(wordBytes);
+			if (fLoaded) {
+				// the bucket may be read concurrently
+				bucketList= new ArrayList<>(bucketList);
+				bucketList.add(wordBytes);
+				fHashBuckets.put(hashBytes, bucketList);
+			} else {
+				bucketList.add(wordBytes);
+			}
 		} else {
 			ArrayList<Object> list= new ArrayList<>(BUCKET_CAPACITY);
 			list.add(bucket);
@@ -558,7 +568,16 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	protected String stripNonLetters(String word) {
 		if (!fIsStrippingNonLetters)
 			return word;
+		return trimNonLetters(word);
+	}
 
+	/**
+	 * Removes the non-letter characters at the start and the end of the given word.
+	 *
+	 * @param word the word to trim
+	 * @return the trimmed word
+	 */
+	protected static String trimNonLetters(String word) {
 		int i= 0;
 		int j= word.length() - 1;
 		while (i <= j && !Character.isLetter(word.charAt(i)))
@@ -711,12 +730,12 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	}
 
 	/**
-	 * Returns the encoding of this dictionary.
+	 * Returns the encoding of the dictionaries.
 	 *
-	 * @return the encoding of this dictionary
+	 * @return the encoding of the dictionaries
 	 * @since 3.3
 	 */
-	protected String getEncoding() {
+	protected static String getEncoding() {
 		String encoding= JavaPlugin.getDefault().getPreferenceStore().getString(PreferenceConstants.SPELLING_USER_DICTIONARY_ENCODING);
 		if (encoding == null || encoding.length() == 0)
 			encoding= ResourcesPlugin.getEncoding();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,7 +23,7 @@ import java.util.Locale;
  *
  * @since 3.0
  */
-public class LocaleSensitiveSpellDictionary extends AbstractSpellDictionary {
+public class LocaleSensitiveSpellDictionary extends PackedSpellDictionary {
 
 	/** The locale of this dictionary */
 	private final Locale fLocale;
@@ -57,9 +57,4 @@ public class LocaleSensitiveSpellDictionary extends AbstractSpellDictionary {
 	protected final URL getURL() throws MalformedURLException {
 		return new URL(fLocation, fLocale.toString() + ".dictionary");  //$NON-NLS-1$
 	}
-
-	@Override
-	protected int getInitialSize() {
-		return 32 * 1024;
-	}
 }
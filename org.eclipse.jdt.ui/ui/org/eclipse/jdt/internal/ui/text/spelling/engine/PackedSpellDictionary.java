@@ -0,0 +1,336 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.MalformedInputException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaUIMessages;
+
+
+/**
+ * Read-only spell dictionary that keeps its words in a {@link PackedWordList}.
+ * <p>
+ * Compared to the phonetic hash buckets of {@link AbstractSpellDictionary}, the
+ * words need a fraction of the memory. The packed word list is cached in the
+ * state location of the plug-in and memory mapped on the next load, so that the
+ * word list does not have to be read and sorted again.
+ * </p>
+ * <p>
+ * Proposals are found by a bounded edit distance search over the sorted words,
+ * using the same weighted distance as {@link DefaultPhoneticDistanceAlgorithm}.
+ * </p>
+ */
+public abstract class PackedSpellDictionary implements ISpellDictionary {
+
+	/** The distance threshold, see {@link AbstractSpellDictionary#DISTANCE_THRESHOLD} */
+	protected static final int DISTANCE_THRESHOLD= 160;
+
+	/**
+	 * The distance threshold used to find the nearest words if there are no words within
+	 * {@link #DISTANCE_THRESHOLD}
+	 */
+	protected static final int NEAREST_DISTANCE_THRESHOLD= 3 * DISTANCE_THRESHOLD;
+
+	/** The name of the folder of the cached word lists in the state location */
+	private static final String CACHE_FOLDER= "spelling"; //$NON-NLS-1$
+
+	/** The file extension of the cached word lists */
+	private static final String CACHE_EXTENSION= ".words"; //$NON-NLS-1$
+
+	/** The words, or <code>null</code> if not loaded */
+	private volatile PackedWordList fWords;
+
+	/** Must the dictionary be loaded? */
+	private boolean fMustLoad= true;
+
+	/** Tells whether to strip non-letters at word boundaries. */
+	private boolean fIsStrippingNonLetters= true;
+
+	/**
+	 * Returns the URL of the dictionary word list.
+	 *
+	 * @throws MalformedURLException
+	 *                    if the URL could not be retrieved
+	 * @return The URL of the dictionary word list
+	 */
+	protected abstract URL getURL() throws MalformedURLException;
+
+	/**
+	 * Returns the words of this dictionary, loading them if necessary.
+	 *
+	 * @return the words, or <code>null</code> if they could not be loaded
+	 */
+	private PackedWordList getWords() {
+		PackedWordList words= fWords;
+		if (words == null) {
+			synchronized (this) {
+				if (fMustLoad) {
+					fMustLoad= false;
+					try {
+						fWords= load(getURL());
+					} catch (MalformedURLException e) {
+						// Do nothing
+					}
+				}
+				words= fWords;
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * Loads the word list from the cache or from the given URL.
+	 *
+	 * @param url the URL of the word list
+	 * @return the words, or <code>null</code> if they could not be loaded
+	 */
+	private PackedWordList load(URL url) {
+		if (url == null)
+			return null;
+		try {
+			long stamp;
+			URLConnection connection= url.openConnection();
+			try {
+				stamp= computeStamp(url, connection.getContentLengthLong(), connection.getLastModified());
+			} finally {
+				connection.getInputStream().close();
+			}
+			File cacheFile= getCacheFile(url);
+			if (cacheFile != null && cacheFile.isFile()) {
+				try {
+					PackedWordList words= PackedWordList.map(cacheFile);
+					if (words != null && words.getStamp() == stamp)
+						return words;
+				} catch (IOException e) {
+					JavaPlugin.log(e);
+				}
+			}
+			PackedWordList words= PackedWordList.create(readWords(url), stamp);
+			if (cacheFile != null)
+				writeCache(words, cacheFile);
+			return words;
+		} catch (FileNotFoundException e) {
+			String urlString= url.toString();
+			String lowercaseUrlString= urlString.toLowerCase();
+			if (urlString.equals(lowercaseUrlString)) {
+				JavaPlugin.log(e);
+			} else {
+				try {
+					return load(new URL(lowercaseUrlString));
+				} catch (MalformedURLException e1) {
+					JavaPlugin.log(e1);
+				}
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+		return null;
+	}
+
+	private long computeStamp(URL url, long length, long lastModified) {
+		long stamp= url.toString().hashCode();
+		stamp= 31 * stamp + AbstractSpellDictionary.getEncoding().hashCode();
+		stamp= 31 * stamp + length;
+		return 31 * stamp + lastModified;
+	}
+
+	/**
+	 * Reads the words of the word list. Lines that cannot be decoded are reported and skipped,
+	 * like {@link AbstractSpellDictionary#load(URL)} does.
+	 *
+	 * @param url the URL of the word list
+	 * @return the words
+	 * @throws IOException if the word list cannot be read
+	 */
+	private static List<String> readWords(URL url) throws IOException {
+		List<String> words= new ArrayList<>();
+		CharsetDecoder decoder= Charset.forName(AbstractSpellDictionary.getEncoding()).newDecoder();
+		decoder.onMalformedInput(CodingErrorAction.REPORT);
+		decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+		try (BufferedReader reader= new BufferedReader(new InputStreamReader(url.openStream(), decoder))) {
+			while (true) {
+				String word;
+				try {
+					word= reader.readLine();
+				} catch (MalformedInputException ex) {
+					// Tell the decoder to replace malformed input in order to read over the line.
+					decoder.onMalformedInput(CodingErrorAction.REPLACE);
+					decoder.reset();
+					word= reader.readLine();
+					decoder.onMalformedInput(CodingErrorAction.REPORT);
+
+					String message= Messages.format(JavaUIMessages.AbstractSpellingDictionary_encodingError,
+							new String[] { word, decoder.replacement(), BasicElementLabels.getURLPart(url.toString()) });
+					JavaPlugin.log(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, IStatus.OK, message, ex));
+					if (word == null)
+						break;
+					continue;
+				}
+				if (word == null)
+					break;
+				if (!word.isEmpty())
+					words.add(word);
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * Writes the words to the cache. The file is written under a temporary name and renamed,
+	 * since a file that is still mapped cannot be overwritten on all platforms.
+	 *
+	 * @param words the words
+	 * @param cacheFile the cache file
+	 */
+	private static void writeCache(PackedWordList words, File cacheFile) {
+		File folder= cacheFile.getParentFile();
+		if (!folder.isDirectory() && !folder.mkdirs())
+			return;
+		File tempFile= new File(folder, cacheFile.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			words.write(tempFile);
+			cacheFile.delete();
+			if (!tempFile.renameTo(cacheFile))
+				tempFile.delete();
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * Returns the file that caches the packed word list of the given URL.
+	 *
+	 * @param url the URL of the word list
+	 * @return the cache file, or <code>null</code> if the word list is not cached
+	 */
+	protected File getCacheFile(URL url) {
+		JavaPlugin plugin= JavaPlugin.getDefault();
+		if (plugin == null)
+			return null;
+		IPath location= plugin.getStateLocation().append(CACHE_FOLDER);
+		String path= url.getPath();
+		String name= path.substring(path.lastIndexOf('/') + 1);
+		return location.append(name + '.' + Integer.toHexString(url.toString().hashCode()) + CACHE_EXTENSION).toFile();
+	}
+
+	@Override
+	public boolean isCorrect(String word) {
+		word= stripNonLetters(word);
+		PackedWordList words= getWords();
+		if (words == null)
+			return false;
+		return words.contains(word) || words.contains(word.toLowerCase());
+	}
+
+	@Override
+	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
+		final Set<RankedWordProposal> result= new HashSet<>();
+		PackedWordList words= getWords();
+		if (words == null || word.isEmpty())
+			return result;
+
+		words.findWords(word, DISTANCE_THRESHOLD, (candidate, distance) -> result.add(createProposal(candidate, distance, sentence)));
+		if (result.isEmpty()) {
+			// propose the nearest words, as the phonetic hash buckets of AbstractSpellDictionary do
+			final Map<String, Integer> nearest= new HashMap<>();
+			final int[] minimum= { NEAREST_DISTANCE_THRESHOLD };
+			words.findWords(word, NEAREST_DISTANCE_THRESHOLD, (candidate, distance) -> {
+				if (distance < minimum[0]) {
+					nearest.clear();
+					minimum[0]= distance;
+				}
+				if (distance == minimum[0])
+					nearest.put(candidate, Integer.valueOf(distance));
+			});
+			for (Map.Entry<String, Integer> entry : nearest.entrySet())
+				result.add(createProposal(entry.getKey(), entry.getValue().intValue(), sentence));
+		}
+		return result;
+	}
+
+	private static RankedWordProposal createProposal(String candidate, int distance, boolean sentence) {
+		if (sentence && !candidate.isEmpty())
+			candidate= Character.toUpperCase(candidate.charAt(0)) + candidate.substring(1);
+		return new RankedWordProposal(candidate, -distance);
+	}
+
+	@Override
+	public void setStripNonLetters(boolean state) {
+		fIsStrippingNonLetters= state;
+	}
+
+	/**
+	 * Strips non-letter characters from the given word.
+	 * <p>
+	 * This will only happen if the corresponding preference is enabled.
+	 * </p>
+	 *
+	 * @param word the word to strip
+	 * @return the stripped word
+	 */
+	protected String stripNonLetters(String word) {
+		if (!fIsStrippingNonLetters)
+			return word;
+		return AbstractSpellDictionary.trimNonLetters(word);
+	}
+
+	@Override
+	public synchronized final boolean isLoaded() {
+		return fWords != null;
+	}
+
+	@Override
+	public synchronized void unload() {
+		fWords= null;
+		fMustLoad= true;
+	}
+
+	@Override
+	public boolean acceptsWords() {
+		return false;
+	}
+
+	@Override
+	public void addWord(final String word) {
+		// Do nothing
+	}
+}
@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable sorted list of words, packed into one character buffer.
+ * <p>
+ * The words are stored in ascending order without duplicates. The list is an
+ * implicit trie: consecutive words share their common prefix, which is used by
+ * {@link #findWords(String, int, IWordAcceptor)} to compute the edit distance of
+ * a prefix only once for all words starting with it, and to skip all words of a
+ * prefix whose distance is out of bounds.
+ * </p>
+ * <p>
+ * A list can be written to a file and memory mapped from it, in which case the
+ * words do not occupy the Java heap.
+ * </p>
+ *
+ * @since 3.26
+ */
+public final class PackedWordList {
+
+	/**
+	 * Receives the words found by {@link PackedWordList#findWords(String, int, IWordAcceptor)}.
+	 */
+	public interface IWordAcceptor {
+
+		/**
+		 * Accepts a word.
+		 *
+		 * @param word the word
+		 * @param distance the distance of the word, less than the bound of the search
+		 */
+		void accept(String word, int distance);
+	}
+
+	/** The magic number of the file format */
+	private static final int MAGIC= 0x4A535044;
+
+	/** The version of the file format */
+	private static final int VERSION= 1;
+
+	/** The size of the file header */
+	private static final int HEADER_SIZE= 32;
+
+	/** The initial number of rows of the edit distance matrix */
+	private static final int BUFFER_ROWS= 32;
+
+	/** The start offsets of the words, followed by the end offset of the last word */
+	private final IntBuffer fOffsets;
+
+	/** The characters of all words */
+	private final CharBuffer fCharacters;
+
+	/** The number of words */
+	private final int fSize;
+
+	/** The stamp of the source of the words, see {@link #getStamp()} */
+	private final long fStamp;
+
+	private PackedWordList(IntBuffer offsets, CharBuffer characters, long stamp) {
+		fOffsets= offsets;
+		fCharacters= characters;
+		fSize= offsets.capacity() - 1;
+		fStamp= stamp;
+	}
+
+	/**
+	 * Creates a word list from the given words.
+	 *
+	 * @param words the words, in any order and possibly with duplicates
+	 * @param stamp a stamp that identifies the source of the words
+	 * @return the word list
+	 */
+	public static PackedWordList create(Collection<String> words, long stamp) {
+		String[] sorted= words.toArray(new String[words.size()]);
+		Arrays.sort(sorted);
+		int size= 0;
+		int length= 0;
+		for (int i= 0; i < sorted.length; i++) {
+			if (i == 0 || !sorted[i].equals(sorted[i - 1])) {
+				sorted[size++]= sorted[i];
+				length+= sorted[i].length();
+			}
+		}
+		int[] offsets= new int[size + 1];
+		char[] characters= new char[length];
+		int offset= 0;
+		for (int i= 0; i < size; i++) {
+			offsets[i]= offset;
+			sorted[i].getChars(0, sorted[i].length(), characters, offset);
+			offset+= sorted[i].length();
+		}
+		offsets[size]= offset;
+		return new PackedWordList(IntBuffer.wrap(offsets), CharBuffer.wrap(characters), stamp);
+	}
+
+	/**
+	 * Maps a word list from a file written by {@link #write(File)}.
+	 *
+	 * @param file the file
+	 * @return the word list, or <code>null</code> if the file has not been written by this
+	 *         version
+	 * @throws IOException if the file could not be read
+	 */
+	public static PackedWordList map(File file) throws IOException {
+		try (RandomAccessFile access= new RandomAccessFile(file, "r")) { //$NON-NLS-1$
+			FileChannel channel= access.getChannel();
+			if (channel.size() < HEADER_SIZE)
+				return null;
+			// the mapping stays valid after the channel has been closed
+			ByteBuffer buffer= channel.map(MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+				return null;
+			long stamp= buffer.getLong(8);
+			int size= buffer.getInt(16);
+			int length= buffer.getInt(20);
+			long offsetsEnd= HEADER_SIZE + 4L * (size + 1);
+			if (size < 0 || length < 0 || offsetsEnd + 2L * length != channel.size())
+				return null;
+			buffer.position(HEADER_SIZE).limit((int) offsetsEnd);
+			IntBuffer offsets= buffer.slice().asIntBuffer();
+			buffer.limit(buffer.capacity()).position((int) offsetsEnd);
+			CharBuffer characters= buffer.slice().asCharBuffer();
+			return new PackedWordList(offsets, characters, stamp);
+		}
+	}
+
+	/**
+	 * Writes this word list to a file, which can be mapped by {@link #map(File)}.
+	 *
+	 * @param file the file
+	 * @throws IOException if the file could not be written
+	 */
+	public void write(File file) throws IOException {
+		int length= fOffsets.get(fSize);
+		ByteBuffer buffer= ByteBuffer.allocate(HEADER_SIZE + 4 * (fSize + 1) + 2 * length);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putLong(fStamp);
+		buffer.putInt(fSize);
+		buffer.putInt(length);
+		buffer.position(HEADER_SIZE);
+		for (int i= 0; i <= fSize; i++)
+			buffer.putInt(fOffsets.get(i));
+		for (int i= 0; i < length; i++)
+			buffer.putChar(fCharacters.get(i));
+		buffer.flip();
+		try (RandomAccessFile access= new RandomAccessFile(file, "rw")) { //$NON-NLS-1$
+			FileChannel channel= access.getChannel();
+			channel.truncate(0);
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Returns the stamp that identifies the source of the words.
+	 *
+	 * @return the stamp given on creation
+	 */
+	public long getStamp() {
+		return fStamp;
+	}
+
+	/**
+	 * Returns the number of words.
+	 *
+	 * @return the number of words
+	 */
+	public int size() {
+		return fSize;
+	}
+
+	/**
+	 * Returns the word at the given index.
+	 *
+	 * @param index the index, <code>0 &lt;= index &lt; size()</code>
+	 * @return the word
+	 */
+	public String get(int index) {
+		int start= fOffsets.get(index);
+		int end= fOffsets.get(index + 1);
+		char[] word= new char[end - start];
+		for (int i= 0; i < word.length; i++)
+			word[i]= fCharacters.get(start + i);
+		return new String(word);
+	}
+
+	/**
+	 * Tells whether this list contains the given word.
+	 *
+	 * @param word the word
+	 * @return <code>true</code> iff the word is contained
+	 */
+	public boolean contains(String word) {
+		int low= 0;
+		int high= fSize - 1;
+		while (low <= high) {
+			int middle= (low + high) >>> 1;
+			int comparison= compare(middle, word);
+			if (comparison < 0)
+				low= middle + 1;
+			else if (comparison > 0)
+				high= middle - 1;
+			else
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Finds all words whose distance to the given word is less than the given bound. The
+	 * distance is the weighted edit distance of {@link DefaultPhoneticDistanceAlgorithm}.
+	 *
+	 * @param word the word to find the nearest words for
+	 * @param bound the exclusive upper bound of the distance
+	 * @param acceptor the acceptor of the words found
+	 */
+	public void findWords(String word, int bound, IWordAcceptor acceptor) {
+		final int columns= word.length() + 1;
+		// metric[row][column] is the distance of the prefix of length row of the current
+		// word of the list to the prefix of length column of the given word
+		int[][] metric= new int[BUFFER_ROWS][];
+		metric[0]= new int[columns];
+		for (int column= 1; column < columns; column++)
+			metric[0][column]= metric[0][column - 1] + DefaultPhoneticDistanceAlgorithm.COST_INSERT;
+		// the smallest distance in each row
+		int[] minimum= new int[BUFFER_ROWS];
+		char[] current= new char[BUFFER_ROWS];
+		int computedRows= 1; // rows of the current prefix that are valid
+
+		int index= 0;
+		while (index < fSize) {
+			int start= fOffsets.get(index);
+			int length= fOffsets.get(index + 1) - start;
+			if (length + 1 > metric.length) {
+				int capacity= Math.max(length + 1, 2 * metric.length);
+				metric= Arrays.copyOf(metric, capacity);
+				minimum= Arrays.copyOf(minimum, capacity);
+				current= Arrays.copyOf(current, capacity);
+			}
+			// reuse the rows of the prefix shared with the previous word
+			int row= 1;
+			while (row < computedRows && row <= length && current[row] == fCharacters.get(start + row - 1))
+				row++;
+			int pruned= -1;
+			for (; row <= length; row++) {
+				char target= fCharacters.get(start + row - 1);
+				current[row]= target;
+				if (metric[row] == null)
+					metric[row]= new int[columns];
+				minimum[row]= computeRow(metric, current, row, word, target);
+				computedRows= row + 1;
+				// no cell can decrease below the smaller minimum of the two previous rows
+				if (minimum[row] >= bound && minimum[row - 1] >= bound) {
+					pruned= row;
+					break;
+				}
+			}
+			if (pruned >= 0) {
+				index= skipPrefix(index, pruned);
+				continue;
+			}
+			computedRows= length + 1;
+			int distance= metric[length][columns - 1];
+			if (distance < bound)
+				acceptor.accept(get(index), distance);
+			index++;
+		}
+	}
+
+	private static int computeRow(int[][] metric, char[] current, int row, String word, char target) {
+		int[] previous= metric[row - 1];
+		int[] values= metric[row];
+		values[0]= previous[0] + DefaultPhoneticDistanceAlgorithm.COST_REMOVE;
+		int rowMinimum= values[0];
+		for (int column= 1; column < values.length; column++) {
+			char source= word.charAt(column - 1);
+			int diagonal= previous[column - 1];
+			int value;
+			if (source == target) {
+				value= diagonal;
+			} else {
+				value= DefaultPhoneticDistanceAlgorithm.COST_SUBSTITUTE + diagonal;
+				if (Character.toLowerCase(source) == Character.toLowerCase(target))
+					value= Math.min(value, DefaultPhoneticDistanceAlgorithm.COST_CASE + diagonal);
+				if (row > 1 && column > 1 && source == current[row - 1] && word.charAt(column - 2) == target)
+					value= Math.min(value, DefaultPhoneticDistanceAlgorithm.COST_SWAP + metric[row - 2][column - 2]);
+				value= Math.min(value, DefaultPhoneticDistanceAlgorithm.COST_INSERT + values[column - 1]);
+				value= Math.min(value, DefaultPhoneticDistanceAlgorithm.COST_REMOVE + previous[column]);
+			}
+			values[column]= value;
+			if (value < rowMinimum)
+				rowMinimum= value;
+		}
+		return rowMinimum;
+	}
+
+	/**
+	 * Returns the index of the first word after the given one that does not share its prefix
+	 * of the given length.
+	 *
+	 * @param index the index of a word
+	 * @param prefixLength the length of the prefix, not greater than the length of the word
+	 * @return the index of the next word with a different prefix, or {@link #size()}
+	 */
+	private int skipPrefix(int index, int prefixLength) {
+		int start= fOffsets.get(index);
+		int low= index + 1;
+		int high= fSize;
+		while (low < high) {
+			int middle= (low + high) >>> 1;
+			if (hasPrefix(middle, start, prefixLength))
+				low= middle + 1;
+			else
+				high= middle;
+		}
+		return low;
+	}
+
+	private boolean hasPrefix(int index, int prefixStart, int prefixLength) {
+		int start= fOffsets.get(index);
+		if (fOffsets.get(index + 1) - start < prefixLength)
+			return false;
+		for (int i= 0; i < prefixLength; i++) {
+			if (fCharacters.get(start + i) != fCharacters.get(prefixStart + i))
+				return false;
+		}
+		return true;
+	}
+
+	private int compare(int index, String word) {
+		int start= fOffsets.get(index);
+		int length= fOffsets.get(index + 1) - start;
+		int common= Math.min(length, word.length());
+		for (int i= 0; i < common; i++) {
+			char ch= fCharacters.get(start + i);
+			char other= word.charAt(i);
+			if (ch != other)
+				return ch - other;
+		}
+		return length - word.length();
+	}
+}
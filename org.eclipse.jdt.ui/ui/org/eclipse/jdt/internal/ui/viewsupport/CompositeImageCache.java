@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.ui.JavaElementImageDescriptor;
+
+/**
+ * Cache of the images composed of a base image and the overlays of
+ * {@link JavaElementImageDescriptor}. The images are interned by base image, adornment flags and
+ * size, so that looking up a known image does not allocate a descriptor.
+ * <p>
+ * Like the images of the {@link ImageDescriptorRegistry} that the cache replaces for
+ * {@link JavaElementImageProvider}, the images live until the display is disposed. Clients may
+ * therefore hold on to them, and use them as keys of other registries.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.26
+ */
+public final class CompositeImageCache {
+
+	private static final class Key {
+		ImageDescriptor fBaseImage;
+		int fFlags;
+		Point fSize;
+
+		Key() {
+		}
+
+		Key(Key key) {
+			fBaseImage= key.fBaseImage;
+			fFlags= key.fFlags;
+			fSize= key.fSize;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fFlags == other.fFlags && fBaseImage.equals(other.fBaseImage) && fSize.equals(other.fSize);
+		}
+
+		@Override
+		public int hashCode() {
+			return (fBaseImage.hashCode() * 31 + fFlags) * 31 + fSize.hashCode();
+		}
+	}
+
+	private static CompositeImageCache fgInstance;
+
+	private final Map<Key, Image> fImages= new HashMap<>();
+
+	/** Key for lookups, guarded by <code>this</code> */
+	private final Key fLookupKey= new Key();
+
+	private final AtomicLong fHits= new AtomicLong();
+
+	private final AtomicLong fMisses= new AtomicLong();
+
+	private final Display fDisplay;
+
+	/**
+	 * Returns the shared cache of the workbench display.
+	 *
+	 * @return the shared cache
+	 */
+	public static synchronized CompositeImageCache getDefault() {
+		if (fgInstance == null)
+			fgInstance= new CompositeImageCache(PlatformUI.getWorkbench().getDisplay());
+		return fgInstance;
+	}
+
+	/**
+	 * Creates a cache whose images are disposed with the given display.
+	 *
+	 * @param display the display
+	 */
+	public CompositeImageCache(Display display) {
+		Assert.isNotNull(display);
+		fDisplay= display;
+		fDisplay.asyncExec(() -> fDisplay.disposeExec(this::dispose));
+	}
+
+	/**
+	 * Returns the image of a {@link JavaElementImageDescriptor} with the given arguments. The
+	 * image must not be disposed by the caller.
+	 *
+	 * @param baseImage the base image
+	 * @param flags the adornment flags
+	 * @param size the size of the image
+	 * @return the image, or <code>null</code> if the image cannot be created
+	 */
+	public synchronized Image get(ImageDescriptor baseImage, int flags, Point size) {
+		fLookupKey.fBaseImage= baseImage;
+		fLookupKey.fFlags= flags;
+		fLookupKey.fSize= size;
+		Image image= fImages.get(fLookupKey);
+		if (image != null) {
+			fHits.incrementAndGet();
+		} else {
+			fMisses.incrementAndGet();
+			image= new JavaElementImageDescriptor(baseImage, flags, size).createImage(false);
+			if (image != null)
+				fImages.put(new Key(fLookupKey), image);
+		}
+		// don't keep the base image alive
+		fLookupKey.fBaseImage= null;
+		fLookupKey.fSize= null;
+		return image;
+	}
+
+	/**
+	 * Returns the number of cached images.
+	 *
+	 * @return the number of cached images
+	 */
+	public synchronized int size() {
+		return fImages.size();
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached image.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * Returns the number of lookups that created an image.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * Disposes the cached images. Called when the display is disposed.
+	 */
+	public synchronized void dispose() {
+		for (Image image : fImages.values())
+			image.dispose();
+		fImages.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "CompositeImageCache [size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
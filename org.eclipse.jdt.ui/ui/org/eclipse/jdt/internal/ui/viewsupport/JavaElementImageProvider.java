@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,12 +86,12 @@ public class JavaElementImageProvider {
 		DESC_OBJ_PROJECT= 		 images.getImageDescriptor(IDE.SharedImages.IMG_OBJ_PROJECT);
 	}
 
-	private ImageDescriptorRegistry fRegistry;
+	private CompositeImageCache fImageCache;
 
 	private boolean fDecorateTestCodeContainerIcons;
 
 	public JavaElementImageProvider() {
-		fRegistry= null; // lazy initialization
+		fImageCache= null; // lazy initialization
 		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
 		fDecorateTestCodeContainerIcons= store.getBoolean(PreferenceConstants.DECORATE_TEST_CODE_CONTAINER_ICONS);
 	}
@@ -105,38 +105,45 @@ public class JavaElementImageProvider {
 	 * @return return the image or <code>null</code>
 	 */
 	public Image getImageLabel(Object element, int flags) {
-		return getImageLabel(computeDescriptor(element, flags));
-	}
-
-	private Image getImageLabel(ImageDescriptor descriptor){
-		if (descriptor == null)
-			return null;
-		return getRegistry().get(descriptor);
-	}
-
-	private ImageDescriptorRegistry getRegistry() {
-		if (fRegistry == null) {
-			fRegistry= JavaPlugin.getImageDescriptorRegistry();
-		}
-		return fRegistry;
-	}
-
-
-	private ImageDescriptor computeDescriptor(Object element, int flags){
+		// same images as the descriptors of getJavaImageDescriptor(..) and friends, without creating them
+		Point size= useSmallSize(flags) ? SMALL_SIZE : BIG_SIZE;
 		if (element instanceof IJavaElement) {
-			return getJavaImageDescriptor((IJavaElement) element, flags);
+			IJavaElement javaElement= (IJavaElement) element;
+			ImageDescriptor baseDesc= getBaseImageDescriptor(javaElement, flags);
+			if (baseDesc != null)
+				return getImageLabel(baseDesc, computeJavaAdornmentFlags(javaElement, flags), size);
+			return getImageLabel(JavaPluginImages.DESC_OBJS_GHOST, 0, size);
 		} else if (element instanceof IFile) {
 			IFile file= (IFile) element;
 			if (JavaCore.isJavaLikeFileName(file.getName())) {
-				return getCUResourceImageDescriptor(file, flags); // image for a CU not on the build path
+				return getImageLabel(JavaPluginImages.DESC_OBJS_CUNIT_RESOURCE, 0, size); // image for a CU not on the build path
 			}
-			return getWorkbenchImageDescriptor(file, flags);
+			return getWorkbenchImageLabel(file, size);
 		} else if (element instanceof IAdaptable) {
-			return getWorkbenchImageDescriptor((IAdaptable) element, flags);
+			return getWorkbenchImageLabel((IAdaptable) element, size);
 		}
 		return null;
 	}
 
+	private Image getWorkbenchImageLabel(IAdaptable adaptable, Point size) {
+		IWorkbenchAdapter wbAdapter= adaptable.getAdapter(IWorkbenchAdapter.class);
+		if (wbAdapter == null) {
+			return null;
+		}
+		ImageDescriptor descriptor= wbAdapter.getImageDescriptor(adaptable);
+		if (descriptor == null) {
+			return null;
+		}
+		return getImageLabel(descriptor, 0, size);
+	}
+
+	private Image getImageLabel(ImageDescriptor baseImage, int adornments, Point size) {
+		if (fImageCache == null) {
+			fImageCache= CompositeImageCache.getDefault();
+		}
+		return fImageCache.get(baseImage, adornments, size);
+	}
+
 	private static boolean showOverlayIcons(int flags) {
 		return (flags & OVERLAY_ICONS) != 0;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.jdt.internal.ui.viewsupport;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -58,6 +59,13 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		private HashSet<IResource> fChangedElements;
 
+		/** Resources that have been added or whose problem markers have changed */
+		private final List<IResource> fMarkerChanges= new ArrayList<>();
+
+		private final List<IResource> fRemoved= new ArrayList<>();
+
+		private final List<IProject> fOpened= new ArrayList<>();
+
 		public ProjectErrorVisitor(HashSet<IResource> changedElements) {
 			fChangedElements= changedElements;
 		}
@@ -71,6 +79,8 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 					// only track open Java projects
 					return false;
 				}
+				if ((delta.getFlags() & IResourceDelta.OPEN) != 0)
+					fOpened.add(project);
 			}
 			checkInvalidate(delta, res);
 			return true;
@@ -79,10 +89,14 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		private void checkInvalidate(IResourceDelta delta, IResource resource) {
 			int kind= delta.getKind();
 			if (kind == IResourceDelta.REMOVED || kind == IResourceDelta.ADDED || (kind == IResourceDelta.CHANGED && isErrorDelta(delta))) {
-				// invalidate the resource and all parents
-				while (resource.getType() != IResource.ROOT && fChangedElements.add(resource)) {
-					resource= resource.getParent();
-				}
+				if (kind == IResourceDelta.REMOVED)
+					fRemoved.add(resource);
+				else
+					fMarkerChanges.add(resource);
+				// invalidate the resource and its parent, which may be a package
+				fChangedElements.add(resource);
+				if (resource.getParent().getType() != IResource.ROOT)
+					fChangedElements.add(resource.getParent());
 			}
 		}
 
@@ -109,6 +123,13 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
 
+	/**
+	 * Maximum problem severities of the resources, maintained from the marker deltas while there
+	 * are listeners.
+	 * @since 3.26
+	 */
+	private final ProblemSeverityIndex fSeverityIndex= new ProblemSeverityIndex();
+
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
 	public ProblemMarkerManager() {
@@ -123,8 +144,11 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		try {
 			IResourceDelta delta= event.getDelta();
-			if (delta != null)
-				delta.accept(new ProjectErrorVisitor(changedElements));
+			if (delta != null) {
+				ProjectErrorVisitor visitor= new ProjectErrorVisitor(changedElements);
+				delta.accept(visitor);
+				updateSeverityIndex(visitor, changedElements);
+			}
 		} catch (CoreException e) {
 			JavaPlugin.log(e.getStatus());
 		}
@@ -134,6 +158,46 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		}
 	}
 
+	/**
+	 * Updates the severity index and adds the ancestors of the changed resources whose severity
+	 * has changed to the resources to update. Without an index, all ancestors are updated.
+	 *
+	 * @param visitor the visitor of the resource delta
+	 * @param changedElements the resources to update
+	 */
+	private void updateSeverityIndex(ProjectErrorVisitor visitor, Set<IResource> changedElements) {
+		for (IProject project : visitor.fOpened) {
+			fSeverityIndex.remove(project);
+		}
+		fSeverityIndex.update(visitor.fMarkerChanges, visitor.fRemoved, changedElements);
+
+		for (IResource resource : new ArrayList<>(changedElements)) {
+			if (!fSeverityIndex.isIndexed(resource.getProject())) {
+				resource= resource.getParent();
+				while (resource != null && resource.getType() != IResource.ROOT && changedElements.add(resource)) {
+					resource= resource.getParent();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the maximum severity of the problem markers, including subtypes, of the given
+	 * resource, like {@link IResource#findMaxProblemSeverity(String, boolean, int)}. While there
+	 * are listeners, the severity is looked up in an index maintained from the marker deltas.
+	 *
+	 * @param resource the resource
+	 * @param depth the depth
+	 * @return the maximum severity, or <code>-1</code> if there are no problem markers
+	 * @throws CoreException if the markers cannot be accessed
+	 * @since 3.26
+	 */
+	public int findMaxProblemSeverity(IResource resource, int depth) throws CoreException {
+		if (fListeners.isEmpty())
+			return resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		return fSeverityIndex.findMaxProblemSeverity(resource, depth);
+	}
+
 	@Override
 	public void modelChanged(IAnnotationModel model) {
 		// no action
@@ -174,6 +238,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			fSeverityIndex.clear();
 		}
 	}
 
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Index of the maximum severity of the problem markers of resources. The index is a trie over the
+ * resource paths, each node knows the maximum severity of the markers on its resource and of the
+ * markers in its subtree. Only resources with problem markers and their ancestors have nodes.
+ * <p>
+ * The index of a project is built with a single marker query when it is first used, and then
+ * updated incrementally by {@link #update(Collection, Collection, Set)} for the resources with
+ * marker changes. A lookup costs the depth of the resource instead of a marker query.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.26
+ */
+public final class ProblemSeverityIndex {
+
+	private static final class Node {
+		final Node fParent;
+		final IResource fResource;
+		final int fDepth;
+		Map<String, Node> fChildren;
+		/** Maximum severity of the markers on the resource itself, <code>-1</code> if none */
+		int fSeverity= -1;
+		/** Maximum severity of the markers in the subtree, <code>-1</code> if none */
+		int fMaxSeverity= -1;
+		boolean fQueued;
+
+		Node(Node parent, IResource resource) {
+			fParent= parent;
+			fResource= resource;
+			fDepth= parent == null ? 0 : parent.fDepth + 1;
+		}
+
+		Node getChild(String name) {
+			return fChildren == null ? null : fChildren.get(name);
+		}
+	}
+
+	private final Node fRoot= new Node(null, null);
+
+	private final Set<IProject> fIndexedProjects= new HashSet<>();
+
+	/**
+	 * Returns the maximum severity of the problem markers, including subtypes, of the given
+	 * resource, like {@link IResource#findMaxProblemSeverity(String, boolean, int)}.
+	 *
+	 * @param resource the resource
+	 * @param depth {@link IResource#DEPTH_ZERO}, {@link IResource#DEPTH_ONE} or
+	 *            {@link IResource#DEPTH_INFINITE}
+	 * @return the maximum severity, or <code>-1</code> if there are no problem markers
+	 * @throws CoreException if the markers cannot be accessed
+	 */
+	public synchronized int findMaxProblemSeverity(IResource resource, int depth) throws CoreException {
+		IProject project= resource.getProject();
+		if (project == null)
+			return resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		if (!fIndexedProjects.contains(project)) {
+			index(project);
+			fIndexedProjects.add(project);
+		}
+
+		Node node= find(resource.getFullPath());
+		if (node == null)
+			return -1;
+		switch (depth) {
+			case IResource.DEPTH_ZERO:
+				return node.fSeverity;
+			case IResource.DEPTH_ONE:
+				int severity= node.fSeverity;
+				if (node.fChildren != null) {
+					for (Node child : node.fChildren.values()) {
+						severity= Math.max(severity, child.fSeverity);
+					}
+				}
+				return severity;
+			default:
+				return node.fMaxSeverity;
+		}
+	}
+
+	/**
+	 * Returns whether the problem markers of the given project are indexed.
+	 *
+	 * @param project the project
+	 * @return <code>true</code> if the project has been indexed
+	 */
+	public synchronized boolean isIndexed(IProject project) {
+		return fIndexedProjects.contains(project);
+	}
+
+	/**
+	 * Updates the index for changed problem markers.
+	 *
+	 * @param changed the resources whose problem markers have changed or that have been added
+	 * @param removed the resources that have been removed
+	 * @param affected the set to add the indexed resources to whose own or subtree severity has
+	 *            changed
+	 */
+	public synchronized void update(Collection<IResource> changed, Collection<IResource> removed, Set<IResource> affected) {
+		PriorityQueue<Node> queue= new PriorityQueue<>((n1, n2) -> n2.fDepth - n1.fDepth);
+		for (IResource resource : removed) {
+			if (!fIndexedProjects.contains(resource.getProject()))
+				continue;
+			if (resource.getType() == IResource.PROJECT) {
+				// an index is built again when the project is used
+				fIndexedProjects.remove(resource);
+			}
+			Node node= find(resource.getFullPath());
+			if (node != null) {
+				node.fParent.fChildren.remove(resource.getName());
+				if (node.fMaxSeverity != -1)
+					affected.add(resource);
+				enqueue(queue, node.fParent);
+			}
+		}
+		for (IResource resource : changed) {
+			if (!fIndexedProjects.contains(resource.getProject()))
+				continue;
+			int severity= getSeverity(resource);
+			Node node= severity != -1 ? getOrCreate(resource) : find(resource.getFullPath());
+			if (node != null && node.fSeverity != severity) {
+				node.fSeverity= severity;
+				affected.add(resource);
+				enqueue(queue, node);
+			}
+		}
+
+		// deepest first, so that every node is recomputed once
+		Node node;
+		while ((node= queue.poll()) != null) {
+			node.fQueued= false;
+			int maxSeverity= node.fSeverity;
+			if (node.fChildren != null) {
+				for (Node child : node.fChildren.values()) {
+					maxSeverity= Math.max(maxSeverity, child.fMaxSeverity);
+				}
+			}
+			if (node.fParent == null)
+				continue;
+			boolean prune= maxSeverity == -1 && (node.fChildren == null || node.fChildren.isEmpty());
+			if (prune && node.fParent.getChild(node.fResource.getName()) == node)
+				node.fParent.fChildren.remove(node.fResource.getName());
+			if (maxSeverity != node.fMaxSeverity || prune) {
+				if (maxSeverity != node.fMaxSeverity)
+					affected.add(node.fResource);
+				node.fMaxSeverity= maxSeverity;
+				enqueue(queue, node.fParent);
+			}
+		}
+	}
+
+	/**
+	 * Removes the index of the given project, it is built again when the project is used.
+	 *
+	 * @param project the project
+	 */
+	public synchronized void remove(IProject project) {
+		fIndexedProjects.remove(project);
+		if (fRoot.fChildren != null)
+			fRoot.fChildren.remove(project.getName());
+	}
+
+	/**
+	 * Removes all indexed projects.
+	 */
+	public synchronized void clear() {
+		fRoot.fChildren= null;
+		fIndexedProjects.clear();
+	}
+
+	private void index(IProject project) throws CoreException {
+		if (!project.isAccessible())
+			return;
+		for (IMarker marker : project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE)) {
+			int severity= marker.getAttribute(IMarker.SEVERITY, -1);
+			if (severity != -1) {
+				Node node= getOrCreate(marker.getResource());
+				node.fSeverity= Math.max(node.fSeverity, severity);
+			}
+		}
+		Node node= fRoot.getChild(project.getName());
+		if (node != null)
+			computeMaxSeverity(node);
+	}
+
+	private static int computeMaxSeverity(Node node) {
+		int maxSeverity= node.fSeverity;
+		if (node.fChildren != null) {
+			for (Node child : node.fChildren.values()) {
+				maxSeverity= Math.max(maxSeverity, computeMaxSeverity(child));
+			}
+		}
+		node.fMaxSeverity= maxSeverity;
+		return maxSeverity;
+	}
+
+	private static int getSeverity(IResource resource) {
+		if (!resource.exists())
+			return -1;
+		try {
+			return resource.findMaxProblemSeverity(IMarker.PROBLEM, true, IResource.DEPTH_ZERO);
+		} catch (CoreException e) {
+			// concurrently deleted
+			return -1;
+		}
+	}
+
+	private static void enqueue(PriorityQueue<Node> queue, Node node) {
+		if (!node.fQueued) {
+			node.fQueued= true;
+			queue.add(node);
+		}
+	}
+
+	private Node find(IPath path) {
+		Node node= fRoot;
+		for (int i= 0, count= path.segmentCount(); i < count && node != null; i++) {
+			node= node.getChild(path.segment(i));
+		}
+		return node;
+	}
+
+	private Node getOrCreate(IResource resource) {
+		if (resource.getType() == IResource.ROOT)
+			return fRoot;
+		Node parent= getOrCreate(resource.getParent());
+		Node node= parent.getChild(resource.getName());
+		if (node == null) {
+			if (parent.fChildren == null)
+				parent.fChildren= new HashMap<>();
+			node= new Node(parent, resource);
+			parent.fChildren.put(resource.getName(), node);
+		}
+		return node;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -219,7 +219,8 @@ public class JavaElementImageDescriptor extends CompositeImageDescriptor {
 
 	@Override
 	public int hashCode() {
-		return fBaseImage.hashCode() | fFlags | fSize.hashCode();
+		// combine the fields, or'ing them maps most descriptors to few hash codes
+		return (fBaseImage.hashCode() * 31 + fFlags) * 31 + fSize.hashCode();
 	}
 
 	@Override
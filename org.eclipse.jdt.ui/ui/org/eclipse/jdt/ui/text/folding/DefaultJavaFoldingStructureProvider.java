@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,11 +27,14 @@ import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
@@ -73,9 +76,12 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.actions.SelectionConverter;
+import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitEditor;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
 import org.eclipse.jdt.internal.ui.text.DocumentCharacterIterator;
+import org.eclipse.jdt.internal.ui.text.JavaReconciler;
+import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
 
 /**
  * Updates the projection model of a class file or compilation unit.
@@ -105,6 +111,29 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		private LinkedHashMap<JavaProjectionAnnotation, Position> fMap= new LinkedHashMap<>();
 		private IScanner fScanner;
 
+		/**
+		 * The region of the document changed since the last update, or <code>null</code> if the
+		 * document has not been changed.
+		 * @since 3.26
+		 */
+		private IRegion fDirtyRegion;
+		/**
+		 * <code>true</code> to compute only the folding structure of the elements in the dirty
+		 * region.
+		 * @since 3.26
+		 */
+		private boolean fIncremental;
+		/**
+		 * The elements of the input, in the order of the folding structure computation.
+		 * @since 3.26
+		 */
+		private Set<IJavaElement> fElements= new HashSet<>();
+		/**
+		 * The elements whose folding structure is computed by this context.
+		 * @since 3.26
+		 */
+		private Set<IJavaElement> fDirtyElements= new HashSet<>();
+
 		private FoldingStructureComputationContext(IDocument document, ProjectionAnnotationModel model, boolean allowCollapsing, IScanner scanner) {
 			Assert.isNotNull(document);
 			Assert.isNotNull(model);
@@ -136,6 +165,34 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			fHasHeaderComment= true;
 		}
 
+		private boolean isIncremental() {
+			return fIncremental;
+		}
+
+		/**
+		 * Returns whether the folding structure of the given element has to be computed. In an
+		 * incremental update, these are the elements which are new or which overlap the changed
+		 * region of the document. The folding regions of all other elements are kept, their
+		 * positions have been updated with the document.
+		 *
+		 * @param element the element
+		 * @param previousElements the elements of the previous update
+		 * @return <code>true</code> if the folding structure of the element has to be computed
+		 * @throws JavaModelException if the source range of the element cannot be accessed
+		 * @since 3.26
+		 */
+		private boolean isDirty(IJavaElement element, Set<IJavaElement> previousElements) throws JavaModelException {
+			if (!fIncremental || !previousElements.contains(element) || !(element instanceof ISourceReference))
+				return true;
+			if (fDirtyRegion == null)
+				return false;
+			ISourceRange range= ((ISourceReference) element).getSourceRange();
+			if (!SourceRange.isAvailable(range))
+				return true;
+			int dirtyOffset= fDirtyRegion.getOffset();
+			return range.getOffset() <= dirtyOffset + fDirtyRegion.getLength() && dirtyOffset <= range.getOffset() + range.getLength();
+		}
+
 		/**
 		 * Returns <code>true</code> if newly created folding regions may be collapsed,
 		 * <code>false</code> if not. This is usually <code>false</code> when updating the
@@ -350,6 +407,29 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * Starts and finishes tracking the changes reflected by each reconcile of the editor.
+	 *
+	 * @since 3.26
+	 */
+	private class ReconcilingListener implements IJavaReconcilingListener {
+
+		@Override
+		public void aboutToBeReconciled() {
+			// the document can still be changed before the reconciler starts working
+		}
+
+		@Override
+		public void aboutToWork(JavaReconciler javaReconciler) {
+			fDirtyRegionTracker.reconcileStarted();
+		}
+
+		@Override
+		public void reconciled(CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor) {
+			fDirtyRegionTracker.reconcileFinished();
+		}
+	}
+
 	private class ElementChangedListener implements IElementChangedListener {
 
 		/*
@@ -365,13 +445,35 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 				fUpdatingCount++;
 				try {
-					update(createContext(false));
+					FoldingStructureComputationContext ctx= createContext(false);
+					if (ctx != null && isIncremental(e, delta)) {
+						ctx.fIncremental= true;
+						ctx.fDirtyRegion= fDirtyRegionTracker.takeReconcileRegion();
+					}
+					update(ctx);
 				} finally {
 					fUpdatingCount--;
 				}
 			}
 		}
 
+		/**
+		 * Returns whether only the folding structure of the elements changed since the last update
+		 * has to be computed. This is the case for the fine-grained deltas that are reported by the
+		 * reconciler of the editor while typing, the changes of the document up to the start of the
+		 * reconcile are tracked.
+		 *
+		 * @param e the element changed event
+		 * @param delta the Java element delta of the input
+		 * @return <code>true</code> if the folding structure can be updated incrementally
+		 * @since 3.26
+		 */
+		private boolean isIncremental(ElementChangedEvent e, IJavaElementDelta delta) {
+			return e.getType() == ElementChangedEvent.POST_RECONCILE
+					&& (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) != 0
+					&& fDirtyRegionTracker.isReconciling();
+		}
+
 		/**
 		 * Ignore the delta if there are errors on the caret line.
 		 * <p>
@@ -700,6 +802,152 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * Tracks the region of the document changed since the last update of the folding structure.
+	 * Document changes are reported in the UI thread, the folding structure is updated in the
+	 * reconciler thread.
+	 * <p>
+	 * When the reconciler starts working, the changed region is handed over to the reconcile: the
+	 * Java model reflects these changes once the reconcile reports its delta. Changes made while
+	 * the reconcile is running are tracked for the next one.
+	 * </p>
+	 *
+	 * @since 3.26
+	 */
+	private static final class DirtyRegionTracker implements IDocumentListener {
+		private IDocument fDocument;
+		/** The start offset of the changed region, <code>-1</code> if there is none. */
+		private int fOffset= -1;
+		/** The end offset of the changed region. */
+		private int fEnd;
+		/** Whether a reconcile is running whose region has not been taken. */
+		private boolean fReconciling;
+		/** The region changed before the running reconcile started, <code>null</code> if there is none. */
+		private IRegion fReconcileRegion;
+		/** The change of the document length since the running reconcile started. */
+		private int fLengthDelta;
+
+		/**
+		 * Starts tracking the changes of the given document.
+		 *
+		 * @param document the document, may be <code>null</code>
+		 */
+		public synchronized void install(IDocument document) {
+			uninstall();
+			if (document != null) {
+				fDocument= document;
+				fDocument.addDocumentListener(this);
+			}
+		}
+
+		/**
+		 * Stops tracking the changes of the document.
+		 */
+		public synchronized void uninstall() {
+			if (fDocument != null) {
+				fDocument.removeDocumentListener(this);
+				fDocument= null;
+			}
+			fOffset= -1;
+			fReconciling= false;
+			fReconcileRegion= null;
+		}
+
+		public synchronized boolean isInstalled() {
+			return fDocument != null;
+		}
+
+		/**
+		 * Hands the region changed up to now over to the reconcile which is about to start.
+		 */
+		public synchronized void reconcileStarted() {
+			if (fDocument == null)
+				return;
+			restoreReconcileRegion();
+			if (fOffset != -1) {
+				fReconcileRegion= new Region(fOffset, fEnd - fOffset);
+				fOffset= -1;
+			}
+			fLengthDelta= 0;
+			fReconciling= true;
+		}
+
+		/**
+		 * Called when the reconcile has finished. If the region of the reconcile has not been
+		 * taken, it is tracked again for the next reconcile.
+		 */
+		public synchronized void reconcileFinished() {
+			restoreReconcileRegion();
+		}
+
+		/**
+		 * Returns whether a reconcile is running whose region has not been taken.
+		 *
+		 * @return <code>true</code> if a reconcile is running
+		 */
+		public synchronized boolean isReconciling() {
+			return fReconciling;
+		}
+
+		/**
+		 * Returns the region changed before the running reconcile started. The offsets of the
+		 * region are those of the document at the start of the reconcile.
+		 *
+		 * @return the changed region, or <code>null</code> if the document has not been changed
+		 */
+		public synchronized IRegion takeReconcileRegion() {
+			IRegion region= fReconcileRegion;
+			fReconcileRegion= null;
+			fReconciling= false;
+			return region;
+		}
+
+		/**
+		 * Adds the region of the running reconcile to the region changed since the reconcile has
+		 * started, taking into account that the document has been changed in between.
+		 */
+		private void restoreReconcileRegion() {
+			fReconciling= false;
+			if (fReconcileRegion == null)
+				return;
+			int offset= fReconcileRegion.getOffset();
+			int end= offset + fReconcileRegion.getLength();
+			fReconcileRegion= null;
+			if (fOffset == -1) {
+				fOffset= offset;
+				fEnd= end;
+			} else {
+				// the end is shifted if it is behind the start of the later changes
+				if (end >= fOffset)
+					end= Math.max(end + fLengthDelta, fEnd);
+				fOffset= Math.min(fOffset, offset);
+				fEnd= Math.max(fEnd, end);
+			}
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			int offset= event.getOffset();
+			int replacedEnd= offset + event.getLength();
+			String text= event.getText();
+			int insertedEnd= offset + (text == null ? 0 : text.length());
+			fLengthDelta+= insertedEnd - replacedEnd;
+			if (fOffset == -1) {
+				fOffset= offset;
+				fEnd= insertedEnd;
+			} else {
+				// shift the end of the region if it is behind the replaced text
+				int end= fEnd >= replacedEnd ? fEnd + insertedEnd - replacedEnd : fEnd;
+				fOffset= Math.min(fOffset, offset);
+				fEnd= Math.max(end, insertedEnd);
+			}
+		}
+	}
+
 	/* context and listeners */
 	private JavaEditor fEditor;
 	private ProjectionListener fProjectionListener;
@@ -727,6 +975,38 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 	private volatile int fUpdatingCount= 0;
 
+	/**
+	 * Tracks the changes of the document for incremental updates.
+	 * @since 3.26
+	 */
+	private final DirtyRegionTracker fDirtyRegionTracker= new DirtyRegionTracker();
+
+	/**
+	 * Hands the changes of the document over to each reconcile of the editor.
+	 * @since 3.26
+	 */
+	private IJavaReconcilingListener fReconcilingListener;
+
+	/**
+	 * The elements of the input at the last update, to detect new and removed elements in
+	 * incremental updates.
+	 * @since 3.26
+	 */
+	private Set<IJavaElement> fElements= new HashSet<>();
+
+	/**
+	 * The header comment computed by the last update, or <code>null</code> if there is none.
+	 * @since 3.26
+	 */
+	private IRegion fHeaderComment;
+
+	/**
+	 * The offset of the first type up to which the header comment has been searched, or
+	 * <code>-1</code> if the header comment has not been computed.
+	 * @since 3.26
+	 */
+	private int fHeaderCommentEnd= -1;
+
 	/**
 	 * Creates a new folding provider. It must be
 	 * {@link #install(ITextEditor, ProjectionViewer) installed} on an editor/viewer pair before it
@@ -810,6 +1090,11 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		handleProjectionDisabled();
 
 		if (isInstalled()) {
+			fDirtyRegionTracker.install(getDocument());
+			if (fEditor instanceof CompilationUnitEditor) {
+				fReconcilingListener= new ReconcilingListener();
+				((CompilationUnitEditor) fEditor).addReconcileListener(fReconcilingListener);
+			}
 			initialize();
 			fElementListener= new ElementChangedListener();
 			JavaCore.addElementChangedListener(fElementListener);
@@ -831,6 +1116,11 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			JavaCore.removeElementChangedListener(fElementListener);
 			fElementListener= null;
 		}
+		if (fReconcilingListener != null) {
+			((CompilationUnitEditor) fEditor).removeReconcileListener(fReconcilingListener);
+			fReconcilingListener= null;
+		}
+		fDirtyRegionTracker.uninstall();
 	}
 
 	/*
@@ -852,6 +1142,11 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		if (fInput == null)
 			return null;
 
+		// the input and its document may have been replaced
+		if (fDirtyRegionTracker.isInstalled())
+			fDirtyRegionTracker.install(getDocument());
+		fHeaderCommentEnd= -1;
+
 		return createContext(true);
 	}
 
@@ -898,6 +1193,11 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		computeFoldingStructure(ctx);
 		Map<JavaProjectionAnnotation, Position> newStructure= ctx.fMap;
 		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx);
+		if (ctx.isIncremental()) {
+			// keep the folding regions of the unchanged elements, drop those of removed elements
+			oldStructure.keySet().removeIf(element -> ctx.fElements.contains(element) && !ctx.fDirtyElements.contains(element));
+		}
+		fElements= ctx.fElements;
 
 		Iterator<JavaProjectionAnnotation> e= newStructure.keySet().iterator();
 		while (e.hasNext()) {
@@ -963,9 +1263,11 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 		Annotation[] deletedArray= deletions.toArray(new Annotation[deletions.size()]);
 		Annotation[] changedArray= updates.toArray(new Annotation[updates.size()]);
-		ctx.getModel().modifyAnnotations(deletedArray, additions, changedArray);
+		if (deletedArray.length > 0 || !additions.isEmpty() || changedArray.length > 0)
+			ctx.getModel().modifyAnnotations(deletedArray, additions, changedArray);
 
-		ctx.fScanner.setSource(null);
+		if (ctx.fScanner != null)
+			ctx.fScanner.setSource(null);
 	}
 
 	private void computeFoldingStructure(FoldingStructureComputationContext ctx) {
@@ -973,23 +1275,48 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		try {
 			if (!(fInput instanceof ISourceReference))
 				return;
+
+			List<IJavaElement> dirtyElements= new ArrayList<>();
+			collectElements(parent.getChildren(), ctx, dirtyElements);
+			if (dirtyElements.isEmpty())
+				return;
+
 			String source= ((ISourceReference)fInput).getSource();
 			if (source == null)
 				return;
 
 			ctx.getScanner().setSource(source.toCharArray());
-			computeFoldingStructure(parent.getChildren(), ctx);
+			for (IJavaElement element : dirtyElements) {
+				computeFoldingStructure(element, ctx);
+			}
 		} catch (JavaModelException x) {
 		}
 	}
 
-	private void computeFoldingStructure(IJavaElement[] elements, FoldingStructureComputationContext ctx) throws JavaModelException {
+	/**
+	 * Collects the elements of the input in the order of the folding structure computation, and
+	 * those of them whose folding structure has to be computed.
+	 *
+	 * @param elements the elements to visit
+	 * @param ctx the computation context
+	 * @param dirtyElements the list to add the elements to compute to
+	 * @throws JavaModelException if an element cannot be accessed
+	 * @since 3.26
+	 */
+	private void collectElements(IJavaElement[] elements, FoldingStructureComputationContext ctx, List<IJavaElement> dirtyElements) throws JavaModelException {
 		for (IJavaElement element : elements) {
-			computeFoldingStructure(element, ctx);
+			ctx.fElements.add(element);
+			// the header comment belongs to the first type, also if it is not computed
+			if (!ctx.hasFirstType() && element instanceof IType)
+				ctx.setFirstType((IType) element);
+			if (ctx.isDirty(element, fElements)) {
+				ctx.fDirtyElements.add(element);
+				dirtyElements.add(element);
+			}
 
 			if (element instanceof IParent) {
 				IParent parent= (IParent) element;
-				computeFoldingStructure(parent.getChildren(), ctx);
+				collectElements(parent.getChildren(), ctx, dirtyElements);
 			}
 		}
 	}
@@ -1111,13 +1438,10 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 				if (!SourceRange.isAvailable(range))
 					return new IRegion[0];
 
-				String contents= reference.getSource();
-				if (contents == null)
-					return new IRegion[0];
-
 				List<IRegion> regions= new ArrayList<>();
-				if (!ctx.hasFirstType() && reference instanceof IType) {
+				if (!ctx.hasFirstType() && reference instanceof IType)
 					ctx.setFirstType((IType) reference);
+				if (reference.equals(ctx.getFirstType())) {
 					IRegion headerComment= computeHeaderComment(ctx);
 					if (headerComment != null) {
 						regions.add(headerComment);
@@ -1168,6 +1492,12 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		int start= 0;
 		int end= range.getOffset();
 
+		// the header has not been changed if the document has only been changed behind it
+		if (ctx.isIncremental() && fHeaderCommentEnd == end && (ctx.fDirtyRegion == null || ctx.fDirtyRegion.getOffset() > end))
+			return fHeaderComment;
+		fHeaderComment= null;
+		fHeaderCommentEnd= -1;
+
 
 		/* code adapted from CommentFormattingStrategy:
 		 * scan the header content up to the first type. Once a comment is
@@ -1203,10 +1533,10 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			return null;
 		}
 
-		if (headerEnd != -1) {
-			return new Region(headerStart, headerEnd - headerStart);
-		}
-		return null;
+		if (headerEnd != -1)
+			fHeaderComment= new Region(headerStart, headerEnd - headerStart);
+		fHeaderCommentEnd= end;
+		return fHeaderComment;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -122,8 +122,13 @@ public class CompletionProposalCollector extends CompletionRequestor {
 	private final IJavaProject fJavaProject;
 	private int fUserReplacementLength;
 
-	private CompletionContext fContext;
+	private volatile CompletionContext fContext;
 	private IProblem fLastProblem;
+	/**
+	 * Tells whether code completion has finished reporting to this collector.
+	 * @since 3.26
+	 */
+	private volatile boolean fReportingEnded;
 
 	/* performance instrumentation */
 	private long fStartTime;
@@ -329,6 +334,7 @@ public class CompletionProposalCollector extends CompletionRequestor {
 			fUITime= 0;
 		}
 
+		fReportingEnded= false;
 		fLastProblem= null;
 		fJavaProposals.clear();
 		fKeywords.clear();
@@ -357,6 +363,18 @@ public class CompletionProposalCollector extends CompletionRequestor {
 			System.err.println("Core Collector (core):\t" + (total - fUITime)); //$NON-NLS-1$
 			System.err.println("Core Collector (ui):\t" + fUITime); //$NON-NLS-1$
 		}
+		fReportingEnded= true;
+	}
+
+	/**
+	 * Returns whether code completion has finished reporting to this collector, so that its
+	 * keyword proposals can be read from other threads.
+	 *
+	 * @return <code>true</code> if reporting has ended
+	 * @since 3.26
+	 */
+	boolean isReportingEnded() {
+		return fReportingEnded;
 	}
 
 	/**
@@ -693,7 +711,8 @@ public class CompletionProposalCollector extends CompletionRequestor {
 		StyledString displayString= fLabelProvider.createLabelWithTypeAndDeclaration(proposal);
 		ImageDescriptor descriptor= fLabelProvider.createMethodImageDescriptor(proposal);
 		String completion= String.valueOf(proposal.getCompletion());
-		JavaCompletionProposal javaProposal= new JavaCompletionProposal(completion, proposal.getReplaceStart(), getLength(proposal), getImage(descriptor), displayString, computeRelevance(proposal));
+		JavaCompletionProposal javaProposal= new JavaCompletionProposal(completion, proposal.getReplaceStart(), getLength(proposal), null, displayString, computeRelevance(proposal));
+		javaProposal.setImageDescriptor(descriptor);
 		if (fJavaProject != null)
 			javaProposal.setProposalInfo(new AnnotationAtttributeProposalInfo(fJavaProject, proposal));
 		return javaProposal;
@@ -735,10 +754,10 @@ public class CompletionProposalCollector extends CompletionRequestor {
 		int start= proposal.getReplaceStart();
 		int length= getLength(proposal);
 		StyledString label= fLabelProvider.createStyledLabel(proposal);
-		Image image= getImage(fLabelProvider.createFieldImageDescriptor(proposal));
 		int relevance= computeRelevance(proposal);
 
-		JavaCompletionProposal javaProposal= new JavaCompletionProposal(completion, start, length, image, label, relevance, getContext().isInJavadoc(), getInvocationContext());
+		JavaCompletionProposal javaProposal= new JavaCompletionProposal(completion, start, length, null, label, relevance, getContext().isInJavadoc(), getInvocationContext());
+		javaProposal.setImageDescriptor(fLabelProvider.createFieldImageDescriptor(proposal));
 		if (fJavaProject != null)
 			javaProposal.setProposalInfo(new FieldProposalInfo(fJavaProject, proposal));
 
@@ -761,10 +780,10 @@ public class CompletionProposalCollector extends CompletionRequestor {
 		int start= proposal.getReplaceStart();
 		int length= getLength(proposal);
 		StyledString label= fLabelProvider.createStyledLabel(proposal);
-		Image image= getImage(fLabelProvider.createFieldImageDescriptor(proposal));
 		int relevance= computeRelevance(proposal);
 
-		JavaCompletionProposal javaProposal= new JavaFieldWithCastedReceiverCompletionProposal(completion, start, length, image, label, relevance, getContext().isInJavadoc(), getInvocationContext(), proposal);
+		JavaCompletionProposal javaProposal= new JavaFieldWithCastedReceiverCompletionProposal(completion, start, length, null, label, relevance, getContext().isInJavadoc(), getInvocationContext(), proposal);
+		javaProposal.setImageDescriptor(fLabelProvider.createFieldImageDescriptor(proposal));
 		if (fJavaProject != null)
 			javaProposal.setProposalInfo(new FieldProposalInfo(fJavaProject, proposal));
 
@@ -823,10 +842,10 @@ public class CompletionProposalCollector extends CompletionRequestor {
 		String completion= String.valueOf(proposal.getCompletion());
 		int start= proposal.getReplaceStart();
 		int length= getLength(proposal);
-		Image image= getImage(fLabelProvider.createLocalImageDescriptor(proposal));
 		StyledString label= fLabelProvider.createSimpleLabelWithType(proposal);
 		int relevance= computeRelevance(proposal);
-		final JavaCompletionProposal javaProposal= new JavaCompletionProposal(completion, start, length, image, label, relevance, false, getInvocationContext());
+		final JavaCompletionProposal javaProposal= new JavaCompletionProposal(completion, start, length, null, label, relevance, false, getInvocationContext());
+		javaProposal.setImageDescriptor(fLabelProvider.createLocalImageDescriptor(proposal));
 		javaProposal.setTriggerCharacters(VAR_TRIGGER);
 		return javaProposal;
 	}
@@ -845,7 +864,7 @@ public class CompletionProposalCollector extends CompletionRequestor {
 		StyledString label= fLabelProvider.createOverrideMethodProposalLabel(proposal);
 
 		JavaCompletionProposal javaProposal= new OverrideCompletionProposal(fJavaProject, fCompilationUnit, name, paramTypes, start, length, label, String.valueOf(proposal.getCompletion()));
-		javaProposal.setImage(getImage(fLabelProvider.createMethodImageDescriptor(proposal)));
+		javaProposal.setImageDescriptor(fLabelProvider.createMethodImageDescriptor(proposal));
 		javaProposal.setProposalInfo(new MethodProposalInfo(fJavaProject, proposal));
 		javaProposal.setRelevance(computeRelevance(proposal));
 
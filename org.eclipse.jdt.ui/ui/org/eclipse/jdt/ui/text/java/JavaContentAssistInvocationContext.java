@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.text.java;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.ITextViewer;
@@ -38,6 +41,12 @@ import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory.RHSHistory;
 /**
  * Describes the context of a content assist invocation in a Java editor.
  * <p>
+ * The values of the context are computed lazily. The computation is thread safe, since the
+ * proposal computers of an invocation may run concurrently. Code completion runs at most once to
+ * compute the core context and keyword proposals, and the threads asking for them meanwhile wait
+ * for it.
+ * </p>
+ * <p>
  * Clients may use but not subclass this class.
  * </p>
  *
@@ -52,13 +61,19 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	private ICompilationUnit fCU= null;
 	private boolean fCUComputed= false;
 
-	private CompletionProposalLabelProvider fLabelProvider;
-	private CompletionProposalCollector fCollector;
-	private RHSHistory fRHSHistory;
-	private IType fType;
+	private volatile CompletionProposalLabelProvider fLabelProvider;
+	private volatile CompletionProposalCollector fCollector;
+	private volatile RHSHistory fRHSHistory;
+	private volatile IType fType;
 
-	private IJavaCompletionProposal[] fKeywordProposals= null;
-	private CompletionContext fCoreContext= null;
+	private volatile IJavaCompletionProposal[] fKeywordProposals= null;
+	private volatile CompletionContext fCoreContext= null;
+	/**
+	 * The computation of the core context and the keyword proposals, see
+	 * {@link #computeKeywordsAndContext()}.
+	 * @since 3.26
+	 */
+	private FutureTask<Void> fKeywordsAndContextComputation;
 
 	/**
 	 * Creates a new context.
@@ -103,7 +118,7 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 *
 	 * @return the compilation unit that content assist is invoked in, possibly <code>null</code>
 	 */
-	public ICompilationUnit getCompilationUnit() {
+	public synchronized ICompilationUnit getCompilationUnit() {
 		if (!fCUComputed) {
 			fCUComputed= true;
 			if (fCollector != null) {
@@ -140,17 +155,21 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the available keyword proposals
 	 */
 	public IJavaCompletionProposal[] getKeywordProposals() {
-		if (fKeywordProposals == null) {
-			if (fCollector != null && !fCollector.isIgnored(CompletionProposal.KEYWORD) && fCollector.getContext() != null) {
+		IJavaCompletionProposal[] keywordProposals= fKeywordProposals;
+		if (keywordProposals == null) {
+			CompletionProposalCollector collector= fCollector;
+			if (collector != null && !collector.isIgnored(CompletionProposal.KEYWORD) && collector.isReportingEnded()) {
 				// use the existing collector if it exists, collects keywords, and has already been invoked
-				fKeywordProposals= fCollector.getKeywordCompletionProposals();
+				keywordProposals= collector.getKeywordCompletionProposals();
+				fKeywordProposals= keywordProposals;
 			} else {
 				// otherwise, retrieve keywords ourselves
 				computeKeywordsAndContext();
+				keywordProposals= fKeywordProposals;
 			}
 		}
 
-		return fKeywordProposals;
+		return keywordProposals;
 	}
 
 	/**
@@ -165,8 +184,9 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the core completion context if available, <code>null</code> otherwise
 	 */
 	public CompletionContext getCoreContext() {
-		if (fCollector != null) {
-			CompletionContext context= fCollector.getContext();
+		CompletionProposalCollector collector= fCollector;
+		if (collector != null) {
+			CompletionContext context= collector.getContext();
 			if (context != null) {
 				if (fCoreContext == null) {
 					fCoreContext= context;
@@ -206,20 +226,22 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the content assist type history for the expected type
 	 */
 	private RHSHistory getRHSHistory() {
-		if (fRHSHistory == null) {
+		RHSHistory history= fRHSHistory;
+		if (history == null) {
 			CompletionContext context= getCoreContext();
 			if (context != null) {
 				char[][] expectedTypes= context.getExpectedTypesSignatures();
 				if (expectedTypes != null && expectedTypes.length > 0) {
 					String expected= SignatureUtil.stripSignatureToFQN(String.valueOf(expectedTypes[0]));
-					fRHSHistory= JavaPlugin.getDefault().getContentAssistHistory().getHistory(expected);
+					history= JavaPlugin.getDefault().getContentAssistHistory().getHistory(expected);
 				}
 			}
-			if (fRHSHistory == null) {
-				fRHSHistory= JavaPlugin.getDefault().getContentAssistHistory().getHistory(null);
+			if (history == null) {
+				history= JavaPlugin.getDefault().getContentAssistHistory().getHistory(null);
 			}
+			fRHSHistory= history;
 		}
-		return fRHSHistory;
+		return history;
 	}
 
 	/**
@@ -233,7 +255,8 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the expected type if any, <code>null</code> otherwise
 	 */
 	public IType getExpectedType() {
-		if (fType == null && getCompilationUnit() != null) {
+		IType type= fType;
+		if (type == null && getCompilationUnit() != null) {
 			CompletionContext context= getCoreContext();
 			if (context != null) {
 				char[][] expectedTypes= context.getExpectedTypesSignatures();
@@ -241,7 +264,9 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 					IJavaProject project= getCompilationUnit().getJavaProject();
 					if (project != null) {
 						try {
-							fType= project.findType(SignatureUtil.stripSignatureToFQN(String.valueOf(expectedTypes[0])));
+							// concurrent callers may look the type up twice, which is harmless
+							type= project.findType(SignatureUtil.stripSignatureToFQN(String.valueOf(expectedTypes[0])));
+							fType= type;
 						} catch (JavaModelException x) {
 							JavaPlugin.log(x);
 						}
@@ -249,7 +274,7 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 				}
 			}
 		}
-		return fType;
+		return type;
 	}
 
 	/**
@@ -257,7 +282,7 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 *
 	 * @return a label provider that can be used to compute proposal labels
 	 */
-	public CompletionProposalLabelProvider getLabelProvider() {
+	public synchronized CompletionProposalLabelProvider getLabelProvider() {
 		if (fLabelProvider == null) {
 			if (fCollector != null) {
 				fLabelProvider= fCollector.getLabelProvider();
@@ -288,10 +313,53 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * Fallback to retrieve a core context and keyword proposals when no collector is available.
 	 * Runs code completion on the cu and collects keyword proposals. {@link #fKeywordProposals} is
 	 * non-<code>null</code> after this call.
+	 * <p>
+	 * Code completion runs once per context, outside of any lock. Threads calling this method
+	 * while it runs wait for it instead of running it again.
+	 * </p>
 	 *
 	 * @since 3.3
 	 */
 	private void computeKeywordsAndContext() {
+		FutureTask<Void> computation;
+		boolean run= false;
+		synchronized (this) {
+			computation= fKeywordsAndContextComputation;
+			if (computation == null) {
+				computation= new FutureTask<>(this::runCodeComplete, null);
+				fKeywordsAndContextComputation= computation;
+				run= true;
+			}
+		}
+		if (run)
+			computation.run();
+		boolean interrupted= false;
+		try {
+			while (true) {
+				try {
+					computation.get();
+					return;
+				} catch (InterruptedException e) {
+					interrupted= true;
+				}
+			}
+		} catch (ExecutionException e) {
+			if (run)
+				JavaPlugin.log(e.getCause());
+			if (fKeywordProposals == null)
+				fKeywordProposals= new IJavaCompletionProposal[0];
+		} finally {
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Runs code completion on the cu and collects the core context and the keyword proposals.
+	 *
+	 * @since 3.26
+	 */
+	private void runCodeComplete() {
 		ICompilationUnit cu= getCompilationUnit();
 		if (cu == null) {
 			if (fKeywordProposals == null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -175,9 +175,13 @@ public class RefactoringHistoryServiceTests {
 	}
 
 	private RefactoringDescriptor executeRefactoring(String project, int index, int flags) throws CoreException {
+		return executeRefactoring(project, index, (index + 1) * RefactoringHistoryServiceTests.STAMP_FACTOR, flags);
+	}
+
+	private RefactoringDescriptor executeRefactoring(String project, int index, long stamp, int flags) throws CoreException {
 		RefactoringHistoryService service= RefactoringHistoryService.getInstance();
 		try {
-			service.setOverrideTimeStamp((index + 1) * RefactoringHistoryServiceTests.STAMP_FACTOR);
+			service.setOverrideTimeStamp(stamp);
 			MockRefactoring refactoring= new MockRefactoring(project, "A mock description number " + index, "A mock comment number " + index, Collections.<String, String> emptyMap(), flags);
 			RefactoringDescriptor descriptor= refactoring.createRefactoringDescriptor();
 			PerformRefactoringOperation operation= new PerformRefactoringOperation(refactoring, CheckConditionsOperation.ALL_CONDITIONS);
@@ -581,6 +585,45 @@ public class RefactoringHistoryServiceTests {
 		assertEquals("Refactoring history has wrong size", 0, proxies.length);
 	}
 
+	@Test
+	public void testReadProjectHistory7() throws Exception {
+		final IProject project= fProject.getProject();
+		RefactoringHistory history= RefactoringHistoryService.getInstance().getProjectHistory(project, 3 * STAMP_FACTOR, 7 * STAMP_FACTOR, RefactoringDescriptor.NONE, null);
+		assertEquals("Refactoring history has wrong size", 5, history.getDescriptors().length);
+		// add a refactoring in the middle of the history
+		executeRefactoring(project.getName(), 4, RefactoringDescriptor.NONE);
+		history= RefactoringHistoryService.getInstance().getProjectHistory(project, 3 * STAMP_FACTOR, 7 * STAMP_FACTOR, RefactoringDescriptor.NONE, null);
+		RefactoringDescriptorProxy[] proxies= history.getDescriptors();
+		assertEquals("Refactoring history has wrong size", 5, proxies.length);
+		assertDescendingSortOrder(proxies);
+		history= RefactoringHistoryService.getInstance().getProjectHistory(project, 46 * STAMP_FACTOR, Long.MAX_VALUE, RefactoringDescriptor.NONE, null);
+		assertTrue("Refactoring history should  be empty", history.isEmpty());
+	}
+
+	@Test
+	public void testReadProjectHistory8() throws Exception {
+		final IProject project= fProject.getProject();
+		RefactoringHistory history= RefactoringHistoryService.getInstance().getProjectHistory(project, 3 * STAMP_FACTOR, 7 * STAMP_FACTOR, RefactoringDescriptor.NONE, null);
+		assertEquals("Refactoring history has wrong size", 5, history.getDescriptors().length);
+		// add a refactoring with a new time stamp in the middle of the history
+		final long stamp= 4 * STAMP_FACTOR + STAMP_FACTOR / 2;
+		executeRefactoring(project.getName(), TOTAL_PROJECT_NUMBER, stamp, RefactoringDescriptor.NONE);
+		history= RefactoringHistoryService.getInstance().getProjectHistory(project, 3 * STAMP_FACTOR, 7 * STAMP_FACTOR, RefactoringDescriptor.NONE, null);
+		RefactoringDescriptorProxy[] proxies= history.getDescriptors();
+		assertEquals("Refactoring history has wrong size", 6, proxies.length);
+		assertDescendingSortOrder(proxies);
+		assertEquals("Refactoring has wrong time stamp", stamp, proxies[3].getTimeStamp());
+		assertEquals("Refactoring has wrong description", "A mock description number " + TOTAL_PROJECT_NUMBER, proxies[3].getDescription());
+		history= RefactoringHistoryService.getInstance().getProjectHistory(project, stamp, stamp, RefactoringDescriptor.NONE, null);
+		assertEquals("Refactoring history has wrong size", 1, history.getDescriptors().length);
+		history= RefactoringHistoryService.getInstance().getProjectHistory(project, 0, Long.MAX_VALUE, RefactoringDescriptor.NONE, null);
+		assertEquals("Refactoring history has wrong size", TOTAL_PROJECT_NUMBER + 1, history.getDescriptors().length);
+		// the binary index is not written into the shared history
+		final IFolder folder= project.getFolder(RefactoringHistoryService.NAME_HISTORY_FOLDER);
+		assertFalse("Binary index should not be shared", folder.getLocation().append("refactorings.stamps").toFile().exists());
+		assertFalse("Binary index should not be shared", folder.getLocation().append("refactorings.descriptions").toFile().exists());
+	}
+
 	@Test
 	public void testReadRefactoringHistory0() throws Exception {
 		setUpWorkspaceRefactorings();
@@ -0,0 +1,360 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.internal.core.refactoring.history;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptorProxy;
+import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
+
+/**
+ * Binary index of the refactoring descriptor proxies of a refactoring history
+ * store.
+ * <p>
+ * The index is derived from the <code>refactorings.index</code> files of the
+ * history store. It is kept in the state location of the plug-in, separately
+ * for the workspace and each project, so that it is never shared with the
+ * history itself. It consists of two files:
+ * </p>
+ * <ul>
+ * <li><code>refactorings.stamps</code>: a header followed by fixed size
+ * records of a time stamp and the offset of the description, sorted in
+ * ascending order of their time stamps. All values are big-endian.</li>
+ * <li><code>refactorings.descriptions</code>: the length prefixed UTF-8
+ * encoded descriptions, in the order in which they have been added.</li>
+ * </ul>
+ * <p>
+ * Time range queries are answered by a binary search over the time stamp
+ * column, using positional reads of the records instead of reading the
+ * column into memory. The files are not memory mapped, since a mapped file
+ * cannot be deleted on all platforms until the mapping is garbage collected.
+ * Descriptors added in chronological order are appended to both files. The
+ * index is never updated when descriptors are removed; it is deleted instead
+ * and rebuilt on the next query.
+ * </p>
+ */
+final class RefactoringHistoryIndex {
+
+	/** The name of the folder containing the indexes in the state location */
+	public static final String NAME_INDEX_FOLDER= ".indexes"; //$NON-NLS-1$
+
+	/** The name of the time stamp column file */
+	public static final String NAME_STAMPS_FILE= "refactorings.stamps"; //$NON-NLS-1$
+
+	/** The name of the description file */
+	public static final String NAME_DESCRIPTIONS_FILE= "refactorings.descriptions"; //$NON-NLS-1$
+
+	/** The magic number of the time stamp column file */
+	private static final int MAGIC= 0x52484958;
+
+	/** The format version of the index */
+	private static final int VERSION= 1;
+
+	/** The size of the header of the time stamp column file */
+	private static final int HEADER_SIZE= 8;
+
+	/** The size of a record of the time stamp column file */
+	private static final int RECORD_SIZE= 16;
+
+	/** The number of records read at once when scanning a time range */
+	private static final int RECORD_BATCH= 256;
+
+	/** The indexes, keyed by their folder */
+	private static final Map<File, RefactoringHistoryIndex> fgIndexes= new HashMap<>();
+
+	/**
+	 * Returns the index of the refactoring history of the specified project.
+	 *
+	 * @param project
+	 *            the name of the project, or <code>null</code> for the
+	 *            workspace
+	 * @return the shared index of the project
+	 */
+	static RefactoringHistoryIndex getIndex(final String project) {
+		final File folder= RefactoringCorePlugin.getDefault().getStateLocation().append(NAME_INDEX_FOLDER).append(project != null ? project : RefactoringHistoryService.NAME_WORKSPACE_PROJECT).toFile();
+		synchronized (fgIndexes) {
+			RefactoringHistoryIndex index= fgIndexes.get(folder);
+			if (index == null) {
+				index= new RefactoringHistoryIndex(folder);
+				fgIndexes.put(folder, index);
+			}
+			return index;
+		}
+	}
+
+	/** The description file */
+	private final File fDescriptionsFile;
+
+	/** The folder of the index */
+	private final File fFolder;
+
+	/** The time stamp column file */
+	private final File fStampsFile;
+
+	/**
+	 * Creates a new refactoring history index.
+	 *
+	 * @param folder
+	 *            the folder of the index
+	 */
+	private RefactoringHistoryIndex(final File folder) {
+		fFolder= folder;
+		fStampsFile= new File(folder, NAME_STAMPS_FILE);
+		fDescriptionsFile= new File(folder, NAME_DESCRIPTIONS_FILE);
+	}
+
+	/**
+	 * Appends the specified proxy to the index. If its time stamp is not the
+	 * most recent one, the time stamp column is rewritten.
+	 *
+	 * @param proxy
+	 *            the refactoring descriptor proxy to add
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	synchronized void append(final RefactoringDescriptorProxy proxy) throws IOException {
+		final long offset= appendDescription(proxy.getDescription());
+		try (RandomAccessFile file= new RandomAccessFile(fStampsFile, "rw")) { //$NON-NLS-1$
+			final FileChannel channel= file.getChannel();
+			final int count= checkHeader(channel);
+			final long stamp= proxy.getTimeStamp();
+			if (count == 0 || readStamp(channel, count - 1) <= stamp) {
+				writeRecords(channel, HEADER_SIZE + (long) count * RECORD_SIZE, new long[] { stamp }, new long[] { offset }, 1);
+			} else {
+				final int position= findFirst(channel, count, stamp);
+				final ByteBuffer tail= ByteBuffer.allocate((count - position) * RECORD_SIZE);
+				readFully(channel, tail, HEADER_SIZE + (long) position * RECORD_SIZE);
+				writeRecords(channel, HEADER_SIZE + (long) position * RECORD_SIZE, new long[] { stamp }, new long[] { offset }, 1);
+				tail.flip();
+				writeFully(channel, tail, HEADER_SIZE + (long) (position + 1) * RECORD_SIZE);
+			}
+		}
+	}
+
+	/**
+	 * Deletes the index.
+	 */
+	synchronized void delete() {
+		fStampsFile.delete();
+		fDescriptionsFile.delete();
+	}
+
+	/**
+	 * Does the index exist?
+	 *
+	 * @return <code>true</code> if it exists, <code>false</code> otherwise
+	 */
+	synchronized boolean exists() {
+		return fStampsFile.isFile() && fDescriptionsFile.isFile();
+	}
+
+	/**
+	 * Returns the time of the last modification of the index.
+	 *
+	 * @return the modification time in milliseconds, or <code>0</code> if the
+	 *         index does not exist
+	 */
+	synchronized long lastModified() {
+		return fStampsFile.lastModified();
+	}
+
+	/**
+	 * Reads the refactoring descriptor proxies within the specified time range.
+	 *
+	 * @param project
+	 *            the name of the project, or <code>null</code> for the
+	 *            workspace
+	 * @param start
+	 *            the start time stamp, inclusive
+	 * @param end
+	 *            the end time stamp, inclusive
+	 * @return the refactoring descriptor proxies, in ascending order of their
+	 *         time stamps
+	 * @throws IOException
+	 *             if an input/output error occurs or the index is corrupt
+	 */
+	synchronized RefactoringDescriptorProxy[] read(final String project, final long start, final long end) throws IOException {
+		final List<RefactoringDescriptorProxy> list= new ArrayList<>();
+		try (RandomAccessFile stamps= new RandomAccessFile(fStampsFile, "r"); RandomAccessFile descriptions= new RandomAccessFile(fDescriptionsFile, "r")) { //$NON-NLS-1$ //$NON-NLS-2$
+			final FileChannel channel= stamps.getChannel();
+			final FileChannel descriptionChannel= descriptions.getChannel();
+			final int count= checkHeader(channel);
+			final ByteBuffer records= ByteBuffer.allocate(RECORD_BATCH * RECORD_SIZE);
+			int position= findFirst(channel, count, start);
+			while (position < count) {
+				final int length= Math.min(RECORD_BATCH, count - position);
+				records.clear();
+				records.limit(length * RECORD_SIZE);
+				readFully(channel, records, HEADER_SIZE + (long) position * RECORD_SIZE);
+				records.flip();
+				for (int index= 0; index < length; index++) {
+					final long stamp= records.getLong();
+					final long offset= records.getLong();
+					if (stamp > end)
+						return list.toArray(new RefactoringDescriptorProxy[list.size()]);
+					list.add(new DefaultRefactoringDescriptorProxy(readDescription(descriptionChannel, offset), project, stamp));
+				}
+				position+= length;
+			}
+		}
+		return list.toArray(new RefactoringDescriptorProxy[list.size()]);
+	}
+
+	/**
+	 * Writes a new index containing the specified proxies.
+	 *
+	 * @param proxies
+	 *            the refactoring descriptor proxies
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	synchronized void write(final RefactoringDescriptorProxy[] proxies) throws IOException {
+		delete();
+		RefactoringHistoryManager.sortRefactoringDescriptorsAscending(proxies);
+		final long[] stamps= new long[proxies.length];
+		final long[] offsets= new long[proxies.length];
+		for (int index= 0; index < proxies.length; index++) {
+			stamps[index]= proxies[index].getTimeStamp();
+			offsets[index]= appendDescription(proxies[index].getDescription());
+		}
+		try (RandomAccessFile file= new RandomAccessFile(fStampsFile, "rw")) { //$NON-NLS-1$
+			final FileChannel channel= file.getChannel();
+			checkHeader(channel);
+			writeRecords(channel, HEADER_SIZE, stamps, offsets, proxies.length);
+		}
+	}
+
+	private long appendDescription(final String description) throws IOException {
+		final byte[] bytes= description.getBytes(StandardCharsets.UTF_8);
+		fFolder.mkdirs();
+		try (RandomAccessFile file= new RandomAccessFile(fDescriptionsFile, "rw")) { //$NON-NLS-1$
+			final FileChannel channel= file.getChannel();
+			final long offset= channel.size();
+			final ByteBuffer buffer= ByteBuffer.allocate(4 + bytes.length);
+			buffer.putInt(bytes.length);
+			buffer.put(bytes);
+			buffer.flip();
+			writeFully(channel, buffer, offset);
+			return offset;
+		}
+	}
+
+	/**
+	 * Checks the header of the time stamp column, writing it if the column is
+	 * empty.
+	 *
+	 * @param channel
+	 *            the channel of the time stamp column
+	 * @return the number of records in the column
+	 * @throws IOException
+	 *             if an input/output error occurs or the header is invalid
+	 */
+	private static int checkHeader(final FileChannel channel) throws IOException {
+		final ByteBuffer header= ByteBuffer.allocate(HEADER_SIZE);
+		if (channel.size() < HEADER_SIZE) {
+			header.putInt(MAGIC);
+			header.putInt(VERSION);
+			header.flip();
+			writeFully(channel, header, 0);
+			return 0;
+		}
+		readFully(channel, header, 0);
+		header.flip();
+		if (header.getInt() != MAGIC || header.getInt() != VERSION)
+			throw new IOException("Invalid refactoring history index"); //$NON-NLS-1$
+		// an incomplete record at the end of the column is ignored
+		return (int) ((channel.size() - HEADER_SIZE) / RECORD_SIZE);
+	}
+
+	/**
+	 * Returns the position of the first record whose time stamp is not less
+	 * than the specified one.
+	 *
+	 * @param channel
+	 *            the channel of the time stamp column
+	 * @param count
+	 *            the number of records
+	 * @param stamp
+	 *            the time stamp
+	 * @return the position, or <code>count</code> if there is none
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	private static int findFirst(final FileChannel channel, final int count, final long stamp) throws IOException {
+		int low= 0;
+		int high= count;
+		while (low < high) {
+			final int middle= (low + high) >>> 1;
+			if (readStamp(channel, middle) < stamp)
+				low= middle + 1;
+			else
+				high= middle;
+		}
+		return low;
+	}
+
+	private static String readDescription(final FileChannel channel, final long offset) throws IOException {
+		if (offset < 0 || offset + 4 > channel.size())
+			throw new IOException("Invalid refactoring history index"); //$NON-NLS-1$
+		final ByteBuffer length= ByteBuffer.allocate(4);
+		readFully(channel, length, offset);
+		length.flip();
+		final int size= length.getInt();
+		if (size < 0 || offset + 4 + size > channel.size())
+			throw new IOException("Invalid refactoring history index"); //$NON-NLS-1$
+		final ByteBuffer bytes= ByteBuffer.allocate(size);
+		readFully(channel, bytes, offset + 4);
+		return new String(bytes.array(), StandardCharsets.UTF_8);
+	}
+
+	private static void readFully(final FileChannel channel, final ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			final int read= channel.read(buffer, position);
+			if (read < 0)
+				throw new IOException("Unexpected end of refactoring history index"); //$NON-NLS-1$
+			position+= read;
+		}
+	}
+
+	private static long readStamp(final FileChannel channel, final int index) throws IOException {
+		final ByteBuffer buffer= ByteBuffer.allocate(8);
+		readFully(channel, buffer, HEADER_SIZE + (long) index * RECORD_SIZE);
+		buffer.flip();
+		return buffer.getLong();
+	}
+
+	private static void writeFully(final FileChannel channel, final ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining())
+			position+= channel.write(buffer, position);
+	}
+
+	private static void writeRecords(final FileChannel channel, final long position, final long[] stamps, final long[] offsets, final int count) throws IOException {
+		final ByteBuffer buffer= ByteBuffer.allocate(count * RECORD_SIZE);
+		for (int index= 0; index < count; index++) {
+			buffer.putLong(stamps[index]);
+			buffer.putLong(offsets[index]);
+		}
+		buffer.flip();
+		writeFully(channel, buffer, position);
+	}
+}
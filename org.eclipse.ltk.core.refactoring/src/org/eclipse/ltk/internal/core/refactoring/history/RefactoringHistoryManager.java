@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -239,6 +239,56 @@ public final class RefactoringHistoryManager {
 		}
 	}
 
+	/**
+	 * Reads refactoring descriptor proxies from the binary index of the
+	 * specified history store. If the index does not exist yet, it is built
+	 * from the history index files of the store. If the index cannot be read,
+	 * it is deleted and the history store is read directly.
+	 *
+	 * @param index
+	 *            the binary index of the store
+	 * @param store
+	 *            the file store
+	 * @param project
+	 *            the name of the project, or <code>null</code> for the
+	 *            workspace
+	 * @param collection
+	 *            the collection of proxies to fill in
+	 * @param start
+	 *            the start time stamp, inclusive
+	 * @param end
+	 *            the end time stamp, inclusive
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @param task
+	 *            the task label to use
+	 * @throws CoreException
+	 *             if an error occurs
+	 */
+	private static void readRefactoringDescriptorProxies(final RefactoringHistoryIndex index, final IFileStore store, final String project, final Collection<RefactoringDescriptorProxy> collection, final long start, final long end, final IProgressMonitor monitor, final String task) throws CoreException {
+		try {
+			monitor.beginTask(task, 2);
+			try {
+				synchronized (index) {
+					if (!index.exists()) {
+						final Set<RefactoringDescriptorProxy> set= new HashSet<>();
+						readRefactoringDescriptorProxies(store, null, set, 0, Long.MAX_VALUE, new SubProgressMonitor(monitor, 1), task);
+						index.write(set.toArray(new RefactoringDescriptorProxy[set.size()]));
+					} else
+						monitor.worked(1);
+					Collections.addAll(collection, index.read(project, start, end));
+				}
+				return;
+			} catch (IOException exception) {
+				RefactoringCorePlugin.log(exception);
+				index.delete();
+			}
+			readRefactoringDescriptorProxies(store, project, collection, start, end, new SubProgressMonitor(monitor, 1), task);
+		} finally {
+			monitor.done();
+		}
+	}
+
 	/**
 	 * Reads refactoring descriptor proxies from the specified input stream.
 	 * <p>
@@ -733,6 +783,9 @@ public final class RefactoringHistoryManager {
 	/** The history file store */
 	private final IFileStore fHistoryStore;
 
+	/** The binary index of the history file store */
+	private final RefactoringHistoryIndex fHistoryIndex;
+
 	/**
 	 * The non-empty name of the managed project, or <code>null</code> for the
 	 * workspace
@@ -752,6 +805,7 @@ public final class RefactoringHistoryManager {
 		Assert.isNotNull(store);
 		Assert.isTrue(name == null || !"".equals(name)); //$NON-NLS-1$
 		fHistoryStore= store;
+		fHistoryIndex= RefactoringHistoryIndex.getIndex(name);
 		fProjectName= name;
 	}
 
@@ -821,6 +875,7 @@ public final class RefactoringHistoryManager {
 								writeIndexEntry(index, set.toArray(new RefactoringDescriptorProxy[set.size()]), EFS.NONE, new SubProgressMonitor(monitor, 3, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL), RefactoringCoreMessages.RefactoringHistoryService_updating_history);
 							} else
 								writeIndexEntry(index, proxies, EFS.APPEND, new SubProgressMonitor(monitor, 5, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL), RefactoringCoreMessages.RefactoringHistoryService_updating_history);
+							appendHistoryIndex(proxies[0]);
 						}
 					} catch (ParserConfigurationException | IOException | SAXException exception) {
 						throw createCoreException(exception);
@@ -838,6 +893,7 @@ public final class RefactoringHistoryManager {
 						final Document result= transformDescriptor(descriptor, false);
 						writeHistoryEntry(history, result, new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL), RefactoringCoreMessages.RefactoringHistoryService_updating_history);
 							writeIndexEntry(index, proxies, EFS.NONE, new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL), RefactoringCoreMessages.RefactoringHistoryService_updating_history);
+						appendHistoryIndex(proxies[0]);
 					} catch (IOException exception) {
 						throw createCoreException(exception);
 					}
@@ -848,6 +904,24 @@ public final class RefactoringHistoryManager {
 		}
 	}
 
+	/**
+	 * Appends the specified proxy to the binary index of the managed history,
+	 * if the index has already been built.
+	 *
+	 * @param proxy
+	 *            the refactoring descriptor proxy
+	 */
+	private void appendHistoryIndex(final RefactoringDescriptorProxy proxy) {
+		if (fHistoryIndex.exists()) {
+			try {
+				fHistoryIndex.append(proxy);
+			} catch (IOException exception) {
+				RefactoringCorePlugin.log(exception);
+				fHistoryIndex.delete();
+			}
+		}
+	}
+
 	/**
 	 * Returns the cached refactoring history document.
 	 *
@@ -923,10 +997,10 @@ public final class RefactoringHistoryManager {
 			final Set<RefactoringDescriptorProxy> set= new HashSet<>();
 			try {
 				if (fHistoryStore.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 20, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists())
-					readRefactoringDescriptorProxies(fHistoryStore, fProjectName, set, start, end, new SubProgressMonitor(monitor, 80), RefactoringCoreMessages.RefactoringHistoryService_retrieving_history);
+					readRefactoringDescriptorProxies(fHistoryIndex, fHistoryStore, fProjectName, set, start, end, new SubProgressMonitor(monitor, 80), RefactoringCoreMessages.RefactoringHistoryService_retrieving_history);
 				final IFileStore store= EFS.getLocalFileSystem().getStore(RefactoringCorePlugin.getDefault().getStateLocation()).getChild(RefactoringHistoryService.NAME_HISTORY_FOLDER).getChild(RefactoringHistoryService.NAME_WORKSPACE_PROJECT);
 				if (store.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 20, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists())
-					readRefactoringDescriptorProxies(store, null, set, start, end, new SubProgressMonitor(monitor, 80), RefactoringCoreMessages.RefactoringHistoryService_retrieving_history);
+					readRefactoringDescriptorProxies(RefactoringHistoryIndex.getIndex(null), store, null, set, start, end, new SubProgressMonitor(monitor, 80), RefactoringCoreMessages.RefactoringHistoryService_retrieving_history);
 			} catch (CoreException exception) {
 				RefactoringCorePlugin.log(exception);
 			}
@@ -1058,6 +1132,8 @@ public final class RefactoringHistoryManager {
 					removeRefactoringDescriptors(collection.toArray(new RefactoringDescriptorProxy[collection.size()]), entry.getKey(), new SubProgressMonitor(subMonitor, 1), task);
 				}
 			} finally {
+				// the binary index is rebuilt on the next query
+				fHistoryIndex.delete();
 				subMonitor.done();
 			}
 		} finally {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -247,6 +248,7 @@ public final class RefactoringHistoryService implements IRefactoringHistoryServi
 			final String name= project.getName();
 			final URI uri= project.getLocationURI();
 			if (uri != null) {
+				RefactoringHistoryIndex.getIndex(name).delete();
 				try {
 					final IFileStore history= EFS.getLocalFileSystem().getStore(RefactoringCorePlugin.getDefault().getStateLocation()).getChild(NAME_HISTORY_FOLDER);
 					if (enable) {
@@ -512,6 +514,7 @@ public final class RefactoringHistoryService implements IRefactoringHistoryServi
 		try {
 			monitor.beginTask(RefactoringCoreMessages.RefactoringHistoryService_deleting_refactorings, 100);
 			final String name= project.getName();
+			RefactoringHistoryIndex.getIndex(name).delete();
 			final IFileStore stateStore= EFS.getLocalFileSystem().getStore(RefactoringCorePlugin.getDefault().getStateLocation());
 			if (NAME_WORKSPACE_PROJECT.equals(name)) {
 				final IFileStore metaStore= stateStore.getChild(NAME_HISTORY_FOLDER).getChild(name);
@@ -848,6 +851,8 @@ public final class RefactoringHistoryService implements IRefactoringHistoryServi
 			final IFileStore historyStore= EFS.getLocalFileSystem().getStore(RefactoringCorePlugin.getDefault().getStateLocation()).getChild(NAME_HISTORY_FOLDER);
 			final String oldName= oldProject.getName();
 			final String newName= newProject.getName();
+			RefactoringHistoryIndex.getIndex(oldName).delete();
+			RefactoringHistoryIndex.getIndex(newName).delete();
 			final IFileStore oldStore= historyStore.getChild(oldName);
 			if (oldStore.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 10, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists()) {
 				final IFileStore newStore= historyStore.getChild(newName);
@@ -867,6 +872,7 @@ public final class RefactoringHistoryService implements IRefactoringHistoryServi
 		if ((type & IResourceChangeEvent.POST_CHANGE) != 0) {
 			final IResourceDelta delta= event.getDelta();
 			if (delta != null) {
+				invalidateHistoryIndexes(delta);
 				final IResourceDelta[] deltas= delta.getAffectedChildren();
 				if (deltas.length == 2) {
 					final IPath toPath= deltas[0].getMovedToPath();
@@ -889,6 +895,46 @@ public final class RefactoringHistoryService implements IRefactoringHistoryServi
 		}
 	}
 
+	/**
+	 * Deletes the binary indexes of projects which have been added or removed,
+	 * and of shared refactoring histories whose history index files have been
+	 * changed by someone else, e.g. by a team provider.
+	 *
+	 * @param delta
+	 *            the workspace delta
+	 */
+	private void invalidateHistoryIndexes(final IResourceDelta delta) {
+		for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			final RefactoringHistoryIndex index= RefactoringHistoryIndex.getIndex(projectDelta.getResource().getName());
+			if (projectDelta.getKind() != IResourceDelta.CHANGED) {
+				index.delete();
+				continue;
+			}
+			final IResourceDelta historyDelta= projectDelta.findMember(new Path(NAME_HISTORY_FOLDER));
+			if (historyDelta == null || historyDelta.getKind() == IResourceDelta.REMOVED)
+				continue;
+			if (!index.exists())
+				continue;
+			final long stamp= index.lastModified();
+			try {
+				historyDelta.accept(current -> {
+					final IResource resource= current.getResource();
+					if (resource.getType() == IResource.FILE && NAME_INDEX_FILE.equals(resource.getName())) {
+						final IPath path= resource.getLocation();
+						// our own updates write the binary index after the history index
+						if (current.getKind() == IResourceDelta.REMOVED || path == null || path.toFile().lastModified() > stamp) {
+							index.delete();
+							return false;
+						}
+					}
+					return index.exists();
+				});
+			} catch (CoreException exception) {
+				RefactoringCorePlugin.log(exception);
+			}
+		}
+	}
+
 	private RefactoringDescriptor getRefactoringDescriptor(IUndoableOperation operation) {
 		if (operation instanceof TriggeredOperations) {
 			operation= ((TriggeredOperations) operation).getTriggeringOperation();